@@ -0,0 +1,70 @@
+package tel.discord.rtab.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Made-up savefile data shaped like the real thing, so the benchmarks don't need a copy of anyone's saves.
+ * The same seed always gives the same data.
+ */
+final class BenchData
+{
+	private BenchData()
+	{
+		throw new java.lang.UnsupportedOperationException("This is a utility class and cannot be instantiated.");
+	}
+
+	static String uID(int index)
+	{
+		//Discord IDs are 17-19 digits, and bots have negative ones
+		return index % 10 == 0 ? Integer.toString(-index-1) : Long.toString(100_000_000_000_000_000L + index * 7_777L);
+	}
+
+	/**
+	 * @return Scoreboard lines in the format GameController.saveData writes (see Player.initPlayer for the fields)
+	 */
+	static List<String> scoreLines(int rows, long seed)
+	{
+		SplittableRandom random = new SplittableRandom(seed);
+		List<String> lines = new ArrayList<>(rows);
+		for(int i=0; i<rows; i++)
+		{
+			StringBuilder line = new StringBuilder();
+			line.append(uID(i));
+			line.append("#").append("Player ").append(i);
+			//Most players sit near the bottom, a few get a long way up
+			line.append("#").append((int)(Math.pow(random.nextDouble(), 4) * 1_000_000_000));
+			line.append("#").append(100 + 10 * random.nextInt(20));
+			line.append("#").append(10 + random.nextInt(30));
+			line.append("#").append(random.nextInt(11));
+			line.append("#").append(random.nextInt(6));
+			line.append("#").append("2024-01-01T00:00:00Z");
+			line.append("#").append("NONE");
+			line.append("#").append(random.nextInt(100));
+			line.append("#").append(random.nextInt(10) == 0 ? "[(100000,5)]" : "[]");
+			line.append("#").append(random.nextInt(500));
+			line.append("#").append("[]");
+			lines.add(line.toString());
+		}
+		return lines;
+	}
+
+	/**
+	 * @return A finished season's leaderboard in history file format (uID, name, money), from the top
+	 */
+	static List<String> historyLines(int rows, long seed)
+	{
+		SplittableRandom random = new SplittableRandom(seed);
+		List<String> lines = new ArrayList<>(rows);
+		int money = 1_000_000_000;
+		for(int i=0; i<rows; i++)
+		{
+			//Every season has a different mix of players
+			int player = random.nextInt(rows * 3);
+			lines.add(uID(player) + "#Player " + player + "#" + money);
+			money -= random.nextInt(Math.max(1, money / (rows - i)) + 1);
+		}
+		return lines;
+	}
+}
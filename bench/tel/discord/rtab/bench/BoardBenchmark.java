@@ -0,0 +1,84 @@
+package tel.discord.rtab.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import tel.discord.rtab.BoardMask;
+import tel.discord.rtab.RtaBMath;
+import tel.discord.rtab.board.Board;
+import tel.discord.rtab.board.Cash;
+import tel.discord.rtab.board.Game;
+
+/**
+ * Setting up a board for a round, and the neighbour lookups the bombs and events do on it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BoardBenchmark
+{
+	@Param({"4", "8", "16"})
+	public int players;
+	int boardSize;
+	int nextSpace;
+	BoardMask openSpaces;
+
+	@Setup
+	public void setUp()
+	{
+		boardSize = Board.getCapacity(players);
+		//Every third space picked, to stand in for a board partway through a round
+		openSpaces = BoardMask.range(boardSize);
+		for(int i=0; i<boardSize; i+=3)
+			openSpaces.clear(i);
+	}
+
+	@Benchmark
+	public Board generateBoard()
+	{
+		return new Board(boardSize, players);
+	}
+
+	@Benchmark
+	public List<Cash> generateCashSpaces()
+	{
+		return Board.generateSpaces(boardSize, players, Cash.values());
+	}
+
+	@Benchmark
+	public List<Game> generateMinigames()
+	{
+		return Board.generateSpaces(players, players, Game.values());
+	}
+
+	@Benchmark
+	public void adjacentSpaces(Blackhole blackhole)
+	{
+		blackhole.consume(RtaBMath.getAdjacentSpaces(nextSpace, players));
+		nextSpace = (nextSpace + 1) % boardSize;
+	}
+
+	@Benchmark
+	public int countAdjacent()
+	{
+		int adjacent = openSpaces.countAdjacent(nextSpace, players);
+		nextSpace = (nextSpace + 1) % boardSize;
+		return adjacent;
+	}
+}
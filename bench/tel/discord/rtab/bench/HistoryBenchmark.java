@@ -0,0 +1,83 @@
+package tel.discord.rtab.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tel.discord.rtab.SeasonHistory;
+
+/**
+ * The lookups !history and !champions make over a channel's past seasons.
+ * This writes made-up history files for a channel that doesn't exist into the scores folder, and removes them afterwards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HistoryBenchmark
+{
+	static final String CHANNEL_ID = "benchmark";
+	@Param({"10", "50"})
+	public int seasons;
+	@Param({"500"})
+	public int playersPerSeason;
+	SeasonHistory history;
+	int nextPlayer;
+
+	@Setup
+	public void setUp() throws IOException
+	{
+		Files.createDirectories(Paths.get("scores"));
+		for(int i=1; i<=seasons; i++)
+			Files.write(getFile(i), BenchData.historyLines(playersPerSeason, i));
+		history = SeasonHistory.forChannel(CHANNEL_ID);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		for(int i=1; i<=seasons; i++)
+			Files.deleteIfExists(getFile(i));
+	}
+
+	private Path getFile(int season)
+	{
+		return Paths.get("scores","history"+CHANNEL_ID+"s"+season+".csv");
+	}
+
+	@Benchmark
+	public List<SeasonHistory.Finish> playerHistory()
+	{
+		return history.getFinishes(BenchData.uID(nextPlayer++ % (playersPerSeason * 3)));
+	}
+
+	@Benchmark
+	public List<SeasonHistory.Finish> playerHistoryByName()
+	{
+		return history.getFinishesByName("Player " + (nextPlayer++ % (playersPerSeason * 3)));
+	}
+
+	@Benchmark
+	public List<SeasonHistory.Finish> champions()
+	{
+		return history.getChampions();
+	}
+}
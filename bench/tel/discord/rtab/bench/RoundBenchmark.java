@@ -0,0 +1,48 @@
+package tel.discord.rtab.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tel.discord.rtab.sim.SeasonSimulator;
+
+/**
+ * A whole round played out by bots in a simulation, which is mostly their turns (GameController.runAITurn),
+ * the events and minigames they land on, and the save at the end.
+ * Run this from the bot's folder, as the bots' names come from guilds/botsdefault.csv.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class RoundBenchmark
+{
+	SeasonSimulator season;
+	long nextSeed;
+
+	@Setup
+	public void setUp()
+	{
+		season = new SeasonSimulator(SeasonSimulator.defaultSettings(), false, nextSeed++);
+	}
+
+	@Benchmark
+	public boolean playRound()
+	{
+		//Start a new season whenever someone wins this one
+		if(season.isSeasonOver())
+			setUp();
+		return season.playRound();
+	}
+}
@@ -0,0 +1,89 @@
+package tel.discord.rtab.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tel.discord.rtab.SaveFile;
+import tel.discord.rtab.SaveJournal;
+import tel.discord.rtab.SaveSnapshot;
+
+/**
+ * Loading and saving a scoreboard-sized savefile: from the CSV, from its snapshot, and writing it all back out.
+ * Everything happens in a temporary directory that's cleared away afterwards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SaveFileBenchmark
+{
+	@Param({"1000", "10000", "100000"})
+	public int rows;
+	Path directory;
+	List<String> lines;
+	SaveJournal csvJournal, snapshotJournal, compactJournal;
+
+	@Setup
+	public void setUp() throws IOException
+	{
+		directory = Files.createTempDirectory("rtab-bench");
+		lines = BenchData.scoreLines(rows, 0x5C0BE5L);
+		//One savefile on its own, and one with an up-to-date snapshot
+		Path csvFile = directory.resolve("scorescsv.csv");
+		SaveFile.write(csvFile, lines);
+		csvJournal = new SaveJournal(csvFile, () -> lines, new Object());
+		Path snapshotFile = directory.resolve("scoressnap.csv");
+		SaveFile.write(snapshotFile, lines);
+		SaveSnapshot.write(directory.resolve("scoressnapsnapshot.bin"), snapshotFile, lines);
+		snapshotJournal = new SaveJournal(snapshotFile, () -> lines, new Object());
+		compactJournal = new SaveJournal(directory.resolve("scorescompact.csv"), () -> lines, new Object());
+	}
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		try(Stream<Path> files = Files.walk(directory))
+		{
+			for(Path next : files.sorted(Comparator.reverseOrder()).toList())
+				Files.delete(next);
+		}
+	}
+
+	@Benchmark
+	public List<String[]> loadFromCsv() throws IOException
+	{
+		return csvJournal.load();
+	}
+
+	@Benchmark
+	public List<String[]> loadFromSnapshot() throws IOException
+	{
+		return snapshotJournal.load();
+	}
+
+	@Benchmark
+	public void compact()
+	{
+		compactJournal.compact();
+	}
+}
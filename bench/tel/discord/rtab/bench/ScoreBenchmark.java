@@ -0,0 +1,91 @@
+package tel.discord.rtab.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tel.discord.rtab.ScoreStore;
+import tel.discord.rtab.sim.Simulation;
+
+/**
+ * The scoreboard operations a round leans on: looking players up as they join (Player.initPlayer),
+ * writing back everyone's records at the end (GameController.saveData), and reading the leaderboard (!top, !rank).
+ * The store is a sandboxed one, so nothing touches the disk - see SaveFileBenchmark for loading and saving.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ScoreBenchmark
+{
+	@Param({"1000", "10000", "100000"})
+	public int rows;
+	@Param({"4"})
+	public int playersPerRound;
+	ScoreStore scores;
+	List<String> lines;
+	int nextRound;
+
+	@Setup
+	public void setUp()
+	{
+		lines = BenchData.scoreLines(rows, 0x5C0BE5L);
+		Simulation simulation = new Simulation(false, 0);
+		simulation.run(() -> scores = ScoreStore.forChannel("benchmark"));
+		scores.putRecords(lines);
+	}
+
+	//A different set of players each round, spread across the board
+	private List<String> nextRoundLines()
+	{
+		List<String> roundLines = new ArrayList<>(playersPerRound);
+		for(int i=0; i<playersPerRound; i++)
+		{
+			int index = (int)(((long)nextRound * 7919 + i * 104729L) % rows);
+			String[] record = lines.get(index).split("#");
+			//Everyone in a round wins or loses something
+			record[2] = Integer.toString(Integer.parseInt(record[2]) + (nextRound % 2 == 0 ? 75_000 : -50_000));
+			roundLines.add(String.join("#", record));
+		}
+		nextRound ++;
+		return roundLines;
+	}
+
+	@Benchmark
+	public void saveRound()
+	{
+		scores.putRecords(nextRoundLines());
+	}
+
+	@Benchmark
+	public String[] findPlayer()
+	{
+		return scores.getRecord(BenchData.uID(nextRound++ % rows));
+	}
+
+	@Benchmark
+	public int findRank()
+	{
+		return scores.findRank(BenchData.uID(nextRound++ % rows));
+	}
+
+	@Benchmark
+	public List<String[]> topTen()
+	{
+		return scores.getRecords(0, 10);
+	}
+}
@@ -1,21 +1,20 @@
 package tel.discord.rtab;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Set;
 
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import tel.discord.rtab.commands.channel.BooleanSetting;
+import tel.discord.rtab.commands.channel.ChannelSetting;
+import tel.discord.rtab.sim.Simulation;
 
 public enum Achievement
 {
 	/*
 	 * IMPORTANT NOTE
-	 * These things are stored as integers. 32-bit integers. That means you can have a maximum of 32 achievements per category.
-	 * If we end up with more than that, it's time to either break into subcategories or get out the longs. 
+	 * These things are stored as longs, so you can have a maximum of 64 achievements per category (bit locations 0-63).
+	 * If we end up with more than that, add another AchievementType with its own record location for the overflow.
 	 */
 
 	//Milestone Achievements - 8 total
@@ -127,100 +126,60 @@ public enum Achievement
 	
 	public boolean award(String playerID, String name, TextChannel channel)
 	{
-		try
-		{
-			//Start by grabbing the channel setting from the guild file to make sure we're eligible for levels here
-			String channelID = channel.getId();
-			List<String> list = Files.readAllLines(Paths.get("guilds","guild"+channel.getGuild().getId()+".csv"));
-			for(String channelString : list)
-			{
-				String[] record = channelString.split("#");
-				if(record[0].equals(channelID))
-				{
-					if(BooleanSetting.parseSetting(record[12],false))
-					{
-						//That's a yes, do the math to award them!
-						String[] playerRecord = getAchievementList(playerID, channel.getGuild().getId());
-						playerRecord[1] = name; //Update their name in the record file
-						//Get the right achievement type
-						int achievementFlags = Integer.parseInt(playerRecord[achievementType.recordLocation]);
-						boolean achievementOwned = (achievementFlags >>> bitLocation) % 2 == 1;
-						if(achievementOwned)
-							return false;
-						//They don't have the achievement, flip the relevant bit and save it
-						achievementFlags += (1 << bitLocation);
-						playerRecord[achievementType.recordLocation] = String.valueOf(achievementFlags);
-						saveAchievementList(playerRecord, channel.getGuild().getId());
-						//Update their player level
-						PlayerLevel playerLevelData = new PlayerLevel(channel.getGuild().getId(), playerID, name);
-						playerLevelData.addAchievementLevel();
-						playerLevelData.saveLevel();
-						channel.sendMessage(String.format("**%s** earned a new achievement: **%s**! Level %d achieved!", 
-								name, publicName, playerLevelData.getTotalLevel())).queue();
-						return true;
-					}
-					else
-						return false;
-				}
-			}
-			//We didn't find the channel in the list somehow? That's... not good
-			System.err.println("Orphaned guild channel???");
-			channel.sendMessage("Achievement failed to save.").queue();
-			return false;
-		}
-		catch(IOException e)
-		{
-			channel.sendMessage("Achievement failed to save.").queue();
-			return false;
-		}
+		return !awardAll(playerID, name, channel, EnumSet.of(this)).isEmpty();
 	}
 	
-	public static String[] getAchievementList(String playerID, String guildID) throws IOException
+	/**
+	 * Awards several achievements to a player at once, with a single save and level update for all of them.
+	 * @return The achievements that the player didn't already have
+	 */
+	public static Set<Achievement> awardAll(Player winner, Set<Achievement> achievements)
 	{
-		List<String> list;
-		try
-		{
-			list = Files.readAllLines(Paths.get("levels","achievements"+guildID+".csv"));
-		}
-		catch(IOException e)
-		{
-			System.out.println("No achievement file found for "+guildID+", creating.");
-			list = new LinkedList<>();
-			Files.createFile(Paths.get("levels","achievements"+guildID+".csv"));
-		}
-		for(String next : list)
-		{
-			String[] record = next.split("#");
-			if(record[0].equals(playerID))
-				return record;
-		}
-		//Didn't find it, make a default
-		String[] newRecord = new String[2+AchievementType.values().length];
-		newRecord[0] = playerID;
-		for(int i = 2; i<newRecord.length; i++)
-			newRecord[i] = "0";
-		return newRecord;
+		if(winner.game == null)
+			return EnumSet.noneOf(Achievement.class);
+		return awardAll(winner.uID, winner.getName(), winner.game.channel, achievements);
 	}
 	
-	public static void saveAchievementList(String[] playerRecord, String guildID) throws IOException
+	public static Set<Achievement> awardAll(String playerID, String name, TextChannel channel, Set<Achievement> achievements)
 	{
-		Path file = Paths.get("levels","achievements"+guildID+".csv");
-		List<String> list = Files.readAllLines(file);
-		boolean found = false;
-		for(int i=0; i<list.size(); i++)
+		//Simulated players don't get achievements (and there's no guild to check anyway)
+		if(Simulation.current() != null || achievements.isEmpty())
+			return EnumSet.noneOf(Achievement.class);
+		try
 		{
-			String[] record = list.get(i).split("#");
-			if(record[0].equals(playerRecord[0]))
-			{	
-				list.set(i, String.join("#", playerRecord));
-				found = true;
-				break;
+			//Start by grabbing the channel setting to make sure we're eligible for levels here
+			String guildID = channel.getGuild().getId();
+			String levelSetting = GuildSettings.forGuild(guildID).getSetting(channel.getId(), ChannelSetting.CHANNEL_COUNTS_TO_PLAYER_LEVEL);
+			//If we didn't find the channel in the list somehow, that's... not good
+			if(levelSetting == null)
+			{
+				System.err.println("Orphaned guild channel???");
+				MessageQueue.forChannel(channel).send("Achievement failed to save.");
+				return EnumSet.noneOf(Achievement.class);
 			}
+			if(!BooleanSetting.parseSetting(levelSetting,false))
+				return EnumSet.noneOf(Achievement.class);
+			//That's a yes, flip the bits for the ones they don't have yet
+			Set<Achievement> newlyEarned = AchievementStore.forGuild(guildID).awardAll(playerID, name, achievements);
+			if(newlyEarned.isEmpty())
+				return newlyEarned;
+			//Update their player level
+			PlayerLevel playerLevelData = new PlayerLevel(guildID, playerID, name);
+			for(int i=0; i<newlyEarned.size(); i++)
+				playerLevelData.addAchievementLevel();
+			playerLevelData.saveLevel();
+			StringBuilder output = new StringBuilder();
+			for(Achievement next : newlyEarned)
+				output.append(output.isEmpty() ? "" : ", ").append("**").append(next.publicName).append("**");
+			MessageQueue.forChannel(channel).send(String.format("**%s** earned %s: %s! Level %d achieved!", name,
+					newlyEarned.size() == 1 ? "a new achievement" : newlyEarned.size() + " new achievements",
+					output, playerLevelData.getTotalLevel()));
+			return newlyEarned;
+		}
+		catch(IOException e)
+		{
+			MessageQueue.forChannel(channel).send("Achievement failed to save.");
+			return EnumSet.noneOf(Achievement.class);
 		}
-		if(!found)
-			list.add(String.join("#", playerRecord));
-		Path oldFile = Files.move(file, file.resolveSibling("achievements"+guildID+"old.csv"));
-		Files.write(file, list);
-		Files.delete(oldFile);
 	}
 }
@@ -0,0 +1,180 @@
+package tel.discord.rtab;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import tel.discord.rtab.Achievement.AchievementType;
+import tel.discord.rtab.sim.Simulation;
+
+/**
+ * A guild's achievements, held in memory as a 64-bit set of flags per category for each player,
+ * along with the set of players holding each achievement so "who has this?" doesn't need to go through everyone.
+ * Saved through the guild's achievement table (levels/achievements[guild].csv), one line per player.
+ */
+public class AchievementStore
+{
+	private record SandboxKey(String guildID) {}
+	private static final Map<String,AchievementStore> stores = new ConcurrentHashMap<>();
+	final JournaledTable table;
+	private final Map<String,PlayerAchievements> players = new HashMap<>();
+	private final List<PlayerAchievements> playersByIndex = new ArrayList<>();
+	private final BitSet[] holders = new BitSet[Achievement.values().length]; //Indexed by achievement, then player
+
+	private static class PlayerAchievements
+	{
+		final int index;
+		final String uID;
+		String name;
+		final long[] flags = new long[AchievementType.values().length];
+
+		PlayerAchievements(int index, String uID, String name)
+		{
+			this.index = index;
+			this.uID = uID;
+			this.name = name;
+		}
+	}
+
+	private AchievementStore(JournaledTable table)
+	{
+		this.table = table;
+		for(int i=0; i<holders.length; i++)
+			holders[i] = new BitSet();
+		/*
+		 * record format:
+		 * record[0] = uID
+		 * record[1] = name
+		 * record[2+] = flags for each achievement type (see AchievementType.recordLocation)
+		 */
+		for(String[] record : table.getRecords())
+		{
+			PlayerAchievements player = addPlayer(record[0], record[1]);
+			//Any types added since the record was saved won't have a column yet
+			for(AchievementType type : AchievementType.values())
+				if(type.recordLocation < record.length)
+					player.flags[type.ordinal()] = parseFlags(record[type.recordLocation]);
+			for(Achievement next : Achievement.values())
+				if(hasFlag(player, next))
+					holders[next.ordinal()].set(player.index);
+		}
+	}
+
+	/**
+	 * Gets the achievement store for a guild, loading it from the guild's achievement table if it isn't already.
+	 */
+	public static AchievementStore forGuild(String guildID)
+	{
+		Simulation simulation = Simulation.current();
+		if(simulation != null)
+		{
+			//Open the table first, as that needs the sandbox too and it can't be used while it's making the store
+			JournaledTable table = getTable(guildID);
+			return simulation.sandboxed(new SandboxKey(guildID), next -> new AchievementStore(table));
+		}
+		return stores.computeIfAbsent(guildID, next -> new AchievementStore(getTable(next)));
+	}
+
+	static JournaledTable getTable(String guildID)
+	{
+		return JournaledTable.open(Paths.get("levels","achievements"+guildID+".csv"));
+	}
+
+	static long parseFlags(String value)
+	{
+		//Flags used to be saved as 32-bit ints, so the top one will have come out negative
+		if(value.startsWith("-"))
+			return Integer.toUnsignedLong(Integer.parseInt(value));
+		return Long.parseUnsignedLong(value);
+	}
+
+	private PlayerAchievements addPlayer(String uID, String name)
+	{
+		PlayerAchievements player = new PlayerAchievements(playersByIndex.size(), uID, name);
+		players.put(uID, player);
+		playersByIndex.add(player);
+		return player;
+	}
+
+	private static boolean hasFlag(PlayerAchievements player, Achievement achievement)
+	{
+		return (player.flags[achievement.achievementType.ordinal()] & (1L << achievement.bitLocation)) != 0;
+	}
+
+	public synchronized boolean has(String playerID, Achievement achievement)
+	{
+		PlayerAchievements player = players.get(playerID);
+		return player != null && hasFlag(player, achievement);
+	}
+
+	/**
+	 * @return Every achievement the player has earned (which will be empty if they've never earned one)
+	 */
+	public synchronized Set<Achievement> getAchievements(String playerID)
+	{
+		Set<Achievement> earned = EnumSet.noneOf(Achievement.class);
+		PlayerAchievements player = players.get(playerID);
+		if(player != null)
+			for(Achievement next : Achievement.values())
+				if(hasFlag(player, next))
+					earned.add(next);
+		return earned;
+	}
+
+	/**
+	 * Gives the player every achievement in the set they don't already have, saving them all in a single write.
+	 * @param name The player's current name, which is saved along with their achievements
+	 * @return The achievements that were newly earned
+	 */
+	public synchronized Set<Achievement> awardAll(String playerID, String name, Set<Achievement> achievements)
+	{
+		PlayerAchievements player = players.get(playerID);
+		if(player == null)
+			player = addPlayer(playerID, name);
+		Set<Achievement> newlyEarned = EnumSet.noneOf(Achievement.class);
+		for(Achievement next : achievements)
+			if(!hasFlag(player, next))
+			{
+				player.flags[next.achievementType.ordinal()] |= 1L << next.bitLocation;
+				holders[next.ordinal()].set(player.index);
+				newlyEarned.add(next);
+			}
+		//Nothing new means nothing to save
+		if(newlyEarned.isEmpty())
+			return newlyEarned;
+		player.name = name;
+		String[] record = new String[2+AchievementType.values().length];
+		record[0] = player.uID;
+		record[1] = player.name;
+		for(AchievementType type : AchievementType.values())
+			record[type.recordLocation] = Long.toUnsignedString(player.flags[type.ordinal()]);
+		table.put(String.join("#", record));
+		return newlyEarned;
+	}
+
+	/**
+	 * @return The number of players who have earned the achievement
+	 */
+	public synchronized int getHolderCount(Achievement achievement)
+	{
+		return holders[achievement.ordinal()].cardinality();
+	}
+
+	/**
+	 * @return The names of the players who have earned the achievement, in the order they were first saved
+	 */
+	public synchronized List<String> getHolderNames(Achievement achievement)
+	{
+		BitSet holderSet = holders[achievement.ordinal()];
+		List<String> names = new ArrayList<>(holderSet.cardinality());
+		for(int i = holderSet.nextSetBit(0); i >= 0; i = holderSet.nextSetBit(i+1))
+			names.add(playersByIndex.get(i).name);
+		return names;
+	}
+}
@@ -0,0 +1,200 @@
+package tel.discord.rtab;
+
+import java.util.List;
+
+import tel.discord.rtab.board.Game;
+
+/**
+ * Remembers the board and status lines a game controller last drew, so the next time it's asked for them
+ * it only redraws the spaces that have been picked since and the players whose line would come out different.
+ * The grid (with its header) is kept as text with each space in a fixed place, and gets patched up in place.
+ * The board is drawn from commands (!board, !totals) as well as the game's own lane, so only one caller can use it at a time.
+ */
+class BoardDisplay
+{
+	//Everything a player's status line depends on - if it's unchanged, so is the line
+	private record StatusKey(String name, int nameLength, int moneyLength, boolean pointer, boolean bountyMark, boolean totals,
+			int money, int delta, PlayerStatus status, int booster, boolean showStreak, int winstreak, boolean peek,
+			boolean showEffects, int oneshotBooster, boolean jackpot, boolean cursed, int jokers, boolean splitAndShare,
+			boolean threshold, boolean warned, List<Game> games) {}
+
+	private char[] grid;
+	private boolean[] gridPicked;
+	private int gridStart, gridWidth;
+	private StatusKey[] statusKeys = new StatusKey[0];
+	private String[] statusLines = new String[0];
+
+	/**
+	 * Adds the header and grid of spaces to the board, in the same format as it's always been drawn.
+	 * @param pickedSpaces Which spaces have been picked (and so are drawn blank)
+	 * @param boardSize How many spaces there are
+	 * @param boardWidth How many spaces go on each row
+	 */
+	synchronized void appendGrid(StringBuilder board, BoardMask pickedSpaces, int boardSize, int boardWidth)
+	{
+		//Start from scratch if it's a new board, otherwise just touch up the spaces that have changed
+		if(grid == null || gridPicked.length != boardSize || gridWidth != boardWidth)
+			drawGrid(boardSize, boardWidth);
+		for(int i=0; i<boardSize; i++)
+		{
+			boolean picked = pickedSpaces.get(i);
+			if(picked != gridPicked[i])
+			{
+				gridPicked[i] = picked;
+				int position = gridStart + 3*i;
+				grid[position] = picked ? ' ' : (char)('0' + (i+1) / 10);
+				grid[position+1] = picked ? ' ' : (char)('0' + (i+1) % 10);
+			}
+		}
+		board.append(grid);
+	}
+
+	private void drawGrid(int boardSize, int boardWidth)
+	{
+		StringBuilder newGrid = new StringBuilder();
+		//Do we need a complex header, or should we use the simple one?
+		if(boardWidth < 6)
+			newGrid.append("     RtaB     \n");
+		else
+		{
+			for(int i=7; i<=boardWidth; i++)
+			{
+				//One space for odd numbers, two spaces for even numbers
+				newGrid.append(i%2==0 ? "  " : " ");
+			}
+			//Then print the first part
+			newGrid.append("Race to ");
+			//Extra space if it's odd
+			if(boardWidth%2 == 1) newGrid.append(" ");
+			//Then the rest of the header
+			newGrid.append("a Billion\n");
+		}
+		gridStart = newGrid.length();
+		//Every space starts unpicked, and each one takes up three characters (two digits and a gap)
+		for(int i=0; i<boardSize; i++)
+		{
+			newGrid.append(String.format("%02d",(i+1)));
+			newGrid.append((i%boardWidth) == (boardWidth-1) ? "\n" : " ");
+		}
+		grid = newGrid.toString().toCharArray();
+		gridPicked = new boolean[boardSize];
+		gridWidth = boardWidth;
+	}
+
+	/**
+	 * Gets a player's status line (and their total line, if asked for), reusing the last one if nothing on it has changed.
+	 */
+	synchronized String getStatusLine(GameController game, int index, int nameLength, int moneyLength, boolean totals)
+	{
+		if(statusKeys.length != game.players.size())
+		{
+			statusKeys = new StatusKey[game.players.size()];
+			statusLines = new String[game.players.size()];
+		}
+		Player player = game.players.get(index);
+		boolean alive = player.status == PlayerStatus.ALIVE || player.status == PlayerStatus.DONE;
+		boolean showStreak = alive && (player.status == PlayerStatus.DONE
+				|| (game.gameStatus == GameStatus.END_GAME && game.currentTurn == index));
+		boolean showEffects = game.gameStatus == GameStatus.IN_PROGRESS && player.status == PlayerStatus.ALIVE;
+		StatusKey key = new StatusKey(player.getName(), nameLength, moneyLength, game.currentTurn == index,
+				!totals && player.bounty > 0, totals, player.money, player.getRoundDelta(), player.status,
+				alive ? player.booster : 0, showStreak, showStreak ? player.winstreak : 0, alive && !showStreak && player.peeks > 0,
+				showEffects, showEffects ? player.oneshotBooster : 1, showEffects && player.jackpot > 0, showEffects && player.cursed,
+				showEffects ? player.jokers : 0, showEffects && player.splitAndShare, showEffects && player.threshold,
+				showEffects && player.warned, player.games.isEmpty() ? List.of() : List.copyOf(player.games));
+		if(!key.equals(statusKeys[index]))
+		{
+			statusKeys[index] = key;
+			statusLines[index] = drawStatusLine(game, player, index, nameLength, moneyLength, totals);
+		}
+		return statusLines[index];
+	}
+
+	private String drawStatusLine(GameController game, Player player, int index, int nameLength, int moneyLength, boolean totals)
+	{
+		StringBuilder line = new StringBuilder();
+		line.append(game.currentTurn == index ? ">" : " ");
+		line.append(!totals && player.bounty > 0 ? "$" : " ");
+		line.append(String.format("%-"+nameLength+"s",player.getName()));
+		//If they're on $1b then it gets printed directly, otherwise display round delta
+		if(!totals && player.money == 1_000_000_000)
+		{
+			line.append(" $1,000,000,000");
+		}
+		else
+		{
+			//Now figure out if we need a negative sign, a space, or neither
+			int playerMoney = player.getRoundDelta();
+			//What sign to print?
+			line.append(playerMoney<0 ? "-" : "+");
+			//Then print the money itself
+			line.append(String.format("$%,"+moneyLength+"d",Math.abs(playerMoney)));
+		}
+		//Now the booster display
+		switch (player.status) {
+			case ALIVE, DONE -> {
+				//If they're alive, display their booster
+				line.append(String.format(" [%3d%%", player.booster));
+				//If it's endgame, show their winstreak afterward
+				if (player.status == PlayerStatus.DONE || (game.gameStatus == GameStatus.END_GAME && game.currentTurn == index))
+					line.append(String.format("x%1$d.%2$d", player.winstreak / 10, player.winstreak % 10));
+					//Otherwise, display whether or not they have a peek
+				else if (player.peeks > 0)
+					line.append("P");
+				else
+					line.append(" ");
+				//Then close off the bracket
+				line.append("]");
+			}
+			case OUT, FOLDED -> line.append("  [OUT] ");
+			case WINNER -> line.append("  [WIN] ");
+		}
+		//Now any status effects the player has
+		if(game.gameStatus == GameStatus.IN_PROGRESS && player.status == PlayerStatus.ALIVE)
+		{
+			line.append(" ");
+			if(player.oneshotBooster != 1)
+				line.append(player.oneshotBooster);
+			if(player.jackpot > 0)
+				line.append("$");
+			if(player.cursed)
+				line.append("C");
+			line.append(switch(player.jokers)
+			{
+			case -1 -> "M"; //midas touch
+			case 0 -> ""; //no joker
+			default -> "J"; //joker
+			});
+			if(player.splitAndShare)
+				line.append("S");
+			if(player.threshold)
+				line.append("T");
+			if(player.warned)
+				line.append("X");
+		}
+		//If they have any games, print them too
+		if(!player.games.isEmpty())
+		{
+			line.append(" {");
+			for(Game minigame : player.games)
+			{
+				line.append(" ").append(minigame.getShortName());
+			}
+			line.append(" }");
+		}
+		line.append("\n");
+		//If we want the totals as well, do them on a second line
+		if(totals)
+		{
+			//Get to the right spot in the line
+			line.append(" ".repeat(Math.max(0, (nameLength - 4))));
+			line.append("Total:");
+			//Print sign
+			line.append(player.money<0 ? "-" : " ");
+			//Then print the money itself
+			line.append("$");
+			line.append(String.format("%,"+moneyLength+"d\n\n",Math.abs(player.money)));
+		}
+		return line.toString();
+	}
+}
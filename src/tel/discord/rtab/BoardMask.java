@@ -0,0 +1,208 @@
+package tel.discord.rtab;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A set of spaces on the game board, packed into bits so combining them (open spaces, known bombs, peeks...) is just
+ * a couple of bitwise operations rather than searching through lists.
+ * The biggest board is 85 spaces (16 players), which doesn't fit in a single long, so the spaces are split across two.
+ * Spaces are always gone through in board order, so picking the nth one lines up with how the old lists were laid out.
+ */
+public final class BoardMask
+{
+	public static final int CAPACITY = 128;
+	static final int MAX_PLAYERS = 16;
+	//Every space's neighbours on every size of board, worked out once rather than every time a bot thinks about a minesweeper
+	private static final BoardMask[][] adjacency = buildAdjacency();
+	private long low; //Spaces 0-63
+	private long high; //Spaces 64-127
+
+	public BoardMask()
+	{
+	}
+
+	private BoardMask(long low, long high)
+	{
+		this.low = low;
+		this.high = high;
+	}
+
+	private static BoardMask[][] buildAdjacency()
+	{
+		BoardMask[][] table = new BoardMask[MAX_PLAYERS+1][];
+		for(int players=1; players<=MAX_PLAYERS; players++)
+		{
+			table[players] = new BoardMask[(players+1) * 5];
+			for(int space=0; space<table[players].length; space++)
+				table[players][space] = of(RtaBMath.getAdjacentSpaces(space, players));
+		}
+		return table;
+	}
+
+	/**
+	 * @return Every space on a board of the given size
+	 */
+	public static BoardMask range(int size)
+	{
+		if(size > 64)
+			return new BoardMask(-1L, size >= CAPACITY ? -1L : (1L << (size - 64)) - 1);
+		return new BoardMask(size == 64 ? -1L : (1L << size) - 1, 0);
+	}
+
+	/**
+	 * @return The spaces in the given list
+	 */
+	public static BoardMask of(Collection<Integer> spaces)
+	{
+		BoardMask mask = new BoardMask();
+		mask.setAll(spaces);
+		return mask;
+	}
+
+	/**
+	 * @return The spaces next to the given one (including diagonals), on the board for that many players
+	 */
+	public static BoardMask adjacentTo(int space, int players)
+	{
+		BoardMask neighbours = adjacency[players][space];
+		return new BoardMask(neighbours.low, neighbours.high);
+	}
+
+	public boolean get(int space)
+	{
+		return space < 64 ? (low & (1L << space)) != 0 : (high & (1L << (space - 64))) != 0;
+	}
+
+	public void set(int space)
+	{
+		if(space < 0 || space >= CAPACITY)
+			throw new IndexOutOfBoundsException(space);
+		if(space < 64)
+			low |= 1L << space;
+		else
+			high |= 1L << (space - 64);
+	}
+
+	public void setAll(Collection<Integer> spaces)
+	{
+		for(int next : spaces)
+			set(next);
+	}
+
+	public void clear(int space)
+	{
+		if(space < 64)
+			low &= ~(1L << space);
+		else
+			high &= ~(1L << (space - 64));
+	}
+
+	/**
+	 * @return How many spaces are in the set
+	 */
+	public int size()
+	{
+		return Long.bitCount(low) + Long.bitCount(high);
+	}
+
+	public boolean isEmpty()
+	{
+		return low == 0 && high == 0;
+	}
+
+	/**
+	 * @return The spaces that are in both sets
+	 */
+	public BoardMask and(BoardMask other)
+	{
+		return new BoardMask(low & other.low, high & other.high);
+	}
+
+	/**
+	 * @return The spaces in this set that aren't in the other one
+	 */
+	public BoardMask andNot(BoardMask other)
+	{
+		return new BoardMask(low & ~other.low, high & ~other.high);
+	}
+
+	/**
+	 * @return How many spaces in this set are next to the given one, on the board for that many players
+	 */
+	public int countAdjacent(int space, int players)
+	{
+		BoardMask neighbours = adjacency[players][space];
+		return Long.bitCount(low & neighbours.low) + Long.bitCount(high & neighbours.high);
+	}
+
+	/**
+	 * @return The first space in the set from the given one onwards, or -1 if there aren't any
+	 */
+	public int nextSetBit(int from)
+	{
+		if(from < 64)
+		{
+			long remaining = low & (-1L << from);
+			if(remaining != 0)
+				return Long.numberOfTrailingZeros(remaining);
+			from = 64;
+		}
+		if(from >= CAPACITY)
+			return -1;
+		long remaining = high & (-1L << (from - 64));
+		return remaining != 0 ? 64 + Long.numberOfTrailingZeros(remaining) : -1;
+	}
+
+	/**
+	 * Gets a space by its position in the set, counting in board order - for picking one at random.
+	 * @param index Which space to get, from 0 to size()-1
+	 */
+	public int nth(int index)
+	{
+		int lowCount = Long.bitCount(low);
+		if(index < lowCount)
+			return select(low, index);
+		if(index - lowCount < Long.bitCount(high))
+			return 64 + select(high, index - lowCount);
+		throw new IndexOutOfBoundsException(index);
+	}
+
+	private static int select(long bits, int index)
+	{
+		//Knock off the lowest spaces until the one we want is at the bottom
+		for(int i=0; i<index; i++)
+			bits &= bits - 1;
+		return Long.numberOfTrailingZeros(bits);
+	}
+
+	/**
+	 * @return The spaces in the set, in board order
+	 */
+	public List<Integer> toList()
+	{
+		List<Integer> spaces = new ArrayList<>(size());
+		for(int i = nextSetBit(0); i >= 0; i = nextSetBit(i+1))
+			spaces.add(i);
+		return spaces;
+	}
+
+	@Override
+	public boolean equals(Object other)
+	{
+		return other instanceof BoardMask mask && low == mask.low && high == mask.high;
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return Long.hashCode(low) * 31 + Long.hashCode(high);
+	}
+
+	@Override
+	public String toString()
+	{
+		return toList().toString();
+	}
+}
@@ -1,14 +1,16 @@
 package tel.discord.rtab;
 
-import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 
 import org.json.JSONObject;
 import org.json.JSONTokener;
 
+import tel.discord.rtab.sim.Simulation;
+
 public class BountyController
 {
 	static final int MIN_BOUNTY_SCORE = 20; //how interesting you need to be before we actually care
@@ -23,6 +25,13 @@ public class BountyController
 		this.channelID = channelID;
 		this.baseNumerator = baseNumerator;
 		this.baseDenominator = baseDenominator;
+		//Simulations keep their own bounties, and never save them
+		Simulation simulation = Simulation.current();
+		if(simulation != null)
+		{
+			bounties = simulation.sandboxed(Paths.get("scores","bounties"+channelID+".json"), file -> new JSONObject());
+			return;
+		}
 		//Load!
 		try
 		{
@@ -51,14 +60,22 @@ public class BountyController
 		for(Player next : players)
 			if(next.bounty > 0)
 				bounties.put(next.uID, next.bounty);
-		try
+		if(Simulation.current() != null)
+			return;
+		//Take a copy now, as the write may happen later in a batch
+		String savedBounties = bounties.toString(4);
+		Path file = Paths.get("scores","bounties"+channelID+".json");
+		SaveBatch.writeFile(file, () ->
 		{
-			bounties.write(new FileWriter(Paths.get("scores","bounties"+channelID+".json").toFile()), 4, 0).close();
-		}
-		catch (Exception e)
-		{
-			System.out.println("SAVE FAILED");
-			e.printStackTrace();
-		}
+			try
+			{
+				SaveFile.writeString(file, savedBounties);
+			}
+			catch (Exception e)
+			{
+				System.out.println("SAVE FAILED");
+				e.printStackTrace();
+			}
+		});
 	}
 }
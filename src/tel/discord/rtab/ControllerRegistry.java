@@ -0,0 +1,149 @@
+package tel.discord.rtab;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import tel.discord.rtab.games.MiniGame;
+
+/**
+ * Keeps track of everything running in the bot's channels - game controllers, Super Bot Challenges, minigame tournaments,
+ * and minigames being played - so commands can find the one for their channel (or player) without searching for it.
+ * Channels are connected from several threads at once while warming up, so everything here is safe to use from any thread.
+ */
+public final class ControllerRegistry
+{
+	static final ConcurrentHashMap<String, GameController> games = new ConcurrentHashMap<>();
+	static final ConcurrentHashMap<String, SuperBotChallenge> challenges = new ConcurrentHashMap<>();
+	static final ConcurrentHashMap<String, MinigameTournament> tournaments = new ConcurrentHashMap<>();
+	static final ConcurrentHashMap<String, MiniGame> minigamesByPlayer = new ConcurrentHashMap<>();
+	static final ConcurrentHashMap<String, Set<MiniGame>> minigamesByChannel = new ConcurrentHashMap<>();
+
+	private ControllerRegistry()
+	{
+		throw new java.lang.UnsupportedOperationException("This is a utility class and cannot be instantiated.");
+	}
+
+	/**
+	 * @return The game controller running in the given channel (including SBC channels), or null if there isn't one
+	 */
+	public static GameController getGame(String channelID)
+	{
+		return games.get(channelID);
+	}
+
+	public static Collection<GameController> getGames()
+	{
+		return Collections.unmodifiableCollection(games.values());
+	}
+
+	static void addGame(GameController game)
+	{
+		games.put(game.channel.getId(), game);
+	}
+
+	public static GameController removeGame(String channelID)
+	{
+		return games.remove(channelID);
+	}
+
+	public static SuperBotChallenge getChallenge(String channelID)
+	{
+		return challenges.get(channelID);
+	}
+
+	public static Collection<SuperBotChallenge> getChallenges()
+	{
+		return Collections.unmodifiableCollection(challenges.values());
+	}
+
+	static void addChallenge(SuperBotChallenge challenge)
+	{
+		challenges.put(challenge.channel.getId(), challenge);
+	}
+
+	public static SuperBotChallenge removeChallenge(String channelID)
+	{
+		return challenges.remove(channelID);
+	}
+
+	public static MinigameTournament getTournament(String channelID)
+	{
+		return tournaments.get(channelID);
+	}
+
+	public static Collection<MinigameTournament> getTournaments()
+	{
+		return Collections.unmodifiableCollection(tournaments.values());
+	}
+
+	static void addTournament(MinigameTournament tournament)
+	{
+		tournaments.put(tournament.channel.getId(), tournament);
+	}
+
+	public static MinigameTournament removeTournament(String channelID)
+	{
+		return tournaments.remove(channelID);
+	}
+
+	/**
+	 * @return Whether anything is already running in the given channel
+	 */
+	public static boolean isConnected(String channelID)
+	{
+		return games.containsKey(channelID) || challenges.containsKey(channelID) || tournaments.containsKey(channelID);
+	}
+
+	/**
+	 * @return The minigame the given player is playing right now, or null if they aren't
+	 */
+	public static MiniGame getMinigame(String playerID)
+	{
+		return minigamesByPlayer.get(playerID);
+	}
+
+	/**
+	 * @return Every minigame being played in the given channel (usually no more than one)
+	 */
+	public static Collection<MiniGame> getMinigames(String channelID)
+	{
+		Set<MiniGame> channelGames = minigamesByChannel.get(channelID);
+		return channelGames == null ? Collections.emptySet() : Collections.unmodifiableSet(channelGames);
+	}
+
+	public static void addMinigame(MiniGame game)
+	{
+		minigamesByPlayer.put(game.getPlayerID(), game);
+		minigamesByChannel.compute(game.getChannelID(), (key, channelGames) ->
+		{
+			if(channelGames == null)
+				channelGames = ConcurrentHashMap.newKeySet();
+			channelGames.add(game);
+			return channelGames;
+		});
+	}
+
+	public static void removeMinigame(MiniGame game)
+	{
+		minigamesByPlayer.remove(game.getPlayerID(), game);
+		minigamesByChannel.computeIfPresent(game.getChannelID(), (key, channelGames) ->
+		{
+			channelGames.remove(game);
+			return channelGames.isEmpty() ? null : channelGames;
+		});
+	}
+
+	/**
+	 * Shuts down every minigame being played and forgets about them, for when the bot is shutting down.
+	 */
+	static void shutdownMinigames()
+	{
+		for(Set<MiniGame> channelGames : minigamesByChannel.values())
+			for(MiniGame next : channelGames)
+				next.shutdown();
+		minigamesByPlayer.clear();
+		minigamesByChannel.clear();
+	}
+}
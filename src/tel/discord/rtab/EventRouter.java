@@ -0,0 +1,174 @@
+package tel.discord.rtab;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import net.dv8tion.jda.api.events.session.ShutdownEvent;
+import net.dv8tion.jda.api.hooks.EventListener;
+
+/**
+ * Holds everything that's waiting on someone to send a message, filed under the channel and author it's waiting on,
+ * so each message only gets checked against the waits for its own channel and author rather than every wait in every guild.
+ * Either the channel or the author can be left null to take messages from any (DMs, for example, are waited on by author).
+ * Otherwise it works the way JDA Utilities' EventWaiter does: the condition is checked on the event thread,
+ * the first time it passes the action runs there too, and if it never does the timeout action runs on the scheduler instead.
+ */
+public class EventRouter implements EventListener
+{
+	final ScheduledExecutorService scheduler;
+	final ConcurrentHashMap<Key, List<Wait>> waits = new ConcurrentHashMap<>();
+
+	record Key(String channelID, String authorID) { }
+
+	public class Wait
+	{
+		final Key key;
+		final Predicate<MessageReceivedEvent> condition;
+		final Consumer<MessageReceivedEvent> action;
+		final Runnable timeoutAction;
+		final AtomicBoolean finished = new AtomicBoolean();
+		ScheduledFuture<?> timeout;
+
+		Wait(Key key, Predicate<MessageReceivedEvent> condition, Consumer<MessageReceivedEvent> action, Runnable timeoutAction)
+		{
+			this.key = key;
+			this.condition = condition;
+			this.action = action;
+			this.timeoutAction = timeoutAction;
+		}
+
+		/**
+		 * Stops waiting without running either action.
+		 *
+		 * @return true if the wait was still going, false if it had already finished
+		 */
+		public boolean cancel()
+		{
+			if(!finished.compareAndSet(false, true))
+				return false;
+			remove(this);
+			return true;
+		}
+
+		boolean tryMessage(MessageReceivedEvent event)
+		{
+			if(finished.get() || !condition.test(event) || !finished.compareAndSet(false, true))
+				return false;
+			remove(this);
+			action.accept(event);
+			return true;
+		}
+
+		void timeOut()
+		{
+			if(!finished.compareAndSet(false, true))
+				return;
+			remove(this);
+			if(timeoutAction != null)
+				timeoutAction.run();
+		}
+	}
+
+	public EventRouter(ScheduledExecutorService scheduler)
+	{
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Waits for a message that passes the condition, then runs the action with it.
+	 *
+	 * @param channelID The channel the message has to be sent in, or null for any channel
+	 * @param authorID The user who has to send it, or null for anyone
+	 * @param timeout How long to wait before giving up and running the timeout action, or 0 to wait forever
+	 */
+	public Wait waitForMessage(String channelID, String authorID, Predicate<MessageReceivedEvent> condition,
+			Consumer<MessageReceivedEvent> action, long timeout, TimeUnit unit, Runnable timeoutAction)
+	{
+		Wait wait = new Wait(new Key(channelID, authorID), condition, action, timeoutAction);
+		waits.compute(wait.key, (key, list) ->
+		{
+			List<Wait> newList = list == null ? new ArrayList<>(1) : new ArrayList<>(list);
+			newList.add(wait);
+			return newList;
+		});
+		if(timeout > 0)
+			wait.timeout = scheduler.schedule(wait::timeOut, timeout, unit);
+		return wait;
+	}
+
+	public Wait waitForMessage(String channelID, String authorID, Predicate<MessageReceivedEvent> condition,
+			Consumer<MessageReceivedEvent> action)
+	{
+		return waitForMessage(channelID, authorID, condition, action, 0, TimeUnit.SECONDS, null);
+	}
+
+	void remove(Wait wait)
+	{
+		if(wait.timeout != null)
+			wait.timeout.cancel(false);
+		//The lists are never changed in place, so the event thread can read them while this happens
+		waits.computeIfPresent(wait.key, (key, list) ->
+		{
+			List<Wait> newList = new ArrayList<>(list);
+			newList.remove(wait);
+			return newList.isEmpty() ? null : newList;
+		});
+	}
+
+	/**
+	 * @return How many waits are still going, for keeping an eye on things
+	 */
+	public int getWaitCount()
+	{
+		int total = 0;
+		for(List<Wait> next : waits.values())
+			total += next.size();
+		return total;
+	}
+
+	@Override
+	public void onEvent(GenericEvent event)
+	{
+		if(event instanceof MessageReceivedEvent message)
+		{
+			if(waits.isEmpty())
+				return;
+			String channelID = message.getChannel().getId();
+			String authorID = message.getAuthor().getId();
+			routeMessage(message, new Key(channelID, authorID));
+			routeMessage(message, new Key(channelID, null));
+			routeMessage(message, new Key(null, authorID));
+			routeMessage(message, new Key(null, null));
+		}
+		else if(event instanceof ShutdownEvent)
+			scheduler.shutdown();
+	}
+
+	void routeMessage(MessageReceivedEvent event, Key key)
+	{
+		List<Wait> list = waits.get(key);
+		if(list == null)
+			return;
+		for(Wait next : list)
+		{
+			try
+			{
+				next.tryMessage(event);
+			}
+			//Don't let one broken wait stop the message getting to the others
+			catch(Exception e)
+			{
+				e.printStackTrace();
+			}
+		}
+	}
+}
@@ -1,29 +1,23 @@
 package tel.discord.rtab;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
+import net.dv8tion.jda.api.Permission;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.Role;
 import net.dv8tion.jda.api.entities.channel.ChannelType;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Member;
-import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.exceptions.ErrorHandler;
 import net.dv8tion.jda.api.requests.ErrorResponse;
 import net.dv8tion.jda.internal.utils.tuple.Pair;
@@ -51,17 +45,23 @@ public class GameController
 	static final int BOMB_PENALTY = -500_000;
 	static final int NEWBIE_BOMB_PENALTY = -200_000; //Bomb penalties currently doubled for Season 15 Bounty Hunting
 	BountyController bounty;
+	public ScoreStore scores;
 	//Other useful technical things
-	public ScheduledThreadPoolExecutor timer;
+	public Lane timer;
+	public long roundSeed;
 	public TextChannel channel, resultChannel;
+	public MessageQueue messages; //Everything said in the game channel goes through here
 	public ScheduledFuture<?> demoMode;
 	private Message waitingMessage;
 	private String gameStartLink; 
 	public HashSet<String> pingList = new HashSet<>();
 	public HashSet<String> lockoutList = new HashSet<>();
 	ScheduledFuture<?> warnPlayer;
+	final BoardDisplay display = new BoardDisplay(); //Remembers the last board drawn, so only what's changed gets redrawn
+	EventRouter.Wait pickWait; //The last player's space picker, in case their turn ended some other way
 	Thread runAtGameEnd = null;
 	//Settings that can be customised
+	private volatile String[] pendingSettings;
 	public int baseNumerator, baseDenominator, botCount, minPlayers, maxPlayers, maxLives, runDemo;
 	int averagePlayers, nextGamePlayers, newbieProtection;
 	public int livesPerEnhance;
@@ -73,7 +73,7 @@ public class GameController
 	public final List<Player> players = new ArrayList<>(16);
 	private final List<Player> winners = new ArrayList<>();
 	public Board gameboard;
-	public boolean[] pickedSpaces;
+	public BoardMask pickedSpaces;
 	public int currentTurn;
 	public int playersAlive, earlyWinners;
 	int botsInGame;
@@ -118,72 +118,95 @@ public class GameController
 		 * record[15] = are timers set to turbo speed
 		 */
 		channel = gameChannel;
+		messages = MessageQueue.forChannel(channel);
 		rankChannel = channel.getId().equals("472266492528820226"); //Hardcoding this for now, easy to change later
 		this.resultChannel = resultChannel;
 		//Let them know if anything goes wrong
 		try
 		{
-			//Base multiplier is kinda complex
-			String[] baseMultiplier = record[3].split("/");
-			baseNumerator = Integer.parseInt(baseMultiplier[0]);
-			//If no denominator supplied, treat it as 1
-			if(baseMultiplier.length < 2)
-				baseDenominator = 1;
-			else
-				baseDenominator = Integer.parseInt(baseMultiplier[1]);
-			//Other settings just simple imports
-			botCount = Integer.parseInt(record[4]);
-			runDemo = Integer.parseInt(record[5]);
-			minPlayers = Integer.parseInt(record[6]);
-			maxPlayers = Integer.parseInt(record[7]);
-			//"average" player count used for figuring out bots is 4 unless settings demand otherwise
-			averagePlayers = Math.max(minPlayers, Math.min(maxPlayers, Math.min(botCount, 4)));
-			nextGamePlayers = generateNextGamePlayerCount();
-			maxLives = Integer.parseInt(record[8]);
-			lifePenalty = LifePenaltyType.values()[Integer.parseInt(record[9])];
-			verboseBotGames = BooleanSetting.parseSetting(record[10].toLowerCase(), false);
-			doBonusGames = BooleanSetting.parseSetting(record[11].toLowerCase(), true);
-			playersLevelUp = BooleanSetting.parseSetting(record[12].toLowerCase(), false);
-			newbieProtection = Integer.parseInt(record[13]);
-			livesPerEnhance = Integer.parseInt(record[14]);
-			turboTimers = BooleanSetting.parseSetting(record[15].toLowerCase(), false);
+			applySettings(record);
 			//Finally, create a game channel with all the settings as instructed
 		}
 		catch(Exception e1)
 		{
-			channel.sendMessage("A fatal error has occurred.").queue();
+			messages.send("A fatal error has occurred.");
 			e1.printStackTrace();
 			return;
 		}
 		reset();
-		//Check to see if we're in an ended season
+		//Load up the scoreboard, then check to see if we're in an ended season
+		scores = ScoreStore.forChannel(channel.getId());
 		try
 		{
-			List<String> list = Files.readAllLines(Paths.get("scores","scores"+channel.getId()+".csv"));
-			if(Integer.parseInt(list.get(0).split("#")[2]) >= 1_000_000_000)
+			String[] leader = scores.getRecordAt(0);
+			if(leader != null && Integer.parseInt(leader[2]) >= 1_000_000_000)
 				gameStatus = GameStatus.SEASON_OVER;
 			else
-				channel.sendMessage("Ready to play!").queue();
+				messages.send("Ready to play!");
 		}
 		catch(Exception e)
 		{	
-			channel.sendMessage("Ready to play!").queue();
+			messages.send("Ready to play!");
 		}
 	}
 	
-	class ControllerThreadFactory implements ThreadFactory
+	private void applySettings(String[] record)
 	{
-		@Override
-		public Thread newThread(Runnable r)
-		{
-			Thread newThread = new Thread(r);
-			newThread.setName(String.format("Game Controller - %s - %s", channel.getGuild().getName(), channel.getName()));
-			return newThread;
-		}
+		//Base multiplier is kinda complex
+		String[] baseMultiplier = record[3].split("/");
+		baseNumerator = Integer.parseInt(baseMultiplier[0]);
+		//If no denominator supplied, treat it as 1
+		if(baseMultiplier.length < 2)
+			baseDenominator = 1;
+		else
+			baseDenominator = Integer.parseInt(baseMultiplier[1]);
+		//Other settings just simple imports
+		botCount = Integer.parseInt(record[4]);
+		runDemo = Integer.parseInt(record[5]);
+		minPlayers = Integer.parseInt(record[6]);
+		maxPlayers = Integer.parseInt(record[7]);
+		//"average" player count used for figuring out bots is 4 unless settings demand otherwise
+		averagePlayers = Math.max(minPlayers, Math.min(maxPlayers, Math.min(botCount, 4)));
+		nextGamePlayers = generateNextGamePlayerCount();
+		maxLives = Integer.parseInt(record[8]);
+		lifePenalty = LifePenaltyType.values()[Integer.parseInt(record[9])];
+		verboseBotGames = BooleanSetting.parseSetting(record[10].toLowerCase(), false);
+		doBonusGames = BooleanSetting.parseSetting(record[11].toLowerCase(), true);
+		playersLevelUp = BooleanSetting.parseSetting(record[12].toLowerCase(), false);
+		newbieProtection = Integer.parseInt(record[13]);
+		livesPerEnhance = Integer.parseInt(record[14]);
+		turboTimers = BooleanSetting.parseSetting(record[15].toLowerCase(), false);
+	}
+	
+	/**
+	 * Takes a changed settings record for the channel, to be applied the next time the game resets.
+	 * Safe to call from any thread.
+	 */
+	public void updateSettings(String[] record)
+	{
+		pendingSettings = record;
 	}
 	
 	public void reset()
 	{
+		//Pick up any settings that have changed since last time, now that there's no game going on for them to mess with
+		String[] newSettings = pendingSettings;
+		if(newSettings != null)
+		{
+			pendingSettings = null;
+			try
+			{
+				applySettings(newSettings);
+				resultChannel = newSettings[2].equalsIgnoreCase("null") ? null : channel.getGuild().getTextChannelById(newSettings[2]);
+				if(resultChannel != null && !channel.getGuild().getSelfMember().hasPermission(resultChannel, Permission.MESSAGE_SEND))
+					resultChannel = null;
+			}
+			catch(Exception e)
+			{
+				messages.send("Failed to update the channel settings.");
+				e.printStackTrace();
+			}
+		}
 		if(currentGame != null)
 			currentGame.gameOver();
 		players.clear();
@@ -214,19 +237,22 @@ public class GameController
 		weather = Weather.BORING;
 		if(timer != null)
 			timer.shutdownNow();
-		timer = new ScheduledThreadPoolExecutor(1, new ControllerThreadFactory());
+		timer = Lane.open(String.format("Game Controller - %s - %s", channel.getGuild().getName(), channel.getName()));
+		//Each round gets a fresh random stream, so it can be replayed by reseeding the lane with the same seed
+		roundSeed = RtaBMath.newSeed();
+		timer.reseed(roundSeed);
 		if(runDemo != 0 && botCount >= minPlayers)
 		{
 			demoMode = timer.schedule(this::runDemo,runDemo,TimeUnit.MINUTES);
 		}
 	}
 	
-	int generateNextGamePlayerCount()
+	private int generateNextGamePlayerCount()
 	{
 		//We use this to decide how many bots we want in our next game
 		//This is only called after a game is completed to prevent letting players reroll the rng
 		//The current formula gives equal chances of any number between minPlayers and averagePlayers
-		return (int)(Math.random()*(1+averagePlayers-minPlayers))+minPlayers;
+		return (int)(RtaBMath.random()*(1+averagePlayers-minPlayers))+minPlayers;
 	}
 	
 	boolean initialised()
@@ -274,33 +300,33 @@ public class GameController
 		//Are player joins even *allowed* here?
 		if(!playersCanJoin)
 		{
-			channel.sendMessage("Cannot join game: Joining is not permitted in this channel.").queue();
+			messages.send("Cannot join game: Joining is not permitted in this channel.");
 			return false;
 		}
 		//Make sure game isn't already running
 		if(gameStatus != GameStatus.SIGNUPS_OPEN)
 		{
-			channel.sendMessage("Cannot join game: "+
-					(gameStatus == GameStatus.SEASON_OVER?"There is no season currently running.":"Game already running.")).queue();
+			messages.send("Cannot join game: "+
+					(gameStatus == GameStatus.SEASON_OVER?"There is no season currently running.":"Game already running."));
 			return false;
 		}
 		//Watch out for too many players
 		if(players.size() >= maxPlayers)
 		{
-			channel.sendMessage("Cannot join game: Too many players.").queue();
+			messages.send("Cannot join game: Too many players.");
 			return false;
 		}
 		//Create player object
 		Player newPlayer = new Player(playerID,this,null);
 		if(newPlayer.getName().contains(":") || newPlayer.getName().contains("#") || newPlayer.getName().startsWith("!"))
 		{
-			channel.sendMessage("Cannot join game: Illegal characters in name.").queue();
+			messages.send("Cannot join game: Illegal characters in name.");
 			return false;
 		}
 		//Dumb easter egg
 		if(newPlayer.money <= -1000000000)
 		{
-			channel.sendMessage("Cannot join game: You have been eliminated from Race to a Billion.").queue();
+			messages.send("Cannot join game: You have been eliminated from Race to a Billion.");
 			return false;
 		}
 		//If they're out of lives, charge them and let them know
@@ -312,7 +338,7 @@ public class GameController
 			//If they've self-excluded, bypass all this and just lock them out
 			if(lockoutList.contains(newPlayer.uID))
 			{
-				channel.sendMessage("Cannot join game: You have no lives remaining.").queue();
+				messages.send("Cannot join game: You have no lives remaining.");
 				return false;
 			}
 			int entryFee;
@@ -322,14 +348,14 @@ public class GameController
 				case SCALED -> entryFee = RtaBMath.calculateEntryFee(newPlayer.money, 0);
 				case INCREASING -> entryFee = RtaBMath.calculateEntryFee(newPlayer.money, newPlayer.lives);
 				default -> {
-					channel.sendMessage("Cannot join game: You have no lives remaining.").queue();
+					messages.send("Cannot join game: You have no lives remaining.");
 					return false;
 				}
 			}
 			newPlayer.addMoney(-1*entryFee,MoneyMultipliersToUse.NOTHING);
 			newPlayer.oldMoney = newPlayer.money;
-			channel.sendMessage(newPlayer.getSafeMention() + String.format(", you are out of lives. "
-					+ "Playing this round will incur an entry fee of $%,d.",entryFee)).queue();
+			messages.send(newPlayer.getSafeMention() + String.format(", you are out of lives. "
+					+ "Playing this round will incur an entry fee of $%,d.",entryFee));
 			newPlayer.paidLifePenalty = true;
 		}
 		//Look for match already in player list
@@ -339,12 +365,12 @@ public class GameController
 			//Found them, check if we should update their name or just laugh at them
 			if(players.get(playerLocation).getName().equals(newPlayer.getName()))
 			{
-				channel.sendMessage("Cannot join game: You have already joined the game.").queue();
+				messages.send("Cannot join game: You have already joined the game.");
 			}
 			else
 			{
 				players.set(playerLocation,newPlayer);
-				channel.sendMessage("Updated in-game name.").queue();
+				messages.send("Updated in-game name.");
 			}
 			return false;
 		}
@@ -355,8 +381,8 @@ public class GameController
 		//Remind everyone if they're close to the goal
 		if(newPlayer.money > 900000000)
 		{
-			channel.sendMessage(String.format("%1$s only needs $%2$,d more to reach the goal!",
-					newPlayer.getName(),(1000000000-newPlayer.money))).queue();
+			messages.send(String.format("%1$s only needs $%2$,d more to reach the goal!",
+					newPlayer.getName(),(1000000000-newPlayer.money)));
 		}
 		//If there's only one player right now, that means we're starting a new game so schedule the relevant things
 		if(players.size() == 1)
@@ -367,15 +393,15 @@ public class GameController
 			{
 				if(gameStatus == GameStatus.SIGNUPS_OPEN)
 				{
-					channel.sendMessage("Thirty seconds before game starts!").queue();
-					channel.sendMessage(listPlayers(false)).queue();
+					messages.send("Thirty seconds before game starts!");
+					messages.send(listPlayers(false));
 				}
 			}, 90, TimeUnit.SECONDS);
 			timer.schedule(this::startTheGameAlready, 120, TimeUnit.SECONDS);
-			channel.sendMessage("Starting a game of Race to a Billion in two minutes. Type !join to sign up.").queue();
+			messages.send("Starting a game of Race to a Billion in two minutes. Type !join to sign up.");
 		}
 		//Finally, wrap up by saying they actually managed to join
-		channel.sendMessage(newPlayer.getName() + " joined the game.").queue();
+		messages.send(newPlayer.getName() + " joined the game.");
 		return true;
 	}
 	
@@ -391,7 +417,7 @@ public class GameController
 		//Make sure game isn't running, too late to quit now
 		if(gameStatus != GameStatus.SIGNUPS_OPEN)
 		{
-			channel.sendMessage("The game cannot be left after it has started.").queue();
+			messages.send("The game cannot be left after it has started.");
 			return false;
 		}
 		//Search for player
@@ -402,12 +428,12 @@ public class GameController
 			//Abort the game if everyone left
 			if(players.isEmpty())
 				reset();
-			channel.sendMessage(playerID.getEffectiveName() + " left the game.").queue();
+			messages.send(playerID.getEffectiveName() + " left the game.");
 			return true;
 		}
 		//Didn't find them, why are they trying to quit in the first place?
-		channel.sendMessage(playerID.getEffectiveName() + 
-				" could not leave the game because they were never in the game. :thinking:").queue();
+		messages.send(playerID.getEffectiveName() + 
+				" could not leave the game because they were never in the game. :thinking:");
 		return false;
 	}
 	
@@ -424,7 +450,7 @@ public class GameController
 		}
 		catch (IOException e)
 		{
-			channel.sendMessage("Bot creation failed.").queue();
+			messages.send("Bot creation failed.");
 			e.printStackTrace();
 			return;
 		}
@@ -447,7 +473,7 @@ public class GameController
 			channel.sendMessage(String.format("%1$s only needs $%2$,d more to reach the goal!",
 					newPlayer.getName(),(1_000_000_000-newPlayer.money)));
 		}
-		channel.sendMessage(newPlayer.getName() + " joined the game.").queue();
+		messages.send(newPlayer.getName() + " joined the game.");
 		//If they're the first player then don't bother with the timer, but do cancel the demo
 		if(players.size() == 1 && runDemo != 0)
 			demoMode.cancel(false);
@@ -459,7 +485,7 @@ public class GameController
 		if((gameStatus != GameStatus.SIGNUPS_OPEN && gameStatus != GameStatus.ADD_BOT_QUESTION && gameStatus != GameStatus.BOMB_PLACEMENT)
 				|| players.size() >= maxPlayers)
 		{
-			channel.sendMessage("A bot can not be added at this time.").queue();
+			messages.send("A bot can not be added at this time.");
 			return;
 		}
 		GameBot chosenBot;
@@ -477,7 +503,7 @@ public class GameController
 			}
 			catch (IOException e)
 			{
-				channel.sendMessage("Bot generation failed.").queue();
+				messages.send("Bot generation failed.");
 				e.printStackTrace();
 				return;
 			}
@@ -487,7 +513,7 @@ public class GameController
 		if(!goodPick)
 		{
 			//If we've checked EVERY bot...
-			channel.sendMessage("Bot generation failed.").queue();
+			messages.send("Bot generation failed.");
 		}
 		else
 		{
@@ -519,18 +545,18 @@ public class GameController
 		//If we don't have enough players and for some reason didn't add bots, call the game off
 		else if(players.size() < minPlayers)
 		{
-			channel.sendMessage("Not enough players. Game aborted.").queue();
+			messages.send("Not enough players. Game aborted.");
 			reset();
 			return;
 		}
 		//Declare game in progress so we don't get latecomers
-		channel.sendMessage("Starting game...").queue();
+		messages.send("Starting game...");
 		gameStatus = GameStatus.BOMB_PLACEMENT;
 		//Generate board
 		boardSize = 5 + (5*players.size());
 		spacesLeft = boardSize;
 		gameboard = new Board(boardSize,players.size());
-		pickedSpaces = new boolean[boardSize];
+		pickedSpaces = new BoardMask();
 		//Consider placing the seasonal event, with chance dependent on the average player bank
         long averageBank = 0;
         for(Player next : players)
@@ -551,11 +577,11 @@ public class GameController
 	{
 		//Didn't get players? How about a bot?
 		if(players.size() == 1)
-			channel.sendMessage(players.get(0).getSafeMention()+", would you like to play against a bot? (Y/N)").queue();
+			messages.send(players.get(0).getSafeMention()+", would you like to play against a bot? (Y/N)");
 		else
-			channel.sendMessage("Would you like to play against a bot? (Y/N)").queue();
+			messages.send("Would you like to play against a bot? (Y/N)");
 		gameStatus = GameStatus.ADD_BOT_QUESTION;
-		waiter.waitForEvent(MessageReceivedEvent.class,
+		waiter.waitForMessage(channel.getId(), null,
 				//Accept if it's a player in the game, they're in the right channel, and they've given a valid response
 				e ->
 				{
@@ -586,7 +612,7 @@ public class GameController
 					}
 					else
 					{
-						channel.sendMessage("Very well.").queue();
+						messages.send("Very well.");
 						timer.schedule(this::startTheGameAlready, 500, TimeUnit.MILLISECONDS);
 					}
 				},
@@ -597,7 +623,7 @@ public class GameController
 	private void sendBombPlaceMessages()
 	{
 		//Get the "waiting on" message going
-		waitingMessage = channel.sendMessage(listPlayers(true)).complete();
+		waitingMessage = messages.sendAndWait(listPlayers(true));
 		//Request players send in bombs, and set up waiter for them to return
 		for(int i=0; i<players.size(); i++)
 		{
@@ -622,11 +648,11 @@ public class GameController
 								+ "by sending a number 1-" + boardSize).queue(null,
 										//Print an instructive error message in the game channel if someone's DMs are blocked
 										new ErrorHandler().handle(ErrorResponse.CANNOT_SEND_TO_USER,
-												(e) -> this.channel.sendMessage(players.get(iInner).user.getAsMention()+
+												(e) -> messages.send(players.get(iInner).user.getAsMention()+
 														", your DMs are blocked! Please go to your privacy settings for this server"
 														+ " and enable Direct Messages from other members, "
-														+ "then place your bomb by DMing me a number 1-"+boardSize+".").queue())));
-				waiter.waitForEvent(MessageReceivedEvent.class,
+														+ "then place your bomb by DMing me a number 1-"+boardSize+"."))));
+				waiter.waitForMessage(null, players.get(iInner).uID,
 						//Check if right player, we're still in bomb placement, and valid bomb pick
 						e -> (gameStatus == GameStatus.BOMB_PLACEMENT
 								&& e.getAuthor().equals(players.get(iInner).user)
@@ -674,13 +700,13 @@ public class GameController
 		//If *no* humans placed their bomb, or if there aren't enough bots to add, abort automatically
 		if(playersAlive == botsInGame || (botCount - botsInGame) < (players.size() - playersAlive))
 		{
-			channel.sendMessage("Bomb placement timed out. Game aborted.").queue();
+			messages.send("Bomb placement timed out. Game aborted.");
 			reset();
 			return;
 		}
 		//Otherwise, prompt the players for what to do
-		channel.sendMessage("Bomb placement timed out. (A)bort, (R)etry, (C)ontinue?").queue();
-		waiter.waitForEvent(MessageReceivedEvent.class,
+		messages.send("Bomb placement timed out. (A)bort, (R)etry, (C)ontinue?");
+		waiter.waitForMessage(channel.getId(), null,
 				//Waiting player and right channel
 				e ->
 				{
@@ -698,7 +724,7 @@ public class GameController
 					{
 					case "A":
 					case "ABORT":
-						channel.sendMessage("Very well. Game aborted.").queue();
+						messages.send("Very well. Game aborted.");
 						reset();
 						break;
 					case "C":
@@ -727,7 +753,7 @@ public class GameController
 					//If the game hasn't started automatically, abort
 					if(gameStatus == GameStatus.BOMB_PLACEMENT)
 					{
-						channel.sendMessage("Game aborted.").queue();
+						messages.send("Game aborted.");
 						reset();
 					}
 				});
@@ -753,9 +779,9 @@ public class GameController
 			//Delete the "waiting on" message
 			waitingMessage.delete().queue();
 			//Determine player order
-			Collections.shuffle(players);
+			RtaBMath.shuffle(players);
 			//Let's get things rolling!
-			Message gameStartMessage = channel.sendMessage("Let's go!").complete();
+			Message gameStartMessage = messages.sendAndWait("Let's go!");
 			gameStartLink = gameStartMessage.getJumpUrl();
 			//Set up bounties
 			bounty = new BountyController(channel.getId(),baseNumerator,baseDenominator);
@@ -776,7 +802,7 @@ public class GameController
 					case 4 ->
 							snarkMessage.append("So much for the ").append(coveredUp).append(" space on this board. You covered it up with a bomb.");
 				}
-				channel.sendMessage(snarkMessage).queue();
+				messages.send(snarkMessage);
 			}
 			gameStatus = GameStatus.IN_PROGRESS;
 			//Always start with the first player
@@ -833,8 +859,8 @@ public class GameController
 			}
 			totalBountyPool -= bounty;
 			players.get(maxPlayer).bounty += bounty;
-			channel.sendMessage(String.format("**%s** now has a **$%,d** bounty on their head!"
-					,players.get(maxPlayer).getName(), players.get(maxPlayer).bounty)).queue();
+			messages.send(String.format("**%s** now has a **$%,d** bounty on their head!"
+					,players.get(maxPlayer).getName(), players.get(maxPlayer).bounty));
 			playersDone[maxPlayer] = true;
 			bountiesPlaced ++;
 		}
@@ -842,8 +868,8 @@ public class GameController
 		for(int i=0; i<players.size(); i++)
 		{
 			if(!playersDone[i] && players.get(i).bounty > 0)
-				channel.sendMessage(String.format("**%s** carries over a **$%,d** bounty on their head."
-						,players.get(i).getName(), players.get(i).bounty)).queue();
+				messages.send(String.format("**%s** carries over a **$%,d** bounty on their head."
+						,players.get(i).getName(), players.get(i).bounty));
 		}
 	}
 	
@@ -852,78 +878,64 @@ public class GameController
 		BORING,KYOGRE,MYSTIC,HYPE,ECLIPSE,WIMDY,GROUDON,ACCADACCA,PERFECT,MYSTERY
 	}
 	
-	public void rollWeather()
+	/**
+	 * Rolls today's weather and lines up the forecast on the given timeline.
+	 * The weather itself is decided as soon as the timeline gets to it, and its effects kick in once it's been announced.
+	 */
+	public void rollWeather(Timeline timeline)
 	{
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		switch((int)(Math.random()*10))
+		timeline.pause(1000).then(() ->
 		{
-		case 0: //clear
-			weather = Weather.BORING;
-			channel.sendMessage("Today's Forecast: **CLEAR**").queue();
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			channel.sendMessage("Birds are singing, flowers are blooming... it's a beautiful day for RtaB!").queue();
-			break;
-		case 1: //rain
-			weather = Weather.KYOGRE;
-			channel.sendMessage("Today's Forecast: **HEAVY RAINFALL**").queue();
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			channel.sendMessage("A steady drizzle falls from the sky, dousing the land. It's hard to keep your boost alight...").queue();
-			for(Player next : players)
-				next.addBooster(-50);
-			break;
-		case 2: //fog
-			weather = Weather.MYSTIC;
-			channel.sendMessage("Today's Forecast: **FOG**").queue();
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			channel.sendMessage("A deep, cloudy fog has set in... you can hardly see a thing!").queue();
-			for(Player next : players)
-				next.peeks = 0;
-			break;
-		case 3: //electric
-			weather = Weather.HYPE;
-			channel.sendMessage("Today's Forecast: **POSITIVELY ELECTRIC**").queue();
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			channel.sendMessage("There's an exciting energy in the atmosphere, inspiring you to greatness. All minigames enhanced!").queue();
-			break;
-		case 4: //eclipse
-			weather = Weather.ECLIPSE;
-			channel.sendMessage("Today's Forecast: **SOLAR ECLIPSE**").queue();
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			channel.sendMessage("The moon hangs ominously in front of the sun, blanketing you in a strange darkness...").queue();
-			break;
-		case 5: //it fucken wimdy
-			weather = Weather.WIMDY;
-			channel.sendMessage("Today's Forecast: **GALE-FORCE WINDS**").queue();
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			channel.sendMessage("It's blowing a gale today! Everything not nailed down is at risk of being carried away...").queue();
-			break;
-		case 6: //heatwave
-			weather = Weather.GROUDON;
-			channel.sendMessage("Today's Forecast: **HEATWAVE**").queue();
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			channel.sendMessage("It's dangerously hot out! Feels like things could catch alight at any moment... like bombs and boost!").queue();
-			for(Player next : players)
-				next.addBooster(100);
-			break;
-		case 7: //thunder
-			weather = Weather.ACCADACCA;
-			channel.sendMessage("Today's Forecast: **THUNDERSTORM**").queue();
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			channel.sendMessage("As the thunder rolls, you know lightning is sure to follow. Better not get struck!").queue();
-			break;
-		case 8: //perfect
-			weather = Weather.PERFECT;
-			channel.sendMessage("Today's Forecast: **PERFECT**").queue();
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			channel.sendMessage("It's almost unbelievable... it's raining cash! What a perfect day!").queue();
-			break;
-		case 9: //mystery
-			weather = Weather.MYSTERY;
-			channel.sendMessage("Today's Forecast: **MYSTERIOUS**").queue();
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			channel.sendMessage("There's mystery in the air... I wonder how much cash you'll be making?").queue();
-		}
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+			weather = Weather.values()[(int)(RtaBMath.random()*10)];
+			String forecast = switch(weather)
+			{
+				case BORING -> "CLEAR";
+				case KYOGRE -> "HEAVY RAINFALL";
+				case MYSTIC -> "FOG";
+				case HYPE -> "POSITIVELY ELECTRIC";
+				case ECLIPSE -> "SOLAR ECLIPSE";
+				case WIMDY -> "GALE-FORCE WINDS"; //it fucken wimdy
+				case GROUDON -> "HEATWAVE";
+				case ACCADACCA -> "THUNDERSTORM";
+				case PERFECT -> "PERFECT";
+				case MYSTERY -> "MYSTERIOUS";
+			};
+			String description = switch(weather)
+			{
+				case BORING -> "Birds are singing, flowers are blooming... it's a beautiful day for RtaB!";
+				case KYOGRE -> "A steady drizzle falls from the sky, dousing the land. It's hard to keep your boost alight...";
+				case MYSTIC -> "A deep, cloudy fog has set in... you can hardly see a thing!";
+				case HYPE -> "There's an exciting energy in the atmosphere, inspiring you to greatness. All minigames enhanced!";
+				case ECLIPSE -> "The moon hangs ominously in front of the sun, blanketing you in a strange darkness...";
+				case WIMDY -> "It's blowing a gale today! Everything not nailed down is at risk of being carried away...";
+				case GROUDON -> "It's dangerously hot out! Feels like things could catch alight at any moment... like bombs and boost!";
+				case ACCADACCA -> "As the thunder rolls, you know lightning is sure to follow. Better not get struck!";
+				case PERFECT -> "It's almost unbelievable... it's raining cash! What a perfect day!";
+				case MYSTERY -> "There's mystery in the air... I wonder how much cash you'll be making?";
+			};
+			messages.send("Today's Forecast: **" + forecast + "**");
+			timeline.pause(1000).then(() ->
+			{
+				messages.send(description);
+				switch(weather)
+				{
+				case KYOGRE:
+					for(Player next : players)
+						next.addBooster(-50);
+					break;
+				case MYSTIC:
+					for(Player next : players)
+						next.peeks = 0;
+					break;
+				case GROUDON:
+					for(Player next : players)
+						next.addBooster(100);
+					break;
+				default:
+					//The rest of them take effect as the game goes on
+				}
+			}).pause(1000);
+		});
 	}
 
 	private void runTurn(int player)
@@ -931,7 +943,11 @@ public class GameController
 		//There is NO reason why we should be running a turn for anyone other than the current player
 		if(player != currentTurn)
 			return;
-		try { Thread.sleep(2000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		timer.schedule(() -> startTurn(player), 2, TimeUnit.SECONDS);
+	}
+	
+	private void startTurn(int player)
+	{
         //If wagers have been queued, resolve those first
         while(queuedWagers > 0)
         {
@@ -946,8 +962,8 @@ public class GameController
 			resolvingTurn = true;
 			if(repeatTurn > 0)
 				repeatTurn --;
-			channel.sendMessage(players.get(player).getSafeMention()
-					+ ", you've been given a **BLAMMO!**").queue();
+			messages.send(players.get(player).getSafeMention()
+					+ ", you've been given a **BLAMMO!**");
 			startBlammo(player, false);
 			return;
 		}
@@ -967,14 +983,14 @@ public class GameController
 		if(repeatTurn > 0 && !firstPick)
 		{
 			if(!(players.get(player).isBot))
-				channel.sendMessage(players.get(player).getSafeMention() + ", pick again.").queue();
+				messages.send(players.get(player).getSafeMention() + ", pick again.");
 		}
 		else
 		{
 			firstPick = false;
 			if(!players.get(player).isBot)
-				channel.sendMessage(players.get(player).getSafeMention() + 
-						", your turn. Choose a space on the board.").queue();
+				messages.send(players.get(player).getSafeMention() + 
+						", your turn. Choose a space on the board.");
 		}
 		if(repeatTurn > 0)
 			repeatTurn --;
@@ -982,10 +998,9 @@ public class GameController
 		//Ready up the space picker depending on if it's a bot up next
 		if(players.get(player).isBot)
 		{
-			//Sleep for a couple of seconds so they don't rush
-			try { Thread.sleep(2000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+			//Wait a couple of seconds so they don't rush
 			//and their logic is complicated so they get their own method
-			runAITurn(player);
+			timer.schedule(() -> runAITurn(player), 2, TimeUnit.SECONDS);
 		}
 		else
 		{
@@ -994,12 +1009,14 @@ public class GameController
 				//If they're out of the round somehow, why are we warning them?
 				if(players.get(player).status == PlayerStatus.ALIVE && gameStatus == GameStatus.IN_PROGRESS && player == currentTurn && !resolvingTurn)
 				{
-					channel.sendMessage(players.get(player).getSafeMention() + 
-							", thirty seconds left to choose a space!").queue();
+					messages.send(players.get(player).getSafeMention() + 
+							", thirty seconds left to choose a space!");
 					displayBoardAndStatus(true,false,false);
 				}
 			}, turboTimers?30:60, TimeUnit.SECONDS);
-			waiter.waitForEvent(MessageReceivedEvent.class,
+			if(pickWait != null)
+				pickWait.cancel();
+			pickWait = waiter.waitForMessage(channel.getId(), players.get(player).uID,
 					//Right player and channel
 					e ->
 					{
@@ -1013,9 +1030,9 @@ public class GameController
 								int location = Integer.parseInt(e.getMessage().getContentStripped());
 								try
 								{
-									if(pickedSpaces[location-1])
+									if(pickedSpaces.get(location-1))
 									{
-										channel.sendMessage("That space has already been picked.").queue();
+										messages.send("That space has already been picked.");
 										return false;
 									}
 									else
@@ -1052,16 +1069,9 @@ public class GameController
 	
 	private void runAITurn(int player)
 	{
-		//Get safe spaces, starting with all unpicked spaces
-		ArrayList<Integer> openSpaces = new ArrayList<>(boardSize);
-		for(int i=0; i<boardSize; i++)
-			if(!pickedSpaces[i])
-				openSpaces.add(i);
-		//Remove all known bombs
-		ArrayList<Integer> safeSpaces = new ArrayList<>(boardSize);
-		safeSpaces.addAll(openSpaces);
-		for(Integer bomb : players.get(player).knownBombs)
-			safeSpaces.remove(bomb);
+		//Get safe spaces, starting with all unpicked spaces and then removing all known bombs
+		BoardMask openSpaces = BoardMask.range(boardSize).andNot(pickedSpaces);
+		BoardMask safeSpaces = openSpaces.andNot(BoardMask.of(players.get(player).knownBombs));
 		//Test for hidden command stuff
 		switch(players.get(player).hiddenCommand)
 		{
@@ -1104,11 +1114,10 @@ public class GameController
 		case TRUESIGHT:
 			if(safeSpaces.size() > 1 && RtaBMath.random() < 0.5)
 			{
-				int truesightIndex = (int)(RtaBMath.random()*safeSpaces.size());
-				int truesightSpace = safeSpaces.get(truesightIndex);
+				int truesightSpace = safeSpaces.nth((int)(RtaBMath.random()*safeSpaces.size()));
 				if(!players.get(player).safePeeks.contains(truesightSpace))
 				{
-					safeSpaces.remove(truesightIndex); //We know there's another so this is fine
+					safeSpaces.clear(truesightSpace); //We know there's another so this is fine
 					String truesightIdentity = useTruesight(player,truesightSpace);
 					boolean badPeek = false;
 					if(truesightIdentity.startsWith("-") || truesightIdentity.contains("BOMB"))
@@ -1131,20 +1140,13 @@ public class GameController
 			if(safeSpaces.size() > 1)
 			{
 				//Look for a space with only one adjacent to it
-				ArrayList<Integer> minesweepOpportunities = new ArrayList<>();
-				for(int i = 0; i < boardSize; i++)
-					if(!pickedSpaces[i])
-					{
-						int adjacentSpaces = 0;
-						for(int j : RtaBMath.getAdjacentSpaces(i, players.size()))
-							if(!pickedSpaces[j])
-								adjacentSpaces++;
-						if(adjacentSpaces == 1)
-							minesweepOpportunities.add(i);
-					}
+				BoardMask minesweepOpportunities = new BoardMask();
+				for(int i = openSpaces.nextSetBit(0); i >= 0; i = openSpaces.nextSetBit(i+1))
+					if(openSpaces.countAdjacent(i, players.size()) == 1)
+						minesweepOpportunities.set(i);
 				//If we found one, choose one at random to sweep
 				if(!minesweepOpportunities.isEmpty())
-					useMinesweeper(player, minesweepOpportunities.get((int)(RtaBMath.random()*minesweepOpportunities.size())));
+					useMinesweeper(player, minesweepOpportunities.nth((int)(RtaBMath.random()*minesweepOpportunities.size())));
 			}
 			break;
 		//Fold, Repel, Defuse, and Failsafe are more situational and aren't used at this time
@@ -1155,16 +1157,11 @@ public class GameController
 		if(RtaBMath.random() * (spacesLeft - playersAlive) < playersAlive)
 		{
 			//Check for known peeked spaces that are still available
-			ArrayList<Integer> peekedSpaces = new ArrayList<>(boardSize);
-			for(Integer peek : players.get(player).safePeeks)
-			{
-				if(openSpaces.contains(peek))
-					peekedSpaces.add(peek);
-			}
+			BoardMask peekedSpaces = openSpaces.and(BoardMask.of(players.get(player).safePeeks));
 			//If there's any, pick one and end our logic
 			if(!peekedSpaces.isEmpty())
 			{
-				resolveTurn(player, peekedSpaces.get((int)(RtaBMath.random()*peekedSpaces.size())));
+				resolveTurn(player, peekedSpaces.nth((int)(RtaBMath.random()*peekedSpaces.size())));
 				return;
 			}
 		}
@@ -1177,7 +1174,7 @@ public class GameController
 		 */
 		if(players.get(player).peeks > 0 && safeSpaces.size() > 1 && RtaBMath.random() < 0.5)
 		{
-			int peekSpace = safeSpaces.get((int)(RtaBMath.random()*safeSpaces.size()));
+			int peekSpace = safeSpaces.nth((int)(RtaBMath.random()*safeSpaces.size()));
 			//If we've already seen this space, just take it instead of peeking it again
 			if(players.get(player).safePeeks.contains(peekSpace))
 			{
@@ -1186,7 +1183,7 @@ public class GameController
 			else
 			{
 				//Let the players know what's going on
-				channel.sendMessage("("+players.get(player).getName()+" peeks at space "+(peekSpace+1)+")").queue();
+				messages.send("("+players.get(player).getName()+" peeks at space "+(peekSpace+1)+")");
 				//Then use the peek, and decide what to do based on whether it's safe or not
 				if(!usePeek(player,peekSpace).isBomb())
 				{
@@ -1199,7 +1196,7 @@ public class GameController
 				else
 				{
 					//If it's a bomb, we'll just have to remember it and pick from the remaining spaces
-					safeSpaces.remove(Integer.valueOf(peekSpace));
+					safeSpaces.clear(peekSpace);
 					pickRandomSpaceForAITurn(player, openSpaces, safeSpaces);
 				}
 			}
@@ -1209,23 +1206,15 @@ public class GameController
 			pickRandomSpaceForAITurn(player, openSpaces, safeSpaces);
 	}
 	
-	private void pickRandomSpaceForAITurn(int player, ArrayList<Integer> openSpaces, ArrayList<Integer> safeSpaces)
+	private void pickRandomSpaceForAITurn(int player, BoardMask openSpaces, BoardMask safeSpaces)
 	{
-		//Start by getting a list of every space that opponents have peeked
-		ArrayList<Integer> opponentPeeks = new ArrayList<>(players.size());
+		//Start by getting every space that opponents have peeked
+		BoardMask opponentPeeks = new BoardMask();
 		for(int i=0; i<players.size(); i++)
 			if(i != player)
-				opponentPeeks.addAll(players.get(i).allPeeks);
-		//Now we can check if every 'safe' space has been peeked
-		boolean allSpacesPeeked = true;
-		for(Integer next : safeSpaces)
-			if(!opponentPeeks.contains(next))
-			{
-				allSpacesPeeked = false;
-				break;
-			}
-		//Everything's been peeked? Let's try to escape
-		if(allSpacesPeeked)
+				opponentPeeks.setAll(players.get(i).allPeeks);
+		//Everything 'safe' has been peeked? Let's try to escape
+		if(safeSpaces.andNot(opponentPeeks).isEmpty())
 		{
 			if(players.get(player).hiddenCommand == HiddenCommand.FAILSAFE)
 			{
@@ -1236,9 +1225,9 @@ public class GameController
 			{
 				int shuffledSpace;
 				if(!safeSpaces.isEmpty())
-					shuffledSpace = safeSpaces.get((int)(RtaBMath.random()*safeSpaces.size()));
+					shuffledSpace = safeSpaces.nth((int)(RtaBMath.random()*safeSpaces.size()));
 				else
-					shuffledSpace = openSpaces.get((int)(RtaBMath.random()*openSpaces.size()));
+					shuffledSpace = openSpaces.nth((int)(RtaBMath.random()*openSpaces.size()));
 				useShuffler(player, shuffledSpace);
 				resolveTurn(player, shuffledSpace);
 				return;
@@ -1258,15 +1247,15 @@ public class GameController
 			do
 			{
 				rollsLeft --;
-				chosenSpace = safeSpaces.get((int)(RtaBMath.random()*safeSpaces.size()));
+				chosenSpace = safeSpaces.nth((int)(RtaBMath.random()*safeSpaces.size()));
 			}
-			while(opponentPeeks.contains(chosenSpace) && rollsLeft > 0);
+			while(opponentPeeks.get(chosenSpace) && rollsLeft > 0);
 			resolveTurn(player, chosenSpace);
 		}
 		//No escape commands and everything is a bomb? I guess it's our loss.
 		else
 		{
-			resolveTurn(player, openSpaces.get((int)(RtaBMath.random()*openSpaces.size())));
+			resolveTurn(player, openSpaces.nth((int)(RtaBMath.random()*openSpaces.size())));
 		}
 	}
 	
@@ -1309,56 +1298,61 @@ public class GameController
 		if(!players.get(player).warned && !turboTimers)
 		{
 			players.get(player).warned = true;
-			channel.sendMessage(players.get(player).getSafeMention() + 
-					" is out of time. Discarding a random space.").queue();
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			//Get unpicked spaces
-			ArrayList<Integer> spaceCandidates = new ArrayList<>(boardSize);
-			for(int i=0; i<boardSize; i++)
-				if(!pickedSpaces[i])
-					spaceCandidates.add(i);
-			//Pick one at random
-			int spaceChosen = spaceCandidates.get((int) (RtaBMath.random() * spaceCandidates.size()));
-			//If it's a bomb, it sucks to be them
-			if(gameboard.getType(spaceChosen).isBomb())
-			{
-				resolveTurn(player, spaceChosen);
-			}
-			//If it isn't, throw out the space and let the players know what's up
-			else
+			messages.send(players.get(player).getSafeMention() + 
+					" is out of time. Discarding a random space.");
+			Timeline timeline = new Timeline();
+			timeline.pause(1000).then(() ->
 			{
-				if(resolvingTurn)
-					return;
+				//Get unpicked spaces
+				ArrayList<Integer> spaceCandidates = new ArrayList<>(boardSize);
+				for(int i=0; i<boardSize; i++)
+					if(!pickedSpaces.get(i))
+						spaceCandidates.add(i);
+				//Pick one at random
+				int spaceChosen = spaceCandidates.get((int) (RtaBMath.random() * spaceCandidates.size()));
+				//If it's a bomb, it sucks to be them
+				if(gameboard.getType(spaceChosen).isBomb())
+				{
+					resolveTurn(player, spaceChosen);
+				}
+				//If it isn't, throw out the space and let the players know what's up
 				else
-					resolvingTurn = true;
-				pickedSpaces[spaceChosen] = true;
-				spacesLeft --;
-				channel.sendMessage("Space " + (spaceChosen+1) + " selected...").queue();
-				//Don't forget the threshold
-				if(players.get(player).threshold)
 				{
-					channel.sendMessage(String.format("(-$%,d)",applyBaseMultiplier(THRESHOLD_PER_TURN_PENALTY)))
-						.queueAfter(1,TimeUnit.SECONDS);
-					players.get(player).addMoney(applyBaseMultiplier(-1*THRESHOLD_PER_TURN_PENALTY),MoneyMultipliersToUse.NOTHING);
+					if(resolvingTurn)
+						return;
+					else
+						resolvingTurn = true;
+					pickedSpaces.set(spaceChosen);
+					spacesLeft --;
+					messages.send("Space " + (spaceChosen+1) + " selected...");
+					//Don't forget the threshold
+					if(players.get(player).threshold)
+					{
+						messages.sendAfter(String.format("(-$%,d)",applyBaseMultiplier(THRESHOLD_PER_TURN_PENALTY)), 1, TimeUnit.SECONDS);
+						players.get(player).addMoney(applyBaseMultiplier(-1*THRESHOLD_PER_TURN_PENALTY),MoneyMultipliersToUse.NOTHING);
+					}
+					timeline.pause(5000).then(() ->
+					{
+						messages.send("It's not a bomb, so its contents are lost.");
+						runEndTurnLogic();
+					});
 				}
-				try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-				channel.sendMessage("It's not a bomb, so its contents are lost.").queue();
-				runEndTurnLogic();
-			}
+			});
+			timeline.start(timer);
 		}
 		//If they've been warned, it's time to BLOW STUFF UP!
 		else
 		{
-			channel.sendMessage(players.get(player).getSafeMention() + 
-					" is out of time. Eliminating them.").queue();
+			messages.send(players.get(player).getSafeMention() + 
+					" is out of time. Eliminating them.");
 			//Jokers? GET OUT OF HERE!
 			if(players.get(player).jokers > 0)
-				channel.sendMessage("Joker"+(players.get(player).jokers!=1?"s":"")+" deleted.").queue();
+				messages.send("Joker"+(players.get(player).jokers!=1?"s":"")+" deleted.");
 			players.get(player).jokers = 0;
 			//Find a bomb to destroy them with
 			int bombChosen;
 			//If their own bomb is still out there, let's just use that one
-			if(!pickedSpaces[players.get(player).myBombs.get(0)])
+			if(!pickedSpaces.get(players.get(player).myBombs.get(0)))
 			{
 				bombChosen = players.get(player).myBombs.get(0);
 			}
@@ -1367,7 +1361,7 @@ public class GameController
 			{
 				ArrayList<Integer> bombCandidates = new ArrayList<>(boardSize);
 				for(int i=0; i<boardSize; i++)
-					if(gameboard.getType(i).isBomb() && !pickedSpaces[i])
+					if(gameboard.getType(i).isBomb() && !pickedSpaces.get(i))
 						bombCandidates.add(i);
 				//Got bomb? Pick one to detonate
 				if(!bombCandidates.isEmpty())
@@ -1380,7 +1374,7 @@ public class GameController
 					//Get unpicked spaces
 					ArrayList<Integer> spaceCandidates = new ArrayList<>(boardSize);
 					for(int i=0; i<boardSize; i++)
-						if(!pickedSpaces[i])
+						if(!pickedSpaces.get(i))
 							spaceCandidates.add(i);
 					//Pick one and turn it into a BOMB
 					bombChosen = spaceCandidates.get((int) (RtaBMath.random() * spaceCandidates.size()));
@@ -1397,202 +1391,228 @@ public class GameController
 	private void resolveTurn(int player, int location)
 	{
 		//Try to detect double-turns and negate them before damage is done
-		if(pickedSpaces[location] || player != currentTurn)
+		if(pickedSpaces.get(location) || player != currentTurn)
 			return;
 		//Check for a hold on the board, and hold it if there isn't
 		if(resolvingTurn)
 			return;
 		else
 			resolvingTurn = true;
+		pickedSpaces.set(location);
+		spacesLeft--;
+		Timeline timeline = new Timeline();
 		//Announce the picked space
 		if(players.get(player).isBot)
 		{
-			channel.sendMessage(players.get(player).getName() + " selects space " + (location+1) + "...").queue();
+			messages.send(players.get(player).getName() + " selects space " + (location+1) + "...");
 		}
 		else
 		{
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			channel.sendMessage("Space " + (location+1) + " selected...").queue();
+			timeline.pause(1000).then(() -> messages.send("Space " + (location+1) + " selected..."));
 		}
-		pickedSpaces[location] = true;
-		spacesLeft--;
-		//Now run through stuff that happens on every turn this player takes
-		//Check annuities (threshold situation counts as one too)
-		int annuityPayout = players.get(player).giveAnnuities();
-		if(players.get(player).threshold)
-			annuityPayout -= applyBaseMultiplier(THRESHOLD_PER_TURN_PENALTY);
-		if(weather == Weather.PERFECT)
-			annuityPayout += applyBaseMultiplier((int)(Math.pow((RtaBMath.random()*30)+10,3)));
-		if(annuityPayout != 0)
-		{
-			players.get(player).addMoney(annuityPayout,MoneyMultipliersToUse.NOTHING);
-			channel.sendMessage(String.format("("+(annuityPayout<0?"-":"+")+"$%,d)",Math.abs(annuityPayout)))
-					.queueAfter(1,TimeUnit.SECONDS);
-		}
-		//Check boost charger
-		int boostCharge = players.get(player).boostCharge;
-		boostCharge += switch(weather) { case GROUDON -> 20; case KYOGRE -> -5; default -> 0; };
-		if(boostCharge != 0)
-		{
-			players.get(player).addBooster(boostCharge);
-			channel.sendMessage(String.format("(%+d%%)",boostCharge)) //the + is in the formatter and forces a sign
-				.queueAfter(1,TimeUnit.SECONDS);
-		}
-		//Now look at the space they actually picked
-		//Midas Touch check
-		if(players.get(player).jokers == -1)
-		{
-			//Blammos are still immune :P
-			if(gameboard.getType(location) != SpaceType.BLAMMO)
-				gameboard.changeType(location,SpaceType.CASH);
-		}
-		/*
-		 * Suspense rules:
-		 * Always trigger on a bomb or blammo
-		 * Otherwise, don't trigger if they have a joker or we've had a starman
-		 * Otherwise trigger randomly, chance determined by spaces left and players in the game
-		 */
-		if((RtaBMath.random()*Math.min(spacesLeft,fcTurnsLeft)<players.size() && players.get(player).jokers == 0 && !starman)
-				|| gameboard.getType(location) == SpaceType.BLAMMO || gameboard.getType(location).isBomb())
+		timeline.then(() ->
 		{
-			try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			channel.sendMessage("...").queue();
-		}
-		try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+			//Now run through stuff that happens on every turn this player takes
+			//Check annuities (threshold situation counts as one too)
+			int annuityPayout = players.get(player).giveAnnuities();
+			if(players.get(player).threshold)
+				annuityPayout -= applyBaseMultiplier(THRESHOLD_PER_TURN_PENALTY);
+			if(weather == Weather.PERFECT)
+				annuityPayout += applyBaseMultiplier((int)(Math.pow((RtaBMath.random()*30)+10,3)));
+			if(annuityPayout != 0)
+			{
+				players.get(player).addMoney(annuityPayout,MoneyMultipliersToUse.NOTHING);
+				messages.sendAfter(String.format("("+(annuityPayout<0?"-":"+")+"$%,d)",Math.abs(annuityPayout)), 1, TimeUnit.SECONDS);
+			}
+			//Check boost charger
+			int boostCharge = players.get(player).boostCharge;
+			boostCharge += switch(weather) { case GROUDON -> 20; case KYOGRE -> -5; default -> 0; };
+			if(boostCharge != 0)
+			{
+				players.get(player).addBooster(boostCharge);
+				messages.sendAfter(String.format("(%+d%%)",boostCharge), 1, TimeUnit.SECONDS); //the + is in the formatter and forces a sign
+			}
+			//Now look at the space they actually picked
+			//Midas Touch check
+			if(players.get(player).jokers == -1)
+			{
+				//Blammos are still immune :P
+				if(gameboard.getType(location) != SpaceType.BLAMMO)
+					gameboard.changeType(location,SpaceType.CASH);
+			}
+			/*
+			 * Suspense rules:
+			 * Always trigger on a bomb or blammo
+			 * Otherwise, don't trigger if they have a joker or we've had a starman
+			 * Otherwise trigger randomly, chance determined by spaces left and players in the game
+			 */
+			if((RtaBMath.random()*Math.min(spacesLeft,fcTurnsLeft)<players.size() && players.get(player).jokers == 0 && !starman)
+					|| gameboard.getType(location) == SpaceType.BLAMMO || gameboard.getType(location).isBomb())
+			{
+				timeline.pause(5000).then(() -> messages.send("..."));
+			}
+			timeline.pause(5000).then(() -> revealSpace(player, location, timeline));
+		});
+		timeline.start(timer);
+	}
+	
+	private void revealSpace(int player, int location, Timeline timeline)
+	{
 		switch (gameboard.getType(location)) {
 			case BOMB -> {
 				//Start off by sending the appropriate message
 				if (players.get(player).myBombs.contains(location))
-					channel.sendMessage("It's your own **BOMB**.").queue();
+					messages.send("It's your own **BOMB**.");
 				else if (players.get(player).knownBombs.contains(location))
-					channel.sendMessage("As you know, it's a **BOMB**.").queue();
+					messages.send("As you know, it's a **BOMB**.");
 				else
-					channel.sendMessage("It's a **BOMB**.").queue();
+					messages.send("It's a **BOMB**.");
 				players.get(player).spaceBombedOn = location;
-				awardBomb(player, gameboard.getBomb(location));
+				awardBomb(player, gameboard.getBomb(location), timeline);
 			}
-			case CASH -> awardCash(player, gameboard.getCash(location));
+			case CASH -> awardCash(player, gameboard.getCash(location), timeline);
 			case BOOSTER -> awardBoost(player, gameboard.getBoost(location));
 			case GAME -> awardGame(player, gameboard.getGame(location));
 			case EVENT -> awardEvent(player, gameboard.getEvent(location));
 			case GRAB_BAG -> {
-				channel.sendMessage("It's a **Grab Bag**, you're winning some of everything!").queue();
-				try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-				awardGame(player, gameboard.getGame(location));
-				try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-				awardBoost(player, gameboard.getBoost(location));
-				try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-				awardCash(player, gameboard.getCash(location));
-				try { Thread.sleep(2000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); } //mini-suspense lol
-				awardEvent(player, gameboard.getEvent(location));
+				messages.send("It's a **Grab Bag**, you're winning some of everything!");
+				timeline.pause(1000).then(() -> awardGame(player, gameboard.getGame(location)));
+				timeline.pause(1000).then(() -> awardBoost(player, gameboard.getBoost(location)));
+				timeline.pause(1000).then(() -> awardCash(player, gameboard.getCash(location), timeline));
+				timeline.pause(2000); //mini-suspense lol
+				timeline.then(() -> awardEvent(player, gameboard.getEvent(location)));
 			}
 			case GB_BOMB -> {
-				channel.sendMessage("It's a **Grab Bag**, you're winning some of everything!").queue();
-				try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-				awardGame(player, gameboard.getGame(location));
-				try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-				awardBoost(player, gameboard.getBoost(location));
-				try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-				awardCash(player, gameboard.getCash(location));
-				try { Thread.sleep(3500); } catch (InterruptedException e) { Thread.currentThread().interrupt(); } //mega-mini-suspense lololol
-				//Mock them appropriately if they self-bombed
-				if (players.get(player).myBombs.contains(location))
-					channel.sendMessage("It's your own **BOMB**.").queue();
-				//Also mock them if they saw the bomb in a peek
-				else if (players.get(player).knownBombs.contains(location))
-					channel.sendMessage("As you know, it's a **BOMB**.").queue();
-				//Otherwise, just give them the dreaded words...
-				else
-					channel.sendMessage("It's a **BOMB**.").queue();
-				players.get(player).spaceBombedOn = location;
-				awardBomb(player, gameboard.getBomb(location));
+				messages.send("It's a **Grab Bag**, you're winning some of everything!");
+				timeline.pause(1000).then(() -> awardGame(player, gameboard.getGame(location)));
+				timeline.pause(1000).then(() -> awardBoost(player, gameboard.getBoost(location)));
+				timeline.pause(1000).then(() -> awardCash(player, gameboard.getCash(location), timeline));
+				timeline.pause(3500); //mega-mini-suspense lololol
+				timeline.then(() ->
+				{
+					//Mock them appropriately if they self-bombed
+					if (players.get(player).myBombs.contains(location))
+						messages.send("It's your own **BOMB**.");
+					//Also mock them if they saw the bomb in a peek
+					else if (players.get(player).knownBombs.contains(location))
+						messages.send("As you know, it's a **BOMB**.");
+					//Otherwise, just give them the dreaded words...
+					else
+						messages.send("It's a **BOMB**.");
+					players.get(player).spaceBombedOn = location;
+					awardBomb(player, gameboard.getBomb(location), timeline);
+				});
 			}
 			case BLAMMO -> {
-				channel.sendMessage(players.get(player).getSafeMention() + ", it's a **BLAMMO!**").queue();
+				messages.send(players.get(player).getSafeMention() + ", it's a **BLAMMO!**");
 				blammoSummoner = -1;
 				startBlammo(player, false);
 				return; //Blammos pass to end-turn-logic when they're done, and not before
 			}
 		}
-		runEndTurnLogic();
+		timeline.then(this::runEndTurnLogic);
 	}
 	
+	//For events and bombs that need the bomb to have gone off before they carry on
 	public void awardBomb(int player, BombType bombType)
+	{
+		Timeline timeline = new Timeline();
+		awardBomb(player, bombType, timeline);
+		timeline.runBlocking();
+	}
+	
+	public void awardBomb(int player, BombType bombType, Timeline timeline)
 	{
 		//If player has a joker, change to a dud bomb
 		if(players.get(player).jokers != 0)
 		{
-			channel.sendMessage("But you have a joker!").queueAfter(2,TimeUnit.SECONDS);
-			channel.sendMessage("It goes _\\*fizzle*_.").queueAfter(5,TimeUnit.SECONDS);
-			try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			//Don't deduct if negative, to allow for unlimited joker
-			if(players.get(player).jokers > 0)
-				players.get(player).jokers --;
-			bombType = BombType.DUD;
+			timeline.pause(2000).then(() -> messages.send("But you have a joker!"));
+			timeline.pause(3000).then(() ->
+			{
+				messages.send("It goes _\\*fizzle*_.");
+				//Don't deduct if negative, to allow for unlimited joker
+				if(players.get(player).jokers > 0)
+					players.get(player).jokers --;
+				players.get(player).spaceBombedOn = -1;
+			});
 		}
 		else
 		{
 			resolvingBomb = true;
 			int penalty = calculateBombPenalty(player);
-			try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			//Pass control to the bomb itself to deal some damage
-			bombType.getBomb().explode(this, player, penalty);
-			resolvingBomb = false;
+			timeline.pause(5000).then(() ->
+			{
+				//Pass control to the bomb itself to deal some damage
+				bombType.getBomb().explode(this, player, penalty);
+				resolvingBomb = false;
+				players.get(player).spaceBombedOn = -1;
+			});
 		}
-		players.get(player).spaceBombedOn = -1;
 	}
 	
+	//For events that need the cash to have been paid out before they carry on
 	public void awardCash(int player, Cash cashType)
 	{
-		int cashWon;
-		String prizeWon = null;
+		Timeline timeline = new Timeline();
+		awardCash(player, cashType, timeline);
+		timeline.runBlocking();
+	}
+	
+	public void awardCash(int player, Cash cashType, Timeline timeline)
+	{
 		//Is it Mystery Money? Do that thing instead then
-		if(cashType == Cash.MYSTERY || weather == Weather.MYSTERY)
+		boolean mysteryMoney = cashType == Cash.MYSTERY || weather == Weather.MYSTERY;
+		if(mysteryMoney)
 		{
-			channel.sendMessage("It's **Mystery Money**, and this time it awards you...").queue();
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			if(RtaBMath.random() < 0.1)
-				cashWon = -1*(int)Math.pow((RtaBMath.random()*39)+1,3);
-			else
-				cashWon = (int)Math.pow((RtaBMath.random()*39)+1,4);
+			messages.send("It's **Mystery Money**, and this time it awards you...");
+			timeline.pause(1000);
 		}
-		else
+		timeline.then(() ->
 		{
-			Pair<Integer,String> data = cashType.getValue();
-			cashWon = data.getLeft();
-			prizeWon = data.getRight();
-		}
-		//Boost by board multiplier
-		cashWon = applyBaseMultiplier(cashWon*boardMultiplier);
-		//On cash, update the player's score and tell them how much they won
-		StringBuilder resultString = new StringBuilder();
-		if(prizeWon != null)
-		{
-			resultString.append("It's **");
-			if(boardMultiplier * baseNumerator > 1 || baseDenominator > 1)
+			int cashWon;
+			String prizeWon = null;
+			if(mysteryMoney)
 			{
-				resultString.append(boardMultiplier*baseNumerator);
-				if(baseDenominator > 1)
-					resultString.append("/").append(baseDenominator);
-				resultString.append("x ");
+				if(RtaBMath.random() < 0.1)
+					cashWon = -1*(int)Math.pow((RtaBMath.random()*39)+1,3);
+				else
+					cashWon = (int)Math.pow((RtaBMath.random()*39)+1,4);
 			}
-			resultString.append(prizeWon);
-			resultString.append("**, worth ");
-		}
-		resultString.append("**");
-		if(cashWon<0)
-			resultString.append("-");
-		resultString.append(String.format("$%,d**!",Math.abs(cashWon)));
-		channel.sendMessage(resultString.toString()).queue();
-		StringBuilder extraResult = players.get(player).addMoney(cashWon, MoneyMultipliersToUse.BOOSTER_ONLY);
-		if(extraResult != null)
-		{
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			channel.sendMessage(extraResult.toString()).queue();
-		}
-		//Award hidden command with 40% chance if cash is negative and they don't have one already
-		if(cashWon < 0 && RtaBMath.random() < 0.40 && players.get(player).hiddenCommand == HiddenCommand.NONE)
-			players.get(player).awardHiddenCommand();
+			else
+			{
+				Pair<Integer,String> data = cashType.getValue();
+				cashWon = data.getLeft();
+				prizeWon = data.getRight();
+			}
+			//Boost by board multiplier
+			cashWon = applyBaseMultiplier(cashWon*boardMultiplier);
+			//On cash, update the player's score and tell them how much they won
+			StringBuilder resultString = new StringBuilder();
+			if(prizeWon != null)
+			{
+				resultString.append("It's **");
+				if(boardMultiplier * baseNumerator > 1 || baseDenominator > 1)
+				{
+					resultString.append(boardMultiplier*baseNumerator);
+					if(baseDenominator > 1)
+						resultString.append("/").append(baseDenominator);
+					resultString.append("x ");
+				}
+				resultString.append(prizeWon);
+				resultString.append("**, worth ");
+			}
+			resultString.append("**");
+			if(cashWon<0)
+				resultString.append("-");
+			resultString.append(String.format("$%,d**!",Math.abs(cashWon)));
+			messages.send(resultString.toString());
+			StringBuilder extraResult = players.get(player).addMoney(cashWon, MoneyMultipliersToUse.BOOSTER_ONLY);
+			if(extraResult != null)
+				timeline.pause(1000).then(() -> messages.send(extraResult.toString()));
+			//Award hidden command with 40% chance if cash is negative and they don't have one already
+			if(cashWon < 0 && RtaBMath.random() < 0.40 && players.get(player).hiddenCommand == HiddenCommand.NONE)
+				players.get(player).awardHiddenCommand();
+		});
 	}
 
 	public void awardBoost(int player, Boost boostType)
@@ -1600,7 +1620,7 @@ public class GameController
 		int boostFound = boostType.getValue();
 		String resultString = String.format("A **%+d%%** Booster", boostFound) +
 				(boostFound > 0 ? "!" : ".");
-		channel.sendMessage(resultString).queue();
+		messages.send(resultString);
 		players.get(player).addBooster(boostFound);
 		//Award hidden command with 40% chance if boost is negative and they don't have one already
 		if(boostFound < 0 && RtaBMath.random() < 0.40 && players.get(player).hiddenCommand == HiddenCommand.NONE)
@@ -1610,7 +1630,7 @@ public class GameController
 	public void awardGame(int player, Game gameFound)
 	{
 		players.get(player).addGame(gameFound);
-		channel.sendMessage("It's a minigame: **" + gameFound.getName() + "**!").queue();
+		messages.send("It's a minigame: **" + gameFound.getName() + "**!");
 	}
 	
 	public void awardEvent(int player, EventType eventType)
@@ -1621,11 +1641,11 @@ public class GameController
 	
 	private void startBlammo(int player, boolean mega)
 	{
-		channel.sendMessage("Quick, press a button!\n```" + (mega ? "\n MEGA " : "") + "\nBLAMMO\n 1  2 \n 3  4 \n```").queue();
+		messages.send("Quick, press a button!\n```" + (mega ? "\n MEGA " : "") + "\nBLAMMO\n 1  2 \n 3  4 \n```");
 		currentBlammo = true;
 		resolvingTurn = false;
 		List<BlammoChoices> buttons = Arrays.asList(BlammoChoices.values());
-		Collections.shuffle(buttons);
+		RtaBMath.shuffle(buttons);
 		if(players.get(player).isBot)
 		{
 			//Use a relevant hidden command if the AI has one, or just press a button
@@ -1646,7 +1666,7 @@ public class GameController
 		}
 		else
 		{
-			waiter.waitForEvent(MessageReceivedEvent.class,
+			waiter.waitForMessage(channel.getId(), players.get(player).uID,
 					//Right player and channel
 					e ->
 							(e.getAuthor().equals(players.get(player).user) && e.getChannel().getId().equals(channel.getId())
@@ -1666,7 +1686,7 @@ public class GameController
 					{
 						if(currentBlammo)
 						{
-							channel.sendMessage("Too slow, autopicking!").queue();
+							messages.send("Too slow, autopicking!");
 							int button = (int) (RtaBMath.random() * 4);
 							timer.schedule(() -> runBlammo(player, buttons, button, mega), 1, TimeUnit.SECONDS);
 						}
@@ -1683,117 +1703,152 @@ public class GameController
 	{
 		if(players.get(player).isBot)
 		{
-			channel.sendMessage(players.get(player).getName() + " presses button " + (buttonPressed+1) + "...").queue();
+			messages.send(players.get(player).getName() + " presses button " + (buttonPressed+1) + "...");
 		}
 		else
 		{
-			channel.sendMessage("Button " + (buttonPressed+1) + " pressed...").queue();
+			messages.send("Button " + (buttonPressed+1) + " pressed...");
 		}
-		channel.sendMessage("...").completeAfter(3,TimeUnit.SECONDS);
-		//Double-check that there is actually a blammo
-		if(!currentBlammo)
-			return;
-		else
+		Timeline timeline = new Timeline();
+		timeline.pause(3000).then(() ->
 		{
-			currentBlammo = false; //Too late to repel now
-			resolvingTurn = true;
-		}
-		StringBuilder extraResult = null;
+			messages.send("...");
+			//Double-check that there is actually a blammo
+			if(!currentBlammo)
+				return;
+			else
+			{
+				currentBlammo = false; //Too late to repel now
+				resolvingTurn = true;
+			}
+			revealBlammo(player, buttons.get(buttonPressed), mega, timeline);
+		});
+		timeline.start(timer);
+	}
+	
+	private void revealBlammo(int player, BlammoChoices result, boolean mega, Timeline timeline)
+	{
 		int penalty = calculateBombPenalty(player);
-		switch (buttons.get(buttonPressed)) {
-			case BLOCK -> {
-				channel.sendMessage("You BLOCKED the BLAMMO!").completeAfter(3, TimeUnit.SECONDS);
+		switch (result) {
+			case BLOCK -> timeline.pause(3000).then(() ->
+			{
+				messages.send("You BLOCKED the BLAMMO!");
 				if (mega)
 					Achievement.MEGA_DEFUSE.check(players.get(player));
-			}
-			case ELIM_YOU -> {
-				channel.sendMessage("You ELIMINATED YOURSELF!").completeAfter(3, TimeUnit.SECONDS);
+				finishBlammo(null);
+			});
+			case ELIM_YOU -> timeline.pause(3000).then(() ->
+			{
+				messages.send("You ELIMINATED YOURSELF!");
 				players.get(player).threshold = false;
-				channel.sendMessage(String.format("$%,d" + (mega ? " MEGA" : "") + " penalty!", Math.abs(penalty * (mega ? 16 : 4)))).queue();
+				messages.send(String.format("$%,d" + (mega ? " MEGA" : "") + " penalty!", Math.abs(penalty * (mega ? 16 : 4))));
 				if(blammoSummoner != -1 && blammoSummoner != player) //blammo summoner gets credit for the elim (if one exists)
 					players.get(player).bountyCredit.add(blammoSummoner);
-				extraResult = players.get(player).blowUp((mega ? 16 : 4) * penalty, false);
-			}
+				finishBlammo(players.get(player).blowUp((mega ? 16 : 4) * penalty, false));
+			});
 			case THRESH_OPP -> {
 				//Pick a random living player
-				int victim = (int) ((RtaBMath.random() * (playersAlive - 1)));
+				int randomVictim = (int) ((RtaBMath.random() * (playersAlive - 1)));
 				//Bypass dead players and the button presser
-				for (int i = 0; i <= victim; i++)
+				for (int i = 0; i <= randomVictim; i++)
 					if (players.get(i).status != PlayerStatus.ALIVE || i == player)
-						victim++;
-				if(mega)
-					channel.sendMessage("You ELIMINATED YOUR OPPONENT!").completeAfter(3, TimeUnit.SECONDS);
-				else
-				{
-					channel.sendMessage("You THRESHOLDED YOUR OPPONENT!").completeAfter(3, TimeUnit.SECONDS);
-					if(players.get(victim).threshold)
-						channel.sendMessage(String.format("But %s is already in a threshold situation..."
-								,players.get(victim).getName())).queue();
-				}
-				//If mega blammo or target already has threshold, eliminate them
-				if(mega || players.get(victim).threshold)
+						randomVictim++;
+				int victim = randomVictim;
+				timeline.pause(3000).then(() ->
 				{
-					players.get(victim).threshold = false;
-					penalty = calculateBombPenalty(victim);
-					channel.sendMessage("Goodbye, " + players.get(victim).getSafeMention()
-							+ String.format("! $%,d" + (mega ? " MEGA" : "") + " penalty!", Math.abs(penalty * (mega ? 16 : 4)))).queue();
-					int tempRepeat = repeatTurn;
-					players.get(victim).bountyCredit.add(player); //button presser gets credit for the elim
-					extraResult = players.get(victim).blowUp((mega ? 16 : 4) * penalty, false);
-					repeatTurn = tempRepeat;
-				}
-				else
-				{
-					players.get(victim).threshold = true;
-					channel.sendMessage(String.format("%s, every pick you make will now cost $%,d, ",
-							players.get(victim).getSafeMention(), applyBaseMultiplier(THRESHOLD_PER_TURN_PENALTY))
-							+ "and if you lose the penalty will be four times as large!").queue();
-				}
+					if(mega)
+						messages.send("You ELIMINATED YOUR OPPONENT!");
+					else
+					{
+						messages.send("You THRESHOLDED YOUR OPPONENT!");
+						if(players.get(victim).threshold)
+							messages.send(String.format("But %s is already in a threshold situation..."
+									,players.get(victim).getName()));
+					}
+					//If mega blammo or target already has threshold, eliminate them
+					if(mega || players.get(victim).threshold)
+					{
+						players.get(victim).threshold = false;
+						int victimPenalty = calculateBombPenalty(victim);
+						messages.send("Goodbye, " + players.get(victim).getSafeMention()
+								+ String.format("! $%,d" + (mega ? " MEGA" : "") + " penalty!", Math.abs(victimPenalty * (mega ? 16 : 4))));
+						int tempRepeat = repeatTurn;
+						players.get(victim).bountyCredit.add(player); //button presser gets credit for the elim
+						StringBuilder extraResult = players.get(victim).blowUp((mega ? 16 : 4) * victimPenalty, false);
+						repeatTurn = tempRepeat;
+						finishBlammo(extraResult);
+					}
+					else
+					{
+						players.get(victim).threshold = true;
+						messages.send(String.format("%s, every pick you make will now cost $%,d, ",
+								players.get(victim).getSafeMention(), applyBaseMultiplier(THRESHOLD_PER_TURN_PENALTY))
+								+ "and if you lose the penalty will be four times as large!");
+						finishBlammo(null);
+					}
+				});
 			}
 			case THRESHOLD -> {
 				if (mega) {
 					//They actually did it hahahahahahahaha
-					channel.sendMessage("Oh no, you **ELIMINATED EVERYONE**!!").completeAfter(3, TimeUnit.SECONDS);
+					timeline.pause(3000).then(() -> messages.send("Oh no, you **ELIMINATED EVERYONE**!!"));
 					for (Player nextPlayer : players) {
-						if (nextPlayer.status == PlayerStatus.ALIVE) {
-							//Check for special events to bring extra pain
-							if (nextPlayer.splitAndShare) {
-								channel.sendMessage(String.format("Oh, %s had a split and share? Well there's no one to give your money to,"
-												+ " so we'll just take it!", nextPlayer.getName()))
-										.completeAfter(2, TimeUnit.SECONDS);
-								nextPlayer.money *= 0.9;
-								nextPlayer.splitAndShare = false;
+						timeline.then(() ->
+						{
+							if (nextPlayer.status == PlayerStatus.ALIVE) {
+								//Check for special events to bring extra pain
+								if (nextPlayer.splitAndShare) {
+									timeline.pause(2000).then(() ->
+									{
+										messages.send(String.format("Oh, %s had a split and share? Well there's no one to give your money to,"
+												+ " so we'll just take it!", nextPlayer.getName()));
+										nextPlayer.money *= 0.9;
+										nextPlayer.splitAndShare = false;
+									});
+								}
+								//We don't use the typical penalty calculation method here because we're wiping out everyone in one go
+								timeline.pause(2000).then(() ->
+								{
+									nextPlayer.threshold = false;
+									int megaPenalty = applyBaseMultiplier(nextPlayer.newbieProtection > 0 ? NEWBIE_BOMB_PENALTY : BOMB_PENALTY);
+									messages.send(String.format("$%1$,d MEGA penalty for %2$s!",
+											Math.abs(megaPenalty * 16), nextPlayer.getSafeMention()));
+									//No bounty credit on an elim everyone, you lunatics
+									StringBuilder extraResult = nextPlayer.blowUp(megaPenalty * 16, false);
+									if (extraResult != null)
+										messages.send(extraResult);
+								});
 							}
-							//We don't use the typical penalty calculation method here because we're wiping out everyone in one go
-							nextPlayer.threshold = false;
-							penalty = applyBaseMultiplier(nextPlayer.newbieProtection > 0 ? NEWBIE_BOMB_PENALTY : BOMB_PENALTY);
-							channel.sendMessage(String.format("$%1$,d MEGA penalty for %2$s!",
-									Math.abs(penalty * 16), nextPlayer.getSafeMention())).completeAfter(2, TimeUnit.SECONDS);
-							//No bounty credit on an elim everyone, you lunatics
-							extraResult = nextPlayer.blowUp(penalty * 16, false);
-							if (extraResult != null)
-								channel.sendMessage(extraResult).queue();
-						}
+						});
 					}
-					//Re-null this so we don't get an extra quote of it
-					extraResult = null;
+					timeline.then(() -> finishBlammo(null));
 				} else if (players.get(player).threshold) {
 					//You already have a threshold situation? Time for some fun!
-					channel.sendMessage(players.get(player).getSafeMention() + ", you **UPGRADED the BLAMMO!** "
-							+ "Don't panic, it can still be stopped...").completeAfter(5, TimeUnit.SECONDS);
-					startBlammo(player, true);
-					return;
+					timeline.pause(5000).then(() ->
+					{
+						messages.send(players.get(player).getSafeMention() + ", you **UPGRADED the BLAMMO!** "
+								+ "Don't panic, it can still be stopped...");
+						startBlammo(player, true);
+					});
 				} else {
-					channel.sendMessage("You're entering a THRESHOLD SITUATION!").completeAfter(3, TimeUnit.SECONDS);
-					channel.sendMessage(String.format("Every pick you make will now cost $%,d, ",
-							applyBaseMultiplier(THRESHOLD_PER_TURN_PENALTY))
-							+ "and if you lose the penalty will be four times as large!").queue();
-					players.get(player).threshold = true;
+					timeline.pause(3000).then(() ->
+					{
+						messages.send("You're entering a THRESHOLD SITUATION!");
+						messages.send(String.format("Every pick you make will now cost $%,d, ",
+								applyBaseMultiplier(THRESHOLD_PER_TURN_PENALTY))
+								+ "and if you lose the penalty will be four times as large!");
+						players.get(player).threshold = true;
+						finishBlammo(null);
+					});
 				}
 			}
 		}
+	}
+	
+	private void finishBlammo(StringBuilder extraResult)
+	{
 		if(extraResult != null)
-			channel.sendMessage(extraResult).queue();
+			messages.send(extraResult);
 		runEndTurnLogic();
 	}
     
@@ -1809,7 +1864,7 @@ public class GameController
         //Round it off
         amountToWager -= amountToWager % applyBaseMultiplier(1_000);
         int newbieWager = applyBaseMultiplier(100_000);
-        channel.sendMessage(String.format("Everyone bets $%,d as a wager on the game!",amountToWager)).queue();
+        messages.send(String.format("Everyone bets $%,d as a wager on the game!",amountToWager));
         wagerPot += amountToWager * playersAlive;
         for(Player next : players)
             if(next.status == PlayerStatus.ALIVE)
@@ -1817,7 +1872,7 @@ public class GameController
                 if(next.newbieProtection > 0) //newbies get subsidised
                 {
                     next.addMoney(-1*newbieWager, MoneyMultipliersToUse.NOTHING);
-                    channel.sendMessage(String.format("(%s only paid $%,d due to newbie protection)", next.getName(), newbieWager)).queue();
+                    messages.send(String.format("(%s only paid $%,d due to newbie protection)", next.getName(), newbieWager));
                 }
                 else
                     next.addMoney(-1*amountToWager, MoneyMultipliersToUse.NOTHING);
@@ -1836,37 +1891,42 @@ public class GameController
 		{
 			gameOver();
 		}
-		else
+		else if(!checkEndTurnWeather())
 		{
-			if(checkEndTurnWeather())
-			{
-				runEndTurnLogic(); //this triggers if eclipse went off and lets us retest game over
-				return;
-			}
-			//Advance turn to next player if there isn't a repeat going
-			if(repeatTurn == 0)
-				advanceTurn(false);
-			timer.schedule(() -> runTurn(currentTurn), 1, TimeUnit.SECONDS);
+			runNextTurn();
 		}
 	}
 	
+	private void runNextTurn()
+	{
+		//Advance turn to next player if there isn't a repeat going
+		if(repeatTurn == 0)
+			advanceTurn(false);
+		timer.schedule(() -> runTurn(currentTurn), 1, TimeUnit.SECONDS);
+	}
+	
+	//Returns true if the weather has taken over moving on to the next turn
 	private boolean checkEndTurnWeather()
 	{
 		if(players.get(currentTurn).status == PlayerStatus.ALIVE && RtaBMath.random() < 0.05)
 			switch(weather)
 			{
 			case ECLIPSE:
-				channel.sendMessage("The sun flares ominously...").queue();
-				try { Thread.sleep(2000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-				if(RtaBMath.random() < 0.2)
+				messages.send("The sun flares ominously...");
+				timer.schedule(() ->
 				{
-					channel.sendMessage("...and with a whip-like tendril, completely incinerates "
-							+players.get(currentTurn).getSafeMention()+"!").queue();
-					players.get(currentTurn).blowUp(0,false);
-					players.get(currentTurn).money = players.get(currentTurn).oldMoney;
-					return true; //we need to alert the parent method so they can recheck gameover logic
-				}
-				break;
+					if(RtaBMath.random() < 0.2)
+					{
+						messages.send("...and with a whip-like tendril, completely incinerates "
+								+players.get(currentTurn).getSafeMention()+"!");
+						players.get(currentTurn).blowUp(0,false);
+						players.get(currentTurn).money = players.get(currentTurn).oldMoney;
+						runEndTurnLogic(); //Recheck gameover logic now they're gone
+					}
+					else
+						runNextTurn();
+				}, 2, TimeUnit.SECONDS);
+				return true;
 			case WIMDY:
 				//Pick a random other living player to inherit their stuff
 				int playerAdvances = (int)(RtaBMath.random()*(playersAlive-1));
@@ -1878,19 +1938,19 @@ public class GameController
 					player ++;
 				}
 				//and figure out what they're losing
-				switch((int)(Math.random()*3))
+				switch((int)(RtaBMath.random()*3))
 				{
 				case 0: //Cash
 					int cashLost = applyBaseMultiplier((int)(RtaBMath.random()*2_000_000 + 500_000));
-					channel.sendMessage(String.format("A huge gust of wind blows $%,d from %s to %s!",
-							cashLost, players.get(currentTurn).getSafeMention(), players.get(player).getSafeMention())).queue();
+					messages.send(String.format("A huge gust of wind blows $%,d from %s to %s!",
+							cashLost, players.get(currentTurn).getSafeMention(), players.get(player).getSafeMention()));
 					players.get(currentTurn).addMoney(-1*cashLost, MoneyMultipliersToUse.NOTHING);
 					players.get(player).addMoney(cashLost, MoneyMultipliersToUse.NOTHING);
 					break;
 				case 1: //Boost
 					int boostLost = 25 + (int)(RtaBMath.random()*players.get(currentTurn).booster/2);
-					channel.sendMessage(String.format("A huge gust of wind blows %,d%% booster from %s to %s!",
-							boostLost, players.get(currentTurn).getSafeMention(), players.get(player).getSafeMention())).queue();
+					messages.send(String.format("A huge gust of wind blows %,d%% booster from %s to %s!",
+							boostLost, players.get(currentTurn).getSafeMention(), players.get(player).getSafeMention()));
 					players.get(currentTurn).addBooster(-1*boostLost);
 					players.get(player).addBooster(boostLost);
 					break;
@@ -1899,9 +1959,9 @@ public class GameController
 					if(gameCount > 0)
 					{
 						int gameLost = (int)(RtaBMath.random()*gameCount);
-                        channel.sendMessage(String.format("A huge gust of wind blows %s from %s to %s!",
+                        messages.send(String.format("A huge gust of wind blows %s from %s to %s!",
 								players.get(currentTurn).games.get(gameLost).getName(),
-								players.get(currentTurn).getSafeMention(), players.get(player).getSafeMention())).queue();
+								players.get(currentTurn).getSafeMention(), players.get(player).getSafeMention()));
 						players.get(player).addGame(players.get(currentTurn).games.get(gameLost));
 						players.get(currentTurn).games.remove(gameLost);
 					}
@@ -1949,56 +2009,61 @@ public class GameController
 		else
 			gameStatus = GameStatus.END_GAME;
 		if(spacesLeft < 0)
-			channel.sendMessage("An error has occurred, ending the game, @telna fix pls").queue();
-		try { Thread.sleep(3000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		//Keep this one as complete since it's such an important spot
-		channel.sendMessage("Game Over.").complete();
-		currentBlammo = false;
-		playersAlive += earlyWinners;
-		if(spacesLeft > 0)
+			messages.send("An error has occurred, ending the game, @telna fix pls");
+		Timeline timeline = new Timeline();
+		timeline.pause(3000).then(() ->
 		{
-			channel.sendMessage(gridList(true)).queue();
-			detonateBombs(false);
+			//Keep this one as complete since it's such an important spot
+			messages.sendAndWait("Game Over.");
+			currentBlammo = false;
+			playersAlive += earlyWinners;
+			if(spacesLeft > 0)
+			{
+				messages.send(gridList(true));
+				detonateBombs(false);
+			}
+			for(Player next : players)
+			{
+				//Award winstreak for everyone first at the top so that pvp minigames don't depend on the order
+				//+0.5 per opponent defeated on a solo win, reduced on joint wins based on the ratio of surviving opponents
+				if(next.status == PlayerStatus.WINNER || next.status == PlayerStatus.ALIVE)
+					next.addWinstreak((5 - (playersAlive-1)*5/(players.size()-1)) * (players.size() - playersAlive));
+				//Award bounties to everyone who gets credit
+				if(next.bounty > 0 && next.bountyCredit.size() > 0)
+					timeline.pause(1000).then(() -> awardBounty(next));
+			}
+		}).pause(1000).then(this::runNextEndGamePlayer);
+		timeline.start(timer);
+	}
+	
+	private void awardBounty(Player defeated)
+	{
+		//If environmental credit, add to wager pool
+		if(defeated.bountyCredit.get(0) == -1)
+		{
+			messages.send(String.format("**%s** defeated by no one in particular - **$%,d bounty** added to wager pool."
+					,defeated.getName(),defeated.bounty));
+			wagerPot += defeated.bounty;
 		}
-		for(Player next : players)
+		else
 		{
-			//Award winstreak for everyone first at the top so that pvp minigames don't depend on the order
-			//+0.5 per opponent defeated on a solo win, reduced on joint wins based on the ratio of surviving opponents
-			if(next.status == PlayerStatus.WINNER || next.status == PlayerStatus.ALIVE)
-				next.addWinstreak((5 - (playersAlive-1)*5/(players.size()-1)) * (players.size() - playersAlive));
-			//Award bounties to everyone who gets credit
-			if(next.bounty > 0 && next.bountyCredit.size() > 0)
+			//Split bounty evenly if required
+			defeated.bounty /= defeated.bountyCredit.size();
+			for(int i=0; i<defeated.bountyCredit.size(); i++)
 			{
-				try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-				//If environmental credit, add to wager pool
-				if(next.bountyCredit.get(0) == -1)
-				{
-					channel.sendMessage(String.format("**%s** defeated by no one in particular - **$%,d bounty** added to wager pool."
-							,next.getName(),next.bounty)).queue();
-					wagerPot += next.bounty;
-				}
-				else
-				{
-					//Split bounty evenly if required
-					next.bounty /= next.bountyCredit.size();
-					for(int i=0; i<next.bountyCredit.size(); i++)
-					{
-						channel.sendMessage(String.format("**%s** defeated by **%s** - **$%,d bounty** awarded!"
-								,next.getName(),players.get(next.bountyCredit.get(i)).getName(),next.bounty)).queue();
-						players.get(next.bountyCredit.get(i)).addMoney(next.bounty, MoneyMultipliersToUse.NOTHING);
-					}
-				}
-				next.bounty = 0;
+				messages.send(String.format("**%s** defeated by **%s** - **$%,d bounty** awarded!"
+						,defeated.getName(),players.get(defeated.bountyCredit.get(i)).getName(),defeated.bounty));
+				players.get(defeated.bountyCredit.get(i)).addMoney(defeated.bounty, MoneyMultipliersToUse.NOTHING);
 			}
 		}
-		timer.schedule(this::runNextEndGamePlayer, 1, TimeUnit.SECONDS);
+		defeated.bounty = 0;
 	}
 
 	public String gridList(boolean skipPickedSpaces)
 	{
 		StringBuilder output = new StringBuilder();
 		for(int i=0; i<boardSize; i++)
-			if(!skipPickedSpaces || !pickedSpaces[i])
+			if(!skipPickedSpaces || !pickedSpaces.get(i))
 				//Add the space number and contents to the list
 				output.append(String.format("Space %d: %s\n", i+1, gameboard.truesightSpace(i,baseNumerator,baseDenominator)));
 		return output.toString();
@@ -2008,11 +2073,11 @@ public class GameController
 	{
 		int bombsDestroyed = 0;
 		for(int i=0; i<boardSize; i++)
-			if(!pickedSpaces[i] && (gameboard.getType(i).isBomb()))
+			if(!pickedSpaces.get(i) && (gameboard.getType(i).isBomb()))
 			{
 				if(sendMessages)
-					channel.sendMessage("Bomb in space " + (i+1) + " destroyed.").queueAfter(1,TimeUnit.SECONDS);
-				pickedSpaces[i] = true;
+					messages.sendAfter("Bomb in space " + (i+1) + " destroyed.", 1, TimeUnit.SECONDS);
+				pickedSpaces.set(i);
 				spacesLeft --;
 				bombsDestroyed ++;
 			}
@@ -2036,11 +2101,20 @@ public class GameController
 		//If they're a winner, boost their winstreak (folded players don't get this)
 		if(players.get(currentTurn).status == PlayerStatus.ALIVE)
 		{
-			channel.sendMessage(players.get(currentTurn).getSafeMention() + " Wins!")
-				.completeAfter(1,TimeUnit.SECONDS);
-			if(futureBlammo)
-				Achievement.SUMMON_ESCAPE.check(players.get(currentTurn));
+			timer.schedule(() ->
+			{
+				messages.send(players.get(currentTurn).getSafeMention() + " Wins!");
+				if(futureBlammo)
+					Achievement.SUMMON_ESCAPE.check(players.get(currentTurn));
+				rewardEndGamePlayer();
+			}, 1, TimeUnit.SECONDS);
 		}
+		else
+			rewardEndGamePlayer();
+	}
+	
+	private void rewardEndGamePlayer()
+	{
 		//Now the winstreak is right, we can display the board
 		displayBoardAndStatus(false, false, false);
 		int jokerCount = players.get(currentTurn).jokers;
@@ -2055,16 +2129,16 @@ public class GameController
 			winBonus /= playersAlive;
 			if(spacesLeft <= 0 && playersAlive == 1)
 			{
-				channel.sendMessage("**SOLO BOARD CLEAR!**").queue();
+				messages.send("**SOLO BOARD CLEAR!**");
 				if(players.size() >= 14)
 					Achievement.SOLO_BOARD_CLEAR.check(players.get(currentTurn));
 			}
-			channel.sendMessage(players.get(currentTurn).getName() + " receives a win bonus of **$"
-					+ String.format("%,d",winBonus) + "**.").queue();
+			messages.send(players.get(currentTurn).getName() + " receives a win bonus of **$"
+					+ String.format("%,d",winBonus) + "**.");
 			StringBuilder extraResult = null;
 			extraResult = players.get(currentTurn).addMoney(winBonus,MoneyMultipliersToUse.BONUS_ONLY);
 			if(extraResult != null)
-				channel.sendMessage(extraResult).queue();
+				messages.send(extraResult);
 		}
 		//Now for other winner-only stuff (done separately to avoid conflicting with Midas Touch)
 		if(players.get(currentTurn).status == PlayerStatus.ALIVE)
@@ -2072,14 +2146,14 @@ public class GameController
 			//If there's any wager pot, award their segment of it
 			if(wagerPot > 0)
 			{
-				channel.sendMessage(String.format("You won $%,d from the wager!", wagerPot / playersAlive)).queue();
+				messages.send(String.format("You won $%,d from the wager!", wagerPot / playersAlive));
 				players.get(currentTurn).addMoney(wagerPot / playersAlive, MoneyMultipliersToUse.NOTHING);
 			}
 			//Award the Jackpot if it's there
 			if(players.get(currentTurn).jackpot > 0)
 			{
 				int jackpotAmount = applyBaseMultiplier(1_000_000*players.get(currentTurn).jackpot);
-				channel.sendMessage(String.format("You won the $%,d **JACKPOT**!",jackpotAmount)).queue();
+				messages.send(String.format("You won the $%,d **JACKPOT**!",jackpotAmount));
 				players.get(currentTurn).addMoney(jackpotAmount,MoneyMultipliersToUse.NOTHING);
 				if(players.get(currentTurn).jackpot > players.size()*4 + 5)
 					Achievement.BIG_JACKPOT.check(players.get(currentTurn));
@@ -2088,12 +2162,12 @@ public class GameController
 		//Cash in unused jokers, folded or not
 		if(jokerCount > 0)
 		{
-			channel.sendMessage(String.format("You cash in your unused joker"+(jokerCount!=1?"s":"")+
-					" for **$%,d**.", jokerCount * applyBaseMultiplier(250_000))).queue();
+			messages.send(String.format("You cash in your unused joker"+(jokerCount!=1?"s":"")+
+					" for **$%,d**.", jokerCount * applyBaseMultiplier(250_000)));
 			StringBuilder extraResult = players.get(currentTurn).addMoney(applyBaseMultiplier(250_000)*jokerCount, 
 					MoneyMultipliersToUse.BONUS_ONLY);
 			if(extraResult != null)
-				channel.sendMessage(extraResult).queue();
+				messages.send(extraResult);
 		}
 		//Then, folded or not, play out any minigames they've won
 		if(players.get(currentTurn).status == PlayerStatus.FOLDED)
@@ -2132,7 +2206,8 @@ public class GameController
 			//Pass to the game
 			boolean sendMessages = !(players.get(currentTurn).isBot) || verboseBotGames;
 			//Set up the thread we'll send to the game
-			Thread postGame = new Thread(() -> {
+			Thread postGame = Lane.callback(String.format("%s - %s - %s", 
+					channel.getName(), players.get(currentTurn).getName(), currentGame.getName()), () -> {
 				//Recurse to get to the next minigame
 				currentGame = null;
 				if(!players.get(currentTurn).games.isEmpty())
@@ -2140,8 +2215,6 @@ public class GameController
 				else
 					runNextEndGamePlayer();
 			});
-			postGame.setName(String.format("%s - %s - %s", 
-					channel.getName(), players.get(currentTurn).getName(), currentGame.getName()));
 			currentGame.initialiseGame(channel, sendMessages, baseNumerator, baseDenominator, multiplier, players, currentTurn, postGame,
 					players.get(currentTurn).enhancedGames.contains(nextGame) || weather == Weather.HYPE);
 		}
@@ -2158,11 +2231,12 @@ public class GameController
 	
 	public void runFinalEndGameTasks()
 	{
-		saveData();
+		//Everyone's scores, levels, achievements and bounties get written out together once we're done here
+		SaveBatch.run(this::saveData);
 		players.sort(new PlayerDescendingRoundDeltaSorter());
 		displayBoardAndStatus(false, true, true);
 		if(tiebreakMode && winners.isEmpty())
-			channel.sendMessage("No one remains at the target score... so the season must continue!").queue();
+			messages.send("No one remains at the target score... so the season must continue!");
 		if(runAtGameEnd != null)
 			runAtGameEnd.start();
 		reset();
@@ -2177,23 +2251,24 @@ public class GameController
 				currentTurn = 0;
 				for(int i=0; i<3; i++)
 				{
-					channel.sendMessage("**" + players.get(0).getName().toUpperCase() + " WINS RACE TO A BILLION!**")
-						.queueAfter(5+(5*i),TimeUnit.SECONDS);
+					messages.sendAfter("**" + players.get(0).getName().toUpperCase() + " WINS RACE TO A BILLION!**",
+							5+(5*i), TimeUnit.SECONDS);
 				}
 				if(runDemo != 0)
 					demoMode.cancel(false); //Season's over no demo needed
 				if(rankChannel)
-					channel.sendMessage("@everyone").queueAfter(20,TimeUnit.SECONDS);
+					messages.sendAfter("@everyone", 20, TimeUnit.SECONDS);
 				gameStatus = GameStatus.SEASON_OVER;
 				if(!players.get(0).isBot && rankChannel)
 				{
-					timer.schedule(() -> 
-					{
-						channel.sendMessage(players.get(0).getSafeMention() + "...").complete();
-						channel.sendMessage("It is time to enter the Super Bonus Round.").completeAfter(5,TimeUnit.SECONDS);
-						channel.sendMessage("...").completeAfter(10,TimeUnit.SECONDS);
-						TestMinigameCommand.runGame(players.get(0).user,Game.SUPERBONUSROUND,channel, false, false);
-					}, 90, TimeUnit.SECONDS);
+					new Timeline().pause(90_000)
+						.then(() -> messages.send(players.get(0).getSafeMention() + "...")).pause(5000)
+						.then(() -> messages.send("It is time to enter the Super Bonus Round.")).pause(10_000)
+						.then(() ->
+						{
+							messages.send("...");
+							TestMinigameCommand.runGame(players.get(0).user,Game.SUPERBONUSROUND,channel, false, false);
+						}).start(timer);
 				}
 			}
 			//Hold on, we have *multiple* winners? ULTIMATE SHOWDOWN HYPE
@@ -2202,23 +2277,30 @@ public class GameController
 				//Tell them what's happening
 				StringBuilder announcementText = new StringBuilder();
 				announcementText.append("you have reached the goal together.");
-				channel.sendMessage(announcementText.toString()).completeAfter(5,TimeUnit.SECONDS);
-				channel.sendMessage("BUT THERE CAN BE ONLY ONE.").completeAfter(5,TimeUnit.SECONDS);
-				channel.sendMessage("@everyone, **PREPARE FOR THE FINAL SHOWDOWN!**").completeAfter(5,TimeUnit.SECONDS);
-				channel.sendMessage("(And no peeks for you!)").queue();
-				try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-				//Prepare the game
-				tiebreakMode = true;
-				for(Player next : winners)
+				Timeline timeline = new Timeline();
+				timeline.pause(5000).then(() -> messages.send(announcementText.toString()));
+				timeline.pause(5000).then(() -> messages.send("BUT THERE CAN BE ONLY ONE."));
+				timeline.pause(5000).then(() ->
 				{
-					next.initPlayer(this);
-					next.remindHiddenCommand(false);
-					next.peeks = 0; // No peeks in the final showdown :)
-					announcementText.append(next.getSafeMention()).append(", ");
-				}
-				players.addAll(winners);
-				winners.clear();
-				startTheGameAlready();
+					messages.send("@everyone, **PREPARE FOR THE FINAL SHOWDOWN!**");
+					messages.send("(And no peeks for you!)");
+				});
+				timeline.pause(5000).then(() ->
+				{
+					//Prepare the game
+					tiebreakMode = true;
+					for(Player next : winners)
+					{
+						next.initPlayer(this);
+						next.remindHiddenCommand(false);
+						next.peeks = 0; // No peeks in the final showdown :)
+						announcementText.append(next.getSafeMention()).append(", ");
+					}
+					players.addAll(winners);
+					winners.clear();
+					startTheGameAlready();
+				});
+				timeline.start(timer);
 			}
 		}
 	}
@@ -2234,150 +2316,110 @@ public class GameController
 	
 	private void saveData()
 	{
-		try
+		//Save bounty data and any jackpots the round has touched
+		bounty.saveData(players);
+		JackpotRegistry.forChannel(channel.getId()).save();
+		List<String> updatedRecords = new ArrayList<>(players.size());
+		//Go through each player in the game to update their stats
+		for(int i=0; i<players.size(); i++)
 		{
-			//Save bounty data
-			bounty.saveData(players);
-			List<String> list = Files.readAllLines(Paths.get("scores","scores"+channel.getId()+".csv"));
-			//Go through each player in the game to update their stats
-			for(int i=0; i<players.size(); i++)
-			{
-				/*
-				 * Special case - if you lose the round with $1B you get bumped to $999,999,999
-				 * so that an elimination without penalty (eg bribe) doesn't get you declared champion
-				 * This is since you haven't won yet, after all (and it's *extremely* rare to win a round without turning a profit)
-				 * Note that in the instance of a final showdown, both players are temporarily labelled champion
-				 * But after the tie is resolved, one will be bumped back to $900M
-				 */
-				if(players.get(i).money == 1_000_000_000 && players.get(i).status != PlayerStatus.DONE)
-					players.get(i).money --;
-				//Send messages based on special status
-				if(players.get(i).newbieProtection == 1) //Out of newbie protection
-					channel.sendMessage(String.format("%s, your newbie protection has expired. "
-							+ "From now on, your base bomb penalty will be $%,d.",players.get(i).getSafeMention(),BOMB_PENALTY)).queue();
-				if(players.get(i).totalLivesSpent % 5 == 0 && players.get(i).getEnhanceCap() > players.get(i).enhancedGames.size())
-				{ //Just earned an enhancement (or spent 5 lives with an open slot - we don't want to remind them every game)
-					if(players.get(i).isBot)
+			/*
+			 * Special case - if you lose the round with $1B you get bumped to $999,999,999
+			 * so that an elimination without penalty (eg bribe) doesn't get you declared champion
+			 * This is since you haven't won yet, after all (and it's *extremely* rare to win a round without turning a profit)
+			 * Note that in the instance of a final showdown, both players are temporarily labelled champion
+			 * But after the tie is resolved, one will be bumped back to $900M
+			 */
+			if(players.get(i).money == 1_000_000_000 && players.get(i).status != PlayerStatus.DONE)
+				players.get(i).money --;
+			//Send messages based on special status
+			if(players.get(i).newbieProtection == 1) //Out of newbie protection
+				messages.send(String.format("%s, your newbie protection has expired. "
+						+ "From now on, your base bomb penalty will be $%,d.",players.get(i).getSafeMention(),BOMB_PENALTY));
+			if(players.get(i).totalLivesSpent % 5 == 0 && players.get(i).getEnhanceCap() > players.get(i).enhancedGames.size())
+			{ //Just earned an enhancement (or spent 5 lives with an open slot - we don't want to remind them every game)
+				if(players.get(i).isBot)
+				{
+					/* Bots need to pick a minigame to enhance on their own, so we do that now
+					 * But first, check to make sure there is a minigame to put in that slot
+					 * (In ultra-low base-multiplier seasons, this might actually be an issue)
+					 * (It'd take roughly 3000 lives spent though)
+					 */
+					int enhanceableGames = 0;
+					for(Game next : Game.values())
+						if(next.getWeight(players.size()) > 0)
+							enhanceableGames ++;
+					if(players.get(i).enhancedGames.size() < enhanceableGames)
 					{
-						/* Bots need to pick a minigame to enhance on their own, so we do that now
-						 * But first, check to make sure there is a minigame to put in that slot
-						 * (In ultra-low base-multiplier seasons, this might actually be an issue)
-						 * (It'd take roughly 3000 lives spent though)
-						 */
-						int enhanceableGames = 0;
-						for(Game next : Game.values())
-							if(next.getWeight(players.size()) > 0)
-								enhanceableGames ++;
-						if(players.get(i).enhancedGames.size() < enhanceableGames)
+						Game chosenGame;
+						do
 						{
-							Game chosenGame;
-							do
-							{
-								chosenGame = Board.generateSpaces(1,players.size(),Game.values()).get(0);
-							}
-							while(players.get(i).enhancedGames.contains(chosenGame)); //Reroll until we find one they haven't already done
-							players.get(i).enhancedGames.add(chosenGame);
-							channel.sendMessage(players.get(i).getName() + " earned an enhancement slot and chose to enhance "
-									+ chosenGame.getName() + "!").queue();
+							chosenGame = Board.generateSpaces(1,players.size(),Game.values()).get(0);
 						}
-					}
-					else
-						channel.sendMessage(players.get(i).getSafeMention() + ", you have earned an enhancement slot! "
-								+ "Use the !enhance command to pick a minigame to enhance.").queue();
-				}
-				//Find if they already exist in the savefile, and where
-				String[] record;
-				int location = -1;
-				for(int j=0; j<list.size(); j++)
-				{
-					record = list.get(j).split("#");
-					if(record[0].compareToIgnoreCase(players.get(i).uID) == 0)
-					{
-						location = j;
-						break;
+						while(players.get(i).enhancedGames.contains(chosenGame)); //Reroll until we find one they haven't already done
+						players.get(i).enhancedGames.add(chosenGame);
+						messages.send(players.get(i).getName() + " earned an enhancement slot and chose to enhance "
+								+ chosenGame.getName() + "!");
 					}
 				}
-				//Then build their record and put it in the right place
-				StringBuilder toPrint = new StringBuilder();
-				toPrint.append(players.get(i).uID);
-				toPrint.append("#").append(players.get(i).getName());
-				toPrint.append("#").append(players.get(i).money);
-				toPrint.append("#").append(players.get(i).booster);
-				toPrint.append("#").append(players.get(i).winstreak);
-				toPrint.append("#").append(Math.max(players.get(i).newbieProtection - 1, 0));
-				toPrint.append("#").append(players.get(i).lives);
-				toPrint.append("#").append(players.get(i).lifeRefillTime);
-				toPrint.append("#").append(players.get(i).hiddenCommand);
-				toPrint.append("#").append(players.get(i).boostCharge);
-				toPrint.append("#").append(players.get(i).annuities);
-				toPrint.append("#").append(players.get(i).totalLivesSpent);
-				toPrint.append("#").append(players.get(i).enhancedGames);
-				//If they already exist in the savefile then replace their record, otherwise add them
-				if(location == -1)
-					list.add(toPrint.toString());
 				else
-					list.set(location,toPrint.toString());
-				//Update their player level if relevant
-				if(playersLevelUp)
-				{
-					PlayerLevel playerLevelData = new PlayerLevel(channel.getGuild().getId(),players.get(i).uID,players.get(i).getName());
-					boolean levelUp = playerLevelData.addXP(players.get(i).money - players.get(i).originalMoney);
-					if(levelUp)
-						channel.sendMessage(players.get(i).getSafeMention() + " has achieved Level " + playerLevelData.getTotalLevel() + "!").queue();
-					playerLevelData.saveLevel();
-				}
-				//Update a player's role if it's the role channel, they're human, and have earned a new one
-				if(players.get(i).money/100_000_000 != players.get(i).currentCashClub && !players.get(i).isBot && rankChannel)
-				{
-					//Get the mod controls
-					Guild guild = channel.getGuild();
-					List<Role> rolesToAdd = new LinkedList<>();
-					List<Role> rolesToRemove = new LinkedList<>();
-					//Remove their old score role if they had one
-					if(players.get(i).originalMoney/100_000_000 > 0 && players.get(i).originalMoney/100_000_000 < 10)
-						rolesToRemove.addAll(guild.getRolesByName(
-										String.format("$%d00M",players.get(i).originalMoney/100_000_000),false));
-					//Special case for removing Champion role in case of final showdown
-					else if(players.get(i).originalMoney/100_000_000 == 10)
-						rolesToRemove.addAll(guild.getRolesByName("Champion",false));
-					//Add their new score role if they deserve one
-					if(players.get(i).money/100_000_000 > 0 && players.get(i).money/100_000_000 < 10)
-						rolesToAdd.addAll(guild.getRolesByName(
-										String.format("$%d00M",players.get(i).money/100_000_000),false));
-					//Or do fancy stuff for the Champion
-					else if(players.get(i).money/100_000_000 == 10)
-						rolesToAdd.addAll(guild.getRolesByName("Champion",false));
-					//Then add/remove appropriately
-					guild.modifyMemberRoles(players.get(i).member,rolesToAdd,rolesToRemove).queue();
-				}
-			}
-			//Then sort and rewrite it
-			list.sort(new DescendingScoreSorter());
-			Path file = Paths.get("scores","scores"+channel.getId()+".csv");
-			Path oldFile = Files.move(file, file.resolveSibling("scores"+channel.getId()+"old.csv"));
-			Files.write(file, list);
-			Files.delete(oldFile);
-		}
-		catch(IOException e)
-		{
-			System.err.println("Could not save data in "+channel.getName());
-			e.printStackTrace();
-		}
+					messages.send(players.get(i).getSafeMention() + ", you have earned an enhancement slot! "
+							+ "Use the !enhance command to pick a minigame to enhance.");
+			}
+			//Build their record
+			StringBuilder toPrint = new StringBuilder();
+			toPrint.append(players.get(i).uID);
+			toPrint.append("#").append(players.get(i).getName());
+			toPrint.append("#").append(players.get(i).money);
+			toPrint.append("#").append(players.get(i).booster);
+			toPrint.append("#").append(players.get(i).winstreak);
+			toPrint.append("#").append(Math.max(players.get(i).newbieProtection - 1, 0));
+			toPrint.append("#").append(players.get(i).lives);
+			toPrint.append("#").append(players.get(i).lifeRefillTime);
+			toPrint.append("#").append(players.get(i).hiddenCommand);
+			toPrint.append("#").append(players.get(i).boostCharge);
+			toPrint.append("#").append(players.get(i).annuities);
+			toPrint.append("#").append(players.get(i).totalLivesSpent);
+			toPrint.append("#").append(players.get(i).enhancedGames);
+			updatedRecords.add(toPrint.toString());
+			//Update their player level if relevant
+			if(playersLevelUp)
+			{
+				PlayerLevel playerLevelData = new PlayerLevel(channel.getGuild().getId(),players.get(i).uID,players.get(i).getName());
+				boolean levelUp = playerLevelData.addXP(players.get(i).money - players.get(i).originalMoney);
+				if(levelUp)
+					messages.send(players.get(i).getSafeMention() + " has achieved Level " + playerLevelData.getTotalLevel() + "!");
+				playerLevelData.saveLevel();
+			}
+			//Update a player's role if it's the role channel, they're human, and have earned a new one
+			if(players.get(i).money/100_000_000 != players.get(i).currentCashClub && !players.get(i).isBot && rankChannel)
+			{
+				//Get the mod controls
+				Guild guild = channel.getGuild();
+				List<Role> rolesToAdd = new LinkedList<>();
+				List<Role> rolesToRemove = new LinkedList<>();
+				//Remove their old score role if they had one
+				if(players.get(i).originalMoney/100_000_000 > 0 && players.get(i).originalMoney/100_000_000 < 10)
+					rolesToRemove.addAll(guild.getRolesByName(
+									String.format("$%d00M",players.get(i).originalMoney/100_000_000),false));
+				//Special case for removing Champion role in case of final showdown
+				else if(players.get(i).originalMoney/100_000_000 == 10)
+					rolesToRemove.addAll(guild.getRolesByName("Champion",false));
+				//Add their new score role if they deserve one
+				if(players.get(i).money/100_000_000 > 0 && players.get(i).money/100_000_000 < 10)
+					rolesToAdd.addAll(guild.getRolesByName(
+									String.format("$%d00M",players.get(i).money/100_000_000),false));
+				//Or do fancy stuff for the Champion
+				else if(players.get(i).money/100_000_000 == 10)
+					rolesToAdd.addAll(guild.getRolesByName("Champion",false));
+				//Then add/remove appropriately
+				guild.modifyMemberRoles(players.get(i).member,rolesToAdd,rolesToRemove).queue();
+			}
+		}
+		//Then put everyone in the right place on the scoreboard, saving them all in one go
+		scores.putRecords(updatedRecords);
 	}
 	
-	static class DescendingScoreSorter implements Comparator<String>
-	{
-		@Override
-		public int compare(String arg0, String arg1) {
-			String[] string0 = arg0.split("#");
-			String[] string1 = arg1.split("#");
-			int test0 = Integer.parseInt(string0[2]);
-			int test1 = Integer.parseInt(string1[2]);
-			//Deliberately invert it to get descending order
-			return test1 - test0;
-		}
-	}
-
 	private void runPingList()
 	{
 		//Don't do this if no one's actually there to ping
@@ -2390,7 +2432,7 @@ public class GameController
 			output.append(" - ");
 			output.append(nextName);
 		}
-		channel.sendMessage(output.toString()).complete(); //This needs to be complete() or the thread closes before the message sends
+		messages.sendAndWait(output.toString()); //This needs to wait or the thread closes before the message sends
 		pingList.clear();
 	}
 	
@@ -2463,29 +2505,7 @@ public class GameController
 		//Board doesn't need to be displayed if game is over
 		if(printBoard)
 		{
-			//Do we need a complex header, or should we use the simple one?
-			int boardWidth = Math.max(5,players.size()+1);
-			if(boardWidth < 6)
-				board.append("     RtaB     \n");
-			else
-			{
-				for(int i=7; i<=boardWidth; i++)
-				{
-					//One space for odd numbers, two spaces for even numbers
-					board.append(i%2==0 ? "  " : " ");
-				}
-				//Then print the first part
-				board.append("Race to ");
-				//Extra space if it's odd
-				if(boardWidth%2 == 1) board.append(" ");
-				//Then the rest of the header
-				board.append("a Billion\n");
-			}
-			for(int i=0; i<boardSize; i++)
-			{
-				board.append(pickedSpaces[i] ? "  " : String.format("%02d",(i+1)));
-				board.append((i%boardWidth) == (boardWidth-1) ? "\n" : " ");
-			}
+			display.appendGrid(board, pickedSpaces, boardSize, Math.max(5,players.size()+1));
 			board.append("\n");
 			//Now any status effects applying to the board
 			if(repeatTurn > 0)
@@ -2537,95 +2557,12 @@ public class GameController
 		}
 		//Make a little extra room for the commas
 		moneyLength += (moneyLength-1)/3;
-		//Then start printing - including pointer if currently their turn
+		//Then print each player's line - including pointer if currently their turn
 		for(int i=0; i<players.size(); i++)
-		{
-			board.append(currentTurn == i ? ">" : " ");
-			board.append(!totals && players.get(i).bounty > 0 ? "$" : " ");
-			board.append(String.format("%-"+nameLength+"s",players.get(i).getName()));
-			//If they're on $1b then it gets printed directly, otherwise display round delta
-			if(!totals && players.get(i).money == 1_000_000_000)
-			{
-				board.append(" $1,000,000,000");
-			}
-			else
-			{
-				//Now figure out if we need a negative sign, a space, or neither
-				int playerMoney = players.get(i).getRoundDelta();
-				//What sign to print?
-				board.append(playerMoney<0 ? "-" : "+");
-				//Then print the money itself
-				board.append(String.format("$%,"+moneyLength+"d",Math.abs(playerMoney)));
-			}
-			//Now the booster display
-			switch (players.get(i).status) {
-				case ALIVE, DONE -> {
-					//If they're alive, display their booster
-					board.append(String.format(" [%3d%%", players.get(i).booster));
-					//If it's endgame, show their winstreak afterward
-					if (players.get(i).status == PlayerStatus.DONE || (gameStatus == GameStatus.END_GAME && currentTurn == i))
-						board.append(String.format("x%1$d.%2$d", players.get(i).winstreak / 10, players.get(i).winstreak % 10));
-						//Otherwise, display whether or not they have a peek
-					else if (players.get(i).peeks > 0)
-						board.append("P");
-					else
-						board.append(" ");
-					//Then close off the bracket
-					board.append("]");
-				}
-				case OUT, FOLDED -> board.append("  [OUT] ");
-				case WINNER -> board.append("  [WIN] ");
-			}
-			//Now any status effects the player has
-			if(gameStatus == GameStatus.IN_PROGRESS && players.get(i).status == PlayerStatus.ALIVE)
-			{
-				board.append(" ");
-				if(players.get(i).oneshotBooster != 1)
-					board.append(players.get(i).oneshotBooster);
-				if(players.get(i).jackpot > 0)
-					board.append("$");
-				if(players.get(i).cursed)
-					board.append("C");
-				board.append(switch(players.get(i).jokers)
-				{
-				case -1 -> "M"; //midas touch
-				case 0 -> ""; //no joker
-				default -> "J"; //joker
-				});
-				if(players.get(i).splitAndShare)
-					board.append("S");
-				if(players.get(i).threshold)
-					board.append("T");
-				if(players.get(i).warned)
-					board.append("X");
-			}
-			//If they have any games, print them too
-			if(!players.get(i).games.isEmpty())
-			{
-				board.append(" {");
-				for(Game minigame : players.get(i).games)
-				{
-					board.append(" ").append(minigame.getShortName());
-				}
-				board.append(" }");
-			}
-			board.append("\n");
-			//If we want the totals as well, do them on a second line
-			if(totals)
-			{
-				//Get to the right spot in the line
-				board.append(" ".repeat(Math.max(0, (nameLength - 4))));
-				board.append("Total:");
-				//Print sign
-				board.append(players.get(i).money<0 ? "-" : " ");
-				//Then print the money itself
-				board.append("$");
-				board.append(String.format("%,"+moneyLength+"d\n\n",Math.abs(players.get(i).money)));
-			}
-		}
+			board.append(display.getStatusLine(this, i, nameLength, moneyLength, totals));
 		//Close it off and print it out
 		board.append("```");
-		channel.sendMessage(board.toString()).queue();
+		messages.send(board.toString());
 		if(copyToResultChannel && resultChannel != null)
 			resultChannel.sendMessage(gameStartLink + "\n" + board).queue();
 	}
@@ -2635,12 +2572,12 @@ public class GameController
 	public void useFold(int player)
 	{
 		Player folder = players.get(player);
-		channel.sendMessage(folder.getName() + " folded!").queue();
+		messages.send(folder.getName() + " folded!");
 		folder.hiddenCommand = HiddenCommand.NONE;
 		//Mark them as folded if they have minigames, or qualified for a bonus game
 		if(!folder.games.isEmpty())
 		{
-			channel.sendMessage("You'll still get to play your minigame"+(folder.games.size() != 1?"s":"")+", too.").queueAfter(1,TimeUnit.SECONDS);
+			messages.sendAfter("You'll still get to play your minigame"+(folder.games.size() != 1?"s":"")+", too.", 1, TimeUnit.SECONDS);
 			//Check for achievement
 			for(Game next : folder.games)
 				if(next.isBonus())
@@ -2674,23 +2611,23 @@ public class GameController
 		repeller.hiddenCommand = HiddenCommand.NONE;
 		if(currentBlammo)
 		{
-			channel.sendMessage("But " + repeller.getName() + " repelled the blammo!").queue();
+			messages.send("But " + repeller.getName() + " repelled the blammo!");
 			currentBlammo = false;
 			repeatTurn++;
 			runEndTurnLogic();
 		}
 		else if(repeller.threshold)
 		{
-			channel.sendMessage(repeller.getName() + " repelled their threshold situation!").queue();
+			messages.send(repeller.getName() + " repelled their threshold situation!");
 			repeller.threshold = false;
 		}
 		else
-			channel.sendMessage(repeller.getName() + " repelled their imagined threshold situation!").queue();
+			messages.send(repeller.getName() + " repelled their imagined threshold situation!");
 	}
 	public void useBlammoSummoner(int player)
 	{
 		Player summoner = players.get(player);
-		channel.sendMessage(summoner.getName() + " summoned a blammo for the next player!").queue();
+		messages.send(summoner.getName() + " summoned a blammo for the next player!");
 		summoner.hiddenCommand = HiddenCommand.NONE;
 		futureSummoner = player;
 		futureBlammo = true;
@@ -2698,7 +2635,7 @@ public class GameController
 	public void useShuffler(int player, int space)
 	{
 		Player shuffler = players.get(player);
-		channel.sendMessage(shuffler.getName() + " reshuffled space " + (space+1) + "!").queue();
+		messages.send(shuffler.getName() + " reshuffled space " + (space+1) + "!");
 		shuffler.hiddenCommand = HiddenCommand.NONE;
 		gameboard.rerollSpace(space, players.size());
 	}
@@ -2708,11 +2645,11 @@ public class GameController
         //Only begin a wager immediately if a turn is not currently resolving
         if(!resolvingTurn)
         {
-            channel.sendMessage(wagerer.getName() + " started a wager!").queue();
+            messages.send(wagerer.getName() + " started a wager!");
             wagerer.hiddenCommand = HiddenCommand.NONE;
             runWager();
         } else {
-            channel.sendMessage(wagerer.getName() + " queued a wager!").queue();
+            messages.send(wagerer.getName() + " queued a wager!");
             wagerer.hiddenCommand = HiddenCommand.NONE;
             queuedWagers++;
         }
@@ -2720,33 +2657,37 @@ public class GameController
 	public void useBonusBag(int player, SpaceType desire)
 	{
 		Player bagger = players.get(player);
-		channel.sendMessage(bagger.getName() + " dips into the bonus bag and finds...").queue();
+		messages.send(bagger.getName() + " dips into the bonus bag and finds...");
 		bagger.hiddenCommand = HiddenCommand.NONE;
 		if(warnPlayer != null)
 			warnPlayer.cancel(false);
 		resolvingTurn = true;
-		timer.schedule(() ->
+		Timeline timeline = new Timeline();
+		timeline.pause(5000).then(() ->
 		{
 			switch (desire) {
 				case BOMB -> {
-					channel.sendMessage("It's a **BOMB**.").queue();
-					awardBomb(player, BombType.NORMAL); //Never roll the bomb, so potential use in avoiding bankrupt
+					messages.send("It's a **BOMB**.");
+					awardBomb(player, BombType.NORMAL, timeline); //Never roll the bomb, so potential use in avoiding bankrupt
 				}
-				case CASH -> awardCash(player, Board.generateSpaces(1, players.size(), Cash.values()).get(0));
+				case CASH -> awardCash(player, Board.generateSpaces(1, players.size(), Cash.values()).get(0), timeline);
 				case BOOSTER -> awardBoost(player, Board.generateSpaces(1, players.size(), Boost.values()).get(0));
 				case GAME -> awardGame(player, players.get(player).generateEventMinigame());
 				case EVENT -> awardEvent(player, Board.generateSpaces(1, players.size(), EventType.values()).get(0));
-				default -> channel.sendMessage("Nothing. Did you do something weird?").queue();
+				default -> messages.send("Nothing. Did you do something weird?");
 			}
+		}).then(() ->
+		{
 			if(bagger.hiddenCommand == HiddenCommand.BONUS)
 				Achievement.BAGCEPTION.check(bagger); //Sorry I outed you, but it'll only happen once!
 			runEndTurnLogic();
-		}, 5, TimeUnit.SECONDS);
+		});
+		timeline.start(timer);
 	}
 	public String useTruesight(int player, int space)
 	{
 		Player eyeballer = players.get(player);
-		channel.sendMessage(eyeballer.getName() + " used an Eye of Truth to look at space " + (space+1) + "!").queue();
+		messages.send(eyeballer.getName() + " used an Eye of Truth to look at space " + (space+1) + "!");
 		eyeballer.allPeeks.add(space);
 		if(eyeballer.allPeeks.size() == 3)
 			Achievement.EXTRA_PEEKS.check(eyeballer);
@@ -2767,23 +2708,17 @@ public class GameController
 	public void useMinesweeper(int player, int space)
 	{
 		Player minesweeper = players.get(player);
-		channel.sendMessage(minesweeper.getName() + " used a Minesweeper to sweep around space " + (space+1) + "!").queue();
+		messages.send(minesweeper.getName() + " used a Minesweeper to sweep around space " + (space+1) + "!");
 		minesweeper.hiddenCommand = HiddenCommand.NONE;
-		ArrayList<Integer> adjacentSpaces = new ArrayList<>(8);
+		BoardMask adjacentSpaces = BoardMask.adjacentTo(space, players.size()).andNot(pickedSpaces);
 		int adjacentBombs = 0;
-		for(int i : RtaBMath.getAdjacentSpaces(space, players.size()))
-		{
-			if(!pickedSpaces[i])
-			{
-				adjacentSpaces.add(i);
-				if(gameboard.getType(i).isBomb())
-					adjacentBombs ++;
-			}
-		}
+		for(int i = adjacentSpaces.nextSetBit(0); i >= 0; i = adjacentSpaces.nextSetBit(i+1))
+			if(gameboard.getType(i).isBomb())
+				adjacentBombs ++;
 		if(adjacentBombs == 0)
-			minesweeper.safePeeks.addAll(adjacentSpaces);
+			minesweeper.safePeeks.addAll(adjacentSpaces.toList());
 		else if(adjacentBombs == adjacentSpaces.size())
-			minesweeper.knownBombs.addAll(adjacentSpaces);
+			minesweeper.knownBombs.addAll(adjacentSpaces.toList());
 		if(!minesweeper.isBot)
 		{
 			final int bombCount = adjacentBombs;
@@ -2800,44 +2735,50 @@ public class GameController
 	public void useFailsafe(int player)
 	{
 		Player failsafeUser = players.get(player);
-		channel.sendMessage(failsafeUser.getName() + " has engaged the failsafe...").queue();
-		try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		failsafeUser.hiddenCommand = HiddenCommand.NONE;
-		//Search for any unpicked non-bomb spaces
-		boolean success = true;
-		for(int i=0; i<boardSize; i++)
-			if(!pickedSpaces[i] && !gameboard.getType(i).isBomb()
-					//If they have S&S, then a second S&S counts as a bomb too (TDTTOE)
-					&& (!failsafeUser.splitAndShare || gameboard.getEvent(i) != EventType.SPLIT_SHARE || !gameboard.getType(i).isEvent())
-					//Also, cursed bombs count iff they have a curse
-					&& (!failsafeUser.cursed || gameboard.getEvent(i) != EventType.CURSED_BOMB || !gameboard.getType(i).isEvent()))
+		messages.send(failsafeUser.getName() + " has engaged the failsafe...");
+		Timeline timeline = new Timeline();
+		timeline.pause(5000).then(() ->
+		{
+			failsafeUser.hiddenCommand = HiddenCommand.NONE;
+			//Search for any unpicked non-bomb spaces
+			boolean success = true;
+			for(int i=0; i<boardSize; i++)
+				if(!pickedSpaces.get(i) && !gameboard.getType(i).isBomb()
+						//If they have S&S, then a second S&S counts as a bomb too (TDTTOE)
+						&& (!failsafeUser.splitAndShare || gameboard.getEvent(i) != EventType.SPLIT_SHARE || !gameboard.getType(i).isEvent())
+						//Also, cursed bombs count iff they have a curse
+						&& (!failsafeUser.cursed || gameboard.getEvent(i) != EventType.CURSED_BOMB || !gameboard.getType(i).isEvent()))
+				{
+					success = false;
+					break;
+				}
+			if(success)
 			{
-				success = false;
-				break;
+				//If it's all bombs, they win!
+				messages.send("And successfully escaped the round!");
+				failsafeUser.status = PlayerStatus.WINNER;
+				playersAlive --;
+				earlyWinners ++;
+				failsafeUser.splitAndShare = false;
+				//If it was the active player or there's only one left after this, shift things over to the next turn
+				if(player == currentTurn || playersAlive <= 1)
+					currentPlayerFoldedLogic();
 			}
-		if(success)
-		{
-			//If it's all bombs, they win!
-			channel.sendMessage("And successfully escaped the round!").queue();
-			failsafeUser.status = PlayerStatus.WINNER;
-			playersAlive --;
-			earlyWinners ++;
-			failsafeUser.splitAndShare = false;
-			//If it was the active player or there's only one left after this, shift things over to the next turn
-			if(player == currentTurn || playersAlive <= 1)
-				currentPlayerFoldedLogic();
-		}
-		else
-		{
-			//If it's not all bombs, get owned
-			channel.sendMessage("But there is still at least one safe space.").queue();
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			int fine = applyBaseMultiplier(1_000_000);
-			channel.sendMessage(failsafeUser.getName() + String.format(" was fined $%,d.",fine)).queue();
-			failsafeUser.addMoney(-1*fine, MoneyMultipliersToUse.NOTHING);
-			//If they're a bot, make sure control gets passed back to them to take a turn
-			if(players.get(player).isBot)
-				runAITurn(player);
-		}
+			else
+			{
+				//If it's not all bombs, get owned
+				messages.send("But there is still at least one safe space.");
+				timeline.pause(1000).then(() ->
+				{
+					int fine = applyBaseMultiplier(1_000_000);
+					messages.send(failsafeUser.getName() + String.format(" was fined $%,d.",fine));
+					failsafeUser.addMoney(-1*fine, MoneyMultipliersToUse.NOTHING);
+					//If they're a bot, make sure control gets passed back to them to take a turn
+					if(players.get(player).isBot)
+						runAITurn(player);
+				});
+			}
+		});
+		timeline.start(timer);
 	}
 }
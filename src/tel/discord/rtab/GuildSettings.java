@@ -0,0 +1,153 @@
+package tel.discord.rtab;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import tel.discord.rtab.commands.channel.ChannelSetting;
+
+/**
+ * A guild's channel settings, read from its settings file (guilds/guild[guild].csv) the first time they're needed
+ * and kept in memory from then on, so checking a setting (eg. whether a channel counts towards player level)
+ * never has to go back to the disk.
+ * Changes go through here too, which saves the file and lets whoever is watching the channel know about it.
+ */
+public class GuildSettings
+{
+	private static final Map<String,GuildSettings> guilds = new ConcurrentHashMap<>();
+	final String guildID;
+	private final Map<String,String[]> channels = new LinkedHashMap<>(); //In the order they are in the file
+	private final Map<String,Consumer<String[]>> watchers = new HashMap<>();
+
+	private GuildSettings(String guildID)
+	{
+		this.guildID = guildID;
+	}
+
+	/**
+	 * Gets the settings for a guild, reading them from its settings file if they haven't been already.
+	 * @param guildID The ID of the guild
+	 * @return The guild's settings
+	 * @throws IOException if the settings file couldn't be read (most likely because the guild doesn't have one yet)
+	 */
+	public static GuildSettings forGuild(String guildID) throws IOException
+	{
+		GuildSettings settings = guilds.get(guildID);
+		if(settings == null)
+		{
+			//Guilds can be loaded side by side, so if another thread beats us to this one we go with theirs
+			settings = new GuildSettings(guildID);
+			/*
+			 * Guild settings file format:
+			 * record[0] = channel ID
+			 * record[1] = enabled
+			 * record[2] = result channel ID
+			 * and then the rest of the channel settings (see ChannelSetting)
+			 */
+			for(String nextChannel : Files.readAllLines(getFile(guildID)))
+			{
+				String[] record = nextChannel.split("#");
+				settings.channels.put(record[0], record);
+			}
+			GuildSettings existing = guilds.putIfAbsent(guildID, settings);
+			if(existing != null)
+				return existing;
+		}
+		return settings;
+	}
+
+	static Path getFile(String guildID)
+	{
+		return Paths.get("guilds","guild"+guildID+".csv");
+	}
+
+	/**
+	 * @return A copy of the channel's record, or null if the channel isn't in the guild's settings
+	 */
+	public synchronized String[] getChannel(String channelID)
+	{
+		String[] record = channels.get(channelID);
+		return record == null ? null : record.clone();
+	}
+
+	/**
+	 * @return A copy of every channel's record, in the order they were added
+	 */
+	public synchronized List<String[]> getChannels()
+	{
+		List<String[]> records = new ArrayList<>(channels.size());
+		for(String[] next : channels.values())
+			records.add(next.clone());
+		return records;
+	}
+
+	/**
+	 * @return The value of a setting for the channel, or null if the channel isn't in the guild's settings
+	 */
+	public synchronized String getSetting(String channelID, ChannelSetting setting)
+	{
+		String[] record = channels.get(channelID);
+		return record == null ? null : record[setting.getLocation()];
+	}
+
+	/**
+	 * Adds a channel's record, or replaces it if the channel is already there, then saves the settings file.
+	 * Whoever is watching the channel is then given a copy of the new record.
+	 * @param record The channel's full record, starting with its ID
+	 * @throws IOException if the settings file couldn't be saved (in which case the settings are left as they were)
+	 */
+	public void putChannel(String[] record) throws IOException
+	{
+		String[] newRecord = record.clone();
+		Consumer<String[]> watcher;
+		synchronized(this)
+		{
+			String[] oldRecord = channels.put(newRecord[0], newRecord);
+			try
+			{
+				save();
+			}
+			catch(IOException e)
+			{
+				if(oldRecord == null)
+					channels.remove(newRecord[0]);
+				else
+					channels.put(newRecord[0], oldRecord);
+				throw e;
+			}
+			watcher = watchers.get(newRecord[0]);
+		}
+		if(watcher != null)
+			watcher.accept(newRecord.clone());
+	}
+
+	private void save() throws IOException
+	{
+		List<String> list = new ArrayList<>(channels.size());
+		for(String[] next : channels.values())
+			list.add(String.join("#", next));
+		SaveFile.write(getFile(guildID), list);
+	}
+
+	/**
+	 * Sets something to be told whenever the channel's record changes (replacing anything that was already watching it).
+	 * The watcher is called on the thread that made the change, so it should hand the new record off rather than act on it there.
+	 */
+	public synchronized void watchChannel(String channelID, Consumer<String[]> watcher)
+	{
+		watchers.put(channelID, watcher);
+	}
+
+	public synchronized void unwatchChannel(String channelID)
+	{
+		watchers.remove(channelID);
+	}
+}
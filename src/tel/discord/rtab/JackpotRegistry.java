@@ -0,0 +1,142 @@
+package tel.discord.rtab;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntUnaryOperator;
+
+import tel.discord.rtab.games.objs.Jackpots;
+import tel.discord.rtab.sim.Simulation;
+
+/**
+ * A channel's progressive jackpots, read from its jackpot table (scores/jackpots[channel].csv) once and then
+ * kept in memory, so minigames can check and bump them mid-turn without touching the table.
+ * Changes are written back to the table at the end of each round, and every minute for anything played outside of one.
+ */
+public class JackpotRegistry
+{
+	private record SandboxKey(String channelID) {}
+	private static final int NOT_SAVED = Integer.MIN_VALUE; //For jackpots that aren't in the table yet
+	private static final Map<String,JackpotRegistry> registries = new ConcurrentHashMap<>();
+	private static final Lane saver = Lane.openShared("Jackpot Saver");
+	static
+	{
+		saver.schedule(JackpotRegistry::saveRegularly, 1, TimeUnit.MINUTES);
+	}
+	final JournaledTable table;
+	private final AtomicIntegerArray values = new AtomicIntegerArray(Jackpots.values().length);
+	private final AtomicBoolean changed = new AtomicBoolean();
+
+	private JackpotRegistry(JournaledTable table)
+	{
+		this.table = table;
+		for(Jackpots next : Jackpots.values())
+		{
+			String[] record = table.get(next.toString());
+			values.set(next.ordinal(), record == null ? NOT_SAVED : Integer.parseInt(record[1]));
+		}
+	}
+
+	/**
+	 * Gets the jackpots for a channel, loading them from the channel's jackpot table if they aren't already.
+	 */
+	public static JackpotRegistry forChannel(String channelID)
+	{
+		Simulation simulation = Simulation.current();
+		if(simulation != null)
+		{
+			//Open the table first, as that needs the sandbox too and it can't be used while it's making the registry
+			JournaledTable table = JournaledTable.open(getFile(channelID));
+			return simulation.sandboxed(new SandboxKey(channelID), next -> new JackpotRegistry(table));
+		}
+		return registries.computeIfAbsent(channelID, next -> new JackpotRegistry(JournaledTable.open(getFile(next))));
+	}
+
+	static Path getFile(String channelID)
+	{
+		return Paths.get("scores","jackpots"+channelID+".csv");
+	}
+
+	/**
+	 * Saves a channel's jackpots and forgets them, along with the jackpot table, so the next access reloads it from disk.
+	 * This must be used before the jackpot file is moved or edited by anything outside the table.
+	 */
+	public static void close(String channelID)
+	{
+		JackpotRegistry registry = registries.remove(channelID);
+		if(registry != null)
+			registry.save();
+		JournaledTable.close(getFile(channelID));
+	}
+
+	/**
+	 * Saves every channel's changed jackpots, for use when shutting down.
+	 */
+	public static void saveAll()
+	{
+		for(JackpotRegistry next : registries.values())
+			next.save();
+	}
+
+	private static void saveRegularly()
+	{
+		try
+		{
+			saveAll();
+		}
+		finally
+		{
+			saver.schedule(JackpotRegistry::saveRegularly, 1, TimeUnit.MINUTES);
+		}
+	}
+
+	/**
+	 * @return The jackpot's current value, or its reset value if it's never been set (or has somehow dropped below it)
+	 */
+	public int get(Jackpots jackpot)
+	{
+		return Math.max(values.get(jackpot.ordinal()), jackpot.resetValue);
+	}
+
+	public void set(Jackpots jackpot, int value)
+	{
+		update(jackpot, current -> value);
+	}
+
+	/**
+	 * Adds to the jackpot in one step, so two games adding to it at once can't undo each other.
+	 */
+	public void add(Jackpots jackpot, int value)
+	{
+		update(jackpot, current -> Math.max(current, jackpot.resetValue) + value);
+	}
+
+	private void update(Jackpots jackpot, IntUnaryOperator change)
+	{
+		values.updateAndGet(jackpot.ordinal(), change);
+		changed.set(true);
+	}
+
+	/**
+	 * Writes any changed jackpots to the jackpot table, in a single write.
+	 */
+	public void save()
+	{
+		if(!changed.getAndSet(false))
+			return;
+		List<String> lines = new ArrayList<>(values.length());
+		for(Jackpots next : Jackpots.values())
+		{
+			int value = values.get(next.ordinal());
+			if(value != NOT_SAVED)
+				lines.add(next + "#" + value);
+		}
+		table.putAll(lines);
+	}
+}
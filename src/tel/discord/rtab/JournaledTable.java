@@ -0,0 +1,130 @@
+package tel.discord.rtab;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import tel.discord.rtab.sim.Simulation;
+
+/**
+ * A #-delimited savefile held in memory and keyed on its first field, with changes saved through a SaveJournal.
+ * Used for the savefiles where the order of the lines doesn't matter (levels, achievements, jackpots).
+ * There's only ever one table per file, so always get it through open() rather than holding on to it.
+ * During a simulation, open() hands out a sandboxed table instead, which starts empty and is never saved.
+ */
+public class JournaledTable
+{
+	static final Map<Path,JournaledTable> tables = new ConcurrentHashMap<>();
+	final Path file;
+	final SaveJournal journal; //Null if we're sandboxed
+	final Map<String,String[]> records = new LinkedHashMap<>(); //Kept split, so lookups don't have to
+
+	private JournaledTable(Path file, boolean sandboxed)
+	{
+		this.file = file;
+		journal = sandboxed ? null : new SaveJournal(file, this::getLines, this);
+		if(sandboxed)
+			return;
+		try
+		{
+			for(String[] next : journal.load())
+				records.put(next[0], next);
+		}
+		catch(IOException e)
+		{
+			System.out.println("No savefile found at "+file+", creating.");
+			try
+			{
+				Files.createFile(file);
+			}
+			catch(IOException e1)
+			{
+				System.err.println("Couldn't create it either. Oops.");
+				e1.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Gets the table for a savefile, loading it (and creating the file if necessary) if it isn't already.
+	 */
+	public static JournaledTable open(Path file)
+	{
+		Simulation simulation = Simulation.current();
+		if(simulation != null)
+			return simulation.sandboxed(file, next -> new JournaledTable(next, true));
+		return tables.computeIfAbsent(file, next -> new JournaledTable(next, false));
+	}
+
+	/**
+	 * Compacts a table into its savefile and forgets it, so the next access reloads it from disk.
+	 * This must be used before the savefile is moved or edited by anything outside the table.
+	 */
+	public static void close(Path file)
+	{
+		JournaledTable table = tables.remove(file);
+		if(table != null)
+			table.journal.compact();
+	}
+
+	/**
+	 * Compacts every table's journal into its savefile, for use when shutting down.
+	 */
+	public static void saveAll()
+	{
+		for(JournaledTable next : tables.values())
+			next.journal.compact();
+	}
+
+	/**
+	 * @return The record with the given key, already split, or null if there isn't one
+	 */
+	public synchronized String[] get(String key)
+	{
+		String[] record = records.get(key);
+		return record == null ? null : record.clone();
+	}
+
+	/**
+	 * @return Every record in the table, already split
+	 */
+	public synchronized List<String[]> getRecords()
+	{
+		List<String[]> copies = new ArrayList<>(records.size());
+		for(String[] next : records.values())
+			copies.add(next.clone());
+		return copies;
+	}
+
+	/**
+	 * Adds a line to the table, replacing the existing line with the same key if there is one.
+	 */
+	public void put(String line)
+	{
+		putAll(List.of(line));
+	}
+
+	/**
+	 * Adds several lines to the table, journaling them to disk together as a single write.
+	 */
+	public synchronized void putAll(List<String> newLines)
+	{
+		for(String next : newLines)
+			records.put(SaveJournal.getKey(next), next.split("#", -1));
+		if(journal != null)
+			journal.logUpdates(newLines);
+	}
+
+	public synchronized List<String> getLines()
+	{
+		List<String> lines = new ArrayList<>(records.size());
+		for(String[] next : records.values())
+			lines.add(String.join("#", next));
+		return lines;
+	}
+}
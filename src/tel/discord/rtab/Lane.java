@@ -0,0 +1,261 @@
+package tel.discord.rtab;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+import tel.discord.rtab.sim.Simulation;
+
+/**
+ * A named queue of tasks that run one at a time, in order - one for each game controller, minigame, tournament, etc.
+ * Lanes don't own any threads while they wait: delays are all handled by one scheduler shared between every lane,
+ * and when a lane has work to do it runs it on a virtual thread named after the lane, so tasks that still sleep
+ * (events, minigame messages) only park that virtual thread rather than holding on to a real one.
+ * A lane opened during a simulation runs its tasks on the simulation's virtual clock instead.
+ * Each lane also has its own random stream (see RtaBMath), which its tasks draw from while they run.
+ */
+public class Lane
+{
+	static final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, new SchedulerThreadFactory());
+	static
+	{
+		scheduler.setRemoveOnCancelPolicy(true);
+	}
+	final String name;
+	final Simulation simulation; //Null unless we were opened during a simulation
+	SplittableGenerator random;
+	final Queue<LaneTask> queue = new ArrayDeque<>();
+	final Set<LaneTask> waiting = new HashSet<>(); //Still counting down on the scheduler
+	Thread worker; //Only exists while the lane has tasks to run
+	boolean shutdown;
+
+	static class SchedulerThreadFactory implements ThreadFactory
+	{
+		@Override
+		public Thread newThread(Runnable r)
+		{
+			Thread newThread = new Thread(r);
+			newThread.setName("Lane Scheduler");
+			newThread.setDaemon(true);
+			return newThread;
+		}
+	}
+
+	class LaneTask extends FutureTask<Void> implements ScheduledFuture<Void>
+	{
+		ScheduledFuture<?> delay; //Counts down on the shared scheduler, null if the task was queued straight away
+
+		LaneTask(Runnable task)
+		{
+			super(task, null);
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit)
+		{
+			return delay == null ? 0 : delay.getDelay(unit);
+		}
+
+		@Override
+		public int compareTo(Delayed other)
+		{
+			return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning)
+		{
+			if(delay != null)
+				delay.cancel(false);
+			synchronized(Lane.this)
+			{
+				waiting.remove(this);
+			}
+			return super.cancel(mayInterruptIfRunning);
+		}
+	}
+
+	private Lane(String name, Simulation simulation, SplittableGenerator random)
+	{
+		this.name = name;
+		this.simulation = simulation;
+		this.random = random;
+	}
+
+	/**
+	 * Opens a new lane.
+	 * @param name The name to give the threads that run its tasks, eg. "Game Controller - RtaB - game-channel"
+	 */
+	public static Lane open(String name)
+	{
+		return new Lane(name, Simulation.current(), RtaBMath.splitStream());
+	}
+
+	/**
+	 * Opens a lane that always runs in real time, even if it happens to be opened during a simulation.
+	 * For lanes kept in static fields (eg. the save writers), which outlive whatever was running when they were made.
+	 */
+	public static Lane openShared(String name)
+	{
+		return new Lane(name, null, RtaBMath.splitRootStream());
+	}
+
+	/**
+	 * Runs a task on the lane after a delay, once everything queued before it has finished.
+	 * @return A future that can be used to cancel the task before it starts
+	 */
+	public ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit)
+	{
+		LaneTask laneTask = new LaneTask(task);
+		synchronized(this)
+		{
+			if(shutdown)
+				throw new RejectedExecutionException(name + " has been shut down");
+			waiting.add(laneTask);
+			if(simulation != null)
+				simulation.schedule(() -> runSimulated(laneTask), unit.toMillis(delay));
+			else
+				laneTask.delay = scheduler.schedule(() -> enqueue(laneTask), delay, unit);
+		}
+		return laneTask;
+	}
+
+	/**
+	 * Runs a task on the lane as soon as everything queued before it has finished.
+	 */
+	public void execute(Runnable task)
+	{
+		if(simulation != null)
+			schedule(task, 0, TimeUnit.MILLISECONDS);
+		else
+			enqueue(new LaneTask(task));
+	}
+
+	private void runSimulated(LaneTask task)
+	{
+		//Everything in a simulation runs on the one thread, so there's no queue to wait in
+		SplittableGenerator stream;
+		synchronized(this)
+		{
+			if(shutdown || !waiting.remove(task))
+				return;
+			stream = random;
+		}
+		RtaBMath.withStream(stream, task);
+	}
+
+	private synchronized void enqueue(LaneTask task)
+	{
+		if(shutdown)
+			throw new RejectedExecutionException(name + " has been shut down");
+		waiting.remove(task);
+		queue.add(task);
+		if(worker == null)
+			worker = Thread.ofVirtual().name(name).start(this::runTasks);
+	}
+
+	private void runTasks()
+	{
+		while(true)
+		{
+			LaneTask next;
+			SplittableGenerator stream;
+			synchronized(this)
+			{
+				next = queue.poll();
+				if(next == null || shutdown)
+				{
+					worker = null;
+					return;
+				}
+				stream = random;
+			}
+			//Clear out any interrupt left over from the last task (eg. a minigame's !skip) so it doesn't hit this one
+			Thread.interrupted();
+			RtaBMath.withStream(stream, next);
+		}
+	}
+
+	/**
+	 * Stops the lane: cancels everything waiting to run, rejects anything new, and interrupts the task that's running.
+	 */
+	public void shutdownNow()
+	{
+		synchronized(this)
+		{
+			shutdown = true;
+			for(LaneTask next : new ArrayList<>(waiting))
+				next.cancel(false);
+			for(LaneTask next : queue)
+				next.cancel(false);
+			queue.clear();
+			if(worker != null)
+				worker.interrupt();
+		}
+	}
+
+	public synchronized boolean isShutdown()
+	{
+		return shutdown;
+	}
+
+	/**
+	 * Restarts the lane's random stream from a seed, so whatever runs on it from here can be replayed with the same seed.
+	 */
+	public synchronized void reseed(long seed)
+	{
+		random = RtaBMath.newStream(seed);
+	}
+
+	/**
+	 * Pauses the current thread for dramatic effect, or doesn't bother if we're only running a simulation.
+	 * Use this instead of sleeping for pacing messages in events, bombs, etc.
+	 */
+	public static void pause(long millis)
+	{
+		if(Simulation.current() != null)
+			return;
+		try
+		{
+			Thread.sleep(millis);
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Makes a thread to run a callback on (eg. when a minigame finishes) without tying up the caller.
+	 * During a simulation, starting it schedules the callback on the simulation's clock instead.
+	 * The callback gets a random stream split off from the caller's.
+	 * @param name The name to give the thread
+	 * @return The thread, not yet started
+	 */
+	public static Thread callback(String name, Runnable task)
+	{
+		SplittableGenerator stream = RtaBMath.splitStream();
+		Runnable callback = () -> RtaBMath.withStream(stream, task);
+		Simulation simulation = Simulation.current();
+		if(simulation == null)
+			return Thread.ofVirtual().name(name).unstarted(callback);
+		return new Thread(callback, name)
+		{
+			@Override
+			public void start()
+			{
+				simulation.schedule(callback, 0);
+			}
+		};
+	}
+}
@@ -0,0 +1,226 @@
+package tel.discord.rtab;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Keeps score records sorted by money (highest first) so we never have to sort the whole scoreboard.
+ * It's a treap where every node knows the size of its subtree, so finding a player's rank or the record at
+ * a given rank takes O(log n), as do adding and removing records.
+ * Records with the same money stay in the order they were added, like the old stable sort of the savefile.
+ * Not thread-safe on its own; ScoreStore guards it.
+ */
+public class Leaderboard
+{
+	private final SplittableRandom priorities = new SplittableRandom();
+	private Node root;
+	private long nextSequence = 0;
+
+	/**
+	 * A record on the leaderboard. Hold on to this to find or remove the record later.
+	 */
+	public static class Entry
+	{
+		public final String[] record;
+		final int money;
+		final long sequence;
+
+		Entry(String[] record, long sequence)
+		{
+			this.record = record;
+			money = Integer.parseInt(record[2]);
+			this.sequence = sequence;
+		}
+
+		//More money goes first, then earlier arrivals
+		int compareTo(Entry other)
+		{
+			if(money != other.money)
+				return money > other.money ? -1 : 1;
+			return Long.compare(sequence, other.sequence);
+		}
+	}
+
+	private static class Node
+	{
+		final Entry entry;
+		final int priority;
+		int size = 1;
+		Node left, right;
+
+		Node(Entry entry, int priority)
+		{
+			this.entry = entry;
+			this.priority = priority;
+		}
+	}
+
+	public int size()
+	{
+		return size(root);
+	}
+
+	private static int size(Node node)
+	{
+		return node == null ? 0 : node.size;
+	}
+
+	private static void update(Node node)
+	{
+		node.size = 1 + size(node.left) + size(node.right);
+	}
+
+	/**
+	 * Adds a record after everyone with at least as much money.
+	 * @return The entry, for use with rankOf() and remove()
+	 */
+	public Entry add(String[] record)
+	{
+		Entry entry = new Entry(record, nextSequence++);
+		Node[] split = split(root, entry);
+		root = merge(merge(split[0], new Node(entry, priorities.nextInt())), split[1]);
+		return entry;
+	}
+
+	public void remove(Entry entry)
+	{
+		root = remove(root, entry);
+	}
+
+	private Node remove(Node node, Entry entry)
+	{
+		if(node == null)
+			return null;
+		int comparison = entry.compareTo(node.entry);
+		if(comparison == 0)
+			return merge(node.left, node.right);
+		if(comparison < 0)
+			node.left = remove(node.left, entry);
+		else
+			node.right = remove(node.right, entry);
+		update(node);
+		return node;
+	}
+
+	/**
+	 * @return The zero-based position of the entry on the leaderboard, or -1 if it isn't on it
+	 */
+	public int rankOf(Entry entry)
+	{
+		int rank = 0;
+		Node node = root;
+		while(node != null)
+		{
+			int comparison = entry.compareTo(node.entry);
+			if(comparison == 0)
+				return rank + size(node.left);
+			if(comparison < 0)
+				node = node.left;
+			else
+			{
+				rank += size(node.left) + 1;
+				node = node.right;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return The entry at the given zero-based position, or null if there isn't one
+	 */
+	public Entry get(int rank)
+	{
+		if(rank < 0 || rank >= size())
+			return null;
+		Node node = root;
+		while(true)
+		{
+			int leftSize = size(node.left);
+			if(rank < leftSize)
+				node = node.left;
+			else if(rank == leftSize)
+				return node.entry;
+			else
+			{
+				rank -= leftSize + 1;
+				node = node.right;
+			}
+		}
+	}
+
+	/**
+	 * @return The entries from fromRank (inclusive) to toRank (exclusive), clamped to the leaderboard's size
+	 */
+	public List<Entry> getRange(int fromRank, int toRank)
+	{
+		fromRank = Math.max(fromRank, 0);
+		toRank = Math.min(toRank, size());
+		List<Entry> result = new ArrayList<>(Math.max(toRank - fromRank, 0));
+		collect(root, 0, fromRank, toRank, result);
+		return result;
+	}
+
+	private static void collect(Node node, int offset, int fromRank, int toRank, List<Entry> result)
+	{
+		if(node == null || fromRank >= toRank)
+			return;
+		int nodeRank = offset + size(node.left);
+		//Only go down the sides that overlap the range we want
+		if(fromRank < nodeRank)
+			collect(node.left, offset, fromRank, toRank, result);
+		if(fromRank <= nodeRank && nodeRank < toRank)
+			result.add(node.entry);
+		if(toRank > nodeRank + 1)
+			collect(node.right, nodeRank + 1, fromRank, toRank, result);
+	}
+
+	public void clear()
+	{
+		root = null;
+	}
+
+	//Splits the tree into everything that goes before the entry and everything that goes after it
+	private static Node[] split(Node node, Entry entry)
+	{
+		if(node == null)
+			return new Node[] {null, null};
+		if(entry.compareTo(node.entry) < 0)
+		{
+			Node[] result = split(node.left, entry);
+			node.left = result[1];
+			update(node);
+			result[1] = node;
+			return result;
+		}
+		else
+		{
+			Node[] result = split(node.right, entry);
+			node.right = result[0];
+			update(node);
+			result[0] = node;
+			return result;
+		}
+	}
+
+	//Joins two trees where everything in the first goes before everything in the second
+	private static Node merge(Node first, Node second)
+	{
+		if(first == null)
+			return second;
+		if(second == null)
+			return first;
+		if(first.priority > second.priority)
+		{
+			first.right = merge(first.right, second);
+			update(first);
+			return first;
+		}
+		else
+		{
+			second.left = merge(first, second.left);
+			update(second);
+			return second;
+		}
+	}
+}
@@ -0,0 +1,231 @@
+package tel.discord.rtab;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
+import tel.discord.rtab.sim.Simulation;
+
+/**
+ * Sends a channel's messages one at a time, in order, and sticks together any that pile up while it waits.
+ * Only one message is ever in flight for a channel, and any sent while it's on its way are joined into the next one
+ * (up to Discord's length limit) rather than each becoming a request of their own.
+ * It also keeps count of the channel's recent messages, and holds back once Discord's limit of five every five seconds
+ * is used up - the messages that arrive in the meantime are merged, instead of being sent into a 429.
+ * Messages sent with a delay on purpose (weather, minigames) still go out separately, as nothing piles up between them.
+ * In a simulation messages are sent straight through, as there's no one to be rate limited by.
+ */
+public class MessageQueue
+{
+	private record SandboxKey(String channelID) {}
+	private record Entry(String text, CompletableFuture<Message> sent, boolean standalone) {}
+	static final int BUCKET_SIZE = 5; //Discord allows five messages per channel...
+	static final long BUCKET_MILLIS = 5000; //...every five seconds
+	private static final Map<String,MessageQueue> queues = new ConcurrentHashMap<>();
+	private static final Lane sender = Lane.openShared("Message Sender");
+	volatile MessageChannel channel;
+	final boolean direct;
+	private final Queue<Entry> waiting = new ArrayDeque<>();
+	private final long[] recentSends = new long[BUCKET_SIZE]; //Ring of the last few send times, oldest at nextSend
+	private int nextSend;
+	private boolean sending, held;
+	private long messagesSent, requestsMade;
+
+	private MessageQueue(MessageChannel channel, boolean direct)
+	{
+		this.channel = channel;
+		this.direct = direct;
+	}
+
+	/**
+	 * Gets the queue for a channel, making it if it's the first time.
+	 * The queue is shared by everything sending in the channel - the game controller, its events and its minigames -
+	 * so their messages stay in order with each other.
+	 */
+	public static MessageQueue forChannel(MessageChannel channel)
+	{
+		Simulation simulation = Simulation.current();
+		if(simulation != null)
+			return simulation.sandboxed(new SandboxKey(channel.getId()), next -> new MessageQueue(channel, true));
+		MessageQueue queue = queues.computeIfAbsent(channel.getId(), next -> new MessageQueue(channel, false));
+		//Keep hold of the latest copy of the channel, in case JDA has replaced it since
+		queue.channel = channel;
+		return queue;
+	}
+
+	/**
+	 * Queues up a message to be sent.
+	 */
+	public void send(CharSequence message)
+	{
+		if(direct)
+			channel.sendMessage(message).queue();
+		else
+			add(List.of(new Entry(message.toString(), null, false)));
+	}
+
+	/**
+	 * Queues up a message to be sent after a delay, behind anything else sent by then.
+	 */
+	public void sendAfter(CharSequence message, long delay, TimeUnit unit)
+	{
+		if(direct)
+			channel.sendMessage(message).queueAfter(delay, unit);
+		else
+			sender.schedule(() -> send(message), delay, unit);
+	}
+
+	/**
+	 * Queues up several messages at once, so they can be merged together from the start.
+	 */
+	public void sendAll(Collection<String> messages)
+	{
+		if(direct)
+		{
+			for(String next : messages)
+				channel.sendMessage(next).queue();
+			return;
+		}
+		List<Entry> entries = new ArrayList<>(messages.size());
+		for(String next : messages)
+			entries.add(new Entry(next, null, false));
+		add(entries);
+	}
+
+	/**
+	 * Queues up a message that needs to stand on its own (eg. because it gets edited or linked to later),
+	 * then waits for it to be sent, after everything before it.
+	 * @return The message that was sent
+	 */
+	public Message sendAndWait(CharSequence message)
+	{
+		if(direct)
+			return channel.sendMessage(message).complete();
+		CompletableFuture<Message> sent = new CompletableFuture<>();
+		add(List.of(new Entry(message.toString(), sent, true)));
+		try
+		{
+			return sent.join();
+		}
+		catch(CompletionException e)
+		{
+			if(e.getCause() instanceof RuntimeException cause)
+				throw cause;
+			throw e;
+		}
+	}
+
+	private synchronized void add(List<Entry> entries)
+	{
+		waiting.addAll(entries);
+		if(!sending && !held)
+			sendNext();
+	}
+
+	/**
+	 * @return How many messages are waiting to be sent
+	 */
+	public synchronized int getDepth()
+	{
+		return waiting.size();
+	}
+
+	/**
+	 * @return How many more messages can go out before Discord's limit for the channel is reached
+	 */
+	public synchronized int getRemaining()
+	{
+		long now = System.currentTimeMillis();
+		int remaining = 0;
+		for(long next : recentSends)
+			if(now - next >= BUCKET_MILLIS)
+				remaining ++;
+		return remaining;
+	}
+
+	/**
+	 * @return How many messages have been sent per request so far, eg. 1.5 if three messages took two requests
+	 */
+	public synchronized double getMergeRatio()
+	{
+		return requestsMade == 0 ? 1 : (double)messagesSent / requestsMade;
+	}
+
+	//Must be called with the lock held
+	private void sendNext()
+	{
+		if(waiting.isEmpty())
+			return;
+		//If we've used up the channel's limit, wait for the oldest send to expire (and let things pile up until then)
+		long wait = recentSends[nextSend] + BUCKET_MILLIS - System.currentTimeMillis();
+		if(wait > 0)
+		{
+			held = true;
+			sender.schedule(this::release, wait, TimeUnit.MILLISECONDS);
+			return;
+		}
+		//Stick together as many messages as we can fit
+		Entry first = waiting.poll();
+		List<Entry> batch = new ArrayList<>();
+		batch.add(first);
+		StringBuilder text = new StringBuilder(first.text());
+		if(!first.standalone())
+			while(!waiting.isEmpty() && !waiting.peek().standalone()
+					&& text.length() + 1 + waiting.peek().text().length() <= Message.MAX_CONTENT_LENGTH)
+			{
+				Entry next = waiting.poll();
+				text.append("\n").append(next.text());
+				batch.add(next);
+			}
+		sending = true;
+		recentSends[nextSend] = System.currentTimeMillis();
+		nextSend = (nextSend + 1) % BUCKET_SIZE;
+		messagesSent += batch.size();
+		requestsMade ++;
+		try
+		{
+			channel.sendMessage(text).queue(message -> finished(batch, message, null), error -> finished(batch, null, error));
+		}
+		//If JDA won't even take it (eg. it's too long), carry on with the rest
+		catch(RuntimeException e)
+		{
+			sender.execute(() -> finished(batch, null, e));
+		}
+	}
+
+	private synchronized void finished(List<Entry> batch, Message message, Throwable error)
+	{
+		sending = false;
+		if(error != null)
+		{
+			System.err.println("Message failed to send in " + channel.getName() + ".");
+			error.printStackTrace();
+		}
+		for(Entry next : batch)
+			if(next.sent() != null)
+			{
+				if(error != null)
+					next.sent().completeExceptionally(error);
+				else
+					next.sent().complete(message);
+			}
+		if(!held)
+			sendNext();
+	}
+
+	private synchronized void release()
+	{
+		held = false;
+		if(!sending)
+			sendNext();
+	}
+}
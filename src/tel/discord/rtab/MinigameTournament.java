@@ -2,20 +2,15 @@ package tel.discord.rtab;
 
 import java.io.IOException;
 import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
-import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
-import tel.discord.rtab.GameController.DescendingScoreSorter;
 import tel.discord.rtab.board.Game;
 import tel.discord.rtab.games.MiniGame;
 
@@ -23,8 +18,10 @@ public class MinigameTournament
 {
 	public TournamentStatus status;
 	public TextChannel channel, resultChannel;
-	public ScheduledThreadPoolExecutor timer;
+	MessageQueue messages; //Shared with the minigames, so the tournament's messages stay in order with theirs
+	public Lane timer;
 	public MiniGame currentGame;
+	ScoreStore scores;
 	int round;
 	int enhancements;
 	int minimumToQualify;
@@ -58,43 +55,23 @@ public class MinigameTournament
 		}
 	}
 
-	class MinigameTournamentThreadFactory implements ThreadFactory
-	{
-		@Override
-		public Thread newThread(Runnable r)
-		{
-			Thread newThread = new Thread(r);
-			newThread.setName(String.format("Minigame Tournament - %s", channel.getName()));
-			return newThread;
-		}
-	}
-	
 	public MinigameTournament(TextChannel channel, String[] record, TextChannel resultChannel)
 	{
 		status = TournamentStatus.LOADING;
 		this.channel = channel;
+		messages = MessageQueue.forChannel(channel);
 		this.resultChannel = resultChannel;
-		timer = new ScheduledThreadPoolExecutor(1, new MinigameTournamentThreadFactory());
+		timer = Lane.open(String.format("Minigame Tournament - %s", channel.getName()));
 		loadConfigFile();
 		botCount = Integer.parseInt(record[4]);
 		demoDelay = Integer.parseInt(record[5]);
 		if(botCount > 0 && demoDelay > 0)
 			timer.schedule(this::runDemo,demoDelay,TimeUnit.MINUTES);
-		//Create the savefile if it doesn't already exist
-		if(!Files.exists(Paths.get("scores","scores"+channel.getId()+".csv")))
-			try
-			{
-				Files.createFile(Paths.get("scores","scores"+channel.getId()+".csv"));
-			}
-			catch (IOException e1)
-			{
-				channel.sendMessage("Couldn't create savefile. Oops.").queue();
-				e1.printStackTrace();
-				return;
-			}
+		//Load the savefile (this will create it if it doesn't already exist)
+		scores = ScoreStore.forChannel(channel.getId());
 		//And declare ourselves open for business!
 		status = TournamentStatus.OPEN;
-		channel.sendMessage("Type !ready to play!").queue();
+		messages.send("Type !ready to play!");
 	}
 	
 	void loadConfigFile()
@@ -106,7 +83,7 @@ public class MinigameTournament
 		}
 		catch (IOException e)
 		{
-			channel.sendMessage("Failed to load Minigame Tournament configuration.").queue();
+			messages.send("Failed to load Minigame Tournament configuration.");
 			return;
 		}
 		round = Integer.parseInt(list.get(0));
@@ -132,7 +109,6 @@ public class MinigameTournament
 		//Okay, hold the status and let's find a bot
 		try
 		{
-			List<String> list = Files.readAllLines(Paths.get("scores","scores"+channel.getId()+".csv"));
 			status = TournamentStatus.PLAYING;
 			GameBot chosenBot;
 			boolean goodChoice = false;
@@ -143,21 +119,15 @@ public class MinigameTournament
 				nextBot ++;
 				chosenBot = new GameBot(channel.getGuild().getId(),nextBot);
 				//Search for the bot already in the savefile
-				boolean botFound = false;
-				for(String next : list)
+				String[] record = scores.getRecord(chosenBot.getBotID());
+				if(record != null)
 				{
-					String[] record = next.split("#");
-					if(chosenBot.getBotID().equals(record[0]))
-					{
-						botFound = true;
-						//Validate them if the last round they played was the round before this one and they earned enough to qualify
-						goodChoice = (Integer.parseInt(record[3]) == round-1) && (Integer.parseInt(record[2]) >= minimumToQualify);
-						botMoney = Integer.parseInt(record[2]);
-						break;
-					}
+					//Validate them if the last round they played was the round before this one and they earned enough to qualify
+					goodChoice = (Integer.parseInt(record[3]) == round-1) && (Integer.parseInt(record[2]) >= minimumToQualify);
+					botMoney = Integer.parseInt(record[2]);
 				}
 				//If we didn't find the bot, validate them if this is round 1
-				if(!botFound)
+				else
 				{
 					goodChoice = (round == 1);
 					botMoney = 0;
@@ -185,52 +155,38 @@ public class MinigameTournament
 	public void runHuman(Member member)
 	{
 		//Check their eligibility
-		try
+		status = TournamentStatus.PLAYING;
+		Player newPlayer = new Player(member);
+		String[] record = scores.getRecord(newPlayer.uID);
+		if(record != null)
 		{
-			List<String> list = Files.readAllLines(Paths.get("scores","scores"+channel.getId()+".csv"));
-			status = TournamentStatus.PLAYING;
-			Player newPlayer = new Player(member);
-			boolean playerFound = false;
-			for(String next : list)
+			//Confirm eligibility
+			int previousWinnings = Integer.parseInt(record[2]);
+			int lastPlayedRound = Integer.parseInt(record[3]);
+			if(lastPlayedRound == round)
 			{
-				String[] record = next.split("#");
-				if(newPlayer.uID.equals(record[0]))
-				{
-					playerFound = true;
-					//Confirm eligibility
-					int previousWinnings = Integer.parseInt(record[2]);
-					int lastPlayedRound = Integer.parseInt(record[3]);
-					if(lastPlayedRound == round)
-					{
-						channel.sendMessage("You have already played this round of the tournament.").queue();
-						status = TournamentStatus.OPEN;
-						return;
-					}
-					if(lastPlayedRound < round-1 || previousWinnings < minimumToQualify)
-					{
-						channel.sendMessage("You have been eliminated from the tournament.").queue();
-						status = TournamentStatus.OPEN;
-						return;
-					}
-					//Lock in their money
-					newPlayer.money = previousWinnings;
-					break;
-				}
+				messages.send("You have already played this round of the tournament.");
+				status = TournamentStatus.OPEN;
+				return;
 			}
-			//If we didn't find them, they only get to play if it's round 1
-			if(!playerFound && round > 1)
+			if(lastPlayedRound < round-1 || previousWinnings < minimumToQualify)
 			{
-				channel.sendMessage("You have been eliminated from the tournament.").queue();
+				messages.send("You have been eliminated from the tournament.");
 				status = TournamentStatus.OPEN;
 				return;
 			}
-			//We made it here, pass them on to play!
-			runTournamentRound(newPlayer);
+			//Lock in their money
+			newPlayer.money = previousWinnings;
 		}
-		catch(IOException e)
+		//If we didn't find them, they only get to play if it's round 1
+		else if(round > 1)
 		{
-			channel.sendMessage("Failed to load save file.").queue();
+			messages.send("You have been eliminated from the tournament.");
+			status = TournamentStatus.OPEN;
+			return;
 		}
+		//We made it here, pass them on to play!
+		runTournamentRound(newPlayer);
 	}
 	
 	void runTournamentRound(Player player)
@@ -247,7 +203,7 @@ public class MinigameTournament
 			if(player.isBot)
 				while(enhancedGames.size() < enhancements)
 				{
-					int selectedGame = (int)(Math.random()*minigameList.length);
+					int selectedGame = (int)(RtaBMath.random()*minigameList.length);
 					if(!minigameList[selectedGame].isBonus())
 						enhancedGames.add(selectedGame);
 				}
@@ -264,9 +220,9 @@ public class MinigameTournament
 						enhanceMessage.append(String.format("%d - %s: %s%n"
 								, i+1, minigameList[i].getName(), minigameList[i].getEnhanceText()));
 				enhanceMessage.append("```");
-				channel.sendMessage(enhanceMessage.toString()).queue();
+				messages.send(enhanceMessage.toString());
 				//And ask for their input
-				RaceToABillionBot.waiter.waitForEvent(MessageReceivedEvent.class,
+				RaceToABillionBot.waiter.waitForMessage(channel.getId(), player.uID,
 						//Right player and channel, they sent a valid choice
 						e ->
 								(e.getChannel().equals(channel) && e.getAuthor().equals(player.user)
@@ -279,8 +235,8 @@ public class MinigameTournament
 						},
 						120,TimeUnit.SECONDS, () ->
 						{
-							channel.sendMessage(player.getName() + 
-									" has gone missing. Resetting...").queue();
+							messages.send(player.getName() + 
+									" has gone missing. Resetting...");
 							status = TournamentStatus.OPEN;
 						});
 				return;
@@ -290,8 +246,8 @@ public class MinigameTournament
 		int pastWinnings = player.money;
 		int[] moneyWon = new int[minigameList.length];
 		//Start the first minigame
-		channel.sendMessage(player.getName() + ", let's begin!").queue();
-		try { Thread.sleep(2000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		messages.send(player.getName() + ", let's begin!");
+		Lane.pause(2000);
 		runNextTournamentMinigame(player, enhancedGames, pastWinnings, moneyWon, 0);
 	}
 	
@@ -321,21 +277,20 @@ public class MinigameTournament
 		boolean enhancedThisGame = enhancedGames.contains(gameNumber);
 		player.oldMoney = player.money; //We read this later to determine how much they won from this minigame
 		//Print the status display
-		try { Thread.sleep(2000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		Lane.pause(2000);
 		StringBuilder statusDisplay = new StringBuilder();
 		statusDisplay.append(String.format("**Game %d/%d: %s**%n", gameNumber+1, minigameList.length, game.getName()));
 		statusDisplay.append(String.format("Total Cash So Far: **$%,d**", player.money));
-		channel.sendMessage(statusDisplay.toString()).queue();
-		try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		messages.send(statusDisplay.toString());
+		Lane.pause(5000);
 		//Set up the thread for after the game ends
-		Thread postGame = new Thread(() -> {
+		Thread postGame = Lane.callback(String.format("Minigame Tournament - %s - %s", player.getName(),game.getName()), () -> {
 			//Update variables, then recurse to get to the next minigame
 			currentGame = null;
 			moneyWon[gameNumber] = player.money - player.oldMoney;
 			if(status != TournamentStatus.SHUTDOWN) //If we're shutting down, don't keep going wtf
 				runNextTournamentMinigame(player, enhancedGames, pastWinnings, moneyWon, gameNumber+1);
 		});
-		postGame.setName(String.format("Minigame Tournament - %s - %s", player.getName(),game.getName()));
 		currentGame = game.getGame();
 		currentGame.initialiseGame(channel, true, enhancedThisGame?2:1, 1, 1, Arrays.asList(player), 0, postGame, enhancedThisGame);
 	}
@@ -344,7 +299,7 @@ public class MinigameTournament
 	{
 		//Display result panel
 		String resultPanel = getResultPanel(player, enhancedGames, pastWinnings, moneyWon);
-		channel.sendMessage(resultPanel).queue();
+		messages.send(resultPanel);
 		if(resultChannel != null)
 			resultChannel.sendMessage(resultPanel).queue();
 		saveData(player);
@@ -376,42 +331,13 @@ public class MinigameTournament
 	
 	void saveData(Player player)
 	{
-		try
-		{
-			List<String> list = Files.readAllLines(Paths.get("scores","scores"+channel.getId()+".csv"));
-			//Find if they already exist in the savefile, and where
-			String[] record;
-			int location = -1;
-			for(int j=0; j<list.size(); j++)
-			{
-				record = list.get(j).split("#");
-				if(record[0].compareToIgnoreCase(player.uID) == 0)
-				{
-					location = j;
-					break;
-				}
-			}
-			StringBuilder toPrint = new StringBuilder();
-			toPrint.append(player.uID);
-			toPrint.append("#").append(player.getName());
-			toPrint.append("#").append(player.money);
-			toPrint.append("#").append(round);
-			//If they already exist in the savefile then replace their record, otherwise add them
-			if(location == -1)
-				list.add(toPrint.toString());
-			else
-				list.set(location,toPrint.toString());
-			//Then sort and rewrite the save file
-			list.sort(new DescendingScoreSorter());
-			Path file = Paths.get("scores","scores"+channel.getId()+".csv");
-			Path oldFile = Files.move(file, file.resolveSibling("scores"+channel.getId()+"old.csv"));
-			Files.write(file, list);
-			Files.delete(oldFile);
-		}
-		catch(IOException e)
-		{
-			channel.sendMessage("Could not save data in "+channel.getName()).queue();
-			e.printStackTrace();
-		}
+		StringBuilder toPrint = new StringBuilder();
+		toPrint.append(player.uID);
+		toPrint.append("#").append(player.getName());
+		toPrint.append("#").append(player.money);
+		toPrint.append("#").append(round);
+		//Replace their record if they're already on the scoreboard, otherwise add them
+		scores.putRecord(toPrint.toString());
+		JackpotRegistry.forChannel(channel.getId()).save();
 	}
 }
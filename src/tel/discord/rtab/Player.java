@@ -1,14 +1,12 @@
 package tel.discord.rtab;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.User;
@@ -26,6 +24,7 @@ public class Player
 	static final int MIN_BOOSTER =  10;
 	static final int MIN_WINSTREAK = 10;
 	static final int REQUIRED_STREAK_FOR_BONUS = 40;
+	static final Pattern NOT_ANNUITY_DATA = Pattern.compile("[^\\d,-]");
 	GameController game;
 	public User user;
 	public Member member;
@@ -69,7 +68,7 @@ public class Player
 	public LinkedList<Integer> safePeeks;
 	public LinkedList<Integer> allPeeks;
 	LinkedList<MutablePair<Integer,Integer>> annuities;
-	//Barebones constructor for pvp opponent bots
+	//Barebones constructor for pvp opponent bots (and players in simulated minigames)
 	public Player()
 	{
 		name = "PvP BOT";
@@ -78,6 +77,8 @@ public class Player
 		money = 0;
 		booster = 100;
 		winstreak = MIN_WINSTREAK;
+		annuities = new LinkedList<>();
+		games = new LinkedList<>();
 		enhancedGames = new ArrayList<>();
 	}
 	//Barebones constructor for bots in minigame tournament
@@ -182,85 +183,62 @@ public class Player
 		annuities = new LinkedList<>();
 		totalLivesSpent = 0;
 		enhancedGames = new ArrayList<>();
-		List<String> list;
-		try
+		/*
+		 * record format:
+		 * record[0] = uID
+		 * record[1] = name
+		 * record[2] = money
+		 * record[3] = booster
+		 * record[4] = winstreak
+		 * record[5] = newbieProtection
+		 * record[6] = lives
+		 * record[7] = time at which lives refill
+		 * record[8] = saved hidden command
+		 * record[9] = saved boost charge
+		 * record[10] = annuities
+		 * record[11] = total lives spent
+		 * record[12] = list of enhanced games
+		 */
+		String[] record = game.scores.getRecord(uID);
+		if(record != null)
 		{
-			list = Files.readAllLines(Paths.get("scores","scores"+game.channel.getId()+".csv"));
-		}
-		catch(IOException e)
-		{
-			System.out.println("No savefile found for "+game.channel.getName()+", creating.");
-			list = new LinkedList<>();
-			try
+			money = Integer.parseInt(record[2]);
+			booster = Integer.parseInt(record[3]);
+			winstreak = Integer.parseInt(record[4]);
+			newbieProtection = Integer.parseInt(record[5]);
+			lives = Integer.parseInt(record[6]);
+			lifeRefillTime = Instant.parse(record[7]);
+			hiddenCommand = HiddenCommand.valueOf(record[8]);
+			boostCharge = Integer.parseInt(record[9]);
+			//The annuities structure is more complicated, we can't just parse it in directly like the others
+			String savedAnnuities = record[10];
+			savedAnnuities = NOT_ANNUITY_DATA.matcher(savedAnnuities).replaceAll("");
+			String[] annuityList = savedAnnuities.split(",");
+			for (int j = 1; j < annuityList.length; j += 2)
+				annuities.add(MutablePair.of(Integer.parseInt(annuityList[j - 1]), Integer.parseInt(annuityList[j])));
+			//Then enhanced game list is somewhat similar
+			if(record.length > 11) //Old savegame compatibility
 			{
-				Files.createFile(Paths.get("scores","scores"+game.channel.getId()+".csv"));
+				totalLivesSpent = Integer.parseInt(record[11]);
+				String savedEnhancedGames = record[12].substring(1, record[12].length() - 1); //Remove the brackets
+				String[] enhancedList = savedEnhancedGames.split(",");
+				if(!enhancedList[0].isEmpty())
+					for (String s : enhancedList)
+						//Load in all their enhanced games - if for whatever reason a game doesn't exist, forget about it
+						try { enhancedGames.add(Game.valueOf(s.trim())); } catch(IllegalArgumentException e) { }
 			}
-			catch (IOException e1)
+			//If we're short on lives and we've passed the refill time, restock them
+			//Or if we still have lives but it's been 20 hours since we lost any, give an extra
+			while (lifeRefillTime.isBefore(Instant.now()))
 			{
-				System.err.println("Couldn't create it either. Oops.");
-				e1.printStackTrace();
-				return;
+				game.lockoutList.remove(uID);
+				if (lives < game.maxLives)
+					lives = game.maxLives;
+				else
+					lives++;
+				lifeRefillTime = lifeRefillTime.plusSeconds(72000);
 			}
 		}
-		String[] record;
-        for (String value : list) {
-            /*
-             * record format:
-             * record[0] = uID
-             * record[1] = name
-             * record[2] = money
-             * record[3] = booster
-             * record[4] = winstreak
-             * record[5] = newbieProtection
-             * record[6] = lives
-             * record[7] = time at which lives refill
-             * record[8] = saved hidden command
-             * record[9] = saved boost charge
-             * record[10] = annuities
-             * record[11] = total lives spent
-             * record[12] = list of enhanced games
-             */
-            record = value.split("#");
-            if (record[0].equals(uID)) {
-                money = Integer.parseInt(record[2]);
-                booster = Integer.parseInt(record[3]);
-                winstreak = Integer.parseInt(record[4]);
-                newbieProtection = Integer.parseInt(record[5]);
-                lives = Integer.parseInt(record[6]);
-                lifeRefillTime = Instant.parse(record[7]);
-                hiddenCommand = HiddenCommand.valueOf(record[8]);
-                boostCharge = Integer.parseInt(record[9]);
-                //The annuities structure is more complicated, we can't just parse it in directly like the others
-                String savedAnnuities = record[10];
-                savedAnnuities = savedAnnuities.replaceAll("[^\\d,-]", "");
-                String[] annuityList = savedAnnuities.split(",");
-                for (int j = 1; j < annuityList.length; j += 2)
-                    annuities.add(MutablePair.of(Integer.parseInt(annuityList[j - 1]), Integer.parseInt(annuityList[j])));
-                //Then enhanced game list is somewhat similar
-                if (record.length > 11) //Old savegame compatibility
-                {
-                    totalLivesSpent = Integer.parseInt(record[11]);
-                    String savedEnhancedGames = record[12].substring(1, record[12].length() - 1); //Remove the brackets
-                    String[] enhancedList = savedEnhancedGames.split(",");
-                    if (!enhancedList[0].isEmpty())
-                        for (String s : enhancedList)
-                        	//Load in all their enhanced games - if for whatever reason a game doesn't exist, forget about it
-                        	try { enhancedGames.add(Game.valueOf(s.trim())); } catch(IllegalArgumentException e) { }
-                }
-                //If we're short on lives and we've passed the refill time, restock them
-                //Or if we still have lives but it's been 20 hours since we lost any, give an extra
-                while (lifeRefillTime.isBefore(Instant.now()))
-                {
-                	game.lockoutList.remove(uID);
-                    if (lives < game.maxLives)
-                        lives = game.maxLives;
-                    else
-                        lives++;
-                    lifeRefillTime = lifeRefillTime.plusSeconds(72000);
-                }
-                break;
-            }
-        }
 		oldMoney = money;
 		originalMoney = money;
 		currentCashClub = money/100_000_000;
@@ -323,7 +301,7 @@ public class Player
 		{
 			excessBoost = game.applyBaseMultiplier(10000) * (booster - MAX_BOOSTER);
 			addMoney(excessBoost, MoneyMultipliersToUse.NOTHING);
-			game.channel.sendMessage(String.format("Excess boost converted to **$%,d**!",excessBoost)).queue();
+			game.messages.send(String.format("Excess boost converted to **$%,d**!",excessBoost));
 			booster = MAX_BOOSTER;
 		}
 		if(booster < MIN_BOOSTER && game != null)
@@ -331,7 +309,7 @@ public class Player
 			excessBoost = game.applyBaseMultiplier(10000) * (booster - MIN_BOOSTER);
 			addMoney(excessBoost, MoneyMultipliersToUse.NOTHING);
 			booster = MIN_BOOSTER;
-			game.channel.sendMessage(String.format("Excess boost converted to **-$%,d**.",Math.abs(excessBoost))).queue();
+			game.messages.send(String.format("Excess boost converted to **-$%,d**.",Math.abs(excessBoost)));
 		}
 	}
 	public void addGame(Game game)
@@ -384,7 +362,7 @@ public class Player
 			int excessStreak = game.applyBaseMultiplier(100_000) * (winstreak - MIN_WINSTREAK);
 			addMoney(excessStreak, MoneyMultipliersToUse.NOTHING);
 			winstreak = MIN_WINSTREAK;
-			game.channel.sendMessage(String.format("Excess streak converted to **-$%,d**.",Math.abs(excessStreak))).queue();
+			game.messages.send(String.format("Excess streak converted to **-$%,d**.",Math.abs(excessStreak)));
 		}
 		//Check for bonus games
 		if(game != null && game.doBonusGames)
@@ -396,23 +374,23 @@ public class Player
 				{
 					switch (i) {
 						case REQUIRED_STREAK_FOR_BONUS -> {
-							game.channel.sendMessage("Bonus game unlocked!").queue();
+							game.messages.send("Bonus game unlocked!");
 							addGame(Game.GLOBETROTTER);
 						}
 						case REQUIRED_STREAK_FOR_BONUS * 2 -> {
-							game.channel.sendMessage("Bonus game unlocked!").queue();
+							game.messages.send("Bonus game unlocked!");
 							addGame(Game.DIGITAL_FORTRESS);
 						}
 						case REQUIRED_STREAK_FOR_BONUS * 3 -> {
-							game.channel.sendMessage("Bonus game unlocked!").queue();
+							game.messages.send("Bonus game unlocked!");
 							addGame(Game.SPECTRUM);
 						}
 						case REQUIRED_STREAK_FOR_BONUS * 4 -> {
-							game.channel.sendMessage("Bonus game unlocked!").queue();
+							game.messages.send("Bonus game unlocked!");
 							addGame(Game.HYPERCUBE);
 						}
 						default -> {
-							game.channel.sendMessage("Bonus game unlocked!").queue();
+							game.messages.send("Bonus game unlocked!");
 							addGame(Game.RACE_DEAL);
 						}
 					}
@@ -453,7 +431,7 @@ public class Player
 		{
 			penalty *= 4;
 			if(penalty != 0)
-				game.channel.sendMessage(String.format("Threshold Situation: Penalty multiplied to **$%,d**.",Math.abs(penalty))).queue();
+				game.messages.send(String.format("Threshold Situation: Penalty multiplied to **$%,d**.",Math.abs(penalty)));
 		}
 		//Set their refill time if this is their first life lost, then dock it if they aren't in newbie protection
 		if(newbieProtection <= 0)
@@ -462,8 +440,8 @@ public class Player
 				lifeRefillTime = Instant.now().plusSeconds(72000);
 			if(lives == 1 && !isBot && game.lifePenalty != LifePenaltyType.NONE)
 			{
-				game.channel.sendMessage(getSafeMention() + ", you are out of lives. "
-						+ "Further games today will incur an entry fee.").queue();
+				game.messages.send(getSafeMention() + ", you are out of lives. "
+						+ "Further games today will incur an entry fee.");
 			}
 			if(lives > 0 || game.lifePenalty == LifePenaltyType.NONE)
 				totalLivesSpent ++;
@@ -475,9 +453,8 @@ public class Player
 		if(splitAndShare)
 		{
 			int moneyLost = game.applyBankPercentMultiplier(money/50);
-			game.channel.sendMessage("Because " + getSafeMention() + " had a split and share, "
-					+ String.format("$%,d will be given to each living player.",moneyLost))
-					.queueAfter(1,TimeUnit.SECONDS);
+			game.messages.sendAfter("Because " + getSafeMention() + " had a split and share, "
+					+ String.format("$%,d will be given to each living player.",moneyLost), 1, TimeUnit.SECONDS);
 			addMoney(-1*moneyLost*(game.playersAlive+game.earlyWinners),MoneyMultipliersToUse.NOTHING);
 			//Pass the money back to other living players
 			for(Player nextPlayer : game.players)
@@ -488,8 +465,8 @@ public class Player
 		{
 			//get mini split-and-shared loser
 			int moneyLost = game.applyBankPercentMultiplier(money/50);
-			game.channel.sendMessage("Adding insult to injury, "+getSafeMention()+" was struck by lightning! "
-					+ String.format("$%,d fell out and was split between the other players.",moneyLost)).queueAfter(1,TimeUnit.SECONDS);
+			game.messages.sendAfter("Adding insult to injury, "+getSafeMention()+" was struck by lightning! "
+					+ String.format("$%,d fell out and was split between the other players.",moneyLost), 1, TimeUnit.SECONDS);
 			addMoney(-1*moneyLost,MoneyMultipliersToUse.NOTHING);
 			//We divide by the remaining playercount rather than multiplying
 			moneyLost /= (game.playersAlive + game.earlyWinners);
@@ -521,9 +498,9 @@ public class Player
 		//Dumb easter egg
 		if(money <= -1000000000)
 		{
-			game.channel.sendMessage("I'm impressed, "
-					+ "but no you don't get anything special for getting your score this low.").queue();
-			game.channel.sendMessage("See you next season!").queueAfter(1,TimeUnit.SECONDS);
+			game.messages.send("I'm impressed, "
+					+ "but no you don't get anything special for getting your score this low.");
+			game.messages.sendAfter("See you next season!", 1, TimeUnit.SECONDS);
 		}
 		return output;
 	}
@@ -556,7 +533,7 @@ public class Player
 		for(int bomb : knownBombs)
 		{
 			result.append(" ");
-			result.append(String.format(game.pickedSpaces[bomb]?"%02d":"**%02d**",bomb+1));
+			result.append(String.format(game.pickedSpaces.get(bomb)?"%02d":"**%02d**",bomb+1));
 		}
 		return result.toString();
 	}
@@ -569,7 +546,7 @@ public class Player
 		for(int peek : allPeeks)
 		{
 			result.append(" ");
-			result.append(String.format(game.pickedSpaces[peek]?"%02d":"**%02d**",peek+1));
+			result.append(String.format(game.pickedSpaces.get(peek)?"%02d":"**%02d**",peek+1));
 		}
 		if(peeks > 0)
 			result.append(String.format(" (+%d unused)", peeks));
@@ -1,16 +1,11 @@
 package tel.discord.rtab;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.LinkedList;
-import java.util.List;
 
 public class PlayerLevel
 {
 	String guildID, playerID, name;
-	int playerLevel, championLevel, achievementLevel, recordRow;
+	int playerLevel, championLevel, achievementLevel;
 	long playerXP, champXP;
 	
 	public PlayerLevel(String guildID, String playerID, String name)
@@ -24,55 +19,33 @@ public class PlayerLevel
 		achievementLevel = 0;
 		playerXP = 0;
 		champXP = 0;
-		recordRow = -1;
 		//Try and load their current levels
-		List<String> list;
-		try
+		/*
+		 * record format:
+		 * record[0] = uID
+		 * record[1] = name
+		 * record[2] = player level
+		 * record[3] = player level xp
+		 * record[4] = champion level
+		 * record[5] = champion level xp
+		 * record[6] = achievement level
+		 */
+		String[] record = getLevelTable(guildID).get(playerID);
+		if(record != null)
 		{
-			list = Files.readAllLines(Paths.get("levels","levels"+guildID+".csv"));
-		}
-		catch(IOException e)
-		{
-			System.out.println("No savefile found for "+guildID+", creating.");
-			list = new LinkedList<>();
-			try
-			{
-				Files.createFile(Paths.get("levels","levels"+guildID+".csv"));
-			}
-			catch (IOException e1)
-			{
-				System.err.println("Couldn't create it either. Oops.");
-				e1.printStackTrace();
-				return;
-			}
-		}
-		String[] record;
-		for(int i=0; i<list.size(); i++)
-		{
-			/*
-			 * record format:
-			 * record[0] = uID
-			 * record[1] = name
-			 * record[2] = player level
-			 * record[3] = player level xp
-			 * record[4] = champion level
-			 * record[5] = champion level xp
-			 * record[6] = achievement level
-			 */
-			record = list.get(i).split("#");
-			if(record[0].equals(playerID))
-			{
-				recordRow = i;
-				playerLevel = Integer.parseInt(record[2]);
-				playerXP = Long.parseLong(record[3]);
-				championLevel = Integer.parseInt(record[4]);
-				champXP = Long.parseLong(record[5]);
-				achievementLevel = Integer.parseInt(record[6]);
-				break; //We found the player we're done here
-			}
+			playerLevel = Integer.parseInt(record[2]);
+			playerXP = Long.parseLong(record[3]);
+			championLevel = Integer.parseInt(record[4]);
+			champXP = Long.parseLong(record[5]);
+			achievementLevel = Integer.parseInt(record[6]);
 		}
 	}
 	
+	static JournaledTable getLevelTable(String guildID)
+	{
+		return JournaledTable.open(Paths.get("levels","levels"+guildID+".csv"));
+	}
+	
 	public boolean saveLevel()
 	{
 		StringBuilder toPrint = new StringBuilder();
@@ -83,24 +56,8 @@ public class PlayerLevel
 		toPrint.append("#").append(championLevel);
 		toPrint.append("#").append(champXP);
 		toPrint.append("#").append(achievementLevel);
-		try
-		{
-			Path file = Paths.get("levels","levels"+guildID+".csv");
-			List<String> list = Files.readAllLines(file);
-			if(recordRow == -1)
-				list.add(toPrint.toString());
-			else
-				list.set(recordRow, toPrint.toString());
-			Path oldFile = Files.move(file, file.resolveSibling("levels"+guildID+"old.csv"));
-			Files.write(file, list);
-			Files.delete(oldFile);
-			return true;
-		}
-		catch(IOException e)
-		{
-			System.err.println("Could not save level data.");
-			return false;
-		}
+		getLevelTable(guildID).put(toPrint.toString());
+		return true;
 	}
 	
 	//Getters
@@ -4,16 +4,21 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.security.auth.login.LoginException;
 
 import com.jagrosh.jdautilities.command.CommandClient;
 import com.jagrosh.jdautilities.command.CommandClientBuilder;
-import com.jagrosh.jdautilities.commons.waiter.EventWaiter;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.JDABuilder;
 import net.dv8tion.jda.api.OnlineStatus;
@@ -28,22 +33,25 @@ import tel.discord.rtab.commands.*;
 import tel.discord.rtab.commands.channel.*;
 import tel.discord.rtab.commands.hidden.*;
 import tel.discord.rtab.commands.mod.*;
-import tel.discord.rtab.games.MiniGame;
 
 public class RaceToABillionBot
 {
 	static JDA betterBot;
 	static CommandClient commands;
-	public static EventWaiter waiter;
-	public static List<GameController> game = new ArrayList<>(5);
-	public static List<SuperBotChallenge> challenge = new ArrayList<>(1);
-	public static List<MinigameTournament> tournament = new ArrayList<>(1);
-	public static List<MiniGame> minigame = new ArrayList<>(10);
+	public static EventRouter waiter;
 	public static int testMinigames = 0;
 	public static List<String> testMinigamePlayers = new LinkedList<>();
 	static boolean RUN_GAMES = true; //disable this and the bot won't connect to game channels
+	static final int WARM_UP_THREADS = 4; //How many guilds or channels can be set up at once
+	static volatile boolean warmingUp = false;
+	static volatile int guildsToLoad = 0;
+	static final AtomicInteger guildsLoaded = new AtomicInteger();
+	static final AtomicInteger channelsToConnect = new AtomicInteger();
+	static final AtomicInteger channelsConnected = new AtomicInteger();
+	//Channels being set up right now, so a command (eg. !enable) and the warm-up threads can't both set up the same one
+	static final Set<String> channelsConnecting = ConcurrentHashMap.newKeySet();
 	
-	static class EventWaiterThreadFactory implements ThreadFactory
+	static class WarmUpThreadFactory implements ThreadFactory
 	{
 		int nextID = 0;
 		@Override
@@ -51,7 +59,20 @@ public class RaceToABillionBot
 		{
 			Thread newThread = new Thread(r);
 			nextID ++;
-			newThread.setName("Event Waiter Thread "+nextID);
+			newThread.setName("Warm Up Thread "+nextID);
+			return newThread;
+		}
+	}
+	
+	static class EventRouterThreadFactory implements ThreadFactory
+	{
+		int nextID = 0;
+		@Override
+		public Thread newThread(Runnable r)
+		{
+			Thread newThread = new Thread(r);
+			nextID ++;
+			newThread.setName("Event Router Thread "+nextID);
 			return newThread;
 		}
 	}
@@ -66,6 +87,9 @@ public class RaceToABillionBot
 	 */
 	public static void main(String[] args) throws IOException, LoginException, InterruptedException
 	{
+		//Before anything gets loaded, tidy up after any saves that were cut off last time
+		for(String next : new String[] {"guilds","levels","scores"})
+			SaveFile.recover(Paths.get(next));
 		//Read initial config file to get important things
 		List<String> list = Files.readAllLines(Paths.get("config.txt"));
 		String token = list.get(0);
@@ -111,7 +135,7 @@ public class RaceToABillionBot
 		JDABuilder prepareBot = JDABuilder.createDefault(token);
 		prepareBot.enableIntents(GatewayIntent.MESSAGE_CONTENT);
 		commands = utilities.build();
-		waiter = new EventWaiter(Executors.newScheduledThreadPool(4, new EventWaiterThreadFactory()),true);
+		waiter = new EventRouter(Executors.newScheduledThreadPool(4, new EventRouterThreadFactory()));
 		prepareBot.addEventListeners(waiter,commands); //This order is actually important lol
 		betterBot = prepareBot.build();
 		//Once the bot is ready, move on to setting up game controllers
@@ -124,41 +148,99 @@ public class RaceToABillionBot
 	/**
 	 * Run through each guild the bot is connected to, check its settings file, and send channels to <code>connectToChannel</code>.
 	 */
-	public static void scanGuilds()
+	public static synchronized boolean scanGuilds()
 	{
+		if(warmingUp)
+			return false;
+		warmingUp = true;
 		//Get all the guilds we're in
 		List<Guild> guildList = betterBot.getGuilds();
 		System.out.println(guildList);
-		//For each guild, get that guild's settings file and set up channels accordingly
-		int channelsNotFound = 0;
+		guildsToLoad = guildList.size();
+		guildsLoaded.set(0);
+		channelsToConnect.set(0);
+		channelsConnected.set(0);
+		//Each guild's settings file is read, and then each of its channels set up, alongside everything else
+		ExecutorService warmUp = Executors.newFixedThreadPool(WARM_UP_THREADS, new WarmUpThreadFactory());
+		AtomicInteger channelsNotFound = new AtomicInteger();
+		List<CompletableFuture<Void>> guildTasks = new ArrayList<>(guildList.size());
 		for(Guild guild : guildList)
+			guildTasks.add(CompletableFuture.supplyAsync(() -> loadGuild(guild), warmUp).thenCompose(channels ->
+			{
+				List<CompletableFuture<Void>> channelTasks = new ArrayList<>(channels.size());
+				for(String[] nextChannel : channels)
+					channelTasks.add(CompletableFuture.runAsync(() ->
+					{
+						try
+						{
+							if(!connectToChannel(guild, nextChannel))
+								channelsNotFound.incrementAndGet();
+						}
+						catch(Exception e)
+						{
+							System.err.println("Couldn't connect to channel "+nextChannel[0]+".");
+							e.printStackTrace();
+						}
+						channelsConnected.incrementAndGet();
+					}, warmUp));
+				return CompletableFuture.allOf(channelTasks.toArray(new CompletableFuture<?>[0]));
+			}));
+		CompletableFuture.allOf(guildTasks.toArray(new CompletableFuture<?>[0])).whenComplete((result, error) ->
+		{
+			warmUp.shutdown();
+			if(error != null)
+				error.printStackTrace();
+			System.out.println(channelsNotFound + " channels not found.");
+			warmingUp = false;
+		});
+		return true;
+	}
+	
+	//Returns the guild's channels, ready to be connected to
+	private static List<String[]> loadGuild(Guild guild)
+	{
+		List<String[]> channels = Collections.emptyList();
+		try
 		{
+			channels = GuildSettings.forGuild(guild.getId()).getChannels();
+		}
+		catch(IOException e)
+		{
+			System.out.println("No settings file found for "+guild.getName()+", creating.");
 			try
 			{
-				List<String> list = Files.readAllLines(Paths.get("guilds","guild"+guild.getId()+".csv"));
-				for(String nextChannel : list)
-					if(!connectToChannel(guild, nextChannel))
-						channelsNotFound ++;
+				Files.createFile(Paths.get("guilds","guild"+guild.getId()+".csv"));
 			}
-			catch(IOException e)
+			catch (IOException e1)
 			{
-				System.out.println("No settings file found for "+guild.getName()+", creating.");
-				try
-				{
-					Files.createFile(Paths.get("guilds","guild"+guild.getId()+".csv"));
-				}
-				catch (IOException e1)
-				{
-					System.err.println("Couldn't create it either. Oops.");
-					e1.printStackTrace();
-				}
+				System.err.println("Couldn't create it either. Oops.");
+				e1.printStackTrace();
 			}
 		}
-		System.out.println(channelsNotFound + " channels not found.");
+		channelsToConnect.addAndGet(channels.size());
+		guildsLoaded.incrementAndGet();
+		return channels;
+	}
+	
+	/**
+	 * @return Whether every guild and channel has been set up since the bot started (or was last reconnected)
+	 */
+	public static boolean isReady()
+	{
+		return !warmingUp;
+	}
+	
+	/**
+	 * @return How far through setting up guilds and channels we are, eg. "12/12 guilds loaded, 20/31 channels connected"
+	 */
+	public static String getReadiness()
+	{
+		return String.format("%d/%d guilds loaded, %d/%d channels connected",
+				guildsLoaded.get(), guildsToLoad, channelsConnected.get(), channelsToConnect.get());
 	}
 	
 	//Return false if the channel couldn't be found
-	public static boolean connectToChannel(Guild guild, String channelString)
+	public static boolean connectToChannel(Guild guild, String[] record)
 	{
 		/*
 		 * Guild settings file format:
@@ -166,7 +248,6 @@ public class RaceToABillionBot
 		 * record[1] = enabled
 		 * record[2] = result channel ID
 		 */
-		String[] record = channelString.split("#");
 		//Make sure the channel actually exists
 		String channelID = record[0];
 		TextChannel gameChannel = guild.getTextChannelById(channelID);
@@ -182,37 +263,57 @@ public class RaceToABillionBot
 			return false;
 		if(resultChannel != null && !selfMember.hasPermission(resultChannel, Permission.MESSAGE_SEND))
 			resultChannel = null;
+		//If something's already running here (we're reconnecting), or it's being set up elsewhere, leave it be
+		if(!channelsConnecting.add(channelID))
+			return true;
+		try
+		{
+			if(!ControllerRegistry.isConnected(channelID))
+				initialiseChannel(guild, record, gameChannel, resultChannel);
+		}
+		finally
+		{
+			channelsConnecting.remove(channelID);
+		}
+		return true;
+	}
+	
+	private static void initialiseChannel(Guild guild, String[] record, TextChannel gameChannel, TextChannel resultChannel)
+	{
+		String channelID = record[0];
 		//Check the channel's enabled status to pass off to the appropriate handler to initialise the channel
 		switch (record[1].toLowerCase()) {
 			case "sbc" -> {
+				//The challenge is filed under its channel, so it has to be initialised before it's added
 				SuperBotChallenge challengeHandler = new SuperBotChallenge();
-				challenge.add(challengeHandler);
-				game.add(challengeHandler.initialise(gameChannel, record, resultChannel));
+				GameController challengeGame = challengeHandler.initialise(gameChannel, record, resultChannel);
+				ControllerRegistry.addChallenge(challengeHandler);
+				ControllerRegistry.addGame(challengeGame);
 			}
 			case "minigame" -> {
-				tournament.add(new MinigameTournament(gameChannel, record, resultChannel));
+				ControllerRegistry.addTournament(new MinigameTournament(gameChannel, record, resultChannel));
 			}
 			case "enabled" -> {
 				GameController newGame = new GameController(gameChannel, record, resultChannel);
 				if (newGame.initialised())
-					game.add(newGame);
+				{
+					ControllerRegistry.addGame(newGame);
+					//Let it know when its settings change, so they can be picked up without disabling the channel
+					try
+					{
+						GuildSettings.forGuild(guild.getId()).watchChannel(channelID, newGame::updateSettings);
+					}
+					catch(IOException e)
+					{
+						e.printStackTrace();
+					}
+				}
 				else
 					newGame.timer.shutdownNow();
 			}
 			default -> {
 			} //most likely "disabled" - do nothing
 		}
-		return true;
-	}
-	
-	synchronized public static void addMinigame(MiniGame gameToAdd)
-	{
-		minigame.add(gameToAdd);
-	}
-	
-	synchronized public static void removeMinigame(MiniGame gameToRemove)
-	{
-		minigame.remove(gameToRemove);
 	}
 	
 	public static void shutdown(boolean restart)
@@ -224,28 +325,26 @@ public class RaceToABillionBot
 			betterBot.getPresence().setActivity(Activity.playing("Shutting Down..."));
 		}
 		//oh to be President Madagascar
-		for(GameController game : game)
+		for(GameController game : ControllerRegistry.getGames())
 		{
 			game.channel.sendMessage("Shutting down...").queue();
-			game.timer.purge();
 			game.timer.shutdownNow();
 		}
-		for(SuperBotChallenge challenge : challenge)
+		for(SuperBotChallenge challenge : ControllerRegistry.getChallenges())
 		{
-			challenge.timer.purge();
 			challenge.timer.shutdownNow();
 		}
-		for(MinigameTournament tournament : tournament)
+		for(MinigameTournament tournament : ControllerRegistry.getTournaments())
 		{
-			tournament.timer.purge();
 			tournament.timer.shutdownNow();
 			tournament.status = TournamentStatus.SHUTDOWN;
 		}
-		for(MiniGame minigame : minigame)
-		{
-			minigame.shutdown();
-		}
-		minigame.clear();
+		ControllerRegistry.shutdownMinigames();
+		//Make sure every savefile is fully written out before we go
+		SaveBatch.finishWrites();
+		JackpotRegistry.saveAll();
+		ScoreStore.saveAll();
+		JournaledTable.saveAll();
 		betterBot.shutdown();
 		if(restart)
 		{
@@ -1,8 +1,13 @@
 package tel.discord.rtab;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
 import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
 
 public final class RtaBMath
 {
@@ -96,11 +101,112 @@ public final class RtaBMath
 		return adjacentSpaces;
 	}
 
-	static RandomGenerator r;
-	public static synchronized double random() //lol thread safety
+	/*
+	 * Random numbers come from whichever stream is in use on this thread: each lane has its own (split from the one that
+	 * was in use when it was opened, so minigames follow on from their game), as does each simulation.
+	 * Anything running outside of those gets a stream for its thread, so nothing ever has to wait on anything else.
+	 */
+	static final String ALGORITHM = "L128X1024MixRandom";
+	private static final SplittableGenerator rootStream = SplittableGenerator.of(ALGORITHM);
+	private static final ThreadLocal<SplittableGenerator> currentStream = new ThreadLocal<>();
+	private static final ThreadLocal<SplittableGenerator> threadStream = ThreadLocal.withInitial(RtaBMath::splitRootStream);
+	
+	static synchronized SplittableGenerator splitRootStream()
+	{
+		return rootStream.split();
+	}
+	
+	static SplittableGenerator getStream()
+	{
+		SplittableGenerator stream = currentStream.get();
+		return stream != null ? stream : threadStream.get();
+	}
+	
+	public static double random()
+	{
+		return getStream().nextDouble();
+	}
+	
+	/**
+	 * Shuffles a list using the current random stream (use this instead of Collections.shuffle()).
+	 */
+	public static <T> void shuffle(List<T> list)
 	{
-		if(r == null)
-			r = RandomGenerator.of("L128X1024MixRandom");
-		return r.nextDouble();
+		RandomGenerator stream = getStream();
+		if(list instanceof RandomAccess)
+		{
+			for(int i=list.size()-1; i>0; i--)
+				Collections.swap(list, i, stream.nextInt(i+1));
+			return;
+		}
+		//Shuffle a copy instead of walking up and down a linked list, then write it back
+		List<T> copy = new ArrayList<>(list);
+		shuffle(copy);
+		ListIterator<T> iterator = list.listIterator();
+		for(T next : copy)
+		{
+			iterator.next();
+			iterator.set(next);
+		}
+	}
+
+	/**
+	 * Shuffles the first few entries of an array using the current random stream, the same way as shuffle(List).
+	 */
+	public static void shuffle(byte[] values, int length)
+	{
+		RandomGenerator stream = getStream();
+		for(int i=length-1; i>0; i--)
+		{
+			int swap = stream.nextInt(i+1);
+			byte temp = values[i];
+			values[i] = values[swap];
+			values[swap] = temp;
+		}
+	}
+
+	/**
+	 * @return A new random stream that will always produce the same numbers for the same seed
+	 */
+	public static SplittableGenerator newStream(long seed)
+	{
+		return (SplittableGenerator)RandomGeneratorFactory.of(ALGORITHM).create(seed);
+	}
+	
+	/**
+	 * @return A new random stream split off from the current one, for handing to something that will run separately
+	 */
+	public static SplittableGenerator splitStream()
+	{
+		return getStream().split();
+	}
+	
+	/**
+	 * @return A seed drawn from the current stream, for starting a new stream that can be replayed later
+	 */
+	public static long newSeed()
+	{
+		return getStream().nextLong();
+	}
+	
+	/**
+	 * Runs a task with random numbers drawn from the given stream, then goes back to the previous one.
+	 * Streams aren't thread-safe, so a stream should only ever be in use by one task at a time.
+	 */
+	public static void withStream(SplittableGenerator stream, Runnable task)
+	{
+		SplittableGenerator previous = currentStream.get();
+		currentStream.set(stream);
+		try
+		{
+			task.run();
+		}
+		finally
+		{
+			if(previous == null)
+				currentStream.remove();
+			else
+				currentStream.set(previous);
+		}
 	}
 }
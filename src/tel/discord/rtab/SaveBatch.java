@@ -0,0 +1,119 @@
+package tel.discord.rtab;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Collects the saves made while a task runs (eg. the end of a round: scores, levels, achievements, bounties)
+ * and writes them out afterwards in one go per file, on a lane of its own, so the game doesn't wait on the disk.
+ * Changes to the in-memory tables still happen straight away, so anything reading them during the task sees them -
+ * it's only the journal writes that are held back, and those are merged into a single write for each journal.
+ * A journal written to directly before the batch gets there writes out the batch's entries first, so nothing is
+ * ever journaled out of order.
+ */
+public class SaveBatch
+{
+	private static final ThreadLocal<SaveBatch> current = new ThreadLocal<>();
+	static final Lane writer = Lane.openShared("Save Batch Writer");
+	private final Set<SaveJournal> journals = new LinkedHashSet<>();
+	private final Map<Object,Runnable> fileWrites = new LinkedHashMap<>();
+
+	private SaveBatch() {}
+
+	/**
+	 * Runs a task, holding back its saves until it's done and then handing them all to the writer.
+	 * If a batch is already open on this thread, the task's saves just join that one.
+	 */
+	public static void run(Runnable task)
+	{
+		if(current.get() != null)
+		{
+			task.run();
+			return;
+		}
+		SaveBatch batch = new SaveBatch();
+		current.set(batch);
+		try
+		{
+			task.run();
+		}
+		finally
+		{
+			current.remove();
+			batch.commit();
+		}
+	}
+
+	static SaveBatch current()
+	{
+		return current.get();
+	}
+
+	void addJournal(SaveJournal journal)
+	{
+		journals.add(journal);
+	}
+
+	/**
+	 * Writes a whole file, in the current batch if there is one (in which case only the last write for each key is kept),
+	 * or straight away if not. The write should work from a copy of the data, as it may run later on another thread.
+	 * @param key What's being written (eg. the file's path)
+	 * @param write The write itself
+	 */
+	public static void writeFile(Object key, Runnable write)
+	{
+		SaveBatch batch = current.get();
+		if(batch == null)
+			write.run();
+		else
+			batch.fileWrites.put(key, write);
+	}
+
+	/**
+	 * Waits for every batch handed to the writer so far to be written out, for use when shutting down.
+	 */
+	public static void finishWrites()
+	{
+		try
+		{
+			writer.schedule(() -> {}, 0, TimeUnit.MILLISECONDS).get(30, TimeUnit.SECONDS);
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+		catch(ExecutionException | TimeoutException e)
+		{
+			System.err.println("Batched saves didn't finish.");
+			e.printStackTrace();
+		}
+	}
+
+	private void commit()
+	{
+		if(journals.isEmpty() && fileWrites.isEmpty())
+			return;
+		writer.execute(() ->
+		{
+			for(SaveJournal next : journals)
+				next.flush();
+			for(Runnable next : fileWrites.values())
+			{
+				try
+				{
+					next.run();
+				}
+				catch(Exception e)
+				{
+					System.err.println("Batched save failed.");
+					e.printStackTrace();
+				}
+			}
+		});
+	}
+}
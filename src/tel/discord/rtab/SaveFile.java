@@ -0,0 +1,122 @@
+package tel.discord.rtab;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes savefiles so that a crash at any point leaves either the old version or the new one, never half of one
+ * (and never no file at all): the new version is written to a temporary file beside it and flushed to disk,
+ * then swapped in with a single atomic move.
+ */
+public final class SaveFile
+{
+	static final String TEMP_SUFFIX = ".tmp";
+	static final String OLD_SUFFIX = "old.csv";
+
+	private SaveFile()
+	{
+		throw new java.lang.UnsupportedOperationException("This is a utility class and cannot be instantiated.");
+	}
+
+	/**
+	 * Replaces a file with the given lines, the same way Files.write() would lay them out.
+	 */
+	public static void write(Path file, List<String> lines) throws IOException
+	{
+		StringBuilder contents = new StringBuilder();
+		for(String next : lines)
+			contents.append(next).append(System.lineSeparator());
+		writeString(file, contents.toString());
+	}
+
+	public static void writeString(Path file, String contents) throws IOException
+	{
+		write(file, contents.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static void write(Path file, byte[] contents) throws IOException
+	{
+		Path tempFile = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+		try(FileChannel channel = FileChannel.open(tempFile,
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))
+		{
+			ByteBuffer buffer = ByteBuffer.wrap(contents);
+			while(buffer.hasRemaining())
+				channel.write(buffer);
+			channel.force(true);
+		}
+		try
+		{
+			Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch(AtomicMoveNotSupportedException e)
+		{
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+		syncDirectory(file.toAbsolutePath().getParent());
+	}
+
+	/**
+	 * Makes sure a move into the directory has made it to disk, not just the file's contents.
+	 */
+	static void syncDirectory(Path directory)
+	{
+		try(FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ))
+		{
+			channel.force(true);
+		}
+		catch(IOException e)
+		{
+			//Not every system lets you open a directory (Windows doesn't), and those handle it themselves anyway
+		}
+	}
+
+	/**
+	 * Cleans up after saves that were cut off by a crash, for use on startup before anything is loaded.
+	 * Leftover temporary files are deleted, as whatever they replaced is still there.
+	 * Leftover old files (from the move, write, delete saves this replaced) are put back in place of the file,
+	 * as the new one may not have finished being written.
+	 */
+	public static void recover(Path directory)
+	{
+		if(!Files.isDirectory(directory))
+			return;
+		List<Path> files = new ArrayList<>();
+		try(DirectoryStream<Path> stream = Files.newDirectoryStream(directory))
+		{
+			for(Path next : stream)
+				files.add(next);
+			for(Path next : files)
+			{
+				String name = next.getFileName().toString();
+				if(name.endsWith(TEMP_SUFFIX))
+				{
+					System.out.println("Deleting unfinished save "+next);
+					Files.delete(next);
+				}
+				else if(name.endsWith(OLD_SUFFIX))
+				{
+					Path file = next.resolveSibling(name.substring(0, name.length()-OLD_SUFFIX.length()) + ".csv");
+					System.out.println("Restoring "+file+" from "+next);
+					Files.move(next, file, StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+		}
+		catch(IOException e)
+		{
+			System.err.println("Could not recover saves in "+directory);
+			e.printStackTrace();
+		}
+		syncDirectory(directory);
+	}
+}
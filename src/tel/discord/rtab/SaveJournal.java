@@ -0,0 +1,304 @@
+package tel.discord.rtab;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * An append-only log of changes to a #-delimited savefile, keyed on the first field of each line.
+ * Each change is appended and flushed to disk as it happens, which only costs as much as the change itself.
+ * Every so often the journal is compacted: the owner hands over its full set of lines, they're written out
+ * as the new savefile, and the journal is emptied. Loading replays anything left in the journal over the savefile,
+ * so nothing is lost if we go down between the two.
+ * Each compaction also writes a binary snapshot of the savefile (see SaveSnapshot), which is loaded instead of the
+ * savefile as long as nobody has edited the savefile by hand since.
+ */
+public class SaveJournal
+{
+	static final int COMPACT_THRESHOLD = 500; //Journal entries before we compact straight away
+	static final int COMPACT_DELAY = 10; //Minutes to wait before compacting a journal that hasn't hit the threshold
+	static final char UPDATE = '+';
+	static final char REMOVAL = '-';
+	static final Lane compactor = Lane.openShared("Save Journal Compactor");
+	final Path file, journalFile, snapshotFile;
+	final Supplier<List<String>> snapshot;
+	final Object lock;
+	FileChannel journal;
+	int pendingEntries;
+	final StringBuilder heldEntries = new StringBuilder(); //Held back for a SaveBatch
+	int heldEntryCount;
+	ScheduledFuture<?> pendingCompaction;
+
+	/**
+	 * @param file The savefile to journal changes to, eg. scores/scores123.csv (its journal will be scores123journal.csv)
+	 * @param snapshot Provides the complete, current set of lines to write to the savefile when compacting
+	 * @param lock The owner's lock, which the journal shares so a compaction can't land in the middle of a change
+	 */
+	public SaveJournal(Path file, Supplier<List<String>> snapshot, Object lock)
+	{
+		this.file = file;
+		this.snapshot = snapshot;
+		this.lock = lock;
+		String baseName = file.getFileName().toString().replaceFirst("\\.csv$", "");
+		journalFile = file.resolveSibling(baseName+"journal.csv");
+		snapshotFile = file.resolveSibling(baseName+"snapshot.bin");
+	}
+
+	/**
+	 * Reads the savefile (or its snapshot, if it's up to date) and replays the journal over it.
+	 * Updated records keep their place in the savefile, new ones go on the end, and removed ones are dropped.
+	 * @return The current records of the savefile, already split
+	 * @throws IOException If the savefile doesn't exist or can't be read
+	 */
+	public List<String[]> load() throws IOException
+	{
+		synchronized(lock)
+		{
+			Map<String,String[]> records = new LinkedHashMap<>();
+			List<String[]> savedRecords = SaveSnapshot.read(snapshotFile, file);
+			if(savedRecords != null)
+				for(String[] next : savedRecords)
+					records.put(next[0], next);
+			else
+				for(String next : Files.readAllLines(file))
+					records.put(getKey(next), next.split("#", -1));
+			if(Files.exists(journalFile))
+			{
+				byte[] journalContents = Files.readAllBytes(journalFile);
+				int validLength = journalContents.length;
+				while(validLength > 0 && journalContents[validLength-1] != '\n')
+					validLength --;
+				//Anything after the last newline is a half-written entry from going down mid-write, so it never happened
+				if(validLength < journalContents.length)
+					try(FileChannel truncator = FileChannel.open(journalFile, StandardOpenOption.WRITE))
+					{
+						truncator.truncate(validLength);
+					}
+				for(String next : new String(journalContents, 0, validLength, StandardCharsets.UTF_8).split("\n"))
+				{
+					if(next.isEmpty())
+						continue;
+					String entry = next.substring(1);
+					if(next.charAt(0) == UPDATE)
+						records.put(getKey(entry), entry.split("#", -1));
+					else if(next.charAt(0) == REMOVAL)
+						records.remove(entry);
+					pendingEntries ++;
+				}
+				if(pendingEntries > 0)
+					scheduleCompaction();
+			}
+			return new ArrayList<>(records.values());
+		}
+	}
+
+	static String getKey(String line)
+	{
+		int split = line.indexOf('#');
+		return split == -1 ? line : line.substring(0, split);
+	}
+
+	/**
+	 * Records new versions of some lines (replacing any existing lines with the same key) in a single write.
+	 * If a SaveBatch is open on this thread, the write is held back for the batch instead.
+	 */
+	public void logUpdates(List<String> lines)
+	{
+		synchronized(lock)
+		{
+			StringBuilder entries = new StringBuilder();
+			for(String next : lines)
+				entries.append(UPDATE).append(next).append("\n");
+			log(entries, lines.size());
+		}
+	}
+
+	public void logUpdate(String line)
+	{
+		logUpdates(List.of(line));
+	}
+
+	public void logRemoval(String key)
+	{
+		synchronized(lock)
+		{
+			log(new StringBuilder().append(REMOVAL).append(key).append("\n"), 1);
+		}
+	}
+
+	private void log(StringBuilder entries, int entryCount)
+	{
+		SaveBatch batch = SaveBatch.current();
+		if(batch != null)
+		{
+			heldEntries.append(entries);
+			heldEntryCount += entryCount;
+			batch.addJournal(this);
+			return;
+		}
+		//Anything a batch is still holding goes first, so the journal stays in order
+		if(heldEntryCount > 0)
+		{
+			entries.insert(0, heldEntries);
+			entryCount += heldEntryCount;
+			heldEntries.setLength(0);
+			heldEntryCount = 0;
+		}
+		append(entries.toString(), entryCount);
+	}
+
+	/**
+	 * Writes out anything held back for a batch.
+	 */
+	void flush()
+	{
+		synchronized(lock)
+		{
+			if(heldEntryCount == 0)
+				return;
+			String entries = heldEntries.toString();
+			int entryCount = heldEntryCount;
+			heldEntries.setLength(0);
+			heldEntryCount = 0;
+			append(entries, entryCount);
+		}
+	}
+
+	private void append(String entries, int entryCount)
+	{
+		try
+		{
+			if(journal == null)
+				journal = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+			ByteBuffer buffer = ByteBuffer.wrap(entries.getBytes(StandardCharsets.UTF_8));
+			while(buffer.hasRemaining())
+				journal.write(buffer);
+			journal.force(false);
+			pendingEntries += entryCount;
+		}
+		catch(IOException e)
+		{
+			//If the journal's broken, fall back to writing the whole file so the change isn't lost
+			System.err.println("Could not write to journal "+journalFile+", saving in full.");
+			e.printStackTrace();
+			compact();
+			return;
+		}
+		if(pendingEntries >= COMPACT_THRESHOLD)
+			compactor.execute(this::compact);
+		else
+			scheduleCompaction();
+	}
+
+	void scheduleCompaction()
+	{
+		synchronized(lock)
+		{
+			//If a compaction is already on the way it'll pick this change up too
+			if(pendingCompaction == null || pendingCompaction.isDone())
+				pendingCompaction = compactor.schedule(this::compact, COMPACT_DELAY, TimeUnit.MINUTES);
+		}
+	}
+
+	/**
+	 * Writes the owner's current lines out as the savefile and empties the journal.
+	 */
+	public void compact()
+	{
+		synchronized(lock)
+		{
+			if(pendingCompaction != null)
+			{
+				pendingCompaction.cancel(false);
+				pendingCompaction = null;
+			}
+			try
+			{
+				List<String> lines = snapshot.get();
+				SaveFile.write(file, lines);
+				writeSnapshot(lines);
+				//Only once the savefile is safely written can we forget the journal
+				if(journal != null)
+				{
+					journal.close();
+					journal = null;
+				}
+				Files.deleteIfExists(journalFile);
+				pendingEntries = 0;
+				//The savefile has everything a batch was holding too, so there's no need to journal it any more
+				heldEntries.setLength(0);
+				heldEntryCount = 0;
+			}
+			catch(IOException e)
+			{
+				System.err.println("Could not compact "+file);
+				e.printStackTrace();
+			}
+		}
+	}
+
+	private void writeSnapshot(List<String> lines)
+	{
+		try
+		{
+			SaveSnapshot.write(snapshotFile, file, lines);
+		}
+		catch(IOException e)
+		{
+			//The savefile's safe, so we'll just load from that next time
+			System.err.println("Could not write snapshot "+snapshotFile);
+			e.printStackTrace();
+			try
+			{
+				Files.deleteIfExists(snapshotFile);
+			}
+			catch(IOException e1)
+			{
+				e1.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Throws away the journal without applying it, for when the savefile has been moved out of the way.
+	 */
+	public void discard()
+	{
+		synchronized(lock)
+		{
+			if(pendingCompaction != null)
+			{
+				pendingCompaction.cancel(false);
+				pendingCompaction = null;
+			}
+			try
+			{
+				if(journal != null)
+				{
+					journal.close();
+					journal = null;
+				}
+				Files.deleteIfExists(journalFile);
+				Files.deleteIfExists(snapshotFile);
+				heldEntries.setLength(0);
+				heldEntryCount = 0;
+			}
+			catch(IOException e)
+			{
+				e.printStackTrace();
+			}
+			pendingEntries = 0;
+		}
+	}
+}
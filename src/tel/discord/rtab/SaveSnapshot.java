@@ -0,0 +1,352 @@
+package tel.discord.rtab;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * A binary copy of a #-delimited savefile, laid out a column at a time so it can be loaded without parsing any text.
+ * Numeric columns are stored as fixed-width longs, text as fixed-width indices into a table of every distinct string
+ * (so a name or ID that turns up over and over is only stored, and loaded, once), and bracketed lists such as
+ * annuities "[(a,b), (c,d)]" and enhanced games "[NAME, NAME]" as varints. A column only gets a compact kind if every
+ * value in it would come back exactly as it went in - anything else is kept as text.
+ * <p>
+ * The savefile is still written alongside the snapshot, so it can be edited by hand: each snapshot records the size
+ * and modification time of the savefile it was written with, and is ignored if the savefile has changed since.
+ * <p>
+ * Format (version 1, big-endian): magic, version, savefile size, savefile modified time, CRC32 of the rest,
+ * then the string table (varint count, then varint length + UTF-8 for each), the row count and each row's field
+ * count, then the column count and each column's kind followed by its value for each row that has it.
+ */
+public final class SaveSnapshot
+{
+	static final int MAGIC = 0x52744142; //"RtaB"
+	static final short VERSION = 1;
+	static final byte NUMBER = 0;
+	static final byte TEXT = 1;
+	static final byte PAIRS = 2;
+	static final byte NAMES = 3;
+
+	private SaveSnapshot()
+	{
+		throw new java.lang.UnsupportedOperationException("This is a utility class and cannot be instantiated.");
+	}
+
+	/**
+	 * Writes a snapshot of the savefile, which must already have been written with the same lines.
+	 * @param snapshot Where to write the snapshot
+	 * @param file The savefile it's a copy of
+	 * @param lines The savefile's lines
+	 */
+	public static void write(Path snapshot, Path file, List<String> lines) throws IOException
+	{
+		List<String[]> records = new ArrayList<>(lines.size());
+		for(String next : lines)
+			records.add(next.split("#", -1));
+		BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+		SaveFile.write(snapshot, encode(records, attributes.size(), attributes.lastModifiedTime().toMillis()));
+	}
+
+	/**
+	 * Loads a snapshot, if it's still a faithful copy of its savefile.
+	 * @return The savefile's records, or null if there's no snapshot, or it's out of date or damaged
+	 */
+	public static List<String[]> read(Path snapshot, Path file)
+	{
+		if(!Files.exists(snapshot) || !Files.exists(file))
+			return null;
+		try(FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ))
+		{
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+			if(!checkHeader(buffer) || buffer.getLong() != attributes.size()
+					|| buffer.getLong() != attributes.lastModifiedTime().toMillis())
+				return null;
+			return decode(buffer);
+		}
+		catch(IOException | RuntimeException e)
+		{
+			System.err.println("Could not load snapshot "+snapshot+", reading "+file+" instead.");
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	private static boolean checkHeader(ByteBuffer buffer)
+	{
+		return buffer.remaining() >= 26 && buffer.getInt() == MAGIC && buffer.getShort() == VERSION;
+	}
+
+	static byte[] encode(List<String[]> records, long fileSize, long fileModified) throws IOException
+	{
+		int columns = 0;
+		for(String[] next : records)
+			columns = Math.max(columns, next.length);
+		//Lay out the rows and columns first, building the string table as we go
+		Map<String,Integer> strings = new LinkedHashMap<>();
+		ByteArrayOutputStream rowBytes = new ByteArrayOutputStream();
+		DataOutputStream rows = new DataOutputStream(rowBytes);
+		rows.writeInt(records.size());
+		for(String[] next : records)
+			rows.writeShort(next.length);
+		rows.writeShort(columns);
+		for(int i=0; i<columns; i++)
+		{
+			byte kind = getKind(records, i);
+			rows.writeByte(kind);
+			for(String[] next : records)
+				if(next.length > i)
+					encodeValue(rows, kind, next[i], strings);
+		}
+		ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+		DataOutputStream body = new DataOutputStream(bodyBytes);
+		writeVarint(body, strings.size());
+		for(String next : strings.keySet())
+		{
+			byte[] utf8 = next.getBytes(StandardCharsets.UTF_8);
+			writeVarint(body, utf8.length);
+			body.write(utf8);
+		}
+		rowBytes.writeTo(body);
+		//Then put the header on the front
+		CRC32 checksum = new CRC32();
+		checksum.update(bodyBytes.toByteArray());
+		ByteArrayOutputStream output = new ByteArrayOutputStream(bodyBytes.size() + 26);
+		DataOutputStream header = new DataOutputStream(output);
+		header.writeInt(MAGIC);
+		header.writeShort(VERSION);
+		header.writeLong(fileSize);
+		header.writeLong(fileModified);
+		header.writeInt((int)checksum.getValue());
+		bodyBytes.writeTo(output);
+		return output.toByteArray();
+	}
+
+	private static byte getKind(List<String[]> records, int column)
+	{
+		boolean number = true;
+		boolean pairs = true;
+		boolean names = true;
+		for(String[] next : records)
+		{
+			if(next.length <= column)
+				continue;
+			number = number && isNumber(next[column]);
+			pairs = pairs && parsePairs(next[column]) != null;
+			names = names && parseNames(next[column]) != null;
+		}
+		return number ? NUMBER : pairs ? PAIRS : names ? NAMES : TEXT;
+	}
+
+	private static void encodeValue(DataOutputStream output, byte kind, String value, Map<String,Integer> strings) throws IOException
+	{
+		switch(kind)
+		{
+			case NUMBER -> output.writeLong(Long.parseLong(value));
+			case TEXT -> output.writeInt(strings.computeIfAbsent(value, next -> strings.size()));
+			case PAIRS ->
+			{
+				long[] pairs = parsePairs(value);
+				writeVarint(output, pairs.length / 2);
+				for(long next : pairs)
+					writeVarint(output, (next << 1) ^ (next >> 63)); //Zigzag, so small negatives stay small
+			}
+			case NAMES ->
+			{
+				String[] names = parseNames(value);
+				writeVarint(output, names.length);
+				for(String next : names)
+					writeVarint(output, strings.computeIfAbsent(next, name -> strings.size()));
+			}
+		}
+	}
+
+	static List<String[]> decode(ByteBuffer buffer)
+	{
+		int checksum = buffer.getInt();
+		CRC32 actualChecksum = new CRC32();
+		actualChecksum.update(buffer.slice());
+		if((int)actualChecksum.getValue() != checksum)
+			throw new IllegalStateException("Snapshot checksum doesn't match");
+		String[] strings = new String[(int)readVarint(buffer)];
+		for(int i=0; i<strings.length; i++)
+		{
+			byte[] utf8 = new byte[(int)readVarint(buffer)];
+			buffer.get(utf8);
+			strings[i] = new String(utf8, StandardCharsets.UTF_8);
+		}
+		String[][] records = new String[buffer.getInt()][];
+		for(int i=0; i<records.length; i++)
+			records[i] = new String[Short.toUnsignedInt(buffer.getShort())];
+		int columns = Short.toUnsignedInt(buffer.getShort());
+		for(int i=0; i<columns; i++)
+		{
+			byte kind = buffer.get();
+			for(String[] next : records)
+				if(next.length > i)
+					next[i] = decodeValue(buffer, kind, strings);
+		}
+		return new ArrayList<>(List.of(records));
+	}
+
+	private static String decodeValue(ByteBuffer buffer, byte kind, String[] strings)
+	{
+		switch(kind)
+		{
+			case NUMBER:
+				return Long.toString(buffer.getLong());
+			case TEXT:
+				return strings[buffer.getInt()];
+			case PAIRS:
+			{
+				StringBuilder output = new StringBuilder("[");
+				int size = (int)readVarint(buffer);
+				for(int i=0; i<size; i++)
+				{
+					if(i > 0)
+						output.append(", ");
+					output.append("(").append(readZigzag(buffer)).append(",").append(readZigzag(buffer)).append(")");
+				}
+				return output.append("]").toString();
+			}
+			case NAMES:
+			{
+				String[] names = new String[(int)readVarint(buffer)];
+				for(int i=0; i<names.length; i++)
+					names[i] = strings[(int)readVarint(buffer)];
+				return "[" + String.join(", ", names) + "]";
+			}
+			default:
+				throw new IllegalStateException("Unknown column kind " + kind);
+		}
+	}
+
+	private static boolean isNumber(String value)
+	{
+		//Only if it comes back exactly the same - no leading zeroes, plus signs or the like
+		int start = value.startsWith("-") ? 1 : 0;
+		if(value.length() <= start || value.length() > 20 || (value.charAt(start) == '0' && value.length() > start+1))
+			return false;
+		for(int i=start; i<value.length(); i++)
+			if(value.charAt(i) < '0' || value.charAt(i) > '9')
+				return false;
+		try
+		{
+			return Long.toString(Long.parseLong(value)).equals(value) && !value.equals("-0");
+		}
+		catch(NumberFormatException e)
+		{
+			return false;
+		}
+	}
+
+	private static String[] getListItems(String value)
+	{
+		if(value.length() < 2 || value.charAt(0) != '[' || value.charAt(value.length()-1) != ']')
+			return null;
+		String items = value.substring(1, value.length()-1);
+		return items.isEmpty() ? new String[0] : items.split(", ", -1);
+	}
+
+	private static long[] parsePairs(String value)
+	{
+		String[] items = getListItems(value);
+		if(items == null)
+			return null;
+		long[] pairs = new long[items.length * 2];
+		for(int i=0; i<items.length; i++)
+		{
+			String next = items[i];
+			int split = next.indexOf(',');
+			if(!next.startsWith("(") || !next.endsWith(")") || split == -1)
+				return null;
+			String left = next.substring(1, split);
+			String right = next.substring(split+1, next.length()-1);
+			if(!isNumber(left) || !isNumber(right))
+				return null;
+			pairs[i*2] = Long.parseLong(left);
+			pairs[i*2+1] = Long.parseLong(right);
+		}
+		return pairs;
+	}
+
+	private static String[] parseNames(String value)
+	{
+		String[] items = getListItems(value);
+		if(items == null)
+			return null;
+		for(String next : items)
+			if(next.isEmpty())
+				return null;
+		return items;
+	}
+
+	private static void writeVarint(DataOutputStream output, long value) throws IOException
+	{
+		while((value & ~0x7FL) != 0)
+		{
+			output.writeByte((int)((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		output.writeByte((int)value);
+	}
+
+	private static long readVarint(ByteBuffer buffer)
+	{
+		long value = 0;
+		for(int shift = 0; shift < 64; shift += 7)
+		{
+			byte next = buffer.get();
+			value |= (long)(next & 0x7F) << shift;
+			if(next >= 0)
+				return value;
+		}
+		throw new IllegalStateException("Malformed varint");
+	}
+
+	private static long readZigzag(ByteBuffer buffer)
+	{
+		long value = readVarint(buffer);
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Converts between savefiles and snapshots by hand.
+	 * Usage: SaveSnapshot export [snapshot] [csv] / SaveSnapshot import [csv] [snapshot]
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		if(args.length == 3 && args[0].equalsIgnoreCase("export"))
+		{
+			try(FileChannel channel = FileChannel.open(Paths.get(args[1]), StandardOpenOption.READ))
+			{
+				ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				if(!checkHeader(buffer))
+					throw new IOException(args[1] + " isn't a version " + VERSION + " snapshot");
+				//Skip the savefile stamp, we're writing a new savefile anyway
+				buffer.position(buffer.position() + 16);
+				List<String> lines = new ArrayList<>();
+				for(String[] next : decode(buffer))
+					lines.add(String.join("#", next));
+				Files.write(Paths.get(args[2]), lines);
+			}
+		}
+		else if(args.length == 3 && args[0].equalsIgnoreCase("import"))
+			write(Paths.get(args[2]), Paths.get(args[1]), Files.readAllLines(Paths.get(args[1])));
+		else
+			System.err.println("Usage: SaveSnapshot export [snapshot] [csv] / SaveSnapshot import [csv] [snapshot]");
+	}
+}
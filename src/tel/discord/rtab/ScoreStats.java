@@ -0,0 +1,115 @@
+package tel.discord.rtab;
+
+/**
+ * Running totals for a channel's scoreboard (money and headcounts, split into humans and bots, and cash clubs),
+ * kept up to date by ScoreStore as records come and go so !stats never has to go through the whole scoreboard.
+ * Not thread-safe on its own; ScoreStore guards it, and hands out copies.
+ */
+public class ScoreStats
+{
+	public static final int CASH_CLUBS = 11; //$0-99M, $100M-199M, ..., $1B+
+	long humanMoney, botMoney;
+	int humanCount, botCount;
+	final int[] cashClubs;
+
+	ScoreStats()
+	{
+		cashClubs = new int[CASH_CLUBS];
+	}
+
+	private ScoreStats(ScoreStats original)
+	{
+		humanMoney = original.humanMoney;
+		botMoney = original.botMoney;
+		humanCount = original.humanCount;
+		botCount = original.botCount;
+		cashClubs = original.cashClubs.clone();
+	}
+
+	ScoreStats copy()
+	{
+		return new ScoreStats(this);
+	}
+
+	void add(Leaderboard.Entry entry)
+	{
+		update(entry, 1);
+	}
+
+	void remove(Leaderboard.Entry entry)
+	{
+		update(entry, -1);
+	}
+
+	private void update(Leaderboard.Entry entry, int count)
+	{
+		//Bots have negative IDs
+		if(entry.record[0].startsWith("-"))
+		{
+			botMoney += count * (long)entry.money;
+			botCount += count;
+		}
+		else
+		{
+			humanMoney += count * (long)entry.money;
+			humanCount += count;
+		}
+		cashClubs[getCashClub(entry.money)] += count;
+	}
+
+	void clear()
+	{
+		humanMoney = 0;
+		botMoney = 0;
+		humanCount = 0;
+		botCount = 0;
+		for(int i=0; i<CASH_CLUBS; i++)
+			cashClubs[i] = 0;
+	}
+
+	/**
+	 * @return The cash club (hundreds of millions) that the money falls in, with debt in the bottom one and a billion or more in the top
+	 */
+	public static int getCashClub(int money)
+	{
+		return Math.max(0, Math.min(CASH_CLUBS-1, money/100_000_000));
+	}
+
+	public long getTotalMoney()
+	{
+		return humanMoney + botMoney;
+	}
+
+	public long getHumanMoney()
+	{
+		return humanMoney;
+	}
+
+	public long getBotMoney()
+	{
+		return botMoney;
+	}
+
+	public int getTotalCount()
+	{
+		return humanCount + botCount;
+	}
+
+	public int getHumanCount()
+	{
+		return humanCount;
+	}
+
+	public int getBotCount()
+	{
+		return botCount;
+	}
+
+	/**
+	 * @return How many players are in exactly this cash club (not counting the ones above it)
+	 */
+	public int getCashClubCount(int club)
+	{
+		return cashClubs[club];
+	}
+}
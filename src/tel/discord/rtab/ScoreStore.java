@@ -0,0 +1,286 @@
+package tel.discord.rtab;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import tel.discord.rtab.sim.Simulation;
+
+/**
+ * Holds a channel's scoreboard in memory so it only has to be read from disk once.
+ * Records are kept both by player ID (for lookups) and on a Leaderboard sorted by money (for rank queries),
+ * and changes are journaled to disk as they're made (see SaveJournal).
+ * During a simulation, channels get a sandboxed store instead, which starts empty and is never saved.
+ */
+public class ScoreStore
+{
+	static final Map<String,ScoreStore> stores = new ConcurrentHashMap<>();
+	final String channelID;
+	final Path file;
+	final SaveJournal journal; //Null if we're sandboxed
+	final Map<String,Leaderboard.Entry> records = new HashMap<>();
+	final Map<String,List<Leaderboard.Entry>> names = new HashMap<>();
+	final Leaderboard rankings = new Leaderboard();
+	final ScoreStats stats = new ScoreStats();
+
+	private ScoreStore(String channelID, boolean sandboxed)
+	{
+		this.channelID = channelID;
+		file = Paths.get("scores","scores"+channelID+".csv");
+		journal = sandboxed ? null : new SaveJournal(file, this::getLines, this);
+		if(sandboxed)
+			return;
+		List<String[]> list;
+		try
+		{
+			list = journal.load();
+		}
+		catch(IOException e)
+		{
+			System.out.println("No savefile found for "+channelID+", creating.");
+			list = new ArrayList<>();
+			try
+			{
+				Files.createFile(file);
+			}
+			catch (IOException e1)
+			{
+				System.err.println("Couldn't create it either. Oops.");
+				e1.printStackTrace();
+			}
+		}
+		for(String[] next : list)
+		{
+			/*
+			 * record format:
+			 * record[0] = uID
+			 * record[1] = name
+			 * record[2] = money
+			 * (the rest depends on what kind of channel this is, so we leave it to the caller)
+			 */
+			insertRecord(next);
+		}
+	}
+
+	/**
+	 * Gets the score store for a channel, loading it (and creating the savefile if necessary) if it isn't already.
+	 * @param channelID The ID of the channel
+	 * @return The channel's score store
+	 */
+	public static ScoreStore forChannel(String channelID)
+	{
+		Simulation simulation = Simulation.current();
+		if(simulation != null)
+			return simulation.sandboxed(Paths.get("scores","scores"+channelID+".csv"), file -> new ScoreStore(channelID, true));
+		return stores.computeIfAbsent(channelID, next -> new ScoreStore(next, false));
+	}
+
+	/**
+	 * Gets the score store for a channel only if it has a savefile, so commands used elsewhere don't create one.
+	 * @param channelID The ID of the channel
+	 * @return The channel's score store, or null if it has none
+	 */
+	public static ScoreStore findStore(String channelID)
+	{
+		if(Simulation.current() != null)
+			return forChannel(channelID);
+		ScoreStore store = stores.get(channelID);
+		if(store == null && Files.exists(Paths.get("scores","scores"+channelID+".csv")))
+			store = forChannel(channelID);
+		return store;
+	}
+
+	/**
+	 * Compacts every store's journal into its savefile, for use when shutting down.
+	 */
+	public static void saveAll()
+	{
+		for(ScoreStore next : stores.values())
+			next.save();
+	}
+
+	public synchronized int size()
+	{
+		return rankings.size();
+	}
+
+	/**
+	 * @return The player's record, or null if they aren't in the savefile
+	 */
+	public synchronized String[] getRecord(String uID)
+	{
+		Leaderboard.Entry entry = records.get(uID.toLowerCase());
+		return entry == null ? null : entry.record.clone();
+	}
+
+	/**
+	 * @param rank The zero-based position on the leaderboard
+	 * @return The record at that position, or null if there isn't one
+	 */
+	public synchronized String[] getRecordAt(int rank)
+	{
+		Leaderboard.Entry entry = rankings.get(rank);
+		return entry == null ? null : entry.record.clone();
+	}
+
+	/**
+	 * @return The zero-based position on the leaderboard of the given player, or -1 if they aren't on it
+	 */
+	public synchronized int findRank(String uID)
+	{
+		Leaderboard.Entry entry = records.get(uID.toLowerCase());
+		if(entry == null)
+			return -1;
+		return rankings.rankOf(entry);
+	}
+
+	/**
+	 * @return The zero-based position on the leaderboard of the first player with the given name, or -1 if there is none
+	 */
+	public synchronized int findRankByName(String name)
+	{
+		List<Leaderboard.Entry> namedEntries = names.get(name.toLowerCase());
+		if(namedEntries == null)
+			return -1;
+		//Names aren't unique, so go with whoever's highest
+		int bestRank = -1;
+		for(Leaderboard.Entry next : namedEntries)
+		{
+			int rank = rankings.rankOf(next);
+			if(bestRank == -1 || rank < bestRank)
+				bestRank = rank;
+		}
+		return bestRank;
+	}
+
+	/**
+	 * @return Copies of the records from the given positions on the leaderboard, clamped to its size
+	 */
+	public synchronized List<String[]> getRecords(int fromRank, int toRank)
+	{
+		List<String[]> result = new ArrayList<>();
+		for(Leaderboard.Entry next : rankings.getRange(fromRank, toRank))
+			result.add(next.record.clone());
+		return result;
+	}
+
+	/**
+	 * @return A copy of the scoreboard's running totals
+	 */
+	public synchronized ScoreStats getStats()
+	{
+		return stats.copy();
+	}
+
+	/**
+	 * Reads a percentile straight off the leaderboard, which is already sorted.
+	 * @param percentile A percentage from 0 (the bottom of the leaderboard) to 100 (the top)
+	 * @return The money at that point on the leaderboard, or 0 if it's empty
+	 */
+	public synchronized int getPercentile(double percentile)
+	{
+		if(rankings.size() == 0)
+			return 0;
+		int rank = (int)Math.round((100 - percentile) / 100 * (rankings.size()-1));
+		return rankings.get(Math.max(0, Math.min(rankings.size()-1, rank))).money;
+	}
+
+	/**
+	 * @return The whole leaderboard, in savefile format
+	 */
+	public synchronized List<String> getLines()
+	{
+		List<String> lines = new ArrayList<>(rankings.size());
+		for(Leaderboard.Entry next : rankings.getRange(0, rankings.size()))
+			lines.add(String.join("#", next.record));
+		return lines;
+	}
+
+	/**
+	 * Adds a record to the leaderboard, replacing the player's old record if they have one.
+	 * @param line The record in savefile format
+	 */
+	public void putRecord(String line)
+	{
+		putRecords(List.of(line));
+	}
+
+	/**
+	 * Adds several records to the leaderboard at once (eg. everyone in a game), replacing any old records.
+	 * They're journaled to disk together, as a single write.
+	 * @param lines The records in savefile format
+	 */
+	public synchronized void putRecords(List<String> lines)
+	{
+		for(String next : lines)
+			insertRecord(next.split("#"));
+		if(journal != null)
+			journal.logUpdates(lines);
+	}
+
+	private void insertRecord(String[] record)
+	{
+		removeEntry(records.get(record[0].toLowerCase()));
+		Leaderboard.Entry entry = rankings.add(record);
+		records.put(record[0].toLowerCase(), entry);
+		stats.add(entry);
+		names.computeIfAbsent(record[1].toLowerCase(), name -> new ArrayList<>(1)).add(entry);
+	}
+
+	private void removeEntry(Leaderboard.Entry entry)
+	{
+		if(entry == null)
+			return;
+		rankings.remove(entry);
+		records.remove(entry.record[0].toLowerCase());
+		stats.remove(entry);
+		List<Leaderboard.Entry> namedEntries = names.get(entry.record[1].toLowerCase());
+		namedEntries.remove(entry);
+		if(namedEntries.isEmpty())
+			names.remove(entry.record[1].toLowerCase());
+	}
+
+	/**
+	 * Takes a player off the leaderboard entirely.
+	 * @return Their old record in savefile format, or null if they weren't there
+	 */
+	public synchronized String removeRecord(String uID)
+	{
+		Leaderboard.Entry entry = records.get(uID.toLowerCase());
+		if(entry == null)
+			return null;
+		removeEntry(entry);
+		if(journal != null)
+			journal.logRemoval(entry.record[0]);
+		return String.join("#", entry.record);
+	}
+
+	/**
+	 * Empties the leaderboard without touching the savefile, for when the season's files have been moved out of the way.
+	 * Anything not yet compacted into the savefile is thrown away, so call save() first if it matters.
+	 */
+	public synchronized void clear()
+	{
+		if(journal != null)
+			journal.discard();
+		records.clear();
+		names.clear();
+		rankings.clear();
+		stats.clear();
+	}
+
+	/**
+	 * Writes the whole leaderboard to the savefile right now, emptying the journal.
+	 */
+	public void save()
+	{
+		if(journal != null)
+			journal.compact();
+	}
+}
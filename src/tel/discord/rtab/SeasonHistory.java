@@ -0,0 +1,146 @@
+package tel.discord.rtab;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of a channel's past seasons, so commands like !history and !champions can look a player up
+ * instead of reading and splitting every history file each time.
+ * The history files (scores/history[channel]s[season].csv) are still the record - each channel's index is built
+ * from them the first time it's needed, and kept up to date as seasons are archived through here.
+ */
+public class SeasonHistory
+{
+	/**
+	 * A player's finish in one past season.
+	 * @param rank Their one-based position on the final leaderboard
+	 */
+	public record Finish(int season, int rank, String uID, String name, long money) {}
+
+	private static final Map<String,SeasonHistory> histories = new HashMap<>();
+	final String channelID;
+	final List<Finish> champions = new ArrayList<>();
+	final Map<String,List<Finish>> players = new LinkedHashMap<>(); //In the order they first turned up
+	final Map<String,List<Finish>> names = new HashMap<>(); //The first player with the name in each season
+
+	private SeasonHistory(String channelID)
+	{
+		this.channelID = channelID;
+	}
+
+	/**
+	 * Gets the history index for a channel, building it from the history files if it isn't already.
+	 * @param channelID The ID of the channel
+	 * @return The channel's history (which will have no seasons if it doesn't have any history files)
+	 * @throws IOException if a history file couldn't be read
+	 */
+	public static synchronized SeasonHistory forChannel(String channelID) throws IOException
+	{
+		SeasonHistory history = histories.get(channelID);
+		if(history == null)
+		{
+			history = new SeasonHistory(channelID);
+			//We're going to keep reading history files as long as they're there
+			Path nextFile;
+			while(Files.exists(nextFile = history.getFile(history.getSeasonCount()+1)))
+				history.indexSeason(Files.readAllLines(nextFile));
+			histories.put(channelID, history);
+		}
+		return history;
+	}
+
+	private Path getFile(int season)
+	{
+		return Paths.get("scores","history"+channelID+"s"+season+".csv");
+	}
+
+	private void indexSeason(List<String> list)
+	{
+		int season = champions.size() + 1;
+		for(int i=0; i<list.size(); i++)
+		{
+			/*
+			 * record format:
+			 * record[0] = uID
+			 * record[1] = name
+			 * record[2] = money
+			 */
+			String[] record = list.get(i).split("#");
+			Finish finish = new Finish(season, i+1, record[0], record[1], Long.parseLong(record[2]));
+			if(i == 0)
+				champions.add(finish);
+			players.computeIfAbsent(record[0].toLowerCase(), next -> new ArrayList<>()).add(finish);
+			List<Finish> namedFinishes = names.computeIfAbsent(record[1].toLowerCase(), next -> new ArrayList<>());
+			if(namedFinishes.isEmpty() || namedFinishes.get(namedFinishes.size()-1).season() != season)
+				namedFinishes.add(finish);
+		}
+	}
+
+	/**
+	 * Writes a finished season out as the next history file, and adds it to the index.
+	 * @param records The final leaderboard, from the top (each starting uID, name, money)
+	 * @return The number of the season that was archived
+	 * @throws IOException if the history file couldn't be written (in which case the index is left as it was)
+	 */
+	public synchronized int archiveSeason(List<String[]> records) throws IOException
+	{
+		List<String> list = new ArrayList<>(records.size());
+		for(String[] record : records)
+			list.add(record[0]+"#"+record[1]+"#"+record[2]);
+		Path file = getFile(getSeasonCount()+1);
+		if(Files.exists(file))
+			throw new FileAlreadyExistsException(file.toString());
+		SaveFile.write(file, list);
+		indexSeason(list);
+		return getSeasonCount();
+	}
+
+	public synchronized int getSeasonCount()
+	{
+		return champions.size();
+	}
+
+	/**
+	 * @return The winner of each season, in order
+	 */
+	public synchronized List<Finish> getChampions()
+	{
+		return new ArrayList<>(champions);
+	}
+
+	/**
+	 * @return Every season the player finished in, in order
+	 */
+	public synchronized List<Finish> getFinishes(String uID)
+	{
+		return new ArrayList<>(players.getOrDefault(uID.toLowerCase(), Collections.emptyList()));
+	}
+
+	/**
+	 * @return Every season someone with this name finished in (going with the highest-ranked if there's more than one)
+	 */
+	public synchronized List<Finish> getFinishesByName(String name)
+	{
+		return new ArrayList<>(names.getOrDefault(name.toLowerCase(), Collections.emptyList()));
+	}
+
+	/**
+	 * @return The ID of everyone who's finished a season here, in the order they first turned up
+	 */
+	public synchronized List<String> getPlayers()
+	{
+		List<String> uIDs = new ArrayList<>(players.size());
+		for(List<Finish> next : players.values())
+			uIDs.add(next.get(0).uID());
+		return uIDs;
+	}
+}
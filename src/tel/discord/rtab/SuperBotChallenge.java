@@ -5,18 +5,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 import static tel.discord.rtab.RaceToABillionBot.waiter;
 
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
-import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.internal.utils.tuple.Pair;
 
 public class SuperBotChallenge
@@ -25,7 +21,8 @@ public class SuperBotChallenge
 	int playersPerGame;
 	static final int DEMO_DELAY = 45;
 	public TextChannel channel;
-	public ScheduledThreadPoolExecutor timer;
+	MessageQueue messages; //Shared with the game handler, so the challenge's messages stay in order with the game's
+	public Lane timer;
 	public boolean loadingHumanGame;
 	LinkedList<Integer> playerList = new LinkedList<>(); //Kept sorted, size should always be divisible by PLAYERS_PER_GAME
 	LinkedList<int[]> gameList = new LinkedList<>();
@@ -37,21 +34,11 @@ public class SuperBotChallenge
 	int gameToLoad;
 	List<String> missingPlayers;
 	
-	class HandlerThreadFactory implements ThreadFactory
-	{
-		@Override
-		public Thread newThread(Runnable r)
-		{
-			Thread newThread = new Thread(r);
-			newThread.setName(String.format("Challenge Handler - %s", channel.getName()));
-			return newThread;
-		}
-	}
-	
 	public GameController initialise(TextChannel gameChannel, String[] record, TextChannel resultChannel)
 	{
 		channel = gameChannel;
-		timer = new ScheduledThreadPoolExecutor(1, new HandlerThreadFactory());
+		messages = MessageQueue.forChannel(channel);
+		timer = Lane.open(String.format("Challenge Handler - %s", channel.getName()));
 		gameHandler = new GameController(gameChannel, record, resultChannel);
 		gameHandler.playersCanJoin = false;
 		//Figure out the settings
@@ -102,7 +89,7 @@ public class SuperBotChallenge
 		{
 			runDemos = DEMO_DELAY;
 			timer.schedule(this::loadDemoGame, runDemos, TimeUnit.MINUTES);
-			channel.sendMessage(String.format("%d Players Remain, %d Games to Play", playerList.size(), totalGames)).queue();
+			messages.send(String.format("%d Players Remain, %d Games to Play", playerList.size(), totalGames));
 		}
 		else
 			startRoundCycle(); //No games to play? New round cycle!
@@ -135,7 +122,7 @@ public class SuperBotChallenge
 				break;
 			}
 			//Randomly shuffle all the players into games
-			Collections.shuffle(playerShuffle);
+			RtaBMath.shuffle(playerShuffle);
 			int[][] next = new int[playerList.size()/playersPerGame][playersPerGame];
 			for(int j=0; j<playerShuffle.size(); j++)
 			{
@@ -150,13 +137,13 @@ public class SuperBotChallenge
 		saveData();
 		if(channel.getId().equals("485729867275436032")) //Lazily hardcoding in the main SBC channel + Challenger role for the ping
 		{
-			channel.sendMessage("<@&586732055166189568> A new Round Cycle is beginning! Use !ready to see your games.").queue();
+			messages.send("<@&586732055166189568> A new Round Cycle is beginning! Use !ready to see your games.");
 			channel.getManager().setTopic(String.format("~ CHALLENGE CHANNEL ~ %d Players Remain ~ x%d Multiplier", 
 					playerList.size(), getMultiplier(playerList.size()))).queue();
 		}
 		else
 		{
-			channel.sendMessage("A new Round Cycle is beginning! Use !ready to see your games.").queue();
+			messages.send("A new Round Cycle is beginning! Use !ready to see your games.");
 		}
 		runDemos = DEMO_DELAY;
 		timer.schedule(this::loadDemoGame, runDemos, TimeUnit.MINUTES);
@@ -170,15 +157,12 @@ public class SuperBotChallenge
 			saveData();
 			return;
 		}
-		channel.sendMessage("**ROUND CYCLE COMPLETE!**").queue();
+		messages.send("**ROUND CYCLE COMPLETE!**");
 		//Find the lowest-scoring players to eliminate
 		try
 		{
-			Path gameSavefile = Paths.get("scores","scores"+channel.getId()+".csv");
-			Path oldGameSavefile = gameSavefile.resolveSibling("scores"+channel.getId()+"old.csv");
 			Path eliminatedSavefile = Paths.get("scores","eliminated"+channel.getId()+".csv");
-			Path oldEliminatedSavefile = eliminatedSavefile.resolveSibling("eliminated"+channel.getId()+"old.csv");
-			List<String> aliveScores = Files.readAllLines(gameSavefile);
+			List<String> aliveScores = gameHandler.scores.getLines();
 			String nextRecord;
 			String[] record;
 			//We start one record before we need to so we can check for a tie, which shouldn't be broken arbitrarily
@@ -198,7 +182,7 @@ public class SuperBotChallenge
 				record = nextRecord.split("#");
 				if(Integer.parseInt(record[2]) >= benchmarkScore)
 				{
-					channel.sendMessage("Elimination failed: There's a tie?!?!").queue();
+					messages.send("Elimination failed: There's a tie?!?!");
 					return;
 				}
 				eliminatedNames.add(record[1]);
@@ -214,10 +198,10 @@ public class SuperBotChallenge
 			}
 			//So now eliminatedScores has the records of the players that are going home
 			//and output has the eliminated players to send off
-			channel.sendMessage("ELIMINATED PLAYERS:").queue();
+			messages.send("ELIMINATED PLAYERS:");
 			output.append("```");
-			channel.sendMessage(output.toString()).queue();
-			channel.sendMessage(aliveScores.size() + " Players Remain.").queue();
+			messages.send(output.toString());
+			messages.send(aliveScores.size() + " Players Remain.");
 			ListIterator<Integer> nextPlayer = playerList.listIterator();
 			//Figure out who they were
 			while(nextPlayer.hasNext())
@@ -228,6 +212,10 @@ public class SuperBotChallenge
 				if(eliminatedNames.contains(nextBot.getName()))
 					nextPlayer.remove();
 			}
+			//Take them off the scoreboard
+			for(String next : eliminatedScores)
+				gameHandler.scores.removeRecord(next.split("#")[0]);
+			gameHandler.scores.save();
 			//Add the previously-eliminated-players to the big bad list
 			try
 			{
@@ -240,23 +228,13 @@ public class SuperBotChallenge
 				//Plus even if we somehow seriously manage to lose this data we can reconstruct it
 			}
 			//Send them away, death-sensei
-			Files.move(gameSavefile, oldGameSavefile);
-			Files.write(gameSavefile, aliveScores);
-			Files.delete(oldGameSavefile);
-			if(Files.exists(eliminatedSavefile))
-			{
-				Files.move(eliminatedSavefile, oldEliminatedSavefile);
-				Files.write(eliminatedSavefile, eliminatedScores);
-				Files.delete(oldEliminatedSavefile);
-			}
-			else
-				Files.write(eliminatedSavefile, eliminatedScores);
+			SaveFile.write(eliminatedSavefile, eliminatedScores);
 			//AGAIN, AGAIN!
 			startRoundCycle();
 		}
 		catch(IOException e)
 		{
-			channel.sendMessage("Failed to execute players eliminated.").queue(); //puhuhuhuhu
+			messages.send("Failed to execute players eliminated."); //puhuhuhuhu
 			saveData();
 		}
 	}
@@ -284,16 +262,7 @@ public class SuperBotChallenge
 		//and save!
 		try
 		{
-			Path file = Paths.get("scores","schedule"+channel.getId()+".csv");
-			if(Files.exists(file))
-			{
-				Path oldFile;
-				oldFile = Files.move(file, file.resolveSibling("schedule"+channel.getId()+"old.csv"));
-				Files.write(file, list);
-				Files.delete(oldFile);
-			}
-			else
-				Files.write(file, list);
+			SaveFile.write(Paths.get("scores","schedule"+channel.getId()+".csv"), list);
 		}
 		catch(IOException e)
 		{
@@ -331,7 +300,7 @@ public class SuperBotChallenge
 			}
 			catch(IOException e)
 			{
-				channel.sendMessage("Bot creation failed.").queue();
+				messages.send("Bot creation failed.");
 				e.printStackTrace();
 				return;
 			}
@@ -351,14 +320,14 @@ public class SuperBotChallenge
 		//If the season's over, just tell them and exit
 		if(gameHandler.gameStatus == GameStatus.SEASON_OVER)
 		{
-			channel.sendMessage("The season is already over!").queue();
+			messages.send("The season is already over!");
 			return;
 		}
 		//Check which bot they represent, and cut it off early if they aren't any of them
 		int botNumber = getBotFromHuman(humanID);
 		if(botNumber == -1)
 		{
-			channel.sendMessage("You are not a player in the Super Bot Challenge.").queue();
+			messages.send("You are not a player in the Super Bot Challenge.");
 			return;
 		}
 		//Now we've passed all the initial checks, mark that we're in the human process so that a demo doesn't cut us off
@@ -386,7 +355,7 @@ public class SuperBotChallenge
 		//If we didn't find any games with this player, what are they doing? Just exit
 		if (gamesWithPlayer.isEmpty())
 		{
-			channel.sendMessage("No scheduled games found.").queue();
+			messages.send("No scheduled games found.");
 			loadingHumanGame = false;
 		}
 		//Otherwise, list them and ask which (if any) they want to run
@@ -394,7 +363,7 @@ public class SuperBotChallenge
 		{
 			try
 			{
-				channel.sendMessage("Which game would you like to play?").queue();
+				messages.send("Which game would you like to play?");
 				for (int i = 0; i < gamesWithPlayer.size(); i++) {
 					StringBuilder output = new StringBuilder();
 					output.append(i + 1);
@@ -403,17 +372,17 @@ public class SuperBotChallenge
 						output.append(" | ");
 						output.append(new GameBot(channel.getGuild().getId(), next).getName());
 					}
-					channel.sendMessage(output).queue();
+					messages.send(output);
 				}
-				channel.sendMessage("0 | Don't play now").queue();
+				messages.send("0 | Don't play now");
 			}
 			catch (IOException e)
 			{
-				channel.sendMessage("Bot creation failed.").queue();
+				messages.send("Bot creation failed.");
 				e.printStackTrace();
 				return;
 			}
-			waiter.waitForEvent(MessageReceivedEvent.class,
+			waiter.waitForMessage(channel.getId(), humanID,
 					//Right player and channel
 					e ->
 					{
@@ -431,14 +400,14 @@ public class SuperBotChallenge
 					e ->
 					{
 						if (e.getMessage().getContentRaw().equals("0")) {
-							channel.sendMessage("Very well.").queue();
+							messages.send("Very well.");
 							loadingHumanGame = false;
 						} else
 							loadHumanGame(gamesWithPlayer.get(Integer.parseInt(e.getMessage().getContentRaw()) - 1), humanID);
 					},
 					30, TimeUnit.SECONDS, () ->
 					{
-						channel.sendMessage("Timed out. !ready again when you decide.").queue();
+						messages.send("Timed out. !ready again when you decide.");
 						loadingHumanGame = false;
 					});
 		}
@@ -487,7 +456,7 @@ public class SuperBotChallenge
 			}
 			catch(IOException e)
 			{
-				channel.sendMessage("Bot creation failed.").queue();
+				messages.send("Bot creation failed.");
 				e.printStackTrace();
 				return;
 			}
@@ -504,14 +473,14 @@ public class SuperBotChallenge
 			//Ping everyone missing
 			for(String nextPlayer : missingPlayers)
 			{
-				channel.sendMessage(String.format("<@!%s>, are you there? Type !ready if you are!", nextPlayer)).queue();
+				messages.send(String.format("<@!%s>, are you there? Type !ready if you are!", nextPlayer));
 			}
 			//Then if they aren't here, reset the whole thing
 			timer.schedule(() -> 
 			{
 				if(loadingHumanGame)
 				{
-					channel.sendMessage("Other players aren't here. Game aborted.").queue();
+					messages.send("Other players aren't here. Game aborted.");
 					loadingHumanGame = false;
 				}
 			}, 30, TimeUnit.SECONDS);
@@ -535,7 +504,7 @@ public class SuperBotChallenge
 	
 	void prepGame(int gameToPlay)
 	{
-		Thread endOfGameTasks = new Thread(() -> {
+		Thread endOfGameTasks = Lane.callback(String.format("Challenge Handler - %s - Game %d", channel.getName(), gameToPlay), () -> {
 			gameList.remove(gameToPlay);
 			saveData();
 			if(gameList.isEmpty())
@@ -547,8 +516,8 @@ public class SuperBotChallenge
 			gameHandler.addBot(next);
 		gameHandler.runAtGameEnd = endOfGameTasks;
 		gamesRun++;
-		channel.sendMessage(String.format("**Game %02d/%02d**", gamesRun, totalGames)).queue();
-		channel.sendMessage(gameHandler.listPlayers(false)).queueAfter(2, TimeUnit.SECONDS);
+		messages.send(String.format("**Game %02d/%02d**", gamesRun, totalGames));
+		messages.sendAfter(gameHandler.listPlayers(false), 2, TimeUnit.SECONDS);
 		timer.schedule(() -> gameHandler.startTheGameAlready(), 5, TimeUnit.SECONDS);
 	}
 	
@@ -568,7 +537,7 @@ public class SuperBotChallenge
 			case 72, 76, 80 -> multiplier = 1;
 			default -> {
 				multiplier = 1;
-				channel.sendMessage("Multiplier not initialised properly!").queue();
+				messages.send("Multiplier not initialised properly!");
 			}
 		}
 		return multiplier;
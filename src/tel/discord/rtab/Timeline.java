@@ -0,0 +1,118 @@
+package tel.discord.rtab;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A run of steps with dramatic pauses between them, for pacing out messages without parking a thread.
+ * Once started on a lane, each step is scheduled on it as the last one finishes, so nothing sits asleep
+ * while we wait for the suspense to build.
+ * A step can add more steps (and pauses) while it runs - these go straight after it, ahead of anything
+ * already lined up, so methods like GameController.awardCash() can slot their own pacing into the middle of a turn.
+ */
+public class Timeline
+{
+	private record Step(long delay, Runnable action) {}
+
+	private final Deque<Step> steps = new ArrayDeque<>();
+	private List<Step> insertedSteps; //Only exists while a step is running
+	private long pendingDelay;
+
+	/**
+	 * Adds a step to run after whatever's already lined up (or after the current step, if called from one).
+	 * @param action The step to run
+	 * @return This timeline, for chaining
+	 */
+	public synchronized Timeline then(Runnable action)
+	{
+		Step step = new Step(pendingDelay, action);
+		pendingDelay = 0;
+		if(insertedSteps != null)
+			insertedSteps.add(step);
+		else
+			steps.add(step);
+		return this;
+	}
+
+	/**
+	 * Waits a while before the next step.
+	 * @param millis How long to wait, in milliseconds
+	 * @return This timeline, for chaining
+	 */
+	public synchronized Timeline pause(long millis)
+	{
+		pendingDelay += millis;
+		return this;
+	}
+
+	/**
+	 * Starts running the steps, each scheduled on the lane after the pause before it.
+	 * Returns straight away.
+	 * @param lane The lane to run the steps on (usually the controller's timer)
+	 */
+	public void start(Lane lane)
+	{
+		Step next = nextStep();
+		if(next != null)
+			lane.schedule(() ->
+			{
+				runStep(next);
+				start(lane);
+			}, next.delay, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Runs the steps on this thread, sleeping through the pauses, and returns once they're all done.
+	 * For callers that need the results straight away (eg. events that award cash partway through).
+	 */
+	public void runBlocking()
+	{
+		Step next;
+		while((next = nextStep()) != null)
+		{
+			if(next.delay > 0)
+				Lane.pause(next.delay);
+			runStep(next);
+		}
+	}
+
+	private synchronized Step nextStep()
+	{
+		//A pause at the very end still needs to be waited out
+		if(pendingDelay > 0)
+			then(() -> {});
+		return steps.poll();
+	}
+
+	private void runStep(Step step)
+	{
+		synchronized(this)
+		{
+			insertedSteps = new ArrayList<>();
+		}
+		try
+		{
+			step.action.run();
+		}
+		catch(Exception e)
+		{
+			//Don't let one bad step swallow the rest of the timeline
+			e.printStackTrace();
+		}
+		finally
+		{
+			synchronized(this)
+			{
+				//A pause left hanging at the end of a step belongs before the next one
+				if(pendingDelay > 0)
+					then(() -> {});
+				for(int i=insertedSteps.size()-1; i>=0; i--)
+					steps.addFirst(insertedSteps.get(i));
+				insertedSteps = null;
+			}
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package tel.discord.rtab.board;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import tel.discord.rtab.RtaBMath;
+
+/**
+ * A weighted pick from a set of spaces that takes the same time however many spaces there are (Vose's alias method).
+ * Each slot holds one space and, for the rest of its share, an "alias" to another one - pick a slot at random,
+ * then flip a weighted coin to choose between the two.
+ * Weights only depend on the player count, so each set of spaces gets one table per player count, built the first time
+ * it's needed and reused from then on.
+ */
+final class AliasTable<T extends WeightedSpace>
+{
+	private static final ClassValue<Map<Integer,AliasTable<?>>> tables = new ClassValue<>()
+	{
+		@Override
+		protected Map<Integer,AliasTable<?>> computeValue(Class<?> type)
+		{
+			return new ConcurrentHashMap<>();
+		}
+	};
+	private final T[] values;
+	private final double[] chance; //The chance of staying on each slot rather than going to its alias
+	private final int[] alias;
+
+	private AliasTable(int players, T[] values)
+	{
+		this.values = values.clone();
+		int size = values.length;
+		chance = new double[size];
+		alias = new int[size];
+		//Scale each weight by the number of slots, so an average slot has exactly the total weight to share out
+		long[] share = new long[size];
+		long totalWeight = 0;
+		for(int i=0; i<size; i++)
+		{
+			share[i] = values[i].getWeight(players) * (long)size;
+			totalWeight += values[i].getWeight(players);
+		}
+		if(totalWeight <= 0)
+		{
+			//Nothing to weight by, so always pick the first space (as the old linear search did)
+			chance[0] = 1;
+			return;
+		}
+		Deque<Integer> small = new ArrayDeque<>();
+		Deque<Integer> large = new ArrayDeque<>();
+		for(int i=0; i<size; i++)
+			(share[i] < totalWeight ? small : large).push(i);
+		//Fill up each small slot with part of a large one, and put whatever's left of that back in the right pile
+		while(!small.isEmpty() && !large.isEmpty())
+		{
+			int less = small.pop();
+			int more = large.pop();
+			chance[less] = share[less] / (double)totalWeight;
+			alias[less] = more;
+			share[more] -= totalWeight - share[less];
+			(share[more] < totalWeight ? small : large).push(more);
+		}
+		//Anything left over is full (give or take rounding)
+		while(!large.isEmpty())
+			chance[large.pop()] = 1;
+		while(!small.isEmpty())
+			chance[small.pop()] = 1;
+	}
+
+	/**
+	 * Gets the table for a set of spaces, building it if we haven't needed it before.
+	 * Tables are only kept for a full set of values (ie. values()) - anything else gets a table to itself.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T extends WeightedSpace> AliasTable<T> of(int players, T[] values)
+	{
+		Class<?> type = values.getClass().getComponentType();
+		Object[] allValues = type.getEnumConstants();
+		if(allValues == null || allValues.length != values.length)
+			return new AliasTable<>(players, values);
+		return (AliasTable<T>)tables.get(type).computeIfAbsent(players, next -> new AliasTable<>(next, values));
+	}
+
+	T sample()
+	{
+		//One draw does both jobs: the whole part picks the slot and the fraction flips the coin
+		double random = RtaBMath.random() * values.length;
+		int slot = Math.min((int)random, values.length - 1);
+		return values[random - slot < chance[slot] ? slot : alias[slot]];
+	}
+}
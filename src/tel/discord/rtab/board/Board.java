@@ -1,19 +1,32 @@
 package tel.discord.rtab.board;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 import tel.discord.rtab.RtaBMath;
 
+/**
+ * The spaces on a game board, stored as each component's ordinal in a row of bytes
+ * (so a whole board is six small arrays, and copying one is six array copies).
+ */
 public class Board
 {
-	ArrayList<SpaceType> typeBoard;
-	ArrayList<Cash> cashBoard;
-	ArrayList<Boost> boostBoard;
-	ArrayList<BombType> bombBoard;
-	ArrayList<Game> gameBoard;
-	ArrayList<EventType> eventBoard;
+	//values() makes a fresh copy every time, so keep one of each to look ordinals up in
+	private static final SpaceType[] SPACE_TYPES = SpaceType.values();
+	private static final Cash[] CASH = Cash.values();
+	private static final Boost[] BOOSTS = Boost.values();
+	private static final BombType[] BOMB_TYPES = BombType.values();
+	private static final Game[] GAMES = Game.values();
+	private static final EventType[] EVENT_TYPES = EventType.values();
+	byte[] typeBoard;
+	byte[] cashBoard;
+	byte[] boostBoard;
+	byte[] bombBoard;
+	byte[] gameBoard;
+	byte[] eventBoard;
+	int size;
 	
 	/**
 	 * This constructor creates an empty board.
@@ -21,12 +34,7 @@ public class Board
 	 */
 	public Board()
 	{
-		typeBoard = new ArrayList<>();
-		cashBoard = new ArrayList<>();
-		boostBoard = new ArrayList<>();
-		bombBoard = new ArrayList<>();
-		gameBoard = new ArrayList<>();
-		eventBoard = new ArrayList<>();
+		this(0);
 	}
 	
 	/**
@@ -39,71 +47,108 @@ public class Board
 	 */
 	public Board(int size, int players)
 	{
-		typeBoard = new ArrayList<>(size);
-		cashBoard = new ArrayList<>(size);
-		boostBoard = new ArrayList<>(size);
-		bombBoard = new ArrayList<>(size);
-		gameBoard = new ArrayList<>(size);
-		eventBoard = new ArrayList<>(size);
+		this(Math.max(size, getCapacity(players)));
 		generateBoard(size, players);
 	}
 	
+	private Board(int capacity)
+	{
+		typeBoard = new byte[capacity];
+		cashBoard = new byte[capacity];
+		boostBoard = new byte[capacity];
+		bombBoard = new byte[capacity];
+		gameBoard = new byte[capacity];
+		eventBoard = new byte[capacity];
+	}
+	
+	/**
+	 * @return The number of spaces on a full board for this many players
+	 */
+	public static int getCapacity(int players)
+	{
+		return (players+1) * 5;
+	}
+	
+	/**
+	 * @return A copy of the board as it stands, which can be changed without affecting this one
+	 */
+	public Board copy()
+	{
+		Board copy = new Board(0);
+		copy.typeBoard = typeBoard.clone();
+		copy.cashBoard = cashBoard.clone();
+		copy.boostBoard = boostBoard.clone();
+		copy.bombBoard = bombBoard.clone();
+		copy.gameBoard = gameBoard.clone();
+		copy.eventBoard = eventBoard.clone();
+		copy.size = size;
+		return copy;
+	}
+	
+	public int size()
+	{
+		return size;
+	}
+	
 	public void generateBoard(int size, int players)
 	{
+		//Make room if we've gone past what the board was made for
+		if(this.size + size > typeBoard.length)
+		{
+			int capacity = this.size + size;
+			typeBoard = Arrays.copyOf(typeBoard, capacity);
+			cashBoard = Arrays.copyOf(cashBoard, capacity);
+			boostBoard = Arrays.copyOf(boostBoard, capacity);
+			bombBoard = Arrays.copyOf(bombBoard, capacity);
+			gameBoard = Arrays.copyOf(gameBoard, capacity);
+			eventBoard = Arrays.copyOf(eventBoard, capacity);
+		}
 		//Create each board in turn
-		typeBoard.addAll(generateSpaces(size, players, SpaceType.values()));
-		cashBoard.addAll(generateSpaces(size, players, Cash.values()));
-		boostBoard.addAll(generateSpaces(size, players, Boost.values()));
-		bombBoard.addAll(generateSpaces(size, players, BombType.values()));
-		gameBoard.addAll(generateSpaces(size, players, Game.values()));
-		eventBoard.addAll(generateSpaces(size, players, EventType.values()));
+		generateSpaces(typeBoard, this.size, size, players, SPACE_TYPES);
+		generateSpaces(cashBoard, this.size, size, players, CASH);
+		generateSpaces(boostBoard, this.size, size, players, BOOSTS);
+		generateSpaces(bombBoard, this.size, size, players, BOMB_TYPES);
+		generateSpaces(gameBoard, this.size, size, players, GAMES);
+		generateSpaces(eventBoard, this.size, size, players, EVENT_TYPES);
+		this.size += size;
+	}
+	
+	private static <T extends Enum<T> & WeightedSpace> void generateSpaces(byte[] board, int start, int spaces, int players, T[] values)
+	{
+		AliasTable<T> weights = AliasTable.of(players, values);
+		for(int i=start; i<start+spaces; i++)
+			board[i] = (byte)weights.sample().ordinal();
 	}
 	
 	public void rerollSpace(int space, int players)
 	{
-		typeBoard.set(space, generateSpaces(1, players, SpaceType.values()).get(0));
-		cashBoard.set(space, generateSpaces(1, players, Cash.values()).get(0));
-		boostBoard.set(space, generateSpaces(1, players, Boost.values()).get(0));
-		bombBoard.set(space, generateSpaces(1, players, BombType.values()).get(0));
-		gameBoard.set(space, generateSpaces(1, players, Game.values()).get(0));
-		eventBoard.set(space, generateSpaces(1, players, EventType.values()).get(0));
+		Objects.checkIndex(space, size);
+		typeBoard[space] = (byte)generateSpace(players, SPACE_TYPES).ordinal();
+		cashBoard[space] = (byte)generateSpace(players, CASH).ordinal();
+		boostBoard[space] = (byte)generateSpace(players, BOOSTS).ordinal();
+		bombBoard[space] = (byte)generateSpace(players, BOMB_TYPES).ordinal();
+		gameBoard[space] = (byte)generateSpace(players, GAMES).ordinal();
+		eventBoard[space] = (byte)generateSpace(players, EVENT_TYPES).ordinal();
 	}
 	
 	public static <T extends WeightedSpace> T generateSpace(T[] values)
 	{
-		return generateSpaces(1, 4, values).get(0);
+		return generateSpace(4, values);
 	}
 	
 	public static <T extends WeightedSpace> T generateSpace(int players, T[] values)
 	{
-		return generateSpaces(1, players, values).get(0);
+		return AliasTable.of(players, values).sample();
 	}
 	
 	public static <T extends WeightedSpace> List<T> generateSpaces(int spaces, int players, T[] values)
 	{
 		//Set up our return variable
 		ArrayList<T> board = new ArrayList<>(spaces);
-		//Declare possible values and weights
-		//Autogenerate cumulative weights
-		int[] cumulativeWeights = new int[values.length];
-		int totalWeight = 0;
-		for(int i=0; i<values.length; i++)
-		{
-			totalWeight += values[i].getWeight(players);
-			cumulativeWeights[i] = totalWeight;
-		}
-		double random;
+		//Get the weight table for these spaces (built the first time we need it)
+		AliasTable<T> weights = AliasTable.of(players, values);
 		for(int i=0; i<spaces; i++)
-		{
-			//Get random spot in weight table
-			random = RtaBMath.random() * totalWeight;
-			//Find where we actually landed
-			int search=0;
-			while(cumulativeWeights[search] < random)
-				search++;
-			//Find the corresponding value and add it to our spaces
-			board.add(values[search]);
-		}
+			board.add(weights.sample());
 		return board;
 	}
 	
@@ -113,102 +158,102 @@ public class Board
 			case BOMB, GB_BOMB -> {
 				// do nothing; just return
 			}
-			case GRAB_BAG -> typeBoard.set(location, SpaceType.GB_BOMB);
-			default -> typeBoard.set(location, SpaceType.BOMB);
+			case GRAB_BAG -> changeType(location, SpaceType.GB_BOMB);
+			default -> changeType(location, SpaceType.BOMB);
 		}
 	}
 	
 	public void changeType(int location, SpaceType newType)
 	{
-		typeBoard.set(location, newType);
+		typeBoard[Objects.checkIndex(location, size)] = (byte)newType.ordinal();
 	}
 	public SpaceType getType(int location)
 	{
-		return typeBoard.get(location);
+		return SPACE_TYPES[Byte.toUnsignedInt(typeBoard[Objects.checkIndex(location, size)])];
 	}
 	public Cash getCash(int location)
 	{
-		return cashBoard.get(location);
+		return CASH[Byte.toUnsignedInt(cashBoard[Objects.checkIndex(location, size)])];
 	}
 	public Boost getBoost(int location)
 	{
-		return boostBoard.get(location);
+		return BOOSTS[Byte.toUnsignedInt(boostBoard[Objects.checkIndex(location, size)])];
 	}
 	public Game getGame(int location)
 	{
-		return gameBoard.get(location);
+		return GAMES[Byte.toUnsignedInt(gameBoard[Objects.checkIndex(location, size)])];
 	}
 	public EventType getEvent(int location)
 	{
-		return eventBoard.get(location);
+		return EVENT_TYPES[Byte.toUnsignedInt(eventBoard[Objects.checkIndex(location, size)])];
 	}
 	public BombType getBomb(int location)
 	{
-		return bombBoard.get(location);
+		return BOMB_TYPES[Byte.toUnsignedInt(bombBoard[Objects.checkIndex(location, size)])];
 	}
 	public void eventCurse(EventType curse)
 	{
-        Collections.fill(eventBoard, curse);
+		Arrays.fill(eventBoard, 0, size, (byte)curse.ordinal());
 	}
 	public void forceExplosiveBomb(int location)
 	{
-		if(bombBoard.get(location) == BombType.DUD || bombBoard.get(location) == BombType.THRESHOLDUD)
-			bombBoard.set(location, BombType.NORMAL);
+		if(getBomb(location) == BombType.DUD || getBomb(location) == BombType.THRESHOLDUD)
+			bombBoard[location] = (byte)BombType.NORMAL.ordinal();
 	}
 	public void bankruptCurse()
 	{
-        Collections.fill(bombBoard, BombType.BANKRUPT);
+		Arrays.fill(bombBoard, 0, size, (byte)BombType.BANKRUPT.ordinal());
 	}
 	public void lockdownBombs()
 	{
-		Collections.fill(bombBoard, BombType.LOCKDOWN);
+		Arrays.fill(bombBoard, 0, size, (byte)BombType.LOCKDOWN.ordinal());
 	}
 	public void cursedBomb(int location)
 	{
-		typeBoard.set(location, SpaceType.EVENT);
-		eventBoard.set(location, EventType.CURSED_BOMB);
+		changeType(location, SpaceType.EVENT);
+		eventBoard[location] = (byte)EventType.CURSED_BOMB.ordinal();
 	}
 	public void makeSeasonal(int location)
 	{
-		//typeBoard.set(location, SpaceType.GAME);
-		//gameBoard.set(location, Game.BANANA_TIME);
+		//changeType(location, SpaceType.GAME);
+		//gameBoard[location] = (byte)Game.BANANA_TIME.ordinal();
 		//do nothing for now
 	}
 	public void superScramble()
 	{
 		//OH NO
-		Collections.shuffle(typeBoard);
-		Collections.shuffle(cashBoard);
-		Collections.shuffle(boostBoard);
-		Collections.shuffle(bombBoard);
-		Collections.shuffle(gameBoard);
-		Collections.shuffle(eventBoard);
+		RtaBMath.shuffle(typeBoard, size);
+		RtaBMath.shuffle(cashBoard, size);
+		RtaBMath.shuffle(boostBoard, size);
+		RtaBMath.shuffle(bombBoard, size);
+		RtaBMath.shuffle(gameBoard, size);
+		RtaBMath.shuffle(eventBoard, size);
 	}
 	
 	public String truesightSpace(int location, int baseNumerator, int baseDenominator)
 	{
-		switch (typeBoard.get(location)) {
+		switch (getType(location)) {
 			case CASH -> {
-				if (cashBoard.get(location) == Cash.MYSTERY)
+				if (getCash(location) == Cash.MYSTERY)
 					return "Mystery Money";
-				else if (cashBoard.get(location) == Cash.PRIZE)
+				else if (getCash(location) == Cash.PRIZE)
 					return "Prize";
 				else {
-					int cashAmount = RtaBMath.applyBaseMultiplier(cashBoard.get(location).getValue().getLeft(), baseNumerator, baseDenominator);
-					return (cashAmount < 0 ? "-" : "") + String.format("$%,d", Math.abs(cashBoard.get(location).getValue().getLeft()));
+					int cashAmount = RtaBMath.applyBaseMultiplier(getCash(location).getValue().getLeft(), baseNumerator, baseDenominator);
+					return (cashAmount < 0 ? "-" : "") + String.format("$%,d", Math.abs(getCash(location).getValue().getLeft()));
 				}
 			}
 			case BOOSTER -> {
-				if (boostBoard.get(location) == Boost.MYSTERY)
+				if (getBoost(location) == Boost.MYSTERY)
 					return "Mystery Boost";
 				else
-					return String.format("%+d%% Boost", boostBoard.get(location).getValue());
+					return String.format("%+d%% Boost", getBoost(location).getValue());
 			}
 			case GAME -> {
-				return gameBoard.get(location).getName();
+				return getGame(location).getName();
 			}
 			case EVENT -> {
-				return eventBoard.get(location).getName();
+				return getEvent(location).getName();
 			}
 			case GRAB_BAG -> {
 				return "Grab Bag";
@@ -217,7 +262,7 @@ public class Board
 				return "BLAMMO";
 			}
 			case BOMB -> {
-				return bombBoard.get(location).getName();
+				return getBomb(location).getName();
 			}
 			case GB_BOMB -> {
 				return "GRAB BAG BOMB";
@@ -2,6 +2,7 @@ package tel.discord.rtab.bombs;
 
 import tel.discord.rtab.Achievement;
 import tel.discord.rtab.GameController;
+import tel.discord.rtab.Lane;
 
 public class BankruptBomb implements Bomb
 {
@@ -13,21 +14,21 @@ public class BankruptBomb implements Bomb
 			Bomb.super.explode(game, victim, penalty);
 		else
 		{
-			game.channel.sendMessage("It goes **BOOM**...").queue();
-			try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			game.channel.sendMessage("It also goes **BANKRUPT**. _\\*whoosh*_").queue();
-			try { Thread.sleep(3000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+			game.messages.send("It goes **BOOM**...");
+			Lane.pause(5000);
+			game.messages.send("It also goes **BANKRUPT**. _\\*whoosh*_");
+			Lane.pause(3000);
 			if(amountLost < 0)
 			{
-				game.channel.sendMessage(String.format("**$%1$,d** *returned*, plus $%2$,d penalty.",
-						Math.abs(amountLost),Math.abs(penalty))).queue();
+				game.messages.send(String.format("**$%1$,d** *returned*, plus $%2$,d penalty.",
+						Math.abs(amountLost),Math.abs(penalty)));
 			}
 			else
-				game.channel.sendMessage(String.format("**$%1$,d** lost, plus $%2$,d penalty.",
-						amountLost,Math.abs(penalty))).queue();
+				game.messages.send(String.format("**$%1$,d** lost, plus $%2$,d penalty.",
+						amountLost,Math.abs(penalty)));
 			StringBuilder extraResult = game.players.get(victim).blowUp(penalty,false);
 			if(extraResult != null)
-				game.channel.sendMessage(extraResult).queue();
+				game.messages.send(extraResult);
 			if(amountLost < 2*game.players.get(victim).getRoundDelta())
 				Achievement.UNBANKRUPT.check(game.players.get(victim));
 		}
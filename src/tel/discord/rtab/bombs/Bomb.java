@@ -1,6 +1,7 @@
 package tel.discord.rtab.bombs;
 
 import tel.discord.rtab.GameController;
+import tel.discord.rtab.Lane;
 import tel.discord.rtab.RtaBMath;
 
 public interface Bomb
@@ -10,17 +11,17 @@ public interface Bomb
 		//Small chance of making them think something exciting is gonna happen
 		if(RtaBMath.random() < 0.05)
 		{
-			game.channel.sendMessage("It goes **BOOM**...").queue();
-			try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			game.channel.sendMessage(String.format("$%,d lost as penalty.",Math.abs(penalty))).queue();
+			game.messages.send("It goes **BOOM**...");
+			Lane.pause(5000);
+			game.messages.send(String.format("$%,d lost as penalty.",Math.abs(penalty)));
 		}
 		//But most of the time, just blow them up
 		else
 		{
-			game.channel.sendMessage(String.format("It goes **BOOM**. $%,d lost as penalty.",Math.abs(penalty))).queue();
+			game.messages.send(String.format("It goes **BOOM**. $%,d lost as penalty.",Math.abs(penalty)));
 		}
 		StringBuilder extraResult = game.players.get(victim).blowUp(penalty,false);
 		if(extraResult != null)
-			game.channel.sendMessage(extraResult).queue();
+			game.messages.send(extraResult);
 	}
 }
@@ -1,18 +1,19 @@
 package tel.discord.rtab.bombs;
 
 import tel.discord.rtab.GameController;
+import tel.discord.rtab.Lane;
 import tel.discord.rtab.RtaBMath;
 
 public class ClusterBomb implements Bomb
 {
 	public void explode(GameController game, int victim, int penalty)
 	{
-		game.channel.sendMessage("It goes **BOOM**...").queue();
+		game.messages.send("It goes **BOOM**...");
 		int chain = 1;
 		do
 		{
 			chain *= 2;
-			try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+			Lane.pause(5000);
 			if(chain <= 398) //A bomb bigger than this would exceed Discord's character limit
 			{
 				StringBuilder nextLevel = new StringBuilder();
@@ -28,24 +29,24 @@ public class ClusterBomb implements Bomb
 					nextLevel.append("...");
 				else
 					nextLevel.append("!!!");
-				game.channel.sendMessage(nextLevel).queue();
+				game.messages.send(nextLevel);
 			}
 			else //Congratulations on being the unluckiest player in the world (a 1/68,719,476,736 chance)
 			{
-				try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-				game.channel.sendMessage("...").queue();
-				try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-				game.channel.sendMessage(game.players.get(victim).getName()+" was disintegrated by the force of the bomb.").queue();
+				Lane.pause(5000);
+				game.messages.send("...");
+				Lane.pause(5000);
+				game.messages.send(game.players.get(victim).getName()+" was disintegrated by the force of the bomb.");
 			}
 		}
 		while(RtaBMath.random() * chain < 1 && chain <= 398);
-		try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		Lane.pause(5000);
 		if(chain <= 398)
 		{
-			game.channel.sendMessage(String.format("**$%,d** penalty!",Math.abs(chain*penalty))).queue();
+			game.messages.send(String.format("**$%,d** penalty!",Math.abs(chain*penalty)));
 			StringBuilder extraResult = game.players.get(victim).blowUp(chain*penalty,false);
 			if(extraResult != null)
-				game.channel.sendMessage(extraResult).queue();
+				game.messages.send(extraResult);
 		}
 		else //"Disintegrated" isn't a joke
 		{
@@ -10,9 +10,9 @@ public class CollateralBomb implements Bomb
 		int detonationChance = 5;
 		for(int i=0; i<game.boardSize; i++)
 		{
-			if(!game.pickedSpaces[i] && RtaBMath.random()*detonationChance < 1)
+			if(!game.pickedSpaces.get(i) && RtaBMath.random()*detonationChance < 1)
 			{
-				game.pickedSpaces[i] = true;
+				game.pickedSpaces.set(i);
 				game.spacesLeft --;
 				detonationChance ++; //So the next one becomes less likely, and to count spaces destroyed
 			}
@@ -22,12 +22,12 @@ public class CollateralBomb implements Bomb
 			Bomb.super.explode(game, victim, penalty);
 		else
 		{
-			game.channel.sendMessage("It goes **KABLAM**! "
+			game.messages.send("It goes **KABLAM**! "
 					+ String.format("$%,d lost as penalty, and %d space"+(detonationChance!=6?"s":"")+" destroyed."
-							,Math.abs(penalty),detonationChance-5)).queue();
+							,Math.abs(penalty),detonationChance-5));
 			StringBuilder extraResult = game.players.get(victim).blowUp(penalty,false);
 			if(extraResult != null)
-				game.channel.sendMessage(extraResult).queue();
+				game.messages.send(extraResult);
 		}
 	}
 }
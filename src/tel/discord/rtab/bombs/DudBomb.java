@@ -7,7 +7,7 @@ public class DudBomb implements Bomb
 {
 	public void explode(GameController game, int victim, int penalty)
 	{
-		game.channel.sendMessage("It goes _\\*fizzle*_.").queue();
+		game.messages.send("It goes _\\*fizzle*_.");
 		//That's it, no explosion here! Then again, no triforce either.
 		
 		//Actually now we check for an achievement rip
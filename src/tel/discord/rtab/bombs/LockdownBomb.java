@@ -7,9 +7,9 @@ public class LockdownBomb implements Bomb
 	static final int MULTIPLIER = 4;
 	public void explode(GameController game, int victim, int penalty)
 	{
-		game.channel.sendMessage(String.format("It goes **BOOM**. $%,d lockdown penalty.",Math.abs(penalty*MULTIPLIER))).queue();
+		game.messages.send(String.format("It goes **BOOM**. $%,d lockdown penalty.",Math.abs(penalty*MULTIPLIER)));
 		StringBuilder extraResult = game.players.get(victim).blowUp(penalty*MULTIPLIER,false);
 		if(extraResult != null)
-			game.channel.sendMessage(extraResult).queue();
+			game.messages.send(extraResult);
 	}
 }
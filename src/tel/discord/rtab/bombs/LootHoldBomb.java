@@ -12,11 +12,11 @@ public class LootHoldBomb implements Bomb
 			Bomb.super.explode(game, victim, penalty);
 		else
 		{
-			game.channel.sendMessage("It holds your boost and minigames, then goes **BOOM**. "
-					+ String.format("$%,d lost as penalty.",Math.abs(penalty))).queue();
+			game.messages.send("It holds your boost and minigames, then goes **BOOM**. "
+					+ String.format("$%,d lost as penalty.",Math.abs(penalty)));
 			StringBuilder extraResult = game.players.get(victim).blowUp(penalty,true);
 			if(extraResult != null)
-				game.channel.sendMessage(extraResult).queue();
+				game.messages.send(extraResult);
 		}
 	}
 }
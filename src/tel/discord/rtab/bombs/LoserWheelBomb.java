@@ -1,6 +1,7 @@
 package tel.discord.rtab.bombs;
 
 import tel.discord.rtab.GameController;
+import tel.discord.rtab.Lane;
 import tel.discord.rtab.board.Game;
 
 public class LoserWheelBomb implements Bomb
@@ -12,9 +13,9 @@ public class LoserWheelBomb implements Bomb
 			Bomb.super.explode(game, victim, penalty);
 		else
 		{
-			game.channel.sendMessage("It goes **BOOM**...").queue();
-			try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			game.channel.sendMessage("with a penalty to be determined later.").queue();
+			game.messages.send("It goes **BOOM**...");
+			Lane.pause(5000);
+			game.messages.send("with a penalty to be determined later.");
 			game.awardGame(victim, Game.LOSER_WHEEL);
 			game.players.get(victim).blowUp(0,false);
 		}
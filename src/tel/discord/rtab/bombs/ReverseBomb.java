@@ -1,6 +1,7 @@
 package tel.discord.rtab.bombs;
 
 import tel.discord.rtab.GameController;
+import tel.discord.rtab.Lane;
 import tel.discord.rtab.MoneyMultipliersToUse;
 import tel.discord.rtab.Player;
 import tel.discord.rtab.PlayerStatus;
@@ -9,9 +10,9 @@ public class ReverseBomb implements Bomb
 {
 	public void explode(GameController game, int victim, int penalty)
 	{
-		game.channel.sendMessage("It goes **BOOM**...").queue();
-		try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		game.channel.sendMessage(String.format("But it's a REVERSE bomb. $%,d awarded to living players!",Math.abs(penalty))).queue();
+		game.messages.send("It goes **BOOM**...");
+		Lane.pause(5000);
+		game.messages.send(String.format("But it's a REVERSE bomb. $%,d awarded to living players!",Math.abs(penalty)));
 		game.players.get(victim).blowUp(0,false);
 		for(Player nextPlayer : game.players)
 			if(nextPlayer.status == PlayerStatus.ALIVE || nextPlayer.status == PlayerStatus.WINNER)
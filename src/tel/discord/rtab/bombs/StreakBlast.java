@@ -2,14 +2,15 @@ package tel.discord.rtab.bombs;
 
 import tel.discord.rtab.Achievement;
 import tel.discord.rtab.GameController;
+import tel.discord.rtab.Lane;
 import tel.discord.rtab.PlayerStatus;
 
 public class StreakBlast implements Bomb
 {
 	public void explode(GameController game, int victim, int penalty)
 	{
-		game.channel.sendMessage("It goes **BOOM**...").queue();
-		try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		game.messages.send("It goes **BOOM**...");
+		Lane.pause(5000);
 		if (game.playersAlive > 1 && game.players.get(victim).winstreak > 10)
 		{
 			int excessStreak = game.players.get(victim).winstreak - 10;
@@ -20,8 +21,8 @@ public class StreakBlast implements Bomb
 			{
 				streakPerPlayer = 1; //give a minimum if there is /some/ streak
 			}
-			game.channel.sendMessage("And it blasts their streak between the players! "
-					+ String.format("+%1$d.%2$dx streak awarded to living players!", streakPerPlayer/10, streakPerPlayer%10)).queue();
+			game.messages.send("And it blasts their streak between the players! "
+					+ String.format("+%1$d.%2$dx streak awarded to living players!", streakPerPlayer/10, streakPerPlayer%10));
 			for(int i=0; i<game.players.size(); i++)
 			{
 				if(game.players.get(i).status == PlayerStatus.ALIVE && i != victim)
@@ -32,9 +33,9 @@ public class StreakBlast implements Bomb
 				}
 			}	
 		}
-			game.channel.sendMessage(String.format("$%,d lost as penalty.",Math.abs(penalty))).queue();
+			game.messages.send(String.format("$%,d lost as penalty.",Math.abs(penalty)));
 			StringBuilder extraResult = game.players.get(victim).blowUp(penalty,false);
 			if(extraResult != null)
-				game.channel.sendMessage(extraResult).queue();
+				game.messages.send(extraResult);
 	}
 }
@@ -1,14 +1,10 @@
 package tel.discord.rtab.commands;
 
+import tel.discord.rtab.ControllerRegistry;
 import tel.discord.rtab.GameController;
 import tel.discord.rtab.LifePenaltyType;
-import tel.discord.rtab.RaceToABillionBot;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.LinkedList;
-import java.util.List;
 
 import com.jagrosh.jdautilities.command.CommandEvent;
 
@@ -26,50 +22,45 @@ public class AnnuitiesCommand extends ParsingCommand {
 	@Override
 	protected void execute(CommandEvent event)
 	{
-		for(GameController game : RaceToABillionBot.game)
+		GameController game = ControllerRegistry.getGame(event.getChannel().getId());
+		if(game != null)
 		{
-			if(game.channel.getId().equals(event.getChannel().getId()))
+			//If no name given, check it for themselves
+			String[] record;
+			if(event.getArgs() == "")
+				record = game.scores.getRecord(event.getAuthor().getId());
+			//If it's a mention, search by the id of the mention
+			else if(event.getArgs().startsWith("<@"))
 			{
-				try
+				String mentionID = parseMention(event.getArgs());
+				record = game.scores.getRecord(mentionID);
+			}
+			//Otherwise check it for the player named
+			else
+			{
+				record = game.scores.getRecordAt(game.scores.findRankByName(event.getArgs()));
+			}
+			//Tell them they're not real if they aren't
+			if(record == null)
+				event.reply("User not found.");
+			else
+			{
+				//Parse the array the same way we do when joining a game
+				String savedAnnuities = record[10];
+				savedAnnuities = savedAnnuities.replaceAll("[^\\d,-]", "");
+				String[] annuityList = savedAnnuities.split(",");
+				LinkedList<MutablePair<Integer,Integer>> annuities = new LinkedList<>();
+				for(int j=1; j<annuityList.length; j+=2)
+					annuities.add(MutablePair.of(Integer.parseInt(annuityList[j-1]), Integer.parseInt(annuityList[j])));
+				//Start building our response
+				StringBuilder output = new StringBuilder().append("```\n").append(record[1]).append("'s Annuities:\n");
+				if(annuities.isEmpty())
 				{
-					List<String> list = Files.readAllLines(Paths.get("scores","scores"+event.getChannel().getId()+".csv"));
-					//If no name given, check it for themselves
-					int index;
-					if(event.getArgs() == "")
-						index = findUserInList(list,event.getAuthor().getId(),false);
-					//If it's a mention, search by the id of the mention
-					else if(event.getArgs().startsWith("<@"))
-					{
-						String mentionID = parseMention(event.getArgs());
-						index = findUserInList(list,mentionID,false);
-					}
-					//Otherwise check it for the player named
-					else
-					{
-						index = findUserInList(list,event.getArgs(),true);
-					}
-					//Tell them they're not real if they aren't
-					if(index < 0 || index >= list.size())
-						event.reply("User not found.");
-					else
-					{
-						//Parse the array the same way we do when joining a game
-						String[] record = list.get(index).split("#");
-						String savedAnnuities = record[10];
-						savedAnnuities = savedAnnuities.replaceAll("[^\\d,-]", "");
-						String[] annuityList = savedAnnuities.split(",");
-						LinkedList<MutablePair<Integer,Integer>> annuities = new LinkedList<>();
-						for(int j=1; j<annuityList.length; j+=2)
-							annuities.add(MutablePair.of(Integer.parseInt(annuityList[j-1]), Integer.parseInt(annuityList[j])));
-						//Start building our response
-						StringBuilder output = new StringBuilder().append("```\n").append(record[1]).append("'s Annuities:\n");
-						if(annuities.isEmpty())
-						{
-							output.append("You have no annuities.\n");
-						}
-						else
-						{
-							//Run through the iterator and tally up the payments
+					output.append("You have no annuities.\n");
+				}
+				else
+				{
+					//Run through the iterator and tally up the payments
                             for (MutablePair<Integer, Integer> nextAnnuity : annuities) {
                                 output.append(String.format("$%,d: ", nextAnnuity.getLeft()));
                                 if (nextAnnuity.getRight() == -1)
@@ -77,22 +68,16 @@ public class AnnuitiesCommand extends ParsingCommand {
                                 else
                                     output.append(String.format("%d spaces\n", nextAnnuity.getRight()));
                             }
-						}
-						output.append("```");
-						//If they're playing without lives, let them know their annuities are frozen
-						int lives = Integer.parseInt(record[6]);
-						if(lives <= 0 && game.lifePenalty != LifePenaltyType.NONE && game.lifePenalty != LifePenaltyType.HARDCAP)
-							output.append("\nNote: Annuities are paused when playing while out of lives.");
-						event.reply(output.toString());
-					}
-				}
-				catch (IOException e)
-				{
-					e.printStackTrace();
 				}
-				//We found the right channel, so
-				return;
+				output.append("```");
+				//If they're playing without lives, let them know their annuities are frozen
+				int lives = Integer.parseInt(record[6]);
+				if(lives <= 0 && game.lifePenalty != LifePenaltyType.NONE && game.lifePenalty != LifePenaltyType.HARDCAP)
+					output.append("\nNote: Annuities are paused when playing while out of lives.");
+				event.reply(output.toString());
 			}
+			//We found the right channel, so
+			return;
 		}
 	}
 }
@@ -1,7 +1,7 @@
 package tel.discord.rtab.commands;
 
+import tel.discord.rtab.ControllerRegistry;
 import tel.discord.rtab.GameController;
-import tel.discord.rtab.RaceToABillionBot;
 import tel.discord.rtab.GameStatus;
 
 import com.jagrosh.jdautilities.command.Command;
@@ -18,22 +18,20 @@ public class BoardCommand extends Command
 	
 	@Override
 	protected void execute(CommandEvent event) {
-		for(GameController game : RaceToABillionBot.game)
+		GameController game = ControllerRegistry.getGame(event.getChannel().getId());
+		if(game != null)
 		{
-			if(game.channel.getId().equals(event.getChannel().getId()))
+			if(game.gameStatus == GameStatus.SIGNUPS_OPEN)
 			{
-				if(game.gameStatus == GameStatus.SIGNUPS_OPEN)
-				{
-					//No board to display if the game isn't running!
-					event.reply("No game currently running.");
-				}
-				else
-				{	
-					game.displayBoardAndStatus(game.gameStatus != GameStatus.END_GAME, false, false);
-				}
-				//We found the right channel, so
-				return;
+				//No board to display if the game isn't running!
+				event.reply("No game currently running.");
 			}
+			else
+			{	
+				game.displayBoardAndStatus(game.gameStatus != GameStatus.END_GAME, false, false);
+			}
+			//We found the right channel, so
+			return;
 		}
 	}
 
@@ -1,13 +1,12 @@
 package tel.discord.rtab.commands;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.util.List;
 
 import com.jagrosh.jdautilities.command.Command;
 import com.jagrosh.jdautilities.command.CommandEvent;
 
+import tel.discord.rtab.SeasonHistory;
+
 public class ChampionsCommand extends Command
 {
     public ChampionsCommand()
@@ -26,16 +25,8 @@ public class ChampionsCommand extends Command
 			output.append("```\n");
 			output.append("Champions in "+event.getChannel().getName()+":\n");
 			String channelID = event.getChannel().getId(); //The command is flagged guild-only, so we know this won't be null
-			int season = 1;
-			//We're going to keep reading history files as long as they're there
-			while(Files.exists(Paths.get("scores","history"+channelID+"s"+season+".csv")))
-			{
-				List<String> list = Files.readAllLines(
-						Paths.get("scores","history"+channelID+"s"+season+".csv"));
-				String[] record = list.get(0).split("#");
-				output.append(String.format("Season %2d - %s%n", season, record[1]));
-				season++;
-			}
+			for(SeasonHistory.Finish next : SeasonHistory.forChannel(channelID).getChampions())
+				output.append(String.format("Season %2d - %s%n", next.season(), next.name()));
 			output.append("```");
 			event.reply(output.toString());
 		}
@@ -1,18 +1,13 @@
 package tel.discord.rtab.commands;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.List;
 
 import com.jagrosh.jdautilities.command.CommandEvent;
 
+import tel.discord.rtab.ControllerRegistry;
 import tel.discord.rtab.GameController;
 import tel.discord.rtab.GameStatus;
 import tel.discord.rtab.Player;
-import tel.discord.rtab.RaceToABillionBot;
 import tel.discord.rtab.RtaBMath;
 import tel.discord.rtab.board.Game;
 
@@ -51,13 +46,7 @@ public class EnhanceCommand extends ParsingCommand
 		//Start by checking to see if they're in-game, and read from their player-file instead
 		Player player = null;
 		//Find the channel
-		GameController controller = null;
-		for(GameController next : RaceToABillionBot.game)
-			if(next.channel.getId().equals(event.getChannel().getId()))
-			{
-				controller = next;
-				break;
-			}
+		GameController controller = ControllerRegistry.getGame(event.getChannel().getId());
 		if(controller == null)
 		{
 			event.reply("This command must be used in a game channel.");
@@ -131,13 +120,7 @@ public class EnhanceCommand extends ParsingCommand
 			return;
 		}
 		//Find the channel
-		GameController controller = null;
-		for(GameController next : RaceToABillionBot.game)
-			if(next.channel.getId().equals(event.getChannel().getId()))
-			{
-				controller = next;
-				break;
-			}
+		GameController controller = ControllerRegistry.getGame(event.getChannel().getId());
 		if(controller == null)
 		{
 			event.reply("This command must be used in a game channel.");
@@ -172,64 +155,50 @@ public class EnhanceCommand extends ParsingCommand
 			return;
 		}
 		//Next game hasn't started, we can go find them in the savefile
-		try
+		String[] record = controller.scores.getRecord(event.getAuthor().getId());
+		if(record == null)
 		{
-			List<String> list = Files.readAllLines(Paths.get("scores","scores"+event.getChannel().getId()+".csv"));
-			int index = findUserInList(list,event.getAuthor().getId(),false);
-			if(index < 0 || index >= list.size())
-			{
-				event.reply("You currently have no open enhance slots.");
-				return;
-			}
-			String[] record = list.get(index).split("#");
-			/*
-			 * record[11] = total lives spent
-			 * record[12] = list of enhanced minigames
-			 * (this is copied directly from the player initialisation file)
-			 */
-			int totalLivesSpent = Integer.parseInt(record[11]);
-			ArrayList<Game> enhancedGames = new ArrayList<>();
-			String savedEnhancedGames = record[12].substring(1, record[12].length() - 1); //Remove the brackets
-			String[] enhancedList = savedEnhancedGames.split(",");
-			if(!enhancedList[0].isEmpty())
-                for (String s : enhancedList) enhancedGames.add(Game.valueOf(s.trim()));
-			//Do the obvious checks
-			if(RtaBMath.getEnhanceCap(totalLivesSpent, controller.livesPerEnhance) <= enhancedGames.size())
+			event.reply("You currently have no open enhance slots.");
+			return;
+		}
+		/*
+		 * record[11] = total lives spent
+		 * record[12] = list of enhanced minigames
+		 * (this is copied directly from the player initialisation file)
+		 */
+		int totalLivesSpent = Integer.parseInt(record[11]);
+		ArrayList<Game> enhancedGames = new ArrayList<>();
+		String savedEnhancedGames = record[12].substring(1, record[12].length() - 1); //Remove the brackets
+		String[] enhancedList = savedEnhancedGames.split(",");
+		if(!enhancedList[0].isEmpty())
+			for (String s : enhancedList) enhancedGames.add(Game.valueOf(s.trim()));
+		//Do the obvious checks
+		if(RtaBMath.getEnhanceCap(totalLivesSpent, controller.livesPerEnhance) <= enhancedGames.size())
+		{
+			event.reply("You currently have no open enhance slots.");
+			return;
+		}
+		for(Game nextGame : enhancedGames)
+		{
+			if(game == nextGame)
 			{
-				event.reply("You currently have no open enhance slots.");
+				event.reply("You have already enhanced that minigame.");
 				return;
 			}
-			for(Game nextGame : enhancedGames)
-			{
-				if(game == nextGame)
-				{
-					event.reply("You have already enhanced that minigame.");
-					return;
-				}
-			}
-			//Enhance it!
-			enhancedGames.add(game);
-			event.reply("Minigame enhanced!");
-			//Now replace the record in the list
-			StringBuilder updatedLine = new StringBuilder();
-			for(int i=0; i<11; i++)
-			{
-				updatedLine.append(record[i]);
-				updatedLine.append("#");
-			}
-			updatedLine.append(totalLivesSpent);
-			updatedLine.append("#");
-			updatedLine.append(enhancedGames);
-			list.set(index, updatedLine.toString());
-			//And save it
-			Path file = Paths.get("scores","scores"+event.getChannel().getId()+".csv");
-			Path oldFile = Files.move(file, file.resolveSibling("scores"+event.getChannel().getId()+"old.csv"));
-			Files.write(file, list);
-			Files.delete(oldFile);
 		}
-		catch (IOException e)
+		//Enhance it!
+		enhancedGames.add(game);
+		event.reply("Minigame enhanced!");
+		//Now replace the record in the savefile
+		StringBuilder updatedLine = new StringBuilder();
+		for(int i=0; i<11; i++)
 		{
-			e.printStackTrace();
+			updatedLine.append(record[i]);
+			updatedLine.append("#");
 		}
+		updatedLine.append(totalLivesSpent);
+		updatedLine.append("#");
+		updatedLine.append(enhancedGames);
+		controller.scores.putRecord(updatedLine.toString());
 	}
 }
@@ -3,9 +3,9 @@ package tel.discord.rtab.commands;
 import com.jagrosh.jdautilities.command.Command;
 import com.jagrosh.jdautilities.command.CommandEvent;
 
+import tel.discord.rtab.ControllerRegistry;
 import tel.discord.rtab.GameController;
 import tel.discord.rtab.Player;
-import tel.discord.rtab.RaceToABillionBot;
 
 
 public class HiddenCommandCommand extends Command //How meta
@@ -23,13 +23,7 @@ public class HiddenCommandCommand extends Command //How meta
 		//Start by checking to see if they're in-game, and read from their player-file instead
 		Player player = null;
 		//Find the channel
-		GameController controller = null;
-		for(GameController next : RaceToABillionBot.game)
-			if(next.channel.getId().equals(event.getChannel().getId()))
-			{
-				controller = next;
-				break;
-			}
+		GameController controller = ControllerRegistry.getGame(event.getChannel().getId());
 		if(controller == null)
 		{
 			event.reply("This command must be used in a game channel.");
@@ -1,16 +1,15 @@
 package tel.discord.rtab.commands;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.util.LinkedList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import com.jagrosh.jdautilities.command.CommandEvent;
 
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
-import net.dv8tion.jda.internal.utils.tuple.MutableTriple;
 import tel.discord.rtab.Achievement;
+import tel.discord.rtab.SeasonHistory;
 
 public class HistoryCommand extends ParsingCommand
 {
@@ -53,43 +52,27 @@ public class HistoryCommand extends ParsingCommand
 		try
 		{
 			String channelID = channel.getId(); //The command is flagged guild-only, so we know this won't be null
-			int season = 1;
+			SeasonHistory history = SeasonHistory.forChannel(channelID);
+			if(history.getSeasonCount() == 0) //if we didn't find any history
+			{
+				return "This channel has no past seasons.";
+				
+			}
 			int minRank = Integer.MAX_VALUE;
 			int maxRank = 0;
 			int wins = 0;
-			List<MutableTriple<Integer,Integer,Long>> cashFigures = new LinkedList<>();
-			//We're going to keep reading history files as long as they're there
-			while(Files.exists(Paths.get("scores","history"+channelID+"s"+season+".csv")))
+			List<SeasonHistory.Finish> cashFigures = uID != null ? history.getFinishes(uID) : history.getFinishesByName(name);
+			for(SeasonHistory.Finish next : cashFigures)
 			{
-				//Load up the next one
-				List<String> list = Files.readAllLines(
-						Paths.get("scores","history"+channelID+"s"+season+".csv"));
-				int index;
-				//If we find them, add their records to the pile
+				int index = next.rank() - 1;
+				if(index < minRank)
+					minRank = index;
+				if(index > maxRank)
+					maxRank = index+1;
+				if(index == 0)
+					wins++;
 				if(uID != null)
-					index = findUserInList(list,uID,false);
-				else
-					index = findUserInList(list,name,true);
-				if(index >= 0 && index < list.size())
-				{
-					String[] record = list.get(index).split("#");
-					cashFigures.add(MutableTriple.of(season,(index+1),Long.parseLong(record[2])));
-					if(index < minRank)
-						minRank = index;
-					if(index > maxRank)
-						maxRank = index+1;
-					if(index == 0)
-						wins++;
-					if(uID != null)
-						name = record[1];
-				}
-				//Then move on to the next season
-				season ++;
-			}
-			if(season == 1) //if we didn't find any history
-			{
-				return "This channel has no past seasons.";
-				
+					name = next.name();
 			}
 			//So now we've gone through every past season and got a list of our scores, time to generate stats?
 			StringBuilder output = new StringBuilder();
@@ -100,9 +83,7 @@ public class HistoryCommand extends ParsingCommand
 			StringBuilder seasonList = new StringBuilder();
 			int moneyWidth = minRank == 0 ? 17 : 13;
 			int rankWidth = maxRank == 1 ? 1 : (int)Math.log10(maxRank-1)+1;
-			//season stops at the first one that doesn't exist, so we subtract 1
-			//and if there's no history data at all (so season 1 is the first that doesn't exist) we have a failsave to avoid div-by-0
-			int seasonWidth = season == 1 ? 1 : (int)Math.log10(season-1)+1;
+			int seasonWidth = (int)Math.log10(history.getSeasonCount())+1;
 			int seasonsPlayed = 0;
 			long thisSeason;
 			long totalCash = 0;
@@ -111,16 +92,16 @@ public class HistoryCommand extends ParsingCommand
 			int veteranSeasons = 0;
 			int regularSeasons = 0;
 			int grinderSeasons = 0;
-			for(MutableTriple<Integer,Integer,Long> nextSeason : cashFigures)
+			for(SeasonHistory.Finish nextSeason : cashFigures)
 			{
 				seasonsPlayed ++;
-				thisSeason = nextSeason.getRight();
+				thisSeason = nextSeason.money();
 				totalCash += thisSeason;
 				maingameCash += Math.min(1_000_000_000, thisSeason);
 				if(thisSeason > bestResult)
 					bestResult = thisSeason;
 				seasonList.append(String.format("Season %"+seasonWidth+"d: $%,"+moneyWidth+"d"
-						+ " - #%"+rankWidth+"d\n",nextSeason.getLeft(), thisSeason, nextSeason.getMiddle()));
+						+ " - #%"+rankWidth+"d\n",nextSeason.season(), thisSeason, nextSeason.rank()));
 				//Achievement Check
 				if(thisSeason >= 100_000_000)
 				{
@@ -136,12 +117,14 @@ public class HistoryCommand extends ParsingCommand
 			//Award achievements earned
 			if(uID != null)
 			{
+				Set<Achievement> earned = EnumSet.noneOf(Achievement.class);
 				if(veteranSeasons >= 10)
-					Achievement.VETERAN.award(uID, name, channel);
+					earned.add(Achievement.VETERAN);
 				if(regularSeasons >= 5)
-					Achievement.REGULAR.award(uID, name, channel);
+					earned.add(Achievement.REGULAR);
 				if(grinderSeasons >= 2)
-					Achievement.GRINDER.award(uID, name, channel);
+					earned.add(Achievement.GRINDER);
+				Achievement.awardAll(uID, name, channel, earned);
 			}
 			//Got the stats, attach them all on
 			if(seasonsPlayed > 0)
@@ -1,7 +1,7 @@
 package tel.discord.rtab.commands;
 
+import tel.discord.rtab.ControllerRegistry;
 import tel.discord.rtab.GameController;
-import tel.discord.rtab.RaceToABillionBot;
 
 import com.jagrosh.jdautilities.command.Command;
 import com.jagrosh.jdautilities.command.CommandEvent;
@@ -18,13 +18,11 @@ public class JoinCommand extends Command
 	@Override
 	protected void execute(CommandEvent event)
 	{
-		for(GameController game : RaceToABillionBot.game)
+		GameController game = ControllerRegistry.getGame(event.getChannel().getId());
+		if(game != null)
 		{
-			if(game.channel.getId().equals(event.getChannel().getId()))
-			{
-				game.addPlayer(event.getMember());
-				return;
-			}
+			game.addPlayer(event.getMember());
+			return;
 		}
 		//This isn't any of the game channels? Welp.
 		event.reply("Cannot join game: This is not a game channel.");
@@ -1,10 +1,12 @@
 package tel.discord.rtab.commands;
 
-import java.io.IOException;
+import java.util.List;
+import java.util.Set;
 
 import com.jagrosh.jdautilities.command.CommandEvent;
 
 import tel.discord.rtab.Achievement;
+import tel.discord.rtab.AchievementStore;
 import tel.discord.rtab.Achievement.AchievementType;
 
 public class ListAchievementsCommand extends ParsingCommand
@@ -13,77 +15,76 @@ public class ListAchievementsCommand extends ParsingCommand
     {
         this.name = "achievements";
         this.aliases = new String[]{"ach","awards"};
-        this.help = "view your unlocked achievements";
+        this.help = "view your unlocked achievements, or see who has one with !achievements who [achievement]";
         this.guildOnly = true;
     }
 	
 	@Override
 	protected void execute(CommandEvent event)
 	{
-		//Start by getting their achievement list
-		try
+		AchievementStore store = AchievementStore.forGuild(event.getGuild().getId());
+		//If they want to know who has an achievement, look that up instead
+		if(event.getArgs().toUpperCase().startsWith("WHO "))
 		{
-			String[] record = Achievement.getAchievementList(event.getAuthor().getId(), event.getGuild().getId());
-			String name = event.getMember().getEffectiveName();
-			boolean replyInDm = true;
-			StringBuilder output = new StringBuilder();
-			output.append("```\n");
-			AchievementType desiredAchievementType = null;
-			switch (event.getArgs().toUpperCase()) {
-				case "1", "A", "MILESTONE" -> {
-					desiredAchievementType = AchievementType.MILESTONE;
-					output.append("Milestone Achievements - ").append(name).append("\n\n");
-				}
-				case "2", "B", "EVENT" -> {
-					desiredAchievementType = AchievementType.EVENT;
-					output.append("Event Achievements - ").append(name).append("\n\n");
-				}
-				case "3", "C", "MINIGAME" -> {
-					desiredAchievementType = AchievementType.MINIGAME;
-					output.append("Minigame Achivements - ").append(name).append("\n\n");
-				}
-				case "4", "D", "LUCKY", "CHARMS", "LUCKY CHARMS" -> {
-					desiredAchievementType = AchievementType.CHARM;
-					output.append("Lucky Charms - ").append(name).append("\n\n");
-				}
-				default -> {
-					//Display a summary of achievements earned
-					output = getAchievementSummary(record, name);
-					replyInDm = false;
-				}
+			event.reply(listHolders(store, event.getArgs().substring(4).trim()));
+			return;
+		}
+		//Start by getting their achievement list
+		Set<Achievement> earned = store.getAchievements(event.getAuthor().getId());
+		String name = event.getMember().getEffectiveName();
+		boolean replyInDm = true;
+		StringBuilder output = new StringBuilder();
+		output.append("```\n");
+		AchievementType desiredAchievementType = null;
+		switch (event.getArgs().toUpperCase()) {
+			case "1", "A", "MILESTONE" -> {
+				desiredAchievementType = AchievementType.MILESTONE;
+				output.append("Milestone Achievements - ").append(name).append("\n\n");
+			}
+			case "2", "B", "EVENT" -> {
+				desiredAchievementType = AchievementType.EVENT;
+				output.append("Event Achievements - ").append(name).append("\n\n");
+			}
+			case "3", "C", "MINIGAME" -> {
+				desiredAchievementType = AchievementType.MINIGAME;
+				output.append("Minigame Achivements - ").append(name).append("\n\n");
 			}
-			//Get a list of the desired achievements
-			if(desiredAchievementType != null)
+			case "4", "D", "LUCKY", "CHARMS", "LUCKY CHARMS" -> {
+				desiredAchievementType = AchievementType.CHARM;
+				output.append("Lucky Charms - ").append(name).append("\n\n");
+			}
+			default -> {
+				//Display a summary of achievements earned
+				output = getAchievementSummary(earned, name);
+				replyInDm = false;
+			}
+		}
+		//Get a list of the desired achievements
+		if(desiredAchievementType != null)
+		{
+			for(Achievement next : Achievement.values())
 			{
-				int achievementFlags = Integer.parseInt(record[desiredAchievementType.recordLocation]);
-				for(Achievement next : Achievement.values())
+				if(next.achievementType == desiredAchievementType)
 				{
-					if(next.achievementType == desiredAchievementType)
+					//Don't show retired achievements unless they're earned
+					if(!next.retired || earned.contains(next))
 					{
-						//Don't show retired achievements unless they're earned
-						if(!next.retired || (achievementFlags>>>next.bitLocation)%2 == 1)
-						{
-							output.append("[").append((achievementFlags >>> next.bitLocation) % 2 == 1 ? "X" : " ").append("] ");
-							output.append(next.publicName).append(next.retired ? " (hidden)" : "").append("\n");
-							output.append("  ").append(next.unlockCondition).append("\n\n");
-						}
+						output.append("[").append(earned.contains(next) ? "X" : " ").append("] ");
+						output.append(next.publicName).append(next.retired ? " (hidden)" : "").append("\n");
+						output.append("  ").append(next.unlockCondition).append("\n\n");
 					}
 				}
 			}
-			//Close off the output and send it
-			output.append("```");
-			if(replyInDm)
-				event.replyInDm(output.toString());
-			else
-				event.reply(output.toString());
-		}
-		catch(IOException e)
-		{
-			event.reply("Failed to load achievement list.");
 		}
+		//Close off the output and send it
+		output.append("```");
+		if(replyInDm)
+			event.replyInDm(output.toString());
+		else
+			event.reply(output.toString());
 	}
 	
-	StringBuilder getAchievementSummary(String[] record, String name)
+	StringBuilder getAchievementSummary(Set<Achievement> earned, String name)
 	{
 		//Count earned achievements
 		int achievementTypes = Achievement.AchievementType.values().length;
@@ -102,9 +103,8 @@ public class ListAchievementsCommand extends ParsingCommand
 				allAchievements[type.ordinal()] ++;
 				allAchievementsTotal ++;
 			}
-			int achievementFlags = Integer.parseInt(record[type.recordLocation]);
 			//If it's earned, add it to the appropriate total depending on retirement state
-			if((achievementFlags>>>next.bitLocation)%2 == 1)
+			if(earned.contains(next))
 			{
 				if(next.retired)
 				{
@@ -136,4 +136,34 @@ public class ListAchievementsCommand extends ParsingCommand
 		output.append("Type !achievements followed by a letter to list that page of achievements.\n");
 		return output;
 	}
+	
+	String listHolders(AchievementStore store, String achievementName)
+	{
+		//Find the achievement they mean, by its name or its internal one
+		Achievement achievement = null;
+		for(Achievement next : Achievement.values())
+			if(next.publicName.equalsIgnoreCase(achievementName) || next.name().equalsIgnoreCase(achievementName))
+			{
+				achievement = next;
+				break;
+			}
+		if(achievement == null)
+			return "Achievement not found.";
+		List<String> holders = store.getHolderNames(achievement);
+		if(holders.isEmpty())
+			return "Nobody has earned **" + achievement.publicName + "** yet.";
+		StringBuilder output = new StringBuilder();
+		output.append(String.format("**%s** has been earned by %d player%s: ", achievement.publicName, holders.size(), holders.size() == 1 ? "" : "s"));
+		//Don't let the list run off the end of the message
+		for(int i=0; i<holders.size(); i++)
+		{
+			if(output.length() + holders.get(i).length() > 1900)
+			{
+				output.append("and ").append(holders.size() - i).append(" more");
+				break;
+			}
+			output.append(holders.get(i)).append(i+1 < holders.size() ? ", " : "");
+		}
+		return output.toString();
+	}
 }
@@ -1,17 +1,13 @@
 package tel.discord.rtab.commands;
 
+import tel.discord.rtab.ControllerRegistry;
 import tel.discord.rtab.GameController;
-import tel.discord.rtab.RaceToABillionBot;
 import tel.discord.rtab.RtaBMath;
 import tel.discord.rtab.LifePenaltyType;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.util.List;
 
 import com.jagrosh.jdautilities.command.CommandEvent;
 
@@ -28,132 +24,114 @@ public class LivesCommand extends ParsingCommand {
 	@Override
 	protected void execute(CommandEvent event)
 	{
-		for(GameController game : RaceToABillionBot.game)
+		GameController game = ControllerRegistry.getGame(event.getChannel().getId());
+		if(game != null)
 		{
-			if(game.channel.getId().equals(event.getChannel().getId()))
+			if(game.lifePenalty == LifePenaltyType.NONE)
 			{
-				if(game.lifePenalty == LifePenaltyType.NONE)
-				{
-					event.reply("You have unlimited lives in this channel.");
-					return;
-				}
-				try
-				{
-					List<String> list = Files.readAllLines(Paths.get("scores","scores"+event.getChannel().getId()+".csv"));
-					//If no name given, check it for themselves
-					int index;
-					if(event.getArgs() == "")
-						index = findUserInList(list,event.getAuthor().getId(),false);
-					//If it's a mention, search by the id of the mention
-					else if(event.getArgs().contains("<@"))
-					{
-						String mentionID = parseMention(event.getArgs());
-						index = findUserInList(list,mentionID,false);
-					}
-					//Otherwise check it for the player named
-					else
-					{
-						index = findUserInList(list,event.getArgs(),true);
-					}
-					//Then pass off to the actual controller if they're an actual user
-					if(index < 0 || index >= list.size())
-					{
-						if(event.getArgs() == "")
-							event.reply("You haven't played a game yet this season.");
-						else
-							event.reply("User not found.");
-					}
-					else
-						event.reply(checkLives(game, index));
-				}
-				catch (IOException e)
-				{
-					e.printStackTrace();
-				}
-				//We found the right channel, so
+				event.reply("You have unlimited lives in this channel.");
 				return;
 			}
+			//If no name given, check it for themselves
+			String[] record;
+			if(event.getArgs() == "")
+				record = game.scores.getRecord(event.getAuthor().getId());
+			//If it's a mention, search by the id of the mention
+			else if(event.getArgs().contains("<@"))
+			{
+				String mentionID = parseMention(event.getArgs());
+				record = game.scores.getRecord(mentionID);
+			}
+			//Otherwise check it for the player named
+			else
+			{
+				record = game.scores.getRecordAt(game.scores.findRankByName(event.getArgs()));
+			}
+			//Then pass off to the actual controller if they're an actual user
+			if(record == null)
+			{
+				if(event.getArgs() == "")
+					event.reply("You haven't played a game yet this season.");
+				else
+					event.reply("User not found.");
+			}
+			else
+				event.reply(checkLives(game, record));
+			//We found the right channel, so
+			return;
 		}
 	}
 	
-	public String checkLives(GameController game, int index) //TODO - fix this to work with different life penalties
+	public String checkLives(GameController game, String[] record) //TODO - fix this to work with different life penalties
 	{
 		StringBuilder output = new StringBuilder();
-		try
+		output.append(record[1]).append(": ");
+		int newbieProtection = Integer.parseInt(record[5]);
+		int lives = Integer.parseInt(record[6]);
+		if(newbieProtection > 0)
 		{
-			List<String> list = Files.readAllLines(Paths.get("scores","scores"+game.channel.getId()+".csv"));
-			String[] record = list.get(index).split("#");
-			output.append(record[1]).append(": ");
-			int newbieProtection = Integer.parseInt(record[5]);
-			int lives = Integer.parseInt(record[6]);
-			if(newbieProtection > 0)
+			output.append(newbieProtection);
+			output.append(" game");
+			if(newbieProtection != 1)
+				output.append("s");
+			output.append(" of newbie protection left.");
+		}
+		else
+		{
+			//Calculate how much their lives have refilled
+			Instant lifeRefill = Instant.parse(record[7]);
+			while(lifeRefill.isBefore(Instant.now()))
 			{
-				output.append(newbieProtection);
-				output.append(" game");
-				if(newbieProtection != 1)
-					output.append("s");
-				output.append(" of newbie protection left.");
+				if(lives < game.maxLives)
+					lives = game.maxLives;
+				else
+					lives++;
+				lifeRefill = lifeRefill.plusSeconds(72000);
 			}
+			//Just display a negative life count as 0 lol
+			output.append(Math.max(lives,0));
+			if(lives == 1)
+				output.append(" life left.");
 			else
+				output.append(" lives left.");
+			//If they're out of lives, tell them how much their next game's entry fee would be
+			if(lives <= 0 && game.lifePenalty != LifePenaltyType.HARDCAP)
+			{
+				int money = Integer.parseInt(record[2]);
+				int entryFee = switch (game.lifePenalty) {
+					case FLAT -> 1_000_000;
+					case SCALED -> RtaBMath.calculateEntryFee(money, 0);
+					case INCREASING -> RtaBMath.calculateEntryFee(money, lives);
+					default -> //We shouldn't be here
+							1_000_000_000;
+				};
+				output.append(String.format(" Playing now will cost $%,d.",entryFee));
+			}
+			//If they're below the base maximum, tell them how long until they get a refill
+			if(lives < game.maxLives)
 			{
-				//Calculate how much their lives have refilled
-				Instant lifeRefill = Instant.parse(record[7]);
-				while(lifeRefill.isBefore(Instant.now()))
+				output.append(" Lives refill in ");
+				//Check hours, then minutes, then seconds
+				OffsetDateTime lifeRefillTime = lifeRefill.minusSeconds(Instant.now().getEpochSecond())
+						.atOffset(ZoneOffset.UTC);
+				int hours = lifeRefillTime.getHour();
+				if(hours>0)
 				{
-					if(lives < game.maxLives)
-						lives = game.maxLives;
-					else
-						lives++;
-					lifeRefill = lifeRefill.plusSeconds(72000);
+					output.append(hours).append(" hours, ");
 				}
-				//Just display a negative life count as 0 lol
-				output.append(Math.max(lives,0));
-				if(lives == 1)
-					output.append(" life left.");
-				else
-					output.append(" lives left.");
-				//If they're out of lives, tell them how much their next game's entry fee would be
-				if(lives <= 0 && game.lifePenalty != LifePenaltyType.HARDCAP)
+				int minutes = lifeRefillTime.getMinute();
+				if(hours>0 || minutes>0)
 				{
-					int money = Integer.parseInt(record[2]);
-					int entryFee = switch (game.lifePenalty) {
-						case FLAT -> 1_000_000;
-						case SCALED -> RtaBMath.calculateEntryFee(money, 0);
-						case INCREASING -> RtaBMath.calculateEntryFee(money, lives);
-						default -> //We shouldn't be here
-								1_000_000_000;
-					};
-					output.append(String.format(" Playing now will cost $%,d.",entryFee));
+					output.append(minutes).append(" minutes, ");
 				}
-				//If they're below the base maximum, tell them how long until they get a refill
-				if(lives < game.maxLives)
+				int seconds = lifeRefillTime.getSecond();
+				if(hours>0 || minutes>0 || seconds>0)
 				{
-					output.append(" Lives refill in ");
-					//Check hours, then minutes, then seconds
-					OffsetDateTime lifeRefillTime = lifeRefill.minusSeconds(Instant.now().getEpochSecond())
-							.atOffset(ZoneOffset.UTC);
-					int hours = lifeRefillTime.getHour();
-					if(hours>0)
-					{
-						output.append(hours).append(" hours, ");
-					}
-					int minutes = lifeRefillTime.getMinute();
-					if(hours>0 || minutes>0)
-					{
-						output.append(minutes).append(" minutes, ");
-					}
-					int seconds = lifeRefillTime.getSecond();
-					if(hours>0 || minutes>0 || seconds>0)
-					{
-						output.append(seconds).append(" seconds");
-					}
-					output.append(".");
+					output.append(seconds).append(" seconds");
 				}
+				output.append(".");
 			}
 		}
-		catch (IOException e) {
-			e.printStackTrace();
-		}
 		return output.toString();
 	}
 }
@@ -7,9 +7,8 @@ import java.util.concurrent.TimeUnit;
 import com.jagrosh.jdautilities.command.Command;
 import com.jagrosh.jdautilities.command.CommandEvent;
 
-import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import tel.discord.rtab.ControllerRegistry;
 import tel.discord.rtab.GameController;
-import tel.discord.rtab.RaceToABillionBot;
 
 public class LockoutCommand extends Command
 {
@@ -22,40 +21,38 @@ public class LockoutCommand extends Command
 	@Override
 	protected void execute(CommandEvent event)
 	{
-		for(GameController game : RaceToABillionBot.game)
+		GameController game = ControllerRegistry.getGame(event.getChannel().getId());
+		if(game != null)
 		{
-			if(game.channel.getId().equals(event.getChannel().getId()))
-			{
-				//Found the right game controller, let's ask to add them to the lockout list
-				event.reply("Are you sure? This will prevent you from playing in this channel until your lives refill! (yes/no)");
-				waiter.waitForEvent(MessageReceivedEvent.class,
-						//Make sure it's the one who sent the message and it's specifically "yes" or "no"
-						e -> 
+			//Found the right game controller, let's ask to add them to the lockout list
+			event.reply("Are you sure? This will prevent you from playing in this channel until your lives refill! (yes/no)");
+			waiter.waitForMessage(null, event.getAuthor().getId(),
+					//Make sure it's the one who sent the message and it's specifically "yes" or "no"
+					e -> 
+					{
+						if(e.getAuthor().equals(event.getAuthor()))
 						{
-							if(e.getAuthor().equals(event.getAuthor()))
-							{
-								String message = e.getMessage().getContentStripped();
-								return message.equalsIgnoreCase("yes") || message.equalsIgnoreCase("no");
-							}
-							return false;
-						},
-						//If they said yes, archive the scoreboard files (also save a backup because Murphy's Law)
-						e ->
+							String message = e.getMessage().getContentStripped();
+							return message.equalsIgnoreCase("yes") || message.equalsIgnoreCase("no");
+						}
+						return false;
+					},
+					//If they said yes, archive the scoreboard files (also save a backup because Murphy's Law)
+					e ->
+					{
+						if(e.getMessage().getContentStripped().equalsIgnoreCase("yes"))
 						{
-							if(e.getMessage().getContentStripped().equalsIgnoreCase("yes"))
-							{
-								event.reply("You are now locked out for the day.");
-								game.lockoutList.add(event.getAuthor().getId());
-							}
-							else
-							{
-								event.reply("Very well.");
-							}
-						},
-						30,TimeUnit.SECONDS, () ->
-		                        event.reply("Lockout request expired.")
-						);
-			}
+							event.reply("You are now locked out for the day.");
+							game.lockoutList.add(event.getAuthor().getId());
+						}
+						else
+						{
+							event.reply("Very well.");
+						}
+					},
+					30,TimeUnit.SECONDS, () ->
+	                        event.reply("Lockout request expired.")
+					);
 		}
 	}
 
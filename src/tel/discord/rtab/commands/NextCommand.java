@@ -1,7 +1,7 @@
 package tel.discord.rtab.commands;
 
+import tel.discord.rtab.ControllerRegistry;
 import tel.discord.rtab.GameController;
-import tel.discord.rtab.RaceToABillionBot;
 import tel.discord.rtab.GameStatus;
 
 import com.jagrosh.jdautilities.command.Command;
@@ -17,22 +17,20 @@ public class NextCommand extends Command {
 	}
 	@Override
 	protected void execute(CommandEvent event) {
-		for(GameController game : RaceToABillionBot.game)
+		GameController game = ControllerRegistry.getGame(event.getChannel().getId());
+		if(game != null)
 		{
-			if(game.channel.getId().equals(event.getChannel().getId()))
+			if(game.gameStatus != GameStatus.SIGNUPS_OPEN || (!game.playersCanJoin && game.players.isEmpty()))
 			{
-				if(game.gameStatus != GameStatus.SIGNUPS_OPEN || (!game.playersCanJoin && game.players.isEmpty()))
-				{
-					game.pingList.add(event.getAuthor().getAsMention());
-					event.reply("Noted - will ping you when you can play.");
-				}
-				else
-				{
-					event.reply("You can already join!");
-				}
-				//We found the right channel, so
-				return;
+				game.pingList.add(event.getAuthor().getAsMention());
+				event.reply("Noted - will ping you when you can play.");
 			}
+			else
+			{
+				event.reply("You can already join!");
+			}
+			//We found the right channel, so
+			return;
 		}
 	}
 }
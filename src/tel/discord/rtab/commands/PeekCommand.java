@@ -1,8 +1,8 @@
 package tel.discord.rtab.commands;
 
+import tel.discord.rtab.ControllerRegistry;
 import tel.discord.rtab.GameController;
 import tel.discord.rtab.GameStatus;
-import tel.discord.rtab.RaceToABillionBot;
 
 import com.jagrosh.jdautilities.command.Command;
 import com.jagrosh.jdautilities.command.CommandEvent;
@@ -17,41 +17,39 @@ public class PeekCommand extends Command
 	@Override
 	protected void execute(CommandEvent event)
 	{
-		for(GameController game : RaceToABillionBot.game)
+		GameController game = ControllerRegistry.getGame(event.getChannel().getId());
+		if(game != null)
 		{
-			if(game.channel.getId().equals(event.getChannel().getId()))
+			int player = game.findPlayerInGame(event.getAuthor().getId());
+			//Make sure they're in the game, the game is running, and they actually have a peek
+			if(game.gameStatus != GameStatus.IN_PROGRESS || player == -1 || game.players.get(player).peeks < 1)
 			{
-				int player = game.findPlayerInGame(event.getAuthor().getId());
-				//Make sure they're in the game, the game is running, and they actually have a peek
-				if(game.gameStatus != GameStatus.IN_PROGRESS || player == -1 || game.players.get(player).peeks < 1)
-				{
-					event.reply("You don't have a peek to use.");
-					return;
-				}
-				//If we're flipping a bomb, just don't thanks
-				if(game.resolvingBomb && game.currentTurn == player)
-				{
-					event.reply("Your peek goes **BOOM**.");
-					return;
-				}
-				//Make sure they're peeking a space that's on the board
-				try
-				{
-					int location = Integer.parseInt(event.getArgs())-1;
-					if(location < 0 || location >= game.boardSize || game.pickedSpaces[location])
-					{
-						throw new IllegalArgumentException();
-					}
-					//We checked everything, pass it on to the game to actually peek it
-					game.usePeek(player, location);
-				}
-				catch(IllegalArgumentException e)
+				event.reply("You don't have a peek to use.");
+				return;
+			}
+			//If we're flipping a bomb, just don't thanks
+			if(game.resolvingBomb && game.currentTurn == player)
+			{
+				event.reply("Your peek goes **BOOM**.");
+				return;
+			}
+			//Make sure they're peeking a space that's on the board
+			try
+			{
+				int location = Integer.parseInt(event.getArgs())-1;
+				if(location < 0 || location >= game.boardSize || game.pickedSpaces.get(location))
 				{
-					event.reply("That is not a valid space.");
+					throw new IllegalArgumentException();
 				}
-				//We found the right channel, so
-				return;
+				//We checked everything, pass it on to the game to actually peek it
+				game.usePeek(player, location);
+			}
+			catch(IllegalArgumentException e)
+			{
+				event.reply("That is not a valid space.");
 			}
+			//We found the right channel, so
+			return;
 		}
 		//We aren't in a game channel? Uh...
 		event.reply("This is not a game channel.");
@@ -3,6 +3,8 @@ package tel.discord.rtab.commands;
 import com.jagrosh.jdautilities.command.Command;
 import com.jagrosh.jdautilities.command.CommandEvent;
 
+import tel.discord.rtab.RaceToABillionBot;
+
 public class PingCommand extends Command
 {
     public PingCommand()
@@ -17,7 +19,8 @@ public class PingCommand extends Command
 	{
 		event.getJDA().getRestPing().queue(
 				(time) ->
-				event.reply(String.format("Ping: %d ms", time))
+				event.reply(String.format("Ping: %d ms", time)
+						+ (RaceToABillionBot.isReady() ? "" : "\nStill starting up: " + RaceToABillionBot.getReadiness()))
 				);
 	}
 
@@ -1,7 +1,7 @@
 package tel.discord.rtab.commands;
 
+import tel.discord.rtab.ControllerRegistry;
 import tel.discord.rtab.GameController;
-import tel.discord.rtab.RaceToABillionBot;
 
 import com.jagrosh.jdautilities.command.Command;
 import com.jagrosh.jdautilities.command.CommandEvent;
@@ -16,16 +16,14 @@ public class PlayersCommand extends Command {
     
 	@Override
 	protected void execute(CommandEvent event) {
-		for(GameController game : RaceToABillionBot.game)
+		GameController game = ControllerRegistry.getGame(event.getChannel().getId());
+		if(game != null)
 		{
-			if(game.channel.getId().equals(event.getChannel().getId()))
-			{
-				if(game.players.isEmpty())
-					event.reply("No one currently in game.");
-				else
-					event.reply(game.listPlayers(false));
-				return;
-			}
+			if(game.players.isEmpty())
+				event.reply("No one currently in game.");
+			else
+				event.reply(game.listPlayers(false));
+			return;
 		}
 	}
 
@@ -1,12 +1,9 @@
 package tel.discord.rtab.commands;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.util.List;
-
 import com.jagrosh.jdautilities.command.CommandEvent;
 
+import tel.discord.rtab.ScoreStore;
+
 public class RankCommand extends ParsingCommand {
     public RankCommand()
     {
@@ -17,60 +14,59 @@ public class RankCommand extends ParsingCommand {
     }
 	@Override
 	protected void execute(CommandEvent event) {
-		try
+		ScoreStore scores = ScoreStore.findStore(event.getChannel().getId());
+		if(scores == null)
 		{
-			List<String> list = Files.readAllLines(Paths.get("scores","scores"+event.getChannel().getId()+".csv"));
-			String name = event.getArgs();
-			int index;
-			//Search for own ID if no name given (to ensure match even if name changed)
-			if(name.isEmpty())
-				index = findUserInList(list,event.getAuthor().getId(),false);
-			//Or search by rank if they gave a rank
-			else if(name.startsWith("#"))
+			event.reply("This command must be used in a game channel.");
+			return;
+		}
+		String name = event.getArgs();
+		int index;
+		//Search for own ID if no name given (to ensure match even if name changed)
+		if(name.isEmpty())
+			index = scores.findRank(event.getAuthor().getId());
+		//Or search by rank if they gave a rank
+		else if(name.startsWith("#"))
+		{
+			try
 			{
-				try
-				{
-					index = Integer.parseInt(name.substring(1))-1;
-				}
-				catch(NumberFormatException e1)
-				{
-					index = findUserInList(list,name,true); //This will never find anything because "#" is an illegal character lmao (but we tried)
-				}
+				index = Integer.parseInt(name.substring(1))-1;
 			}
-			//Or search by ID if they gave a mention
-			else if(event.getArgs().contains("<@"))
-				index = findUserInList(list,parseMention(name),false);
-			//Or just search by the name given
-			else
-				index = findUserInList(list,name,true);
-			if(index < 0 || index >= list.size())
+			catch(NumberFormatException e1)
 			{
-				if(name.isEmpty())
-					event.reply("You haven't played the game yet.");
-				else
-					event.reply("User not found.");
+				index = scores.findRankByName(name); //This will never find anything because "#" is an illegal character lmao (but we tried)
 			}
+		}
+		//Or search by ID if they gave a mention
+		else if(event.getArgs().contains("<@"))
+			index = scores.findRank(parseMention(name));
+		//Or just search by the name given
+		else
+			index = scores.findRankByName(name);
+		String[] record = scores.getRecordAt(index);
+		if(record == null)
+		{
+			if(name.isEmpty())
+				event.reply("You haven't played the game yet.");
 			else
+				event.reply("User not found.");
+		}
+		else
+		{
+			int money = Integer.parseInt(record[2]);
+			StringBuilder response = new StringBuilder();
+			response.append(record[1]).append(": ");
+			if(money<0)
+				response.append("-");
+			response.append(String.format("$%,d",Math.abs(money)));
+			if(record.length >= 5) //Minigame tournament doesn't have a concept of boost or winstreak but the rest still works
 			{
-				String[] record = list.get(index).split("#");
-				int money = Integer.parseInt(record[2]);
-				StringBuilder response = new StringBuilder();
-				response.append(record[1]).append(": ");
-				if(money<0)
-					response.append("-");
-				response.append(String.format("$%,d",Math.abs(money)));
-				if(record.length >= 5) //Minigame tournament doesn't have a concept of boost or winstreak but the rest still works
-				{
-					int booster = Integer.parseInt(record[3]);
-					int winstreak = Integer.parseInt(record[4]);
-					response.append(String.format(" [%d%%x%d.%d]",booster,winstreak/10,winstreak%10));
-				}
-				response.append(" - Rank #").append(index + 1).append("/").append(list.size());
-				event.reply(response.toString());
+				int booster = Integer.parseInt(record[3]);
+				int winstreak = Integer.parseInt(record[4]);
+				response.append(String.format(" [%d%%x%d.%d]",booster,winstreak/10,winstreak%10));
 			}
-		} catch (IOException e)
-		{
-			event.reply("This command must be used in a game channel.");
+			response.append(" - Rank #").append(index + 1).append("/").append(scores.size());
+			event.reply(response.toString());
 		}
 	}
 
@@ -1,6 +1,8 @@
 package tel.discord.rtab.commands;
 
-import tel.discord.rtab.RaceToABillionBot;
+import java.util.Collection;
+
+import tel.discord.rtab.ControllerRegistry;
 import tel.discord.rtab.games.MiniGame;
 
 import com.jagrosh.jdautilities.command.Command;
@@ -17,18 +19,28 @@ public class SkipCommand extends Command
 	@Override
 	protected void execute(CommandEvent event)
 	{
-		for(MiniGame game : RaceToABillionBot.minigame)
+		//Your own game comes first, then any bot game here (anyone can skip bot games)
+		MiniGame game = ControllerRegistry.getMinigame(event.getAuthor().getId());
+		if(game == null || !game.getChannelID().equals(event.getChannel().getId()))
 		{
-			if(game.getChannelID().equals(event.getChannel().getId()))
-			{
-				//it has to be either your game or a bot game (anyone can skip bot games)
-				if(!game.getPlayerID().equals(event.getAuthor().getId()) && !game.getPlayerID().startsWith("-"))
-					return;
-				//Cool, tell the game to skip and let it handle that
-				game.skipMessages();
-				//We found the right channel, so 
+			game = null;
+			Collection<MiniGame> channelGames = ControllerRegistry.getMinigames(event.getChannel().getId());
+			for(MiniGame next : channelGames)
+				if(next.getPlayerID().startsWith("-"))
+				{
+					game = next;
+					break;
+				}
+			//If it's someone else's game, it's not for you to skip
+			if(game == null && !channelGames.isEmpty())
 				return;
-			}
+		}
+		if(game != null)
+		{
+			//Cool, tell the game to skip and let it handle that
+			game.skipMessages();
+			//We found the right channel, so 
+			return;
 		}
 		//We aren't in a game channel? Uh...
 		event.reply("No minigame found.");
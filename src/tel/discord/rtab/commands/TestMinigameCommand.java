@@ -76,7 +76,7 @@ public class TestMinigameCommand extends Command
 		players.add(new Player(player));
 		if(aiPlayer)
 			players.get(0).isBot = true;
-		Thread dummyThread = new Thread(() ->
+		Thread dummyThread = Thread.ofVirtual().unstarted(() ->
 		{
 			RaceToABillionBot.testMinigames --;
 			RaceToABillionBot.testMinigamePlayers.remove(player.getId());
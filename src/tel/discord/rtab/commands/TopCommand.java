@@ -1,13 +1,12 @@
 package tel.discord.rtab.commands;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.List;
 
 import com.jagrosh.jdautilities.command.Command;
 import com.jagrosh.jdautilities.command.CommandEvent;
 
+import tel.discord.rtab.ScoreStore;
+
 public class TopCommand extends Command {
     public TopCommand()
     {
@@ -17,52 +16,51 @@ public class TopCommand extends Command {
     }
 	@Override
 	protected void execute(CommandEvent event) {
-		try {
-			List<String> list = Files.readAllLines(Paths.get("scores","scores"+event.getChannel().getId()+".csv"));
-			StringBuilder response = new StringBuilder().append("```\n");
-			String[] record;
-			int offset = 0;
-			try
-			{
-				//If this doesn't throw an exception we're good
-				offset = Math.max(Integer.parseInt(event.getArgs()) - 1,0);
-			}
-			catch(NumberFormatException e1)
-			{
-				//We can swallow this, it's fine, just let it default to top ten
-			}
-			int money, moneyLength = 0;
-			//Get top 10, or fewer if list isn't long enough
-			for(int i=10*offset; i<Math.min(list.size(),(10*offset)+10); i++)
-			{
-				/*
-				 * record format:
-				 * record[0] = uID
-				 * record[1] = name
-				 * record[2] = money
-				 */
-				record = list.get(i).split("#");
-				money = Integer.parseInt(record[2]);
-				//Get the length to format all values to
-				if(i%10 == 0)
-				{
-					moneyLength = String.valueOf(money).length();
-					moneyLength += (moneyLength-1)/3;
-				}
-				response.append("#").append(String.format("%03d", (i + 1))).append(": $");
-				response.append(String.format("%,"+moneyLength+"d",money));
-				response.append(" -").append(record[0].startsWith("-") ? "*" : " ").append(record[1]).append("\n");
-			}
-			response.append("```");
-			if(response.length() > 8)
-				event.reply(response.toString());
-			else
-				event.reply("No results found for page "+(offset+1)+".");
-		}
-		catch (IOException e)
+		ScoreStore scores = ScoreStore.findStore(event.getChannel().getId());
+		if(scores == null)
 		{
 			event.reply("This command must be used in a game channel.");
+			return;
+		}
+		StringBuilder response = new StringBuilder().append("```\n");
+		int offset = 0;
+		try
+		{
+			//If this doesn't throw an exception we're good
+			offset = Math.max(Integer.parseInt(event.getArgs()) - 1,0);
+		}
+		catch(NumberFormatException e1)
+		{
+			//We can swallow this, it's fine, just let it default to top ten
+		}
+		int money, moneyLength = 0;
+		//Get top 10, or fewer if list isn't long enough
+		List<String[]> page = scores.getRecords(10*offset, (10*offset)+10);
+		for(int i=0; i<page.size(); i++)
+		{
+			/*
+			 * record format:
+			 * record[0] = uID
+			 * record[1] = name
+			 * record[2] = money
+			 */
+			String[] record = page.get(i);
+			money = Integer.parseInt(record[2]);
+			//Get the length to format all values to
+			if(i == 0)
+			{
+				moneyLength = String.valueOf(money).length();
+				moneyLength += (moneyLength-1)/3;
+			}
+			response.append("#").append(String.format("%03d", (10*offset + i + 1))).append(": $");
+			response.append(String.format("%,"+moneyLength+"d",money));
+			response.append(" -").append(record[0].startsWith("-") ? "*" : " ").append(record[1]).append("\n");
 		}
+		response.append("```");
+		if(response.length() > 8)
+			event.reply(response.toString());
+		else
+			event.reply("No results found for page "+(offset+1)+".");
 	}
 
 }
@@ -1,8 +1,8 @@
 package tel.discord.rtab.commands;
 
+import tel.discord.rtab.ControllerRegistry;
 import tel.discord.rtab.GameController;
 import tel.discord.rtab.Player;
-import tel.discord.rtab.RaceToABillionBot;
 
 import com.jagrosh.jdautilities.command.Command;
 import com.jagrosh.jdautilities.command.CommandEvent;
@@ -17,20 +17,18 @@ public class ViewPeeksCommand extends Command {
 	}
 	@Override
 	protected void execute(CommandEvent event) {
-		for(GameController game : RaceToABillionBot.game)
+		GameController game = ControllerRegistry.getGame(event.getChannel().getId());
+		if(game != null)
 		{
-			if(game.channel.getId().equals(event.getChannel().getId()))
+			StringBuilder output = new StringBuilder();
+			output.append("**Current Peeks**\n");
+			for(Player nextPlayer : game.players)
 			{
-				StringBuilder output = new StringBuilder();
-				output.append("**Current Peeks**\n");
-				for(Player nextPlayer : game.players)
-				{
-					output.append(nextPlayer.printPeeks()).append("\n");
-				}
-				event.reply(output.toString());
-				//We found the right channel, so
-				return;
+				output.append(nextPlayer.printPeeks()).append("\n");
 			}
+			event.reply(output.toString());
+			//We found the right channel, so
+			return;
 		}
 	}
 
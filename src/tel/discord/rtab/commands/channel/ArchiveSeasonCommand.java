@@ -4,16 +4,17 @@ import com.jagrosh.jdautilities.command.Command;
 import com.jagrosh.jdautilities.command.CommandEvent;
 
 import net.dv8tion.jda.api.Permission;
-import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 
 import static tel.discord.rtab.RaceToABillionBot.waiter;
 
+import tel.discord.rtab.JackpotRegistry;
+import tel.discord.rtab.ScoreStore;
+import tel.discord.rtab.SeasonHistory;
+
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
-import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 public class ArchiveSeasonCommand extends Command
@@ -34,32 +35,23 @@ public class ArchiveSeasonCommand extends Command
 		Path scoreBackupFile = Paths.get("scores","scores"+event.getChannel().getId()+"backup.csv");
 		Path jackpotCurrentFile = Paths.get("scores","jackpots"+event.getChannel().getId()+".csv");
 		Path jackpotBackupFile = Paths.get("scores","jackpots"+event.getChannel().getId()+"backup.csv");
-		if(!Files.exists(scoreCurrentFile))
+		ScoreStore scores = ScoreStore.findStore(event.getChannel().getId());
+		if(scores == null)
 		{
 			event.reply("No score data found in this channel.");
 			return;
 		}
 		//Make sure the winner actually has a billion
-		try
-		{
-			List<String> list = Files.readAllLines(scoreCurrentFile);
-			String[] winner = list.get(0).split("#");
-			int winnerScore = Integer.parseInt(winner[2]);
-			if(winnerScore < 1_000_000_000)
-			{
-				event.reply("An incomplete season cannot be archived.");
-				return;
-			}
-		}
-		catch(IOException e1)
+		String[] winner = scores.getRecordAt(0);
+		if(winner == null || Integer.parseInt(winner[2]) < 1_000_000_000)
 		{
-			event.reply("Failed to open save file.");
-			e1.printStackTrace();
+			event.reply("An incomplete season cannot be archived.");
+			return;
 		}
 		
 		//Alright, we passed the checks, give them the option
 		event.reply("Are you sure? This will save the season in history and reset everyone's score to 0! (yes/no)");
-		waiter.waitForEvent(MessageReceivedEvent.class,
+		waiter.waitForMessage(null, event.getAuthor().getId(),
 				//Make sure it's the one who sent the message and it's specifically "yes" or "no"
 				e -> 
 				{
@@ -78,31 +70,18 @@ public class ArchiveSeasonCommand extends Command
 						event.reply("Very well.");
 						return;
 					}
-					//Figure out how many seasons of history there are by looking for the first file that doesn't exist
-					int thisSeason = 0;
-					Path historyFile;
-					do
-					{
-						thisSeason++;
-						historyFile = Paths.get("scores","history"+event.getChannel().getId()+"s"+thisSeason+".csv");
-					}
-					while(Files.exists(Paths.get("scores","history"+event.getChannel().getId()+"s"+thisSeason+".csv")));
 					try
 					{
-						//Create the history file
-						Files.createFile(historyFile);
-						List<String> list = Files.readAllLines(scoreCurrentFile);
-						for(String next : list)
-						{
-							String[] record = next.split("#");
-							String update = record[0]+"#"+record[1]+"#"+record[2]+"\n";
-							Files.write(historyFile,update.getBytes(),StandardOpenOption.APPEND);
-						}
+						//Write the history file (which also adds it to the channel's history index)
+						SeasonHistory.forChannel(event.getChannel().getId()).archiveSeason(scores.getRecords(0, scores.size()));
 						//Delete old backup files if they exist
 						Files.deleteIfExists(scoreBackupFile);
 						Files.deleteIfExists(jackpotBackupFile);
-						//Then move the current files into their place
+						//Then move the current files into their place (making sure the scoreboard is up to date first)
+						scores.save();
 						Files.move(scoreCurrentFile,scoreBackupFile);
+						scores.clear();
+						JackpotRegistry.close(event.getChannel().getId());
 						if(Files.exists(jackpotCurrentFile))
 							Files.move(jackpotCurrentFile,jackpotBackupFile);
 						event.reply("Season archived and all scores reset.");
@@ -4,12 +4,12 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.List;
 
 import com.jagrosh.jdautilities.command.Command;
 import com.jagrosh.jdautilities.command.CommandEvent;
 
 import net.dv8tion.jda.api.Permission;
+import tel.discord.rtab.GuildSettings;
 
 public class GameChannelAddCommand extends Command
 {
@@ -29,38 +29,28 @@ public class GameChannelAddCommand extends Command
 		{
 			String channelID = event.getChannel().getId();
 			//Get this guild's settings file
-			List<String> list;
 			Path guildFile = Paths.get("guilds","guild"+event.getGuild().getId()+".csv");
 			if(!Files.exists(guildFile))
 			{
 				System.out.println("New guild: "+event.getGuild());
 				Files.createFile(guildFile);
 			}	
-			list = Files.readAllLines(guildFile);
+			GuildSettings settings = GuildSettings.forGuild(event.getGuild().getId());
 			//Make sure this channel isn't in the list already
-			for(String nextChannel : list)
+			if(settings.getChannel(channelID) != null)
 			{
-				String[] record = nextChannel.split("#");
-				if(record[0].equals(channelID))
-				{
-					event.reply("Channel has already been added, use !modifychannel or !enablechannel instead.");
-					return;
-				}
+				event.reply("Channel has already been added, use !modifychannel or !enablechannel instead.");
+				return;
 			}
 			//Good, now add it
-			StringBuilder fullLine = new StringBuilder().append(channelID).append("#disabled");
+			String[] record = new String[ChannelSetting.values().length+2];
+			record[0] = channelID;
+			record[1] = "disabled";
 			for(ChannelSetting nextSetting : ChannelSetting.values())
-			{
-				fullLine.append("#");
-				fullLine.append(nextSetting.getDefault());
-			}
-			list.add(fullLine.toString());
-			event.reply("Channel added. Use !modifychannel to set it up appropriately, then !enablechannel to open it up to play.");
+				record[nextSetting.getLocation()] = nextSetting.getDefault();
 			//Finally, save the settings file
-			Path file = Paths.get("guilds","guild"+event.getGuild().getId()+".csv");
-			Path oldFile = Files.move(file, file.resolveSibling("guild"+event.getGuild().getId()+"old.csv"));
-			Files.write(file, list);
-			Files.delete(oldFile);
+			settings.putChannel(record);
+			event.reply("Channel added. Use !modifychannel to set it up appropriately, then !enablechannel to open it up to play.");
 		}
 		catch (IOException e)
 		{
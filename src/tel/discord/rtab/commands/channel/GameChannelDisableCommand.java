@@ -1,16 +1,16 @@
 package tel.discord.rtab.commands.channel;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.List;
 
 import com.jagrosh.jdautilities.command.Command;
 import com.jagrosh.jdautilities.command.CommandEvent;
 
 import net.dv8tion.jda.api.Permission;
-import tel.discord.rtab.RaceToABillionBot;
+import tel.discord.rtab.ControllerRegistry;
+import tel.discord.rtab.GameController;
+import tel.discord.rtab.GuildSettings;
+import tel.discord.rtab.MinigameTournament;
+import tel.discord.rtab.SuperBotChallenge;
 import tel.discord.rtab.MinigameTournament.TournamentStatus;
 
 public class GameChannelDisableCommand extends Command
@@ -30,86 +30,55 @@ public class GameChannelDisableCommand extends Command
 		try
 		{
 			String channelID = event.getChannel().getId();
-			//Get this guild's settings file
-			List<String> list = Files.readAllLines(Paths.get("guilds","guild"+event.getGuild().getId()+".csv"));
-			//Find this channel in the list
-			for(int i=0; i<=list.size(); i++)
+			//Find this channel in the guild's settings
+			GuildSettings settings = GuildSettings.forGuild(event.getGuild().getId());
+			String[] record = settings.getChannel(channelID);
+			if(record == null)
 			{
-				//If we're at the end of the list, tell them and suggest an alternative
-				if(i == list.size())
-				{
-					event.reply("Channel not found in database.");
-					return;
+				event.reply("Channel not found in database.");
+				return;
+			}
+			switch (record[1]) {
+				case "enabled" -> {
+					//Delete the appropriate game controller
+					GameController game = ControllerRegistry.removeGame(channelID);
+					if (game != null) {
+						event.reply("Channel disabled.");
+						game.timer.shutdownNow();
+						if (game.currentGame != null)
+							game.currentGame.gameOver();
+					}
 				}
-				String[] record = list.get(i).split("#");
-				if(record[0].equals(channelID))
-				{
-					switch (record[1]) {
-						case "enabled" -> {
-							//Delete the appropriate game controller
-							for (int j = 0; j < RaceToABillionBot.game.size(); j++)
-								if (RaceToABillionBot.game.get(j).channel.getId().equals(channelID)) {
-									event.reply("Channel disabled.");
-									RaceToABillionBot.game.get(j).timer.purge();
-									RaceToABillionBot.game.get(j).timer.shutdownNow();
-									if (RaceToABillionBot.game.get(j).currentGame != null)
-										RaceToABillionBot.game.get(j).currentGame.gameOver();
-									RaceToABillionBot.game.remove(j);
-									break;
-								}
-						}
-						case "minigame" -> {
-							//Delete the appropriate tournament handler
-							for(int j=0; j < RaceToABillionBot.tournament.size(); j++)
-								if(RaceToABillionBot.tournament.get(j).channel.getId().equals(channelID)) {
-									event.reply("Channel disabled.");
-									RaceToABillionBot.tournament.get(j).timer.purge();
-									RaceToABillionBot.tournament.get(j).timer.shutdownNow();
-									RaceToABillionBot.tournament.get(j).status = TournamentStatus.SHUTDOWN;
-									if (RaceToABillionBot.tournament.get(j).currentGame != null)
-										RaceToABillionBot.tournament.get(j).currentGame.gameOver();
-									RaceToABillionBot.tournament.remove(j);
-								}
-						}
-						case "sbc" -> {
-							//Delete the appropriate game controller
-							for (int j = 0; j < RaceToABillionBot.game.size(); j++)
-								if (RaceToABillionBot.game.get(j).channel.getId().equals(channelID)) {
-									event.reply("Channel disabled.");
-									RaceToABillionBot.game.get(j).timer.shutdownNow();
-									if (RaceToABillionBot.game.get(j).currentGame != null)
-										RaceToABillionBot.game.get(j).currentGame.gameOver();
-									RaceToABillionBot.game.remove(j);
-									break;
-								}
-							//and the appropriate challenge handler
-							for (int j = 0; j < RaceToABillionBot.challenge.size(); j++)
-								if (RaceToABillionBot.challenge.get(j).channel.getId().equals(channelID)) {
-									RaceToABillionBot.challenge.get(j).timer.purge();
-									RaceToABillionBot.challenge.get(j).timer.shutdownNow();
-									RaceToABillionBot.challenge.remove(j);
-								}
-						}
+				case "minigame" -> {
+					//Delete the appropriate tournament handler
+					MinigameTournament tournament = ControllerRegistry.removeTournament(channelID);
+					if (tournament != null) {
+						event.reply("Channel disabled.");
+						tournament.timer.shutdownNow();
+						tournament.status = TournamentStatus.SHUTDOWN;
+						if (tournament.currentGame != null)
+							tournament.currentGame.gameOver();
 					}
-					//Cool, we found it, now remake the entry with the flipped bit
-					record[1] = "disabled";
-					StringBuilder fullLine = new StringBuilder();
-					for(String next : record)
-					{
-						fullLine.append("#");
-						fullLine.append(next);
+				}
+				case "sbc" -> {
+					//Delete the appropriate game controller
+					GameController game = ControllerRegistry.removeGame(channelID);
+					if (game != null) {
+						event.reply("Channel disabled.");
+						game.timer.shutdownNow();
+						if (game.currentGame != null)
+							game.currentGame.gameOver();
 					}
-					//Remove the opening #
-					fullLine.deleteCharAt(0);
-					list.set(i, fullLine.toString());
-					break;
+					//and the appropriate challenge handler
+					SuperBotChallenge challenge = ControllerRegistry.removeChallenge(channelID);
+					if (challenge != null)
+						challenge.timer.shutdownNow();
 				}
 			}
-			//Next, save the settings file
-			Path file = Paths.get("guilds","guild"+event.getGuild().getId()+".csv");
-			Path oldFile = Files.move(file, file.resolveSibling("guild"+event.getGuild().getId()+"old.csv"));
-			Files.write(file, list);
-			Files.delete(oldFile);
+			//Now save the entry with the flipped bit, and stop listening for changes to it
+			record[1] = "disabled";
+			settings.unwatchChannel(channelID);
+			settings.putChannel(record);
 		}
 		catch (IOException e)
 		{
@@ -1,15 +1,12 @@
 package tel.discord.rtab.commands.channel;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.List;
 
 import com.jagrosh.jdautilities.command.Command;
 import com.jagrosh.jdautilities.command.CommandEvent;
 
 import net.dv8tion.jda.api.Permission;
+import tel.discord.rtab.GuildSettings;
 import tel.discord.rtab.RaceToABillionBot;
 
 public class GameChannelEnableCommand extends Command
@@ -29,50 +26,29 @@ public class GameChannelEnableCommand extends Command
 		try
 		{
 			String channelID = event.getChannel().getId();
-			//Get this guild's settings file
-			List<String> list = Files.readAllLines(Paths.get("guilds","guild"+event.getGuild().getId()+".csv"));
-			StringBuilder fullLine = new StringBuilder();
-			//Find this channel in the list
-			for(int i=0; i<list.size(); i++)
+			//Find this channel in the guild's settings
+			GuildSettings settings = GuildSettings.forGuild(event.getGuild().getId());
+			String[] record = settings.getChannel(channelID);
+			if(record == null)
 			{
-				String[] record = list.get(i).split("#");
-				if(record[0].equals(channelID))
-				{
-					if(!record[1].equals("disabled"))
-					{
-						event.reply("Channel is already enabled.");
-						return;
-					}
-					String enableType = event.isOwner() ? event.getArgs() : "";
-					switch (enableType) {
-						case "sbc" -> record[1] = "sbc";
-						case "minigame" -> record[1] = "minigame";
-						default -> record[1] = "enabled";
-					}
-					//Cool, we found it, now remake the entry with the flipped bit
-					for(String next : record)
-					{
-						fullLine.append("#");
-						fullLine.append(next);
-					}
-					fullLine.deleteCharAt(0); //Remove the opening #
-					list.set(i, fullLine.toString());
-					//Then start the game using the updated channel string
-					RaceToABillionBot.connectToChannel(event.getGuild(),fullLine.toString());
-					break;
-				}
+				event.reply("Channel not found in database. Try !addchannel instead.");
+				return;
 			}
-			//If we never found it, fullLine will have never been written to
-			if(fullLine.isEmpty())
+			if(!record[1].equals("disabled"))
 			{
-				event.reply("Channel not found in database. Try !addchannel instead.");
+				event.reply("Channel is already enabled.");
 				return;
 			}
-			//Next, save the settings file
-			Path file = Paths.get("guilds","guild"+event.getGuild().getId()+".csv");
-			Path oldFile = Files.move(file, file.resolveSibling("guild"+event.getGuild().getId()+"old.csv"));
-			Files.write(file, list);
-			Files.delete(oldFile);
+			String enableType = event.isOwner() ? event.getArgs() : "";
+			switch (enableType) {
+				case "sbc" -> record[1] = "sbc";
+				case "minigame" -> record[1] = "minigame";
+				default -> record[1] = "enabled";
+			}
+			//Cool, we found it, now save the entry with the flipped bit
+			settings.putChannel(record);
+			//Then start the game using the updated settings
+			RaceToABillionBot.connectToChannel(event.getGuild(),record);
 			//The game controller itself will confirm the success of this command when it starts up
 		}
 		catch (IOException e)
@@ -3,7 +3,6 @@ package tel.discord.rtab.commands.channel;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.List;
 
 import com.jagrosh.jdautilities.command.Command;
 import com.jagrosh.jdautilities.command.CommandEvent;
@@ -11,6 +10,7 @@ import com.jagrosh.jdautilities.command.CommandEvent;
 import net.dv8tion.jda.api.Permission;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import tel.discord.rtab.GuildSettings;
 
 public class ListGameChannelsCommand extends Command
 {
@@ -30,12 +30,9 @@ public class ListGameChannelsCommand extends Command
 		{
 			Guild guild = event.getGuild();
 			event.reply("**Game Channels on "+guild.getName()+"**");
-			//Get this guild's settings file
-			List<String> list = Files.readAllLines(Paths.get("guilds","guild"+guild.getId()+".csv"));
-			//Then loop through each channel in turn
-			for(String nextChannel : list)
+			//Get this guild's settings, then loop through each channel in turn
+			for(String[] record : GuildSettings.forGuild(guild.getId()).getChannels())
 			{
-				String[] record = nextChannel.split("#");
 				//Get the channel and add the basics to our output string
 				TextChannel channel = guild.getTextChannelById(record[0]);
 				StringBuilder output = new StringBuilder().append(channel.getAsMention()).append(": ").append(record[1]);
@@ -4,10 +4,12 @@ import com.jagrosh.jdautilities.command.Command;
 import com.jagrosh.jdautilities.command.CommandEvent;
 
 import net.dv8tion.jda.api.Permission;
-import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 
 import static tel.discord.rtab.RaceToABillionBot.waiter;
 
+import tel.discord.rtab.JackpotRegistry;
+import tel.discord.rtab.ScoreStore;
+
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -27,13 +29,14 @@ public class ResetSeasonCommand extends Command
 	@Override
 	protected void execute(CommandEvent event)
 	{
-		if(!Files.exists(Paths.get("scores","scores"+event.getChannel().getId()+".csv")))
+		ScoreStore scores = ScoreStore.findStore(event.getChannel().getId());
+		if(scores == null)
 		{
 			event.reply("No score data found in this channel.");
 			return;
 		}
 		event.reply("**ARE YOU SURE?** This will reset everyone's score to 0, and no information will be saved! (yes/no)");
-		waiter.waitForEvent(MessageReceivedEvent.class,
+		waiter.waitForMessage(null, event.getAuthor().getId(),
 				//Make sure it's the one who sent the message and it's specifically "yes" or "no"
 				e -> 
 				{
@@ -60,7 +63,10 @@ public class ResetSeasonCommand extends Command
 						Files.deleteIfExists(scoreBackupFile);
 						Files.deleteIfExists(jackpotBackupFile);
 						//Then move the current files into their place
+						scores.save();
 						Files.move(scoreBackupFile.resolveSibling("scores"+event.getChannel().getId()+".csv"),scoreBackupFile);
+						scores.clear();
+						JackpotRegistry.close(event.getChannel().getId());
 						Files.move(jackpotBackupFile.resolveSibling("jackpots"+event.getChannel().getId()+".csv"),jackpotBackupFile);
 						event.reply("All scores reset.");
 					}
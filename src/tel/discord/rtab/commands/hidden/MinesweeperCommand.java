@@ -1,9 +1,9 @@
 package tel.discord.rtab.commands.hidden;
 
+import tel.discord.rtab.ControllerRegistry;
 import tel.discord.rtab.GameController;
 import tel.discord.rtab.GameStatus;
 import tel.discord.rtab.PlayerStatus;
-import tel.discord.rtab.RaceToABillionBot;
 import tel.discord.rtab.board.HiddenCommand;
 
 import com.jagrosh.jdautilities.command.Command;
@@ -21,29 +21,27 @@ public class MinesweeperCommand extends Command
 	@Override
 	protected void execute(CommandEvent event)
 	{
-		for(GameController game : RaceToABillionBot.game)
+		GameController game = ControllerRegistry.getGame(event.getChannel().getId());
+		if(game != null)
 		{
-			if(game.channel.getId().equals(event.getChannel().getId()))
+			int player = game.findPlayerInGame(event.getAuthor().getId());
+			HiddenCommand chosenCommand = game.players.get(player).hiddenCommand;
+			String rawSpace = event.getArgs();
+			//Check that it's valid (the game is running, the space is legit, they're alive, and they have the command)
+			if(game.gameStatus != GameStatus.IN_PROGRESS || player == -1 || !game.checkValidNumber(rawSpace)
+					|| game.players.get(player).status != PlayerStatus.ALIVE ||
+					(chosenCommand != HiddenCommand.MINESWEEP && chosenCommand != HiddenCommand.WILD))
+				event.reply("You can't do this right now.");
+			//Cool, we're good, pass it over
+			else
 			{
-				int player = game.findPlayerInGame(event.getAuthor().getId());
-				HiddenCommand chosenCommand = game.players.get(player).hiddenCommand;
-				String rawSpace = event.getArgs();
-				//Check that it's valid (the game is running, the space is legit, they're alive, and they have the command)
-				if(game.gameStatus != GameStatus.IN_PROGRESS || player == -1 || !game.checkValidNumber(rawSpace)
-						|| game.players.get(player).status != PlayerStatus.ALIVE ||
-						(chosenCommand != HiddenCommand.MINESWEEP && chosenCommand != HiddenCommand.WILD))
-					event.reply("You can't do this right now.");
-				//Cool, we're good, pass it over
+				int space = Integer.parseInt(rawSpace) - 1;
+				if(game.pickedSpaces.get(space))
+					event.reply("That space has already been picked.");
 				else
-				{
-					int space = Integer.parseInt(rawSpace) - 1;
-					if(game.pickedSpaces[space])
-						event.reply("That space has already been picked.");
-					else
-						game.useMinesweeper(player, space);
-				}
-				return;
+					game.useMinesweeper(player, space);
 			}
+			return;
 		}
 		//We aren't in a game channel? Uh...
 		event.reply("This is not a game channel.");
@@ -1,9 +1,9 @@
 package tel.discord.rtab.commands.hidden;
 
+import tel.discord.rtab.ControllerRegistry;
 import tel.discord.rtab.GameController;
 import tel.discord.rtab.GameStatus;
 import tel.discord.rtab.PlayerStatus;
-import tel.discord.rtab.RaceToABillionBot;
 import tel.discord.rtab.board.HiddenCommand;
 
 import com.jagrosh.jdautilities.command.Command;
@@ -20,21 +20,19 @@ public class RepelCommand extends Command
 	@Override
 	protected void execute(CommandEvent event)
 	{
-		for(GameController game : RaceToABillionBot.game)
+		GameController game = ControllerRegistry.getGame(event.getChannel().getId());
+		if(game != null)
 		{
-			if(game.channel.getId().equals(event.getChannel().getId()))
-			{
-				int player = game.findPlayerInGame(event.getAuthor().getId());
-				HiddenCommand chosenCommand = game.players.get(player).hiddenCommand;
-				//Check that it's valid (the game is running, they're alive, and they have the command)
-				if(game.gameStatus != GameStatus.IN_PROGRESS || player == -1
-						|| game.players.get(player).status != PlayerStatus.ALIVE ||
-						(chosenCommand != HiddenCommand.REPEL && chosenCommand != HiddenCommand.WILD))
-					event.reply("You can't do this right now.");
-				else
-					game.useRepel(player);
-				return;
-			}
+			int player = game.findPlayerInGame(event.getAuthor().getId());
+			HiddenCommand chosenCommand = game.players.get(player).hiddenCommand;
+			//Check that it's valid (the game is running, they're alive, and they have the command)
+			if(game.gameStatus != GameStatus.IN_PROGRESS || player == -1
+					|| game.players.get(player).status != PlayerStatus.ALIVE ||
+					(chosenCommand != HiddenCommand.REPEL && chosenCommand != HiddenCommand.WILD))
+				event.reply("You can't do this right now.");
+			else
+				game.useRepel(player);
+			return;
 		}
 		//We aren't in a game channel? Uh...
 		event.reply("This is not a game channel.");
@@ -1,7 +1,7 @@
 package tel.discord.rtab.commands.mod;
 
+import tel.discord.rtab.ControllerRegistry;
 import tel.discord.rtab.GameController;
-import tel.discord.rtab.RaceToABillionBot;
 
 import com.jagrosh.jdautilities.command.Command;
 import com.jagrosh.jdautilities.command.CommandEvent;
@@ -20,21 +20,19 @@ public class AddBotCommand extends Command {
 	@Override
 	protected void execute(CommandEvent event)
 	{
-		for(GameController game : RaceToABillionBot.game)
+		GameController game = ControllerRegistry.getGame(event.getChannel().getId());
+		if(game != null)
 		{
-			if(game.channel.getId().equals(event.getChannel().getId()))
+			if(event.getArgs().equals(""))
 			{
-				if(event.getArgs().equals(""))
-				{
-					game.addRandomBot();
-				}
-				else
-				{
-					game.addBot(Integer.parseInt(event.getArgs()));
-				}
-				//We found the right channel, so
-				return;
+				game.addRandomBot();
 			}
+			else
+			{
+				game.addBot(Integer.parseInt(event.getArgs()));
+			}
+			//We found the right channel, so
+			return;
 		}
 		
 	}
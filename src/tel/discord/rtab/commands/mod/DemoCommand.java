@@ -1,7 +1,7 @@
 package tel.discord.rtab.commands.mod;
 
+import tel.discord.rtab.ControllerRegistry;
 import tel.discord.rtab.GameController;
-import tel.discord.rtab.RaceToABillionBot;
 
 import com.jagrosh.jdautilities.command.Command;
 import com.jagrosh.jdautilities.command.CommandEvent;
@@ -20,26 +20,24 @@ public class DemoCommand extends Command {
 	@Override
 	protected void execute(CommandEvent event)
 	{
-		for(GameController game : RaceToABillionBot.game)
+		GameController game = ControllerRegistry.getGame(event.getChannel().getId());
+		if(game != null)
 		{
-			if(game.channel.getId().equals(event.getChannel().getId()))
+			if(game.runDemo != 0)
+				game.demoMode.cancel(true);
+			if(!event.getArgs().equals(""))
 			{
-				if(game.runDemo != 0)
-					game.demoMode.cancel(true);
-				if(!event.getArgs().equals(""))
+				int playerCount = Integer.parseInt(event.getArgs());
+				for(int i=0; i<playerCount; i++)
 				{
-					int playerCount = Integer.parseInt(event.getArgs());
-					for(int i=0; i<playerCount; i++)
-					{
-						game.addRandomBot();
-					}
-					game.startTheGameAlready();
+					game.addRandomBot();
 				}
-				else
-					game.runDemo();
-				//We found the right channel, so
-				return;
+				game.startTheGameAlready();
 			}
+			else
+				game.runDemo();
+			//We found the right channel, so
+			return;
 		}
 	}
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 package tel.discord.rtab.commands.mod;
 
+import tel.discord.rtab.ControllerRegistry;
 import tel.discord.rtab.GameController;
-import tel.discord.rtab.RaceToABillionBot;
 
 import com.jagrosh.jdautilities.command.Command;
 import com.jagrosh.jdautilities.command.CommandEvent;
@@ -19,18 +19,16 @@ public class GridListCommand extends Command
 	}
 	@Override
 	protected void execute(CommandEvent event) {
-		for(GameController game : RaceToABillionBot.game)
+		GameController game = ControllerRegistry.getGame(event.getChannel().getId());
+		if(game != null)
 		{
-			if(game.channel.getId().equals(event.getChannel().getId()))
-			{
-				//Hardcoded exception so we can still use this in the testing channel lol
-				if(game.findPlayerInGame(event.getAuthor().getId()) != -1 && !game.channel.getId().equals("466545561743654924"))
-					event.reply("You can't view the grid list for a game you're in!");
-				else
-					event.replyInDm(game.gridList(false));
-				//We found the right channel, so
-				return;
-			}
+			//Hardcoded exception so we can still use this in the testing channel lol
+			if(game.findPlayerInGame(event.getAuthor().getId()) != -1 && !game.channel.getId().equals("466545561743654924"))
+				event.reply("You can't view the grid list for a game you're in!");
+			else
+				event.replyInDm(game.gridList(false));
+			//We found the right channel, so
+			return;
 		}
 	}
 
@@ -11,6 +11,7 @@ import com.jagrosh.jdautilities.command.CommandEvent;
 
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Member;
+import tel.discord.rtab.GuildSettings;
 
 public class ListGuildsCommand extends Command
 {
@@ -41,13 +42,9 @@ public class ListGuildsCommand extends Command
 			try
 			{
 				int enabledChannels = 0;
-				List<String> list = Files.readAllLines(Paths.get("guilds","guild"+guild.getId()+".csv"));
-				for(String channelString : list)
-				{
-					String[] record = channelString.split("#");
+				for(String[] record : GuildSettings.forGuild(guild.getId()).getChannels())
 					if(record[1].equalsIgnoreCase("enabled"))
 						enabledChannels++;
-				}
 				output.append("Enabled Channels: ").append(enabledChannels).append("\n");
 				FileTime modifiedTime = (FileTime)Files.getAttribute(Paths.get("guilds","guild"+guild.getId()+".csv"),"lastModifiedTime");
 				long modifiedTimeAgo = System.currentTimeMillis() - modifiedTime.toMillis();
@@ -1,13 +1,13 @@
 package tel.discord.rtab.commands.mod;
 
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.HashSet;
-import java.util.List;
 
 import com.jagrosh.jdautilities.command.CommandEvent;
 
+import tel.discord.rtab.GuildSettings;
 import tel.discord.rtab.PlayerLevel;
+import tel.discord.rtab.ScoreStore;
+import tel.discord.rtab.SeasonHistory;
 import tel.discord.rtab.commands.ParsingCommand;
 import tel.discord.rtab.commands.channel.BooleanSetting;
 import tel.discord.rtab.commands.channel.ChannelSetting;
@@ -36,11 +36,9 @@ public class RecalcLevelCommand extends ParsingCommand
 			userID = event.getArgs();
 		try
 		{
-			List<String> channelList = Files.readAllLines(Paths.get("guilds","guild"+guildID+".csv"));
 			//Now we loop through each channel that contributes toward player level
-			for(String nextChannel : channelList)
+			for(String[] channelRecord : GuildSettings.forGuild(guildID).getChannels())
 			{
-				String[] channelRecord = nextChannel.split("#");
 				if(BooleanSetting.parseSetting(channelRecord[ChannelSetting.CHANNEL_COUNTS_TO_PLAYER_LEVEL.getLocation()],false))
 				{
 					String channelID = channelRecord[0];
@@ -53,30 +51,16 @@ public class RecalcLevelCommand extends ParsingCommand
 					{
 						//Search through every season to find *everyone* and recalc them
 						checkedIDs = new HashSet<>(); //Reset the list as we're starting a new channel
-						int season = 1;
-						//We're going to keep reading history files as long as they're there
-						while(Files.exists(Paths.get("scores","history"+channelID+"s"+season+".csv")))
-						{
-							//Load up the next one
-							List<String> list = Files.readAllLines(Paths.get("scores","history"+channelID+"s"+season+".csv"));
-							for(String next : list)
-							{
-								String[] record = next.split("#");
-								userID = record[0];
-								if(checkedIDs.add(userID)) //Don't duplicate the same player within a single channel's history
-								{
-									event.reply(recalcPlayerForChannel(userID, channelID, guildID, checkedIDsOverall.add(userID)));
-								}
-							}
-							season++;
-						}
+						SeasonHistory history = SeasonHistory.forChannel(channelID);
+						for(String nextID : history.getPlayers())
+							if(checkedIDs.add(nextID)) //Don't duplicate the same player within a single channel's history
+								event.reply(recalcPlayerForChannel(nextID, channelID, guildID, checkedIDsOverall.add(nextID)));
 						//Finally, check the current season (if there is one) to find anyone playing in their first season
-						if(Files.exists(Paths.get("scores","scores"+channelID+".csv")))
+						ScoreStore scores = ScoreStore.findStore(channelID);
+						if(scores != null)
 						{
-							List<String> list = Files.readAllLines(Paths.get("scores","scores"+channelID+".csv"));
-							for(String next : list)
+							for(String[] record : scores.getRecords(0, scores.size()))
 							{
-								String[] record = next.split("#");
 								userID = record[0];
 								if(checkedIDs.add(userID)) //Still don't duplicate a player
 								{
@@ -98,42 +82,28 @@ public class RecalcLevelCommand extends ParsingCommand
 	{
 		String name = "";
 		PlayerLevel playerLevelData = new PlayerLevel(guildID, userID, name); //We'll set a name once we find one
-		int season = 1;
 		long championMoney = 0;
 		long maingameMoney = 0;
 		try
 		{
-			//We're going to keep reading history files as long as they're there
-			while(Files.exists(Paths.get("scores","history"+channelID+"s"+season+".csv")))
+			for(SeasonHistory.Finish next : SeasonHistory.forChannel(channelID).getFinishes(userID))
 			{
-				//Load up the next one
-				List<String> list = Files.readAllLines(Paths.get("scores","history"+channelID+"s"+season+".csv"));
-				int index = findUserInList(list,userID,false);
-				//If we find them, add their records to the pile
-				if(index >= 0 && index < list.size())
-				{
-					String[] record = list.get(index).split("#");
-					name = record[1];
-					maingameMoney += Math.min(1_000_000_000, Long.parseLong(record[2]));
-					if(index == 0)
-						championMoney += Long.parseLong(record[2]);
-				}
-				season ++;
+				name = next.name();
+				maingameMoney += Math.min(1_000_000_000, next.money());
+				if(next.rank() == 1)
+					championMoney += next.money();
 			}
 			//Also check the current season, if there's one ongoing
-			if(Files.exists(Paths.get("scores","scores"+channelID+".csv")))
+			ScoreStore scores = ScoreStore.findStore(channelID);
+			int index = scores == null ? -1 : scores.findRank(userID);
+			//If we find them, add their current season score as well
+			if(index >= 0)
 			{
-				List<String> list = Files.readAllLines(Paths.get("scores","scores"+channelID+".csv"));
-				int index = findUserInList(list,userID,false);
-				//If we find them, add their current season score as well
-				if(index >= 0 && index < list.size())
-				{
-					String[] record = list.get(index).split("#");
-					name = record[1];
-					maingameMoney += Math.min(1_000_000_000, Long.parseLong(record[2]));
-					if(index == 0)
-						championMoney += Long.parseLong(record[2]);
-				}
+				String[] record = scores.getRecordAt(index);
+				name = record[1];
+				maingameMoney += Math.min(1_000_000_000, Long.parseLong(record[2]));
+				if(index == 0)
+					championMoney += Long.parseLong(record[2]);
 			}
 			//Now update their level data
 			if(eraseOldData)
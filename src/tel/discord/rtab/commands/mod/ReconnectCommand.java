@@ -19,7 +19,8 @@ public class ReconnectCommand extends Command
 	@Override
 	protected void execute(CommandEvent event)
 	{	
-		RaceToABillionBot.scanGuilds();
+		if(!RaceToABillionBot.scanGuilds())
+			event.reply("Still connecting to channels (" + RaceToABillionBot.getReadiness() + "), try again once that's done.");
 	}
 	
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 package tel.discord.rtab.commands.mod;
 
+import tel.discord.rtab.ControllerRegistry;
 import tel.discord.rtab.GameController;
-import tel.discord.rtab.RaceToABillionBot;
 
 import com.jagrosh.jdautilities.command.Command;
 import com.jagrosh.jdautilities.command.CommandEvent;
@@ -20,13 +20,11 @@ public class SaveCommand extends Command
 	@Override
 	protected void execute(CommandEvent event)
 	{
-		for(GameController game : RaceToABillionBot.game)
+		GameController game = ControllerRegistry.getGame(event.getChannel().getId());
+		if(game != null)
 		{
-			if(game.channel.getId().equals(event.getChannel().getId()))
-			{
-				game.runFinalEndGameTasks();
-				return;
-			}
+			game.runFinalEndGameTasks();
+			return;
 		}
 	}
 }
\ No newline at end of file
@@ -7,9 +7,8 @@ import com.jagrosh.jdautilities.command.CommandEvent;
 
 import net.dv8tion.jda.api.entities.channel.concrete.PrivateChannel;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
-import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import tel.discord.rtab.ControllerRegistry;
 import tel.discord.rtab.GameController;
-import tel.discord.rtab.RaceToABillionBot;
 
 public class SendMessagesCommand extends Command
 {
@@ -45,7 +44,7 @@ public class SendMessagesCommand extends Command
 	
 	private void getMessage()
 	{
-		waiter.waitForEvent(MessageReceivedEvent.class,
+		waiter.waitForMessage(myChannel.getId(), null,
 				//Make sure it's from me in my private channel
 				e -> (e.getChannel().getId().equals(myChannel.getId())),
 				//Read their choice and handle things accordingly
@@ -55,7 +54,7 @@ public class SendMessagesCommand extends Command
 					return;
 				else if(sendToAll)
 				{
-					for(GameController nextGameChannel : RaceToABillionBot.game)
+					for(GameController nextGameChannel : ControllerRegistry.getGames())
 						nextGameChannel.channel.sendMessage(e.getMessage().getContentRaw()).queue();
 				}
 				else
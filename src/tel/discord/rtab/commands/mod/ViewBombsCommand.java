@@ -1,8 +1,8 @@
 package tel.discord.rtab.commands.mod;
 
+import tel.discord.rtab.ControllerRegistry;
 import tel.discord.rtab.GameController;
 import tel.discord.rtab.Player;
-import tel.discord.rtab.RaceToABillionBot;
 
 import com.jagrosh.jdautilities.command.Command;
 import com.jagrosh.jdautilities.command.CommandEvent;
@@ -19,24 +19,22 @@ public class ViewBombsCommand extends Command {
 	}
 	@Override
 	protected void execute(CommandEvent event) {
-		for(GameController game : RaceToABillionBot.game)
+		GameController game = ControllerRegistry.getGame(event.getChannel().getId());
+		if(game != null)
 		{
-			if(game.channel.getId().equals(event.getChannel().getId()))
+			if(game.findPlayerInGame(event.getAuthor().getId()) != -1)
+				event.reply("You can't view bombs for a game you're in!");
+			else
 			{
-				if(game.findPlayerInGame(event.getAuthor().getId()) != -1)
-					event.reply("You can't view bombs for a game you're in!");
-				else
+				StringBuilder output = new StringBuilder();
+				for(Player nextPlayer : game.players)
 				{
-					StringBuilder output = new StringBuilder();
-					for(Player nextPlayer : game.players)
-					{
-						output.append(nextPlayer.printBombs()).append("\n");
-					}
-					event.replyInDm(output.toString());
+					output.append(nextPlayer.printBombs()).append("\n");
 				}
-				//We found the right channel, so
-				return;
+				event.replyInDm(output.toString());
 			}
+			//We found the right channel, so
+			return;
 		}
 	}
 
@@ -19,7 +19,7 @@ public class BoostCharger implements EventSpace
 		if(RtaBMath.random() < 0.2)
 			boostAmount += (int)(RtaBMath.random() * 10 + 1);
 		game.players.get(player).boostCharge += boostAmount;
-		game.channel.sendMessage("It's a **Boost Charger**, "
-				+ String.format("you'll gain %d%% boost every turn until your next loss!",boostAmount)).queue();
+		game.messages.send("It's a **Boost Charger**, "
+				+ String.format("you'll gain %d%% boost every turn until your next loss!",boostAmount));
 	}
 }
@@ -2,6 +2,7 @@ package tel.discord.rtab.events;
 
 import tel.discord.rtab.Achievement;
 import tel.discord.rtab.GameController;
+import tel.discord.rtab.Lane;
 import tel.discord.rtab.board.Board;
 import tel.discord.rtab.board.Boost;
 
@@ -30,7 +31,7 @@ public class BoostMagnet implements EventSpace
 		if(totalBoost != 0)
 		{
 			//And give it to the current player
-			game.channel.sendMessage("It's a **Boost Magnet**, you get half of everyone's boost!").queue();
+			game.messages.send("It's a **Boost Magnet**, you get half of everyone's boost!");
 			game.players.get(player).addBooster(totalBoost);
 			if(totalBoost >= 400)
 				Achievement.BOOST_MAGNET.check(game.players.get(player));
@@ -38,10 +39,10 @@ public class BoostMagnet implements EventSpace
 		else
 		{
 			//No boost in play? BACKUP PLAN
-			game.channel.sendMessage("It's a **Boost Magnet**, but there's no boost to steal...").queue();
-			try { Thread.sleep(2000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			game.channel.sendMessage("So you can have this instead.").queue();
-			try { Thread.sleep(2000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+			game.messages.send("It's a **Boost Magnet**, but there's no boost to steal...");
+			Lane.pause(2000);
+			game.messages.send("So you can have this instead.");
+			Lane.pause(2000);
 			game.awardBoost(player, Board.generateSpaces(1, game.players.size(), Boost.values()).get(0));
 		}
 	}
@@ -2,12 +2,12 @@ package tel.discord.rtab.events;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
 import net.dv8tion.jda.api.entities.Message;
 import tel.discord.rtab.Achievement;
 import tel.discord.rtab.GameController;
+import tel.discord.rtab.Lane;
 import tel.discord.rtab.MoneyMultipliersToUse;
 import tel.discord.rtab.Player;
 import tel.discord.rtab.PlayerStatus;
@@ -81,40 +81,40 @@ public class Bowser implements EventSpace
 		bowserJackpot = Jackpots.BOWSER.getJackpot(game.channel);
 		if(RtaBMath.random() < 0.01 && getCurrentPlayer().getRoundDelta() > 0)
 		{
-			game.channel.sendMessage("It's ||B-B-B-**BOWSER**||!").queue();
-			try { Thread.sleep(3000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			game.channel.sendMessage("Wah, hah, HAH! Welcome to the **Bowser Event**! Aww, did I fool you?").queue();
+			game.messages.send("It's ||B-B-B-**BOWSER**||!");
+			Lane.pause(3000);
+			game.messages.send("Wah, hah, HAH! Welcome to the **Bowser Event**! Aww, did I fool you?");
 		}
 		else
 		{
-			game.channel.sendMessage("It's B-B-B-**BOWSER**!!").queue();
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			game.channel.sendMessage(String.format(INTRO_MESSAGES[(int)(RtaBMath.random()*INTRO_MESSAGES.length)],
-					getCurrentPlayer().getName())).queue();
+			game.messages.send("It's B-B-B-**BOWSER**!!");
+			Lane.pause(1000);
+			game.messages.send(String.format(INTRO_MESSAGES[(int)(RtaBMath.random()*INTRO_MESSAGES.length)],
+					getCurrentPlayer().getName()));
 		}
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		Lane.pause(1000);
 		//If they don't have any money yet, why not be kind and give them some?
 		if(getCurrentPlayer().getRoundDelta() <= 0)
 		{
-			game.channel.sendMessage("Oh, but you don't have any money yet this round?").queue();
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+			game.messages.send("Oh, but you don't have any money yet this round?");
+			Lane.pause(1000);
 			//100% chance of pity money at start, then 90% chance for $100M club, down to 10% chance in $900M club
 			if(RtaBMath.random()*10 > getCurrentPlayer().money / 100_000_000)
 			{
 				//Only award the same percentage of the $1m "base" pity money
 				int pityMoney = game.applyBaseMultiplier(100_000)*(10-(getCurrentPlayer().money/100_000_000));
-				game.channel.sendMessage(String.format("Let no one say I am unkind. Here is **$%,d**!",pityMoney)).queue();
+				game.messages.send(String.format("Let no one say I am unkind. Here is **$%,d**!",pityMoney));
 				getCurrentPlayer().addMoney(pityMoney,MoneyMultipliersToUse.NOTHING);
 				return;
 			}
-			game.channel.sendMessage("Too bad!").queue();
+			game.messages.send("Too bad!");
 		}
 		else
 		{
-			game.channel.sendMessage(EVENT_MESSAGES[(int)(RtaBMath.random()*EVENT_MESSAGES.length)]).queue();
+			game.messages.send(EVENT_MESSAGES[(int)(RtaBMath.random()*EVENT_MESSAGES.length)]);
 		}
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		game.channel.sendMessage(ROULETTE_MESSAGES[(int)(RtaBMath.random()*ROULETTE_MESSAGES.length)]).queue();
+		Lane.pause(1000);
+		game.messages.send(ROULETTE_MESSAGES[(int)(RtaBMath.random()*ROULETTE_MESSAGES.length)]);
 		//Build roulette wheel
 		ArrayList<BowserEvent> bowserEvents = new ArrayList<>();
 		//Always have a coins for bowser
@@ -135,10 +135,10 @@ public class Bowser implements EventSpace
 		else
 			copy.add(BowserEvent.COMMUNISM);
 		if(game.playersAlive > 2) copy.add(BowserEvent.REVERSE_CURSE); //This one shouldn't show up in 2p
-		Collections.shuffle(copy);
+		RtaBMath.shuffle(copy);
 		bowserEvents.addAll(copy.subList(0,5-bowserEvents.size()));
 		//Now give the list a shuffle and spin it!
-		Collections.shuffle(bowserEvents);
+		RtaBMath.shuffle(bowserEvents);
 		switch (spinWheel(bowserEvents)) {
 			case COINS_FOR_BOWSER -> coinsForBowser();
 			case BOWSER_POTLUCK -> bowserPotluck();
@@ -154,12 +154,8 @@ public class Bowser implements EventSpace
 				} else {
 					runaway();
 					if (getCurrentPlayer().getRoundDelta() > 0) {
-						try {
-							Thread.sleep(2000);
-						} catch (InterruptedException e) {
-							Thread.currentThread().interrupt();
-						}
-						game.channel.sendMessage("...with all your money. Jackpot!").queue();
+						Lane.pause(2000);
+						game.messages.send("...with all your money. Jackpot!");
 						bowserJackpot += getCurrentPlayer().resetRoundDelta();
 					}
 				}
@@ -172,15 +168,15 @@ public class Bowser implements EventSpace
 	private BowserEvent spinWheel(ArrayList<BowserEvent> list)
 	{
 		int index = (int)(RtaBMath.random()*5);
-		Message bowserMessage = game.channel.sendMessage(generateRouletteDisplay(list,index))
-				.completeAfter(1,TimeUnit.SECONDS);
+		Lane.pause(1000);
+		Message bowserMessage = game.messages.sendAndWait(generateRouletteDisplay(list,index));
 		int addon = (int)(RtaBMath.random()*5+1);
 		//Make it spin
 		for(int i=0; i<addon; i++)
 		{
 			index += 1;
 			index %= 5;
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+			Lane.pause(1000);
 			bowserMessage.editMessage(generateRouletteDisplay(list,index)).queue();
 		}
 		//50% chance three times to give it an extra twist
@@ -193,7 +189,7 @@ public class Bowser implements EventSpace
 				bowserMessage.editMessage(generateRouletteDisplay(list,index)).completeAfter(2,TimeUnit.SECONDS);
 			}
 		//Pause for a second
-		try { Thread.sleep(2000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		Lane.pause(2000);
 		//Check if it's on the jackpot or runaway
 		if(list.get(index).hardToLandOn)
 		{
@@ -209,7 +205,7 @@ public class Bowser implements EventSpace
 					index += direction ? 1 : -1;
 					index = (index + 5) % 5;
 					bowserMessage.editMessage(generateRouletteDisplay(list,index)).queue();
-					try { Thread.sleep(250); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+					Lane.pause(250);
 				}
 			}
 		}
@@ -236,9 +232,9 @@ public class Bowser implements EventSpace
 	
 	private void coinsForBowser()
 	{
-		game.channel.sendMessage("**Cash for Bowser** it is!").queue();
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		game.channel.sendMessage("In this FUN event, you give your money to ME!").queue();
+		game.messages.send("**Cash for Bowser** it is!");
+		Lane.pause(1000);
+		game.messages.send("In this FUN event, you give your money to ME!");
 		//Coins: Up to 100-200% of the base amount, determined by their round earnings and their total bank
 		int coinFraction = (int)(RtaBMath.random()*51+50);
 		//Use the greater of either their round earnings or 0.5% of their total bank
@@ -250,17 +246,17 @@ public class Bowser implements EventSpace
 		int minimumTake = game.applyBaseMultiplier(50_000);
 		if(coins < minimumTake)
 			coins = minimumTake;
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		game.channel.sendMessage(String.format("Ooh! I'm so excited! OK, that'll be **$%,d**! Wah, hah, hah, HAH!"
-				,coins)).queue();
+		Lane.pause(1000);
+		game.messages.send(String.format("Ooh! I'm so excited! OK, that'll be **$%,d**! Wah, hah, hah, HAH!"
+				,coins));
 		getCurrentPlayer().addMoney(coins*-1,MoneyMultipliersToUse.NOTHING);
 		bowserJackpot += coins;
 	}
 	private void bowserPotluck()
 	{
-		game.channel.sendMessage("It's **Bowser's Cash Potluck**!").queue();
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		game.channel.sendMessage("In this EXTRA FUN event, EVERY PLAYER gives me money!").queue();
+		game.messages.send("It's **Bowser's Cash Potluck**!");
+		Lane.pause(1000);
+		game.messages.send("In this EXTRA FUN event, EVERY PLAYER gives me money!");
 		//Potluck: 0.01% - 1.00% of the average total bank of the living players in the round
 		int potluckFraction = (int)(RtaBMath.random()*100+1);
 		int potluck = 0;
@@ -273,9 +269,9 @@ public class Bowser implements EventSpace
 		if(potluck < 50000)
 			potluck = 50000;
 		potluck = game.applyBaseMultiplier(potluck);
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		game.channel.sendMessage(String.format("Let the event begin! That'll be **$%,d** each! Wah, hah, hah, HAH!"
-				,potluck)).queue();
+		Lane.pause(1000);
+		game.messages.send(String.format("Let the event begin! That'll be **$%,d** each! Wah, hah, hah, HAH!"
+				,potluck));
 		for(Player next : game.players)
 			if(next.status == PlayerStatus.ALIVE)
 				next.addMoney(potluck * -1, MoneyMultipliersToUse.NOTHING);
@@ -283,17 +279,17 @@ public class Bowser implements EventSpace
 	}
 	private void communism()
 	{
-		game.channel.sendMessage("I am not always thinking about money. Why can't we all be friends?").queue();
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		game.channel.sendMessage("So, to make the world a more peaceful place, "
-			+ "I've decided to *divide everyone's earnings evenly*!").queue();
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		game.channel.sendMessage("It's a **Bowser Revolution**!").queue();
+		game.messages.send("I am not always thinking about money. Why can't we all be friends?");
+		Lane.pause(1000);
+		game.messages.send("So, to make the world a more peaceful place, "
+			+ "I've decided to *divide everyone's earnings evenly*!");
+		Lane.pause(1000);
+		game.messages.send("It's a **Bowser Revolution**!");
 		boolean superRevolution = RtaBMath.random() < 0.5;
 		if(superRevolution)
 		{
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			game.channel.sendMessage("And let's throw in 1% of your total banks as well!").queue();
+			Lane.pause(1000);
+			game.messages.send("And let's throw in 1% of your total banks as well!");
 		}
 		//Get the total money added during the round
 		int delta = 0;
@@ -326,7 +322,7 @@ public class Bowser implements EventSpace
 	}
 	private void blammoFrenzy()
 	{
-		game.channel.sendMessage("It's **Bowser's Multiplying Blammos**, we're using your cash to make more BLAMMOs! Good luck!").queue();
+		game.messages.send("It's **Bowser's Multiplying Blammos**, we're using your cash to make more BLAMMOs! Good luck!");
 		for(int i=0; i<game.boardSize; i++)
 		{
 			//Determine blammo rate based on current cash totals
@@ -344,29 +340,29 @@ public class Bowser implements EventSpace
 	}
 	private void minigame(Game gameToAward)
 	{
-		game.channel.sendMessage(String.format("It's **%s**! You'd better not lose this minigame, HAH!",gameToAward.getName())).queue();
+		game.messages.send(String.format("It's **%s**! You'd better not lose this minigame, HAH!",gameToAward.getName()));
 		getCurrentPlayer().addGame(gameToAward);
 	}
 	private void reverseCurse()
 	{
-		game.channel.sendMessage("It's **Bowser's Reverse Curse**!").queue();
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		game.channel.sendMessage("You've all been cursed to go in reverse... and I'm adding *lots* of Reverse!").queue();
+		game.messages.send("It's **Bowser's Reverse Curse**!");
+		Lane.pause(1000);
+		game.messages.send("You've all been cursed to go in reverse... and I'm adding *lots* of Reverse!");
 		game.gameboard.eventCurse(EventType.REVERSE);
 		game.reverse = !game.reverse;
 	}
 	private void addCursedBombs()
 	{
-		game.channel.sendMessage("It's **Bowser's Cursed Bombs**!").queue();
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		game.channel.sendMessage("You've been CURSED... and there are two new bombs on the board that only you can hit!").queue();
+		game.messages.send("It's **Bowser's Cursed Bombs**!");
+		Lane.pause(1000);
+		game.messages.send("You've been CURSED... and there are two new bombs on the board that only you can hit!");
 		getCurrentPlayer().cursed = true;
 		//get a list of open spaces and pick two at random
 		ArrayList<Integer> openSpaces = new ArrayList<>();
 		for(int i=0; i<game.boardSize; i++)
-			if(!game.pickedSpaces[i])
+			if(!game.pickedSpaces.get(i))
 				openSpaces.add(i);
-		Collections.shuffle(openSpaces);
+		RtaBMath.shuffle(openSpaces);
 		for(int i=0; i<2; i++)
 			if(openSpaces.size() > i)
 				game.gameboard.cursedBomb(openSpaces.get(i));
@@ -374,22 +370,22 @@ public class Bowser implements EventSpace
 	
 	private void runaway()
 	{
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		game.channel.sendMessage("...").queue();
-		try { Thread.sleep(2000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		game.channel.sendMessage("Bowser ran away!").queue();
+		Lane.pause(1000);
+		game.messages.send("...");
+		Lane.pause(2000);
+		game.messages.send("Bowser ran away!");
 	}
 	private void awardJackpot()
 	{
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		game.channel.sendMessage("...").queue();
-		try { Thread.sleep(2000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		game.channel.sendMessage("Bowser looks about to run away, but then gives you a pitiful look.").queue();
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		game.channel.sendMessage("You're looking quite sad there, aren't you?").queue();
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		game.channel.sendMessage("Let no one say I am unkind. You can have this, but don't tell anyone...").queue();
-		try { Thread.sleep(3000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		Lane.pause(1000);
+		game.messages.send("...");
+		Lane.pause(2000);
+		game.messages.send("Bowser looks about to run away, but then gives you a pitiful look.");
+		Lane.pause(1000);
+		game.messages.send("You're looking quite sad there, aren't you?");
+		Lane.pause(1000);
+		game.messages.send("Let no one say I am unkind. You can have this, but don't tell anyone...");
+		Lane.pause(3000);
 		//Final test: They need to be in last overall out of the players in the round
 		boolean awardJP = true;
 		int threshold = getCurrentPlayer().money;
@@ -397,13 +393,13 @@ public class Bowser implements EventSpace
 			if(next.money < threshold)
 			{
 				awardJP = false;
-				game.channel.sendMessage("Bowser left you **ABSOLUTELY NOTHING**! PSYCHE!").queue();
+				game.messages.send("Bowser left you **ABSOLUTELY NOTHING**! PSYCHE!");
 				return;
 			}
 		if(awardJP)
 		{
-			game.channel.sendMessage("Bowser left you **all the money he has collected**!!").queue();
-			game.channel.sendMessage(String.format("**$%,d**!!",bowserJackpot)).queue();
+			game.messages.send("Bowser left you **all the money he has collected**!!");
+			game.messages.send(String.format("**$%,d**!!",bowserJackpot));
 			getCurrentPlayer().addMoney(bowserJackpot, MoneyMultipliersToUse.NOTHING);
 			bowserJackpot = Jackpots.BOWSER.resetValue;
 		}
@@ -26,7 +26,7 @@ public class CashForAll implements EventSpace
 				nextPlayer.addMoney(cashGiven, MoneyMultipliersToUse.BOOSTER_ONLY);
 			}
 		}
-		game.channel.sendMessage(String.format("It's **Cash For All**! All players remaining receive **$%,d**!",cashGiven)).queue();
+		game.messages.send(String.format("It's **Cash For All**! All players remaining receive **$%,d**!",cashGiven));
 	}
 	
 }
@@ -3,6 +3,7 @@ package tel.discord.rtab.events;
 import java.util.LinkedList;
 
 import tel.discord.rtab.GameController;
+import tel.discord.rtab.Lane;
 import tel.discord.rtab.MoneyMultipliersToUse;
 import tel.discord.rtab.board.BombType;
 
@@ -20,13 +21,13 @@ public class CursedBomb implements EventSpace
 		if(game.players.get(player).cursed)
 		{
 			//If you're cursed, you go boom. (unless you have a joker)
-			game.channel.sendMessage("It's a **CURSED BOMB**.").queue();
+			game.messages.send("It's a **CURSED BOMB**.");
 			game.awardBomb(player, BombType.CURSED);
 		}
 		else
 		{
-			game.channel.sendMessage("It's a **CURSED BOMB**, but you aren't cursed...").queue();
-			try { Thread.sleep(2000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+			game.messages.send("It's a **CURSED BOMB**, but you aren't cursed...");
+			Lane.pause(2000);
 			//Get a list of cursed players
 			LinkedList<Integer> cursedPlayers = new LinkedList<>();
 			for(int i=0; i<game.players.size(); i++)
@@ -36,23 +37,23 @@ public class CursedBomb implements EventSpace
 			switch(cursedPlayers.size())
 			{
 				case 0 -> {
-					game.channel.sendMessage("But no one else *is* cursed either.").queue();
+					game.messages.send("But no one else *is* cursed either.");
 					return; //no one's cursed for some reason, so abort
 				}
 				case 1 -> {
-					game.channel.sendMessage("So you get to steal from the cursed player!").queue();
+					game.messages.send("So you get to steal from the cursed player!");
 				}
 				case 2 -> {
-					game.channel.sendMessage("So you get to steal from everyone who is cursed!").queue();
+					game.messages.send("So you get to steal from everyone who is cursed!");
 				}
 			}
 			for(int next : cursedPlayers)
 			{
-				try { Thread.sleep(2000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+				Lane.pause(2000);
 				//Steal a bomb penalty from the cursed player (and use the cursed player's booster, NOT the triggering player)
 				int originalTheftAmount = game.calculateBombPenalty(next) * -4;
 				int theftAmount = game.players.get(next).calculateBoostedAmount(originalTheftAmount, MoneyMultipliersToUse.BOOSTER_ONLY);
-				game.channel.sendMessage(String.format("**$%,d** stolen from %s.", originalTheftAmount, game.players.get(next).getSafeMention())).queue();
+				game.messages.send(String.format("**$%,d** stolen from %s.", originalTheftAmount, game.players.get(next).getSafeMention()));
 				game.players.get(next).addMoney(-1 * theftAmount, MoneyMultipliersToUse.NOTHING);
 				game.players.get(player).addMoney(theftAmount, MoneyMultipliersToUse.NOTHING);
 				if(theftAmount != originalTheftAmount)
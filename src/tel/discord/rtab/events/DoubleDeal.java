@@ -13,7 +13,7 @@ public class DoubleDeal implements EventSpace
 	@Override
 	public void execute(GameController game, int player)
 	{
-		game.channel.sendMessage("It's a **Double Deal**, all cash left on the board is doubled in value!").queue();
+		game.messages.send("It's a **Double Deal**, all cash left on the board is doubled in value!");
 		game.boardMultiplier *= 2;
 	}
 
@@ -22,13 +22,13 @@ public class DrawCards implements EventSpace
 		game.advanceTurn(false);
 		if(game.repeatTurn > 0)
 		{
-			game.channel.sendMessage(String.format("It's another **Draw %d**, and that stacks up to make %d turns for %s!",
-					cardsToDraw, game.repeatTurn+cardsToDraw,game.players.get(game.currentTurn).getName())).queue();
+			game.messages.send(String.format("It's another **Draw %d**, and that stacks up to make %d turns for %s!",
+					cardsToDraw, game.repeatTurn+cardsToDraw,game.players.get(game.currentTurn).getName()));
 		}
 		else
 		{
-			game.channel.sendMessage(String.format("It's a **Draw %1$d**, %2$s needs to take %1$d turns in a row!",
-					cardsToDraw, game.players.get(game.currentTurn).getName())).queue();
+			game.messages.send(String.format("It's a **Draw %1$d**, %2$s needs to take %1$d turns in a row!",
+					cardsToDraw, game.players.get(game.currentTurn).getName()));
 		}
 		game.firstPick = true;
 		game.repeatTurn += cardsToDraw;
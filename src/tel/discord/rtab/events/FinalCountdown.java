@@ -17,7 +17,7 @@ public class FinalCountdown implements EventSpace
 		if(!game.finalCountdown)
 		{
 			//Send message with appropriate
-			game.channel.sendMessage("It's the **Final Countdown**!").queue();
+			game.messages.send("It's the **Final Countdown**!");
 			game.finalCountdown = true;
 			//Figure out turns left: max 50% remaining spaces, min players alive (max overrides min)
 			if(game.spacesLeft/2 <= game.playersAlive)
@@ -25,11 +25,11 @@ public class FinalCountdown implements EventSpace
 			else
 				game.fcTurnsLeft = (int) (RtaBMath.random() * ((game.spacesLeft/2) - game.playersAlive + 1) + game.playersAlive);
 			//Tell them how long they have
-			game.channel.sendMessage(String.format("The round will end in **%d turns**.",game.fcTurnsLeft)).queue();
+			game.messages.send(String.format("The round will end in **%d turns**.",game.fcTurnsLeft));
 		}
 		else
 		{
-			game.channel.sendMessage("It's another **Final Countdown**! Turns remaining cut in half!").queue();
+			game.messages.send("It's another **Final Countdown**! Turns remaining cut in half!");
 			game.fcTurnsLeft /= 2;
 		}
 	}
@@ -1,6 +1,7 @@
 package tel.discord.rtab.events;
 
 import tel.discord.rtab.GameController;
+import tel.discord.rtab.Lane;
 import tel.discord.rtab.Player;
 import tel.discord.rtab.PlayerStatus;
 
@@ -17,12 +18,12 @@ public class HiddenCommandsForAll implements EventSpace
 	{
 		if(game.tiebreakMode)
 		{
-			game.channel.sendMessage("It's ||**Commands for None**||!").queue();
-			try { Thread.sleep(3000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			game.channel.sendMessage("Win the season on your own merit, not on hidden command RNG :)").queue();
+			game.messages.send("It's ||**Commands for None**||!");
+			Lane.pause(3000);
+			game.messages.send("Win the season on your own merit, not on hidden command RNG :)");
 			return;
 		}	
-		game.channel.sendMessage("It's ||**Commands for All**||!").queue();
+		game.messages.send("It's ||**Commands for All**||!");
 		for(Player nextPlayer : game.players)
 			if(nextPlayer.status == PlayerStatus.ALIVE)
 				nextPlayer.awardHiddenCommand();
@@ -14,8 +14,8 @@ public class Jackpot implements EventSpace
 	public void execute(GameController game, int player)
 	{
 		int jackpotAmount = game.spacesLeft+1;
-		game.channel.sendMessage(String.format("You found the $%,d **JACKPOT**, "
-				+ "win the round to claim it!", game.applyBaseMultiplier(1_000_000*jackpotAmount))).queue();
+		game.messages.send(String.format("You found the $%,d **JACKPOT**, "
+				+ "win the round to claim it!", game.applyBaseMultiplier(1_000_000*jackpotAmount)));
 		game.players.get(player).jackpot += jackpotAmount;
 	}
 
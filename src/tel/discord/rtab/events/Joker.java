@@ -17,14 +17,14 @@ public class Joker implements EventSpace
 		//This check shouldn't be needed right now, but in case we change things later
 		if(game.players.get(player).jokers >= 0)
 		{
-			game.channel.sendMessage("Congratulations, you found a **Joker**, protecting you from a single bomb!").queue();
+			game.messages.send("Congratulations, you found a **Joker**, protecting you from a single bomb!");
 			game.players.get(player).jokers ++;
 			if(game.players.get(player).jokers == 2)
 				Achievement.EXTRA_JOKER.check(game.players.get(player));
 		}
 		else
 		{
-			game.channel.sendMessage("You found a **Joker**, but you don't need it.").queue();
+			game.messages.send("You found a **Joker**, but you don't need it.");
 		}
 	}
 
@@ -14,9 +14,9 @@ public class Lockdown implements EventSpace
 	@Override
 	public void execute(GameController game, int player)
 	{
-		game.channel.sendMessage("It's the **Triple Deal Lockdown**, "
+		game.messages.send("It's the **Triple Deal Lockdown**, "
 				+ "all the boost, games, and events on the board have been converted to cash... "
-				+ "and all cash has been tripled!").queue();
+				+ "and all cash has been tripled!");
 		game.boardMultiplier *= 3;
 		for(int i=0; i<game.boardSize; i++)
 		{
@@ -2,11 +2,11 @@ package tel.discord.rtab.events;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
 import net.dv8tion.jda.api.entities.Message;
 import tel.discord.rtab.GameController;
+import tel.discord.rtab.Lane;
 import tel.discord.rtab.MoneyMultipliersToUse;
 import tel.discord.rtab.RtaBMath;
 import tel.discord.rtab.board.EventType;
@@ -52,24 +52,20 @@ public class LuckySpace implements EventSpace
 			wheel.remove(LuckyEvent.JOKER);
 		else
 			wheel.remove(LuckyEvent.DOUBLE_DEAL);
-		Collections.shuffle(wheel);
-		game.channel.sendMessage("You found the **Lucky Space**! Step right up and claim your prize!").queue();
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		RtaBMath.shuffle(wheel);
+		game.messages.send("You found the **Lucky Space**! Step right up and claim your prize!");
+		Lane.pause(1000);
 		switch (spinWheel(wheel)) {
 			case BIG_BUCKS -> {
 				int cashWon = (int) Math.pow((RtaBMath.random() * 14) + 20, 4); //Mystery money but with a much more limited range
 				cashWon *= Math.sqrt(game.players.size()); //and boost it by the playercount
 				cashWon -= cashWon % 10_000; //Round it off
 				cashWon = game.applyBaseMultiplier(cashWon); //Then base multiplier
-				game.channel.sendMessage(String.format("It's **Big Bucks**! You're taking home **$%,d**!", cashWon)).queue();
+				game.messages.send(String.format("It's **Big Bucks**! You're taking home **$%,d**!", cashWon));
 				StringBuilder extraResult = game.players.get(player).addMoney(game.applyBaseMultiplier(cashWon), MoneyMultipliersToUse.BOOSTER_ONLY);
 				if (extraResult != null) {
-					try {
-						Thread.sleep(1000);
-					} catch (InterruptedException e) {
-						Thread.currentThread().interrupt();
-					}
-					game.channel.sendMessage(extraResult.toString()).queue();
+					Lane.pause(1000);
+					game.messages.send(extraResult.toString());
 				}
 			}
 			case CASH_FOR_ALL -> game.awardEvent(player, EventType.CASH_FOR_ALL);
@@ -79,7 +75,7 @@ public class LuckySpace implements EventSpace
 				Game minigame = game.players.get(player).generateEventMinigame();
 				game.awardGame(player, minigame);
 				if (game.players.size() >= 9) {
-					game.channel.sendMessage("And you can have two copies of it!").queue();
+					game.messages.send("And you can have two copies of it!");
 					game.players.get(player).addGame(minigame);
 				}
 			}
@@ -89,26 +85,26 @@ public class LuckySpace implements EventSpace
 	private LuckyEvent spinWheel(ArrayList<LuckyEvent> wheel)
 	{
 		int index = (int)(RtaBMath.random()*wheel.size());
-		Message luckyMessage = game.channel.sendMessage(generateRouletteDisplay(wheel,index))
-				.completeAfter(1,TimeUnit.SECONDS);
+		Lane.pause(1000);
+		Message luckyMessage = game.messages.sendAndWait(generateRouletteDisplay(wheel,index));
 		int addon = (int)(RtaBMath.random()*wheel.size()+1);
 		//Make it spin
 		for(int i=0; i<addon; i++)
 		{
 			index += 1;
 			index %= wheel.size();
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+			Lane.pause(1000);
 			luckyMessage.editMessage(generateRouletteDisplay(wheel,index)).queue();
 		}
 		//50% chance to tick it over one more time
-		try { Thread.sleep(2000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		Lane.pause(2000);
 		if(RtaBMath.random() < 0.5)
 		{
 			index += 1;
 			index %= wheel.size();
 			luckyMessage.editMessage(generateRouletteDisplay(wheel,index)).queue();
 		}
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		Lane.pause(1000);
 		//Delete the roulette message after a few seconds
 		luckyMessage.delete().queueAfter(5, TimeUnit.SECONDS);
 		return wheel.get(index);
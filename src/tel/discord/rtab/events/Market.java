@@ -7,14 +7,13 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import net.dv8tion.jda.api.entities.channel.ChannelType;
-import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import tel.discord.rtab.GameController;
+import tel.discord.rtab.Lane;
 import tel.discord.rtab.MoneyMultipliersToUse;
 import tel.discord.rtab.Player;
 import tel.discord.rtab.PlayerStatus;
@@ -70,7 +69,7 @@ public class Market implements EventSpace
 			}
 			void applyResult(GameController game, int player)
 			{
-				game.channel.sendMessage("Chaos Option Selected. Here's your money, good luck keeping it!").queue();
+				game.messages.send("Chaos Option Selected. Here's your money, good luck keeping it!");
 				game.players.get(player).addMoney(game.applyBaseMultiplier(1_000_000*game.playersAlive), MoneyMultipliersToUse.NOTHING);
 				game.gameboard.bankruptCurse();
 			}
@@ -87,14 +86,14 @@ public class Market implements EventSpace
 			}
 			void applyResult(GameController game, int player)
 			{
-				game.channel.sendMessage("Chaos Option Selected. Good luck cashing in~").queue();
+				game.messages.send("Chaos Option Selected. Good luck cashing in~");
 				game.players.get(player).addMoney(-1*game.applyBankPercentMultiplier(game.players.get(player).money/200)*game.playersAlive
 						, MoneyMultipliersToUse.NOTHING);
 				for(int i=0; i<game.players.size(); i++)
 					if(i != player && game.players.get(i).status == PlayerStatus.ALIVE && !game.players.get(i).splitAndShare)
 					{
 						game.players.get(i).splitAndShare = true;
-						game.channel.sendMessage("Split and Share applied to "+game.players.get(i).getSafeMention()+".").queue();
+						game.messages.send("Split and Share applied to "+game.players.get(i).getSafeMention()+".");
 					}
 			}
 		},
@@ -106,7 +105,7 @@ public class Market implements EventSpace
 			}
 			void applyResult(GameController game, int player)
 			{
-				game.channel.sendMessage("Chaos Option Selected. Best of luck to you!").queue();
+				game.messages.send("Chaos Option Selected. Best of luck to you!");
 				game.awardEvent(player, EventType.JOKER);
 				game.awardEvent(player, EventType.SPLIT_SHARE);
 			}
@@ -123,7 +122,7 @@ public class Market implements EventSpace
 			}
 			void applyResult(GameController game, int player)
 			{
-				game.channel.sendMessage("Chaos Option Selected. Thanks for playing!").queue();
+				game.messages.send("Chaos Option Selected. Thanks for playing!");
 				game.players.get(player).addMoney(game.applyBaseMultiplier(20_000*game.spacesLeft), MoneyMultipliersToUse.NOTHING);
 				game.players.get(player).status = !game.players.get(player).games.isEmpty() ? PlayerStatus.FOLDED : PlayerStatus.OUT;
 				game.playersAlive--;
@@ -159,7 +158,7 @@ public class Market implements EventSpace
 			}
 			void applyResult(GameController game, int player)
 			{
-				game.channel.sendMessage("Chaos Option Selected. Good luck in the bonus game!").queue();
+				game.messages.send("Chaos Option Selected. Good luck in the bonus game!");
 				game.players.get(player).addMoney(
 						game.applyBaseMultiplier(-1*getPrice(game.players.get(player).winstreak)), MoneyMultipliersToUse.NOTHING);
 				game.players.get(player).addWinstreak(40 - (game.players.get(player).winstreak % 40));
@@ -192,7 +191,7 @@ public class Market implements EventSpace
 			}
 			void applyResult(GameController game, int player)
 			{
-				game.channel.sendMessage("Chaos Option Selected. Good luck rebuilding your streak!").queue();
+				game.messages.send("Chaos Option Selected. Good luck rebuilding your streak!");
 				game.players.get(player).addMoney(
 						game.applyBaseMultiplier(getPrice(game.players.get(player).winstreak)), MoneyMultipliersToUse.NOTHING);
 				game.players.get(player).winstreak = 0;
@@ -206,7 +205,7 @@ public class Market implements EventSpace
 			}
 			void applyResult(GameController game, int player)
 			{
-				game.channel.sendMessage("Chaos Option Selected. Good luck!").queue();
+				game.messages.send("Chaos Option Selected. Good luck!");
 				game.awardEvent(player, EventType.STARMAN);
 				game.awardEvent(player, EventType.MINEFIELD);
 			}
@@ -217,15 +216,15 @@ public class Market implements EventSpace
 			{
 				//Condition: There is at least one event still on the board
 				for(int i=0; i<game.boardSize; i++)
-					if(!game.pickedSpaces[i] && game.gameboard.getType(i) == SpaceType.EVENT)
+					if(!game.pickedSpaces.get(i) && game.gameboard.getType(i) == SpaceType.EVENT)
 						return true;
 				return false;
 			}
 			void applyResult(GameController game, int player)
 			{
-				game.channel.sendMessage("Chaos Option Selected. Enjoy your Grab Bags!").queue();
+				game.messages.send("Chaos Option Selected. Enjoy your Grab Bags!");
 				for(int i=0; i<game.boardSize; i++)
-					if(!game.pickedSpaces[i] && game.gameboard.getType(i) == SpaceType.EVENT)
+					if(!game.pickedSpaces.get(i) && game.gameboard.getType(i) == SpaceType.EVENT)
 						game.gameboard.changeType(i, SpaceType.GRAB_BAG);
 				for(Player next : game.players)
 					next.addBooster(-1*next.booster/2);
@@ -244,11 +243,11 @@ public class Market implements EventSpace
 						game.players.get(i).peeks ++;
 				if(game.players.get(player).isBot)
 				{
-					game.channel.sendMessage("Chaos Option Selected. The new bomb has been placed!").queue();
+					game.messages.send("Chaos Option Selected. The new bomb has been placed!");
 					//Get unknown spaces
 					ArrayList<Integer> openSpaces = new ArrayList<>(game.boardSize);
 					for(int i=0; i<game.boardSize; i++)
-						if(!game.pickedSpaces[i] && !game.players.get(player).knownBombs.contains(i)
+						if(!game.pickedSpaces.get(i) && !game.players.get(player).knownBombs.contains(i)
 								&& !game.players.get(player).safePeeks.contains(i))
 							openSpaces.add(i);
 					//If there were any, place the bomb in one of them (otherwise don't place the bomb at all)
@@ -262,15 +261,15 @@ public class Market implements EventSpace
 				}
 				else
 				{
-					game.channel.sendMessage("Chaos Option Selected. **The next player may want to wait until the bomb has been placed.**").queue();
+					game.messages.send("Chaos Option Selected. **The next player may want to wait until the bomb has been placed.**");
 					game.players.get(player).user.openPrivateChannel().queue(
 							(channel) -> channel.sendMessage("Please place your bomb within the next 30 seconds "
 									+ "by sending a number 1-" + game.boardSize + " (make sure the space hasn't been picked)").queue());
-					waiter.waitForEvent(MessageReceivedEvent.class,
+					waiter.waitForMessage(null, game.players.get(player).uID,
 							//Check if right player, and valid bomb pick
 							e -> (e.getAuthor().equals(game.players.get(player).user) && e.getChannel().getType() == ChannelType.PRIVATE
 									&& game.checkValidNumber(e.getMessage().getContentStripped())
-									&& !game.pickedSpaces[Integer.parseInt(e.getMessage().getContentStripped())-1]),
+									&& !game.pickedSpaces.get(Integer.parseInt(e.getMessage().getContentStripped())-1)),
 							//Parse it and update the bomb board
 							e -> 
 							{
@@ -280,11 +279,11 @@ public class Market implements EventSpace
 								game.players.get(player).knownBombs.add(bombLocation);
 								game.players.get(player).user.openPrivateChannel().queue(
 										(channel) -> channel.sendMessage("Bomb placement confirmed.").queue());
-								game.channel.sendMessage("The new bomb has been placed!").queue();
+								game.messages.send("The new bomb has been placed!");
 							},
 							//Or timeout the prompt without adding a bomb (but tell them it was added anyway)
 							45, TimeUnit.SECONDS, () ->
-                                    game.channel.sendMessage("The new bomb has been placed!").queue());
+                                    game.messages.send("The new bomb has been placed!"));
 				}
 			}
 		},
@@ -296,10 +295,10 @@ public class Market implements EventSpace
 			}
 			void applyResult(GameController game, int player)
 			{
-				game.channel.sendMessage("Chaos Option Selected. Hope you win big!").queue();
+				game.messages.send("Chaos Option Selected. Hope you win big!");
 				game.boardMultiplier *= 5;
 				for(int i=0; i<game.boardSize; i++)
-					if(!game.pickedSpaces[i] && game.gameboard.getType(i) == SpaceType.CASH && RtaBMath.random() < 0.5)
+					if(!game.pickedSpaces.get(i) && game.gameboard.getType(i) == SpaceType.CASH && RtaBMath.random() < 0.5)
 						game.gameboard.changeType(i, SpaceType.BLAMMO);
 			}
 		},
@@ -310,7 +309,7 @@ public class Market implements EventSpace
 			{
 				int markets = 0;
 				for(int i=0; i<game.boardSize; i++)
-					if(!game.pickedSpaces[i] && game.gameboard.getType(i).isEvent())
+					if(!game.pickedSpaces.get(i) && game.gameboard.getType(i).isEvent())
 						markets ++;
 				return markets;
 			}
@@ -328,7 +327,7 @@ public class Market implements EventSpace
 			}
 			void applyResult(GameController game, int player)
 			{
-				game.channel.sendMessage("Chaos Option Selected. Time for a shopping spree!").queue();
+				game.messages.send("Chaos Option Selected. Time for a shopping spree!");
 				game.players.get(player).addMoney(-1*game.applyBaseMultiplier(PER_MARKET_PRICE*countMarkets(game)), MoneyMultipliersToUse.NOTHING);
 				game.gameboard.eventCurse(EventType.RTAB_MARKET);
 			}
@@ -341,7 +340,7 @@ public class Market implements EventSpace
 			}
 			void applyResult(GameController game, int player)
 			{
-				game.channel.sendMessage("Chaos Option selected. Have fun capitalising on it!").queue();
+				game.messages.send("Chaos Option selected. Have fun capitalising on it!");
 				game.players.get(player).addBooster(100);
 				game.repeatTurn += 4;
 			}
@@ -355,7 +354,7 @@ public class Market implements EventSpace
 			}
 			void applyResult(GameController game, int player)
 			{
-				game.channel.sendMessage("Chaos Option sele- Wait, seriously? Alright, it's your funeral.").queue();
+				game.messages.send("Chaos Option sele- Wait, seriously? Alright, it's your funeral.");
 				game.players.get(player).addBooster(750);
 				game.players.get(player).threshold = true;
 				game.repeatTurn ++;
@@ -404,8 +403,8 @@ public class Market implements EventSpace
 		this.game = game;
 		this.player = player;
 		repeatPenaltyScale = game.applyBaseMultiplier(getCurrentPlayer().money/10_000);
-		game.channel.sendMessage("It's the **RtaB Market**!").queue();
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		game.messages.send("It's the **RtaB Market**!");
+		Lane.pause(1000);
 		//Decide on basic offerings
 		validOptions = new LinkedList<>();
 		int boostBuyable = getCurrentPlayer().getRoundDelta() / game.applyBaseMultiplier(BUY_BOOST_PRICE);
@@ -494,8 +493,8 @@ public class Market implements EventSpace
 		{
 			shopMenu.append(String.format("\nCHAOS - %s\n      (Cost: %s)\n", chaosOption.getReward(game, player),chaosOption.getRisk(game, player)));
 			//Build up suspense
-			game.channel.sendMessage(":warning: **WARNING: CHAOS OPTION DETECTED** :warning:").queue();
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+			game.messages.send(":warning: **WARNING: CHAOS OPTION DETECTED** :warning:");
+			Lane.pause(1000);
 		}
 		if(firstTime) //Can't rob the market if you've already started shopping
 		{
@@ -513,11 +512,11 @@ public class Market implements EventSpace
 		shopMenu.append("Type the capitalised words to make your selection.\n```");
 		//Send the messages
 		if(firstTime)
-			game.channel.sendMessage(getCurrentPlayer().getSafeMention()+", you have ninety seconds to make a selection!").queue();
+			game.messages.send(getCurrentPlayer().getSafeMention()+", you have ninety seconds to make a selection!");
 		else
-			game.channel.sendMessage(getCurrentPlayer().getSafeMention()+", would you like to buy more?").queue();
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		game.channel.sendMessage(shopMenu.toString()).queue();
+			game.messages.send(getCurrentPlayer().getSafeMention()+", would you like to buy more?");
+		Lane.pause(1000);
+		game.messages.send(shopMenu.toString());
 		//Find out what we're doing
 		if(getCurrentPlayer().isBot)
 		{
@@ -540,7 +539,7 @@ public class Market implements EventSpace
 		{
 			//Set up flow trap and wait for input
 			status = EventStatus.WAITING;
-			RaceToABillionBot.waiter.waitForEvent(MessageReceivedEvent.class,
+			RaceToABillionBot.waiter.waitForMessage(game.channel.getId(), getCurrentPlayer().uID,
 					//Right player and channel
 					e ->
                             e.getChannel().getId().equals(game.channel.getId()) && e.getAuthor().equals(getCurrentPlayer().user)
@@ -568,37 +567,37 @@ public class Market implements EventSpace
 		status = EventStatus.RESOLVING;
 		//Removing one-chance options from the list no matter what they chose so they aren't offered again
 		validOptions.removeAll(Arrays.asList("CHAOS", "BUY LIFE", "ROB ROCK","ROB PAPER","ROB SCISSORS"));
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		Lane.pause(1000);
 		switch(choice)
 		{
 		case "BUY BOOST":
-			game.channel.sendMessage("Boost bought!").queue();
+			game.messages.send("Boost bought!");
 			getCurrentPlayer().addMoney(-1*buyBoostAmount*game.applyBaseMultiplier(BUY_BOOST_PRICE) - repeatPenalty(), MoneyMultipliersToUse.NOTHING);
 			getCurrentPlayer().addBooster(buyBoostAmount);
 			itemsBought ++;
 			validOptions.removeAll(Arrays.asList("BUY BOOST", "SELL BOOST"));
 			break;
 		case "SELL BOOST":
-			game.channel.sendMessage("Boost sold!").queue();
+			game.messages.send("Boost sold!");
 			getCurrentPlayer().addMoney(sellBoostAmount*game.applyBaseMultiplier(SELL_BOOST_PRICE), MoneyMultipliersToUse.NOTHING);
 			getCurrentPlayer().addBooster(-1*sellBoostAmount);
 			validOptions.removeAll(Arrays.asList("BUY BOOST", "SELL BOOST"));
 			break;
 		case "BUY GAME":
-			game.channel.sendMessage("Minigame bought!").queue();
+			game.messages.send("Minigame bought!");
 			getCurrentPlayer().addMoney(-1*effectiveGamePrice - repeatPenalty(), MoneyMultipliersToUse.NOTHING);
 			getCurrentPlayer().addGame(minigameOffered);
 			itemsBought ++;
 			validOptions.removeAll(Arrays.asList("BUY GAME", "SELL GAME"));
 			break;
 		case "SELL GAME":
-			game.channel.sendMessage("Minigames sold!").queue();
+			game.messages.send("Minigames sold!");
 			getCurrentPlayer().addMoney(getCurrentPlayer().games.size()*effectiveGamePrice, MoneyMultipliersToUse.NOTHING);
 			getCurrentPlayer().games.clear();
 			validOptions.removeAll(Arrays.asList("BUY GAME", "SELL GAME"));
 			break;
 		case "BUY PEEK":
-			game.channel.sendMessage("Peek bought!").queue();
+			game.messages.send("Peek bought!");
 			getCurrentPlayer().addMoney(-1*game.applyBaseMultiplier(BUY_PEEK_PRICE) - repeatPenalty(), MoneyMultipliersToUse.NOTHING);
 			getCurrentPlayer().peeks++;
 			itemsBought ++;
@@ -607,27 +606,27 @@ public class Market implements EventSpace
 		case "SELL PEEK":
 			if(getCurrentPlayer().peeks > 0)
 			{
-				game.channel.sendMessage("Peek sold!").queue();
+				game.messages.send("Peek sold!");
 				getCurrentPlayer().addMoney(game.applyBaseMultiplier(SELL_PEEK_PRICE), MoneyMultipliersToUse.NOTHING);
 				getCurrentPlayer().peeks--;
 			}
 			else
-				game.channel.sendMessage("Empty-space-where-a-peek-used-to-be sold for FREE AIR!").queue();
+				game.messages.send("Empty-space-where-a-peek-used-to-be sold for FREE AIR!");
 			validOptions.removeAll(Arrays.asList("BUY PEEK", "SELL PEEK"));
 			break;
 		case "BUY LIFE":
-			game.channel.sendMessage("Oooh, too slow. We *just* ran out!").queue();
+			game.messages.send("Oooh, too slow. We *just* ran out!");
 			validOptions.remove("BUY LIFE");
 			break;
 		case "BUY COMMAND":
-			game.channel.sendMessage("Command bought!").queue();
+			game.messages.send("Command bought!");
 			getCurrentPlayer().addMoney(-1*game.applyBaseMultiplier(BUY_COMMAND_PRICE*(commandPrice/10)) - repeatPenalty(), MoneyMultipliersToUse.NOTHING);
 			getCurrentPlayer().awardHiddenCommand();
 			itemsBought ++;
 			validOptions.remove("BUY COMMAND");
 			break;
 		case "BUY INFO":
-			game.channel.sendMessage("Information coming your way!").queue();
+			game.messages.send("Information coming your way!");
 			getCurrentPlayer().addMoney(-1*game.applyBaseMultiplier(BUY_INFO_PRICE) - repeatPenalty(), MoneyMultipliersToUse.NOTHING);
 			validOptions.remove("BUY INFO");
 			itemsBought ++;
@@ -641,12 +640,12 @@ public class Market implements EventSpace
 						gridList.add(new ArrayList<>());
 					//Get the list of remaining spaces
 					for(int i=0; i<game.boardSize; i++)
-						if(!game.pickedSpaces[i])
+						if(!game.pickedSpaces.get(i))
 							gridList.get(game.gameboard.getType(i).ordinal())
 								.add(game.gameboard.truesightSpace(i, game.baseNumerator, game.baseDenominator));
 					//Shuffle each category
 					for(ArrayList<String> next : gridList)
-						Collections.shuffle(next);
+						RtaBMath.shuffle(next);
 					//Build the list message
 					StringBuilder gridListMessage = new StringBuilder();
 					gridListMessage.append("Remaining spaces:\n");
@@ -683,7 +682,7 @@ public class Market implements EventSpace
 			}
 			break;
 		case "BUY TRIFORCE":
-			game.channel.sendMessage("Your triforce is here: https://www.youtube.com/watch?v=nsCIeklgp1M").queue();
+			game.messages.send("Your triforce is here: https://www.youtube.com/watch?v=nsCIeklgp1M");
 			validOptions.remove("BUY TRIFORCE");
 		case "ROB ROCK":
 			commitRobbery(RPSOption.ROCK);
@@ -699,7 +698,7 @@ public class Market implements EventSpace
 			status = EventStatus.FINISHED;
 			break;
 		case "LEAVE":
-			game.channel.sendMessage("Alright, see you next time.").queue();
+			game.messages.send("Alright, see you next time.");
 			status = EventStatus.FINISHED;
 		}
 		//Bots don't multibuy, and if there's nothing left for a player to do but leave then we can wrap up immediately too
@@ -710,42 +709,38 @@ public class Market implements EventSpace
 	}
 	void commitRobbery(RPSOption weapon)
 	{
-		game.channel.sendMessage("You confidently stride up to the shopkeeper with your trusty "+weapon.toString().toLowerCase()
-				+", intent on stealing as much as you can...").queue();
-		try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		game.messages.send("You confidently stride up to the shopkeeper with your trusty "+weapon.toString().toLowerCase()
+				+", intent on stealing as much as you can...");
+		Lane.pause(5000);
 		//you know rtab has gone too far when you're writing rock-paper-scissors fanfiction
 		//...or not far enough? (-JerryEris)
 		switch (weapon) {
 			case ROCK -> {
 				switch (shopWeapon) {
 					case ROCK -> {
-						game.channel.sendMessage("...and find them carrying a rock of their own. A tie?!").queue();
-						try {
-							Thread.sleep(5000);
-						} catch (InterruptedException e) {
-							Thread.currentThread().interrupt();
-						}
+						game.messages.send("...and find them carrying a rock of their own. A tie?!");
+						Lane.pause(5000);
 						switch (backupWeapon) {
 							case PAPER -> {
-								game.channel.sendMessage("They then reach into a drawer and pull out a sheet of paper... *oh no*.").queue();
+								game.messages.send("They then reach into a drawer and pull out a sheet of paper... *oh no*.");
 								robberyFailure();
 							}
 							case SCISSORS -> {
-								game.channel.sendMessage("At an impasse, they reach into their pocket but find only a pair of scissors. Got'em!").queue();
+								game.messages.send("At an impasse, they reach into their pocket but find only a pair of scissors. Got'em!");
 								robberySuccess();
 							}
 							default ->
-									game.channel.sendMessage("Then the game glitched, and you ran away before anything bad could happen.").queue();
+									game.messages.send("Then the game glitched, and you ran away before anything bad could happen.");
 						}
 					}
 					case PAPER -> {
-						game.channel.sendMessage("...but then you spot their menacing glare, "
-								+ "and the obviously-superior sheet of paper in their hand. Whoops!").queue();
+						game.messages.send("...but then you spot their menacing glare, "
+								+ "and the obviously-superior sheet of paper in their hand. Whoops!");
 						robberyFailure();
 					}
 					case SCISSORS -> {
-						game.channel.sendMessage("They try to fight back with a pair of scissors, "
-								+ "but your rock quickly breaks it and they flee. Success!").queue();
+						game.messages.send("They try to fight back with a pair of scissors, "
+								+ "but your rock quickly breaks it and they flee. Success!");
 						robberySuccess();
 					}
 				}
@@ -753,32 +748,28 @@ public class Market implements EventSpace
 			case PAPER -> {
 				switch (shopWeapon) {
 					case ROCK -> {
-						game.channel.sendMessage("They grab a rock to fight back with, "
-								+ "but at the sight of your obviously-superior paper they flee in terror. Success!").queue();
+						game.messages.send("They grab a rock to fight back with, "
+								+ "but at the sight of your obviously-superior paper they flee in terror. Success!");
 						robberySuccess();
 					}
 					case PAPER -> {
-						game.channel.sendMessage("...and find them carrying some paper of their own. A tie?!").queue();
-						try {
-							Thread.sleep(5000);
-						} catch (InterruptedException e) {
-							Thread.currentThread().interrupt();
-						}
+						game.messages.send("...and find them carrying some paper of their own. A tie?!");
+						Lane.pause(5000);
 						switch (backupWeapon) {
 							case ROCK -> {
-								game.channel.sendMessage("At an impasse, they reach down but find only a rock on the ground. Got'em!").queue();
+								game.messages.send("At an impasse, they reach down but find only a rock on the ground. Got'em!");
 								robberySuccess();
 							}
 							case SCISSORS -> {
-								game.channel.sendMessage("Glaring at you, they reach into their pocket and draw a pair of scissors. Oh dear...").queue();
+								game.messages.send("Glaring at you, they reach into their pocket and draw a pair of scissors. Oh dear...");
 								robberyFailure();
 							}
 							default ->
-									game.channel.sendMessage("Then the game glitched, and you ran away before anything bad could happen.").queue();
+									game.messages.send("Then the game glitched, and you ran away before anything bad could happen.");
 						}
 					}
 					case SCISSORS -> {
-						game.channel.sendMessage("...but they pull a pair of scissors from their pocket and cut your paper in two. Whoops!").queue();
+						game.messages.send("...but they pull a pair of scissors from their pocket and cut your paper in two. Whoops!");
 						robberyFailure();
 					}
 				}
@@ -786,31 +777,27 @@ public class Market implements EventSpace
 			case SCISSORS -> {
 				switch (shopWeapon) {
 					case ROCK -> {
-						game.channel.sendMessage("...but they grab a rock from the ground and quickly destroy your scissors. Whoops!").queue();
+						game.messages.send("...but they grab a rock from the ground and quickly destroy your scissors. Whoops!");
 						robberyFailure();
 					}
 					case PAPER -> {
-						game.channel.sendMessage("They grab a sheet of paper from a drawer, but you cut it in two. Success!").queue();
+						game.messages.send("They grab a sheet of paper from a drawer, but you cut it in two. Success!");
 						robberySuccess();
 					}
 					case SCISSORS -> {
-						game.channel.sendMessage("...and find them carrying some scissors of their own. A tie?!").queue();
-						try {
-							Thread.sleep(5000);
-						} catch (InterruptedException e) {
-							Thread.currentThread().interrupt();
-						}
+						game.messages.send("...and find them carrying some scissors of their own. A tie?!");
+						Lane.pause(5000);
 						switch (backupWeapon) {
 							case ROCK -> {
-								game.channel.sendMessage("They blink, then grab a rock off the ground to fight back with. Oh dear...").queue();
+								game.messages.send("They blink, then grab a rock off the ground to fight back with. Oh dear...");
 								robberyFailure();
 							}
 							case PAPER -> {
-								game.channel.sendMessage("At an impasse, they reach into a drawer but find only a sheet of paper. Got'em!").queue();
+								game.messages.send("At an impasse, they reach into a drawer but find only a sheet of paper. Got'em!");
 								robberySuccess();
 							}
 							default ->
-									game.channel.sendMessage("Then the game glitched, and you ran away before anything bad could happen.").queue();
+									game.messages.send("Then the game glitched, and you ran away before anything bad could happen.");
 						}
 					}
 				}
@@ -820,32 +807,32 @@ public class Market implements EventSpace
 	void robberySuccess()
 	{
 		//You get a pretty awesome grab bag!
-		try { Thread.sleep(2000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		game.channel.sendMessage("The shopkeeper dealt with, you make off with the following...").queue();
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		Lane.pause(2000);
+		game.messages.send("The shopkeeper dealt with, you make off with the following...");
+		Lane.pause(1000);
 		if(minigameOffered == null)
 			game.awardGame(player, Board.generateSpaces(1, game.players.size(), Game.values()).get(0));
 		else
 			game.awardGame(player, minigameOffered);
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		Lane.pause(1000);
 		game.awardBoost(player, Boost.P150);
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		Lane.pause(1000);
 		game.awardCash(player, Cash.P1000K);
 		if(getCurrentPlayer().hiddenCommand == HiddenCommand.NONE)
 			getCurrentPlayer().awardHiddenCommand();
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); } //mini-suspense lol
+		Lane.pause(1000); //mini-suspense lol
 		game.awardEvent(player, EventType.PEEK_REPLENISH);
 		status = EventStatus.FINISHED;
 	}
 	void robberyFailure()
 	{
 		int penalty = game.calculateBombPenalty(player);
-		try { Thread.sleep(2000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-		game.channel.sendMessage(String.format("%s was arrested. $%,d fine.",
-				getCurrentPlayer().getName(), Math.abs(penalty))).queue();
+		Lane.pause(2000);
+		game.messages.send(String.format("%s was arrested. $%,d fine.",
+				getCurrentPlayer().getName(), Math.abs(penalty)));
 		StringBuilder extraResult = game.players.get(player).blowUp(penalty,false);
 		if(extraResult != null)
-			game.channel.sendMessage(extraResult).queue();
+			game.messages.send(extraResult);
 		status = EventStatus.FINISHED;
 	}
 }
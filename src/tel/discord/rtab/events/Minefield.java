@@ -14,7 +14,7 @@ public class Minefield implements EventSpace
 	@Override
 	public void execute(GameController game, int player)
 	{
-		game.channel.sendMessage("Oh no, it's a **Minefield**! Adding up to " + game.players.size() + " more bombs...").queue();
+		game.messages.send("Oh no, it's a **Minefield**! Adding up to " + game.players.size() + " more bombs...");
 		for(int i=0; i<game.players.size(); i++)
 			game.gameboard.addBomb((int)(RtaBMath.random()*game.boardSize));
 		game.starman = false;
@@ -1,6 +1,7 @@
 package tel.discord.rtab.events;
 
 import tel.discord.rtab.GameController;
+import tel.discord.rtab.Lane;
 import tel.discord.rtab.Player;
 import tel.discord.rtab.PlayerStatus;
 import tel.discord.rtab.RtaBMath;
@@ -21,22 +22,22 @@ public class MinigamesForAll implements EventSpace
 		// Or if starman, then make it dramatically more likely
 		if (RtaBMath.random() * 100 < game.playersAlive - 6 || (game.starman && RtaBMath.random() * 10 < game.playersAlive - 4))
 		{
-			game.channel.sendMessage("It's **Minigame For... One?!**").queue();
+			game.messages.send("It's **Minigame For... One?!**");
 			Game chosenGame = game.players.get(player).generateEventMinigame();
 			
 			for (int i = 0; i < game.playersAlive; i++)
 			{
 				game.players.get(player).addGame(chosenGame);
-				game.channel.sendMessage(game.players.get(player).getSafeMention() 
-						+ " receives a copy of **" + chosenGame.getName() + "**!").queue();
-				try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+				game.messages.send(game.players.get(player).getSafeMention() 
+						+ " receives a copy of **" + chosenGame.getName() + "**!");
+				Lane.pause(1000);
 			}
 			game.players.get(player).minigameLock = true;
-			game.channel.sendMessage("Minigame Lock applied to "+game.players.get(player).getSafeMention()+".").queue();
+			game.messages.send("Minigame Lock applied to "+game.players.get(player).getSafeMention()+".");
 		}
 		else
 		{
-			game.channel.sendMessage("It's **Minigames For All**! All players remaining receive a minigame!").queue();
+			game.messages.send("It's **Minigames For All**! All players remaining receive a minigame!");
 			for(int i = 0; i < game.players.size(); i++)
 			{
 				Player nextPlayer = game.players.get(i);
@@ -44,9 +45,9 @@ public class MinigamesForAll implements EventSpace
 				{
 					Game chosenGame = nextPlayer.generateEventMinigame();
 					game.players.get(i).addGame(chosenGame);
-					game.channel.sendMessage(nextPlayer.getSafeMention() +
-							" receives a copy of **" + chosenGame.getName() + "**!").queue();
-					try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+					game.messages.send(nextPlayer.getSafeMention() +
+							" receives a copy of **" + chosenGame.getName() + "**!");
+					Lane.pause(1000);
 				}
 			}
 		}
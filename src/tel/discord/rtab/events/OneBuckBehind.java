@@ -28,9 +28,9 @@ public class OneBuckBehind implements EventSpace
 		if (highScore == 0)
 		{
 			int backupMoney = game.applyBaseMultiplier(100_000);
-			game.channel.sendMessage("It's **One Buck Behind the Leader**! "
+			game.messages.send("It's **One Buck Behind the Leader**! "
 					+ "But since no one has money this round, "
-					+ String.format("we'll just give you **$%,d**!",backupMoney)).queue();
+					+ String.format("we'll just give you **$%,d**!",backupMoney));
 			game.players.get(player).addMoney(backupMoney, MoneyMultipliersToUse.NOTHING);
 		}
 		else if (highScore == game.players.get(player).getRoundDelta())
@@ -43,16 +43,16 @@ public class OneBuckBehind implements EventSpace
 					playerChosen = i;
 					lowScore = game.players.get(i).money;
 				}
-			game.channel.sendMessage("It's **One Buck Behind the Leader**! "
+			game.messages.send("It's **One Buck Behind the Leader**! "
 					+ "But since *you're* the leader, we'll just place **"
-					+ game.players.get(playerChosen).getName() + "** in front of you!").queue();
+					+ game.players.get(playerChosen).getName() + "** in front of you!");
 			game.players.get(playerChosen).resetRoundDelta();
 			game.players.get(playerChosen).addMoney(highScore + 1, MoneyMultipliersToUse.NOTHING);			
 		}
 		else
 		{
-			game.channel.sendMessage("It's **One Buck Behind the Leader**! "
-					+ "Your round score is now one dollar behind the player with the most money!").queue();
+			game.messages.send("It's **One Buck Behind the Leader**! "
+					+ "Your round score is now one dollar behind the player with the most money!");
 			game.players.get(player).resetRoundDelta();
 			game.players.get(player).addMoney(highScore - 1, MoneyMultipliersToUse.NOTHING);			
 		}
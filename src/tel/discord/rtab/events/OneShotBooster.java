@@ -27,14 +27,14 @@ public class OneShotBooster implements EventSpace
 	{
 		if(game.players.get(player).oneshotBooster == 1)
 		{
-			game.channel.sendMessage(String.format("It's **%s**. The next booster-affected cash you gain or lose will be multiplied by %d!"
-					, getName(), multiplier)).queue();
+			game.messages.send(String.format("It's **%s**. The next booster-affected cash you gain or lose will be multiplied by %d!"
+					, getName(), multiplier));
 			game.players.get(player).oneshotBooster = multiplier;
 		}
 		else
 		{ //OneShot for All? ...AllShot?? idk I don't think the world machine's gonna like this
-			game.channel.sendMessage(String.format("It's **%s**, but you already have it... then it'll be for everyone else!"
-					, getName())).queue();
+			game.messages.send(String.format("It's **%s**, but you already have it... then it'll be for everyone else!"
+					, getName()));
 			for(Player next : game.players)
 				next.oneshotBooster = multiplier;
 		}
@@ -13,7 +13,7 @@ public class PeekReplenish implements EventSpace
 	@Override
 	public void execute(GameController game, int player)
 	{
-		game.channel.sendMessage("It's an **Extra Peek**! Use it wisely!").queue();
+		game.messages.send("It's an **Extra Peek**! Use it wisely!");
 		game.players.get(player).peeks ++;
 	}
 
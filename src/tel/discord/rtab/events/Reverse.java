@@ -15,13 +15,13 @@ public class Reverse implements EventSpace
 	{
 		if(game.playersAlive > 2)
 		{
-			game.channel.sendMessage("It's a **Reverse**!").queue();
+			game.messages.send("It's a **Reverse**!");
 			game.reverse = !game.reverse;
 		}
 		//If 2p, treat them as skips instead
 		else
 		{
-			game.channel.sendMessage("It's a **Skip Turn**!").queue();
+			game.messages.send("It's a **Skip Turn**!");
 			game.repeatTurn += game.repeatTurn == 0 ? 1 : -1; //If they're repeating turns remove 1 from the repeat count, otherwise make them repeat
 		}
 	}
@@ -3,13 +3,12 @@ package tel.discord.rtab.events;
 import static tel.discord.rtab.RaceToABillionBot.waiter;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
 import net.dv8tion.jda.api.entities.channel.ChannelType;
 import net.dv8tion.jda.api.entities.Message;
-import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import tel.discord.rtab.GameController;
+import tel.discord.rtab.Lane;
 import tel.discord.rtab.MoneyMultipliersToUse;
 import tel.discord.rtab.Player;
 import tel.discord.rtab.PlayerStatus;
@@ -29,7 +28,7 @@ public class RevivalChance implements EventSpace
 		{
 			void awardPrize(GameController game, Player target, RevivalChance event)
 			{
-				game.channel.sendMessage(String.format("%s receives another peek!", target.getName())).queue();
+				game.messages.send(String.format("%s receives another peek!", target.getName()));
 				target.peeks ++;
 			}
 		},
@@ -37,7 +36,7 @@ public class RevivalChance implements EventSpace
 		{
 			void awardPrize(GameController game, Player target, RevivalChance event)
 			{
-				game.channel.sendMessage(String.format("%s receives a hidden command!", target.getName())).queue();
+				game.messages.send(String.format("%s receives a hidden command!", target.getName()));
 				target.awardHiddenCommand();
 			}
 		},
@@ -45,8 +44,8 @@ public class RevivalChance implements EventSpace
 		{
 			void awardPrize(GameController game, Player target, RevivalChance event)
 			{
-				game.channel.sendMessage(String.format("%s receives a **$%,d** bomb refund!", target.getName(), 
-						game.applyBaseMultiplier(250_000))).queue();
+				game.messages.send(String.format("%s receives a **$%,d** bomb refund!", target.getName(), 
+						game.applyBaseMultiplier(250_000)));
 				target.addMoney(game.applyBaseMultiplier(250_000), MoneyMultipliersToUse.BOOSTER_ONLY);
 			}
 		},
@@ -54,7 +53,7 @@ public class RevivalChance implements EventSpace
 		{
 			void awardPrize(GameController game, Player target, RevivalChance event)
 			{
-				game.channel.sendMessage(String.format("%s gets to place a new bomb!", target.getName())).queue();
+				game.messages.send(String.format("%s gets to place a new bomb!", target.getName()));
 				//We can't do this in a static way, so let's just get back out
 				event.status = EventStatus.BOMB_PLACE;
 				event.newBomb(target);
@@ -64,7 +63,7 @@ public class RevivalChance implements EventSpace
 		{
 			void awardPrize(GameController game, Player target, RevivalChance event)
 			{
-				game.channel.sendMessage(String.format("%s receives no bonus.",	target.getName())).queue();
+				game.messages.send(String.format("%s receives no bonus.",	target.getName()));
 			}
 		};
 		
@@ -97,13 +96,13 @@ public class RevivalChance implements EventSpace
 		//Initialise stuff
 		this.game = game;
 		this.player = player;
-		game.channel.sendMessage("You've found the **Revival Chance**!").queue();
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		game.messages.send("You've found the **Revival Chance**!");
+		Lane.pause(1000);
 		//Check if there's anyone to revive in the first place
 		if(game.playersAlive == game.players.size())
 		{
-			game.channel.sendMessage("But no one even needs to be revived...").queue();
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+			game.messages.send("But no one even needs to be revived...");
+			Lane.pause(1000);
 			failedRevival();
 		}
 		else
@@ -138,7 +137,7 @@ public class RevivalChance implements EventSpace
 					//Set up flow trap and wait for input
 					status = EventStatus.WAITING;
 					final int iInner = i;
-					waiter.waitForEvent(MessageReceivedEvent.class,
+					waiter.waitForMessage(game.channel.getId(), game.players.get(iInner).uID,
 							//Right player and channel
 							e ->
 							{
@@ -175,7 +174,7 @@ public class RevivalChance implements EventSpace
 				messageString.append(", ");
 			}
 			messageString.append("would you like a chance to be revived? (Y/N, 45 seconds)");
-			game.channel.sendMessage(messageString.toString()).queue();
+			game.messages.send(messageString.toString());
 		}
 		else
 		{
@@ -193,29 +192,30 @@ public class RevivalChance implements EventSpace
 		status = EventStatus.RESOLVING;
 		if(!candidates.isEmpty())
 		{
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+			Lane.pause(1000);
 			playRevivalChance();
 		}
 		else
 		{
-			game.channel.sendMessage("No one wants to be revived...").queue();
-			try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+			game.messages.send("No one wants to be revived...");
+			Lane.pause(1000);
 			failedRevival();
 		}
 	}
 	
 	private void playRevivalChance()
 	{
-		Collections.shuffle(candidates);
-		game.channel.sendMessage("Let's play **Revival Chance**!").queue();
+		RtaBMath.shuffle(candidates);
+		game.messages.send("Let's play **Revival Chance**!");
 		int delay = 1000 + (int)(RtaBMath.random()*500);
 		int revivalTarget = -1;
 		String targetName = "no one";
 		RevivalPrize chosenPrize = RevivalPrize.NOTHING;
-		Message message = game.channel.sendMessage("Now Reviving: "+targetName+" with no bonus?").completeAfter(1, TimeUnit.SECONDS);
+		Lane.pause(1000);
+		Message message = game.messages.sendAndWait("Now Reviving: "+targetName+" with no bonus?");
 		while(delay < 2500)
 		{
-			try { Thread.sleep(delay); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+			Lane.pause(delay);
 			revivalTarget = (int)(RtaBMath.random() * (candidates.size()+1)) - 1;
 			chosenPrize = RevivalPrize.values()[(int)(RtaBMath.random() * RevivalPrize.values().length)];
 			if(revivalTarget == -1)
@@ -225,7 +225,7 @@ public class RevivalChance implements EventSpace
 			message.editMessage("Now Reviving: "+targetName+" with "+chosenPrize.getPrize()+"?").queue();
 			delay += (int)(RtaBMath.random()*500);
 		}
-		try { Thread.sleep(2500); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		Lane.pause(2500);
 		message.editMessage("Now Reviving: **"+targetName+"** with **"+chosenPrize.getPrize()+"**"+(revivalTarget==-1?"...":"!")).queue();
 		if(revivalTarget == -1)
 			failedRevival(chosenPrize);
@@ -241,8 +241,8 @@ public class RevivalChance implements EventSpace
 	void failedRevival(RevivalPrize chosenPrize)
 	{
 		status = EventStatus.RESOLVING;
-		game.channel.sendMessage("We'll just have to give you the bonus instead!").queue();
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		game.messages.send("We'll just have to give you the bonus instead!");
+		Lane.pause(1000);
 		chosenPrize.awardPrize(game, getCurrentPlayer(), this);
 		if(status == EventStatus.RESOLVING)
 			status = EventStatus.FINISHED;
@@ -263,8 +263,8 @@ public class RevivalChance implements EventSpace
 		target.splitAndShare = false;
 		target.status = PlayerStatus.ALIVE;
 		game.playersAlive ++;
-		game.channel.sendMessage("Welcome back, "+target.getSafeMention()+"!").queue();
-		try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		game.messages.send("Welcome back, "+target.getSafeMention()+"!");
+		Lane.pause(1000);
 		chosenPrize.awardPrize(game, target, this);
 		if(status == EventStatus.RESOLVING)
 			status = EventStatus.FINISHED;
@@ -277,7 +277,7 @@ public class RevivalChance implements EventSpace
 			//Get safe spaces, starting with all unpicked spaces
 			ArrayList<Integer> openSpaces = new ArrayList<>(game.boardSize);
 			for(int i=0; i<game.boardSize; i++)
-				if(!game.pickedSpaces[i])
+				if(!game.pickedSpaces.get(i))
 					openSpaces.add(i);
 			//Remove all known bombs
 			ArrayList<Integer> safeSpaces = new ArrayList<>(game.boardSize);
@@ -298,7 +298,7 @@ public class RevivalChance implements EventSpace
 			target.user.openPrivateChannel().queue(
 					(channel) -> channel.sendMessage("Please place your bomb within the next 90 seconds "
 							+ "by sending a number 1-" + game.boardSize + " (or 0 to cancel)").queue());
-			waiter.waitForEvent(MessageReceivedEvent.class,
+			waiter.waitForMessage(null, target.uID,
 					//Check if right player, and valid bomb pick
 					e -> (e.getAuthor().equals(target.user)
 							&& e.getChannel().getType() == ChannelType.PRIVATE && 
@@ -1,6 +1,7 @@
 package tel.discord.rtab.events;
 
 import tel.discord.rtab.GameController;
+import tel.discord.rtab.Lane;
 import tel.discord.rtab.Player;
 import tel.discord.rtab.PlayerStatus;
 import tel.discord.rtab.MoneyMultipliersToUse;
@@ -22,17 +23,17 @@ public class SomethingForEveryone implements EventSpace
 	{
 		if(game.tiebreakMode)
 		{
-			game.channel.sendMessage("It's **Something for Everyone**!").queue();
-			try { Thread.sleep(3000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			game.channel.sendMessage("That \"Something\" is a chance to win the Season. Good luck!").queue();
+			game.messages.send("It's **Something for Everyone**!");
+			Lane.pause(3000);
+			game.messages.send("That \"Something\" is a chance to win the Season. Good luck!");
 			return;
 		}	
-		game.channel.sendMessage("It's **Something for Everyone**!").queue();
+		game.messages.send("It's **Something for Everyone**!");
 		for(Player nextPlayer : game.players)
 		{
 			if(nextPlayer.status == PlayerStatus.ALIVE)
 			{
-				try { Thread.sleep(2000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+				Lane.pause(2000);
 				int rng = (int)(100 * RtaBMath.random());
 				//determine random chance here
 				//The percentages can change, and other stuff can be added
@@ -41,8 +42,8 @@ public class SomethingForEveryone implements EventSpace
 					//hidden command?
 					if (nextPlayer.hiddenCommand == HiddenCommand.NONE)
 					{
-						game.channel.sendMessage(nextPlayer.getSafeMention() +
-							" gets **a Hidden Command**!").queue();
+						game.messages.send(nextPlayer.getSafeMention() +
+							" gets **a Hidden Command**!");
 						nextPlayer.awardHiddenCommand();
 					}
 					else
@@ -50,34 +51,34 @@ public class SomethingForEveryone implements EventSpace
 						//cash backup
 						int cashGiven = game.applyBaseMultiplier(50_000 + (int)(50_001 * RtaBMath.random()))
 								* game.players.size() / game.playersAlive;
-						game.channel.sendMessage(nextPlayer.getSafeMention() +
+						game.messages.send(nextPlayer.getSafeMention() +
 						" gets **" +
-						String.format("$%,d",cashGiven) + "**!").queue();
+						String.format("$%,d",cashGiven) + "**!");
 						StringBuilder extraResult = nextPlayer.addMoney(cashGiven, MoneyMultipliersToUse.BOOSTER_ONLY);
 						if(extraResult != null)
 						{
-							try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-							game.channel.sendMessage(extraResult.toString()).queue();
+							Lane.pause(1000);
+							game.messages.send(extraResult.toString());
 						}
 					}
 				}
 				else if(rng <= 1)
 				{
 					//peek?
-					game.channel.sendMessage(nextPlayer.getSafeMention() +
-						" gets **an Extra Peek**!").queue();
+					game.messages.send(nextPlayer.getSafeMention() +
+						" gets **an Extra Peek**!");
 					nextPlayer.peeks++;
 				}
 				else if(rng <= 2)
 				{
 					//Million
 					int cashGiven = game.applyBaseMultiplier(1_000_000);
-					game.channel.sendMessage(String.format("%s gets **$%,d**!",nextPlayer.getSafeMention(),cashGiven)).queue();
+					game.messages.send(String.format("%s gets **$%,d**!",nextPlayer.getSafeMention(),cashGiven));
 					StringBuilder extraResult = nextPlayer.addMoney(cashGiven, MoneyMultipliersToUse.BOOSTER_ONLY);
 					if(extraResult != null)
 					{
-						try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-						game.channel.sendMessage(extraResult.toString()).queue();
+						Lane.pause(1000);
+						game.messages.send(extraResult.toString());
 					}
 				}
 				else if(rng <= 5)
@@ -85,17 +86,17 @@ public class SomethingForEveryone implements EventSpace
 					//annuity
 					int annuityTurns = (int)(RtaBMath.random()*6 + 5);
 					int annuityValue = (int)(RtaBMath.random()*5001 + 5000);
-					game.channel.sendMessage(nextPlayer.getSafeMention() +
+					game.messages.send(nextPlayer.getSafeMention() +
 					" gets **" + annuityTurns + " turns of " +
-					String.format("$%,d",annuityValue) + " annuity**!").queue();						
+					String.format("$%,d",annuityValue) + " annuity**!");						
 					nextPlayer.addAnnuity(annuityValue, annuityTurns);
 				}
 				else if(rng <= 9)
 				{
 					//streak
 					int streakAwarded = (int)(RtaBMath.random()*6 + 2);
-					game.channel.sendMessage(nextPlayer.getSafeMention() +
-					" gets **a +0." + streakAwarded + " Streak Bonus**!").queue();
+					game.messages.send(nextPlayer.getSafeMention() +
+					" gets **a +0." + streakAwarded + " Streak Bonus**!");
 					nextPlayer.addWinstreak(streakAwarded);
 				}
 				else
@@ -106,22 +107,22 @@ public class SomethingForEveryone implements EventSpace
 						//cash
 						int cashGiven = game.applyBaseMultiplier(50_000 + (int)(50_001 * RtaBMath.random()))
 								* game.players.size() / game.playersAlive;
-						game.channel.sendMessage(nextPlayer.getSafeMention() +
+						game.messages.send(nextPlayer.getSafeMention() +
 						" gets **" +
-						String.format("$%,d",cashGiven) + "**!").queue();
+						String.format("$%,d",cashGiven) + "**!");
 						StringBuilder extraResult = nextPlayer.addMoney(cashGiven, MoneyMultipliersToUse.BOOSTER_ONLY);
 						if(extraResult != null)
 						{
-							try { Thread.sleep(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-							game.channel.sendMessage(extraResult.toString()).queue();
+							Lane.pause(1000);
+							game.messages.send(extraResult.toString());
 						}
 					}
 					else if(rng <= 75)
 					{
 						//boost
 						int boostGiven = 25 + (int)(26 * RtaBMath.random());
-						game.channel.sendMessage(nextPlayer.getSafeMention() +
-						" gets **a +" + boostGiven + "% Booster**!").queue();
+						game.messages.send(nextPlayer.getSafeMention() +
+						" gets **a +" + boostGiven + "% Booster**!");
 						nextPlayer.addBooster(boostGiven);
 					}
 					else
@@ -129,8 +130,8 @@ public class SomethingForEveryone implements EventSpace
 						//minigame
 						Game chosenGame = nextPlayer.generateEventMinigame();
 						nextPlayer.addGame(chosenGame);
-						game.channel.sendMessage(nextPlayer.getSafeMention() +
-								" get **a copy of " + chosenGame.getName() + "**!").queue();
+						game.messages.send(nextPlayer.getSafeMention() +
+								" get **a copy of " + chosenGame.getName() + "**!");
 					}
 				}
 			}
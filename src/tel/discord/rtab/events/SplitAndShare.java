@@ -1,6 +1,7 @@
 package tel.discord.rtab.events;
 
 import tel.discord.rtab.GameController;
+import tel.discord.rtab.Lane;
 
 public class SplitAndShare implements EventSpace
 {
@@ -15,17 +16,17 @@ public class SplitAndShare implements EventSpace
 	{
 		if(!game.players.get(player).splitAndShare)
 		{
-			game.channel.sendMessage("It's a **Split & Share**, "
+			game.messages.send("It's a **Split & Share**, "
 					+ "if you lose now you'll share approximately "
 					+ String.format("$%,d",game.applyBankPercentMultiplier(game.players.get(player).money/50))
-					+ " from your bank with each living player!").queue();
+					+ " from your bank with each living player!");
 			game.players.get(player).splitAndShare = true;
 		}
 		else
 		{
-			game.channel.sendMessage("It's a **Split & Share**, but you already have one...").queue();
-			try { Thread.sleep(3000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-			game.channel.sendMessage("Well then, how about we activate it~?").queue();
+			game.messages.send("It's a **Split & Share**, but you already have one...");
+			Lane.pause(3000);
+			game.messages.send("Well then, how about we activate it~?");
 			game.players.get(player).blowUp(0,false);
 		}
 	}
@@ -14,7 +14,7 @@ public class Starman implements EventSpace
 	@Override
 	public void execute(GameController game, int player)
 	{
-		game.channel.sendMessage("Hooray, it's a **Starman**, here to destroy all the bombs!").queue();
+		game.messages.send("Hooray, it's a **Starman**, here to destroy all the bombs!");
 		int bombsDestroyed = game.detonateBombs(true);
 		if(bombsDestroyed > game.players.size())
 			Achievement.STAR_MINEFIELD.check(game.players.get(player));
@@ -26,8 +26,8 @@ public class StreakBonus implements EventSpace
 		}
 		int newStreak = game.players.get(player).winstreak + streakAwarded;
 		game.players.get(player).addWinstreak(streakAwarded);
-		game.channel.sendMessage(String.format("It's a **+%1$d.%2$d Streak Bonus**, raising you to x%3$d.%4$d!",
-				streakAwarded/10, streakAwarded%10, newStreak/10, newStreak%10)).queue();
+		game.messages.send(String.format("It's a **+%1$d.%2$d Streak Bonus**, raising you to x%3$d.%4$d!",
+				streakAwarded/10, streakAwarded%10, newStreak/10, newStreak%10));
 	}
 
 }
@@ -13,9 +13,9 @@ public class SuperJoker implements EventSpace
 	@Override
 	public void execute(GameController game, int player)
 	{
-		game.channel.sendMessage("You found the **MIDAS TOUCH**! "
+		game.messages.send("You found the **MIDAS TOUCH**! "
 				+ "Every space you pick for the rest of the round (even bombs) will be converted to cash, "
-				+ "but you won't receive a win bonus at the end.").queue();
+				+ "but you won't receive a win bonus at the end.");
 		game.players.get(player).jokers = -1;
 	}
 
@@ -5,6 +5,7 @@ import java.util.Random;
 
 import net.dv8tion.jda.api.entities.Message;
 import tel.discord.rtab.Achievement;
+import tel.discord.rtab.Lane;
 
 public class BombRoulette extends MiniGameWrapper {
     static final String NAME = "Bomb Roulette";
@@ -267,10 +268,10 @@ public class BombRoulette extends MiniGameWrapper {
     	index %= spaceTypes.length;
     	if(sendMessages && !quickspin)
     	{
-    		Message wheelMessage = channel.sendMessage(displayRoulette(index)).complete();
+    		Message wheelMessage = messages.sendAndWait(displayRoulette(index));
     		//Start with a 0.5-second delay
     		int delay = 500 + r.nextInt(500);
-    		try { Thread.sleep(delay); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+    		Lane.pause(delay);
     		do
     		{
     			//Move along one space on the wheel
@@ -280,7 +281,7 @@ public class BombRoulette extends MiniGameWrapper {
     			wheelMessage.editMessage(displayRoulette(index)).queue();
     			//Then increase the delay randomly, and wait for that amount of time
     			delay += r.nextInt(500);
-    			try { Thread.sleep(delay); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+    			Lane.pause(delay);
     		}
     		//Stop once we reach a 2.5-second delay
     		while(delay < 2500);
@@ -1,7 +1,6 @@
 package tel.discord.rtab.games;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.LinkedList;
 
 import tel.discord.rtab.Achievement;
@@ -33,7 +32,7 @@ public class BoosterSmash extends MiniGameWrapper {
 		for(int i=0; i<VALUES.length; i++)
 			for(int j=0; j<VALUES[i]; j++)
 				board.add(i);
-		Collections.shuffle(board);
+		RtaBMath.shuffle(board);
 		pickedSpaces = new boolean[BOARD_SIZE];
 		//Prep other variables
 		startingBoost = getPlayer().booster;
@@ -2,7 +2,6 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -194,8 +193,8 @@ public class BumperGrab extends MiniGameWrapper
 				new Cash(100_000), new Cash(150_000), new Cash(150_000),
 				new Cash(150_000), new Cash(200_000), new Cash(200_000),
 				new Cash(500_000), new Cash(500_000), new Cash(1_000_000)));
-		Collections.shuffle(inner);
-		Collections.shuffle(outer);
+		RtaBMath.shuffle(inner);
+		RtaBMath.shuffle(outer);
 		
 		boardWidth = 7;
 		boardHeight = 7;
@@ -236,8 +235,8 @@ public class BumperGrab extends MiniGameWrapper
 				new Cash(100_000), new Cash(150_000), new Cash(150_000), new Cash(150_000),
 				new Cash(150_000), new Cash(200_000), new Cash(200_000), new Cash(200_000),
 				new Cash(300_000), new Cash(450_000), new Cash(600_000), new Cash(1_000_000)));
-		Collections.shuffle(inner);
-		Collections.shuffle(outer);
+		RtaBMath.shuffle(inner);
+		RtaBMath.shuffle(outer);
 		
 		boardWidth = 9;
 		boardHeight = 9;
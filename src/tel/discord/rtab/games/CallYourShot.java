@@ -2,7 +2,6 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -49,7 +48,7 @@ public class CallYourShot extends MiniGameWrapper
 		stop = false;
 
 		pickedSpaces = new boolean[colorNumber.size()];
-		Collections.shuffle(colorNumber);
+		RtaBMath.shuffle(colorNumber);
 			
 		LinkedList<String> output = new LinkedList<>();
 		//Give instructions
@@ -2,7 +2,6 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 
 import tel.discord.rtab.Achievement;
@@ -32,7 +31,7 @@ public class CloseShave extends MiniGameWrapper {
 		money.add((int) (RtaBMath.random() * 9000) + 1000);
 		money.add((int) (RtaBMath.random() * 9000) + 1000);
 		money.add(1000 * ((int) (RtaBMath.random() * 11) + 10));
-		Collections.shuffle(money);
+		RtaBMath.shuffle(money);
 		//Give instructions
 		output.add("In Close Shave, the object is to get as close to $50,000 without going over. You'll see sixteen spaces, each with money.");
 		output.add("You'll pick a space, and we'll add its value to your bank, but we won't show you exactly what you picked. Instead, we'll show you how many digits are in that money value.");
@@ -2,7 +2,6 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -59,9 +58,9 @@ public class ColourOfMoney extends PvPMiniGameWrapper
 			values.add(nextValue);
 			remainingValues.add(nextValue);
 		}
-		Collections.shuffle(values);
+		RtaBMath.shuffle(values);
 		//Prepare colour list
-		Collections.shuffle(colours); //We only use the first 20 of these so the rest sitting at the end aren't a problem
+		RtaBMath.shuffle(colours); //We only use the first 20 of these so the rest sitting at the end aren't a problem
 		//and figure out turn order
 		playerTurn = true;
 		if(players.get(player).isBot)
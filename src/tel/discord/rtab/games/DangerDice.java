@@ -2,6 +2,7 @@ package tel.discord.rtab.games;
 
 import java.util.LinkedList;
 
+import tel.discord.rtab.RtaBMath;
 import tel.discord.rtab.games.objs.Dice;
 import tel.discord.rtab.games.objs.Jackpots;
 
@@ -151,7 +152,7 @@ public class DangerDice extends MiniGameWrapper
 	String getBotPick()
 	{
 		//Stop if we're too far away from the next multiple of ten points to be worth the risk
-		return Math.random()*Math.pow(10,diceLeft) < 10 - score%10 ? "STOP" : "ROLL";
+		return RtaBMath.random()*Math.pow(10,diceLeft) < 10 - score%10 ? "STOP" : "ROLL";
 	}
 	
 	int convertScoreToCash(int score)
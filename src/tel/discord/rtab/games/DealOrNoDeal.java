@@ -1,7 +1,6 @@
 	package tel.discord.rtab.games;
 
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -42,7 +41,7 @@ public class DealOrNoDeal extends MiniGameWrapper
 		//Load up the boxes and shuffle them
 		values.clear();
 		values.addAll(VALUE_LIST);
-		Collections.shuffle(values);
+		RtaBMath.shuffle(values);
 		//Give instructions
 		LinkedList<String> output = new LinkedList<>();
 		output.add("In Deal or No Deal, there are 22 boxes, "
@@ -128,7 +127,7 @@ public class DealOrNoDeal extends MiniGameWrapper
 			average += i;
 		average /= casesLeft;
 		double gap = average - offer;
-		if(Math.random() < ((counterAmount-offer)/gap))
+		if(RtaBMath.random() < ((counterAmount-offer)/gap))
 		{
 			output.add("NO DEAL!");
 			sendMessages(output);
@@ -2,12 +2,12 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 
 import tel.discord.rtab.Achievement;
+import tel.discord.rtab.RtaBMath;
 import tel.discord.rtab.games.objs.Jackpots;
 
 public class DigitalFortress extends MiniGameWrapper
@@ -30,7 +30,7 @@ public class DigitalFortress extends MiniGameWrapper
 		jackpot = Jackpots.DIGITAL.getJackpot(channel);
 		LinkedList<String> output = new LinkedList<>();
 		//Initialise stuff
-		Collections.shuffle(solution);
+		RtaBMath.shuffle(solution);
 		lockedIn = new boolean[solution.size()];
 		digitsCorrect = 0;
 		attemptsLeft = ATTEMPTS_ALLOWED;
@@ -166,7 +166,7 @@ public class DigitalFortress extends MiniGameWrapper
 		if(attemptsLeft == ATTEMPTS_ALLOWED)
 		{
 			digits.addAll(digitsOld);
-			Collections.shuffle(digits); //don't just 1234567890 every game
+			RtaBMath.shuffle(digits); //don't just 1234567890 every game
 		}
 		else
 			for(Character next : guesses[attemptsLeft].toCharArray())
@@ -7,6 +7,8 @@ import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 
+import tel.discord.rtab.RtaBMath;
+
 public class DominoTrain extends MiniGameWrapper {
 	static class Domino {
 		public int left;
@@ -113,7 +115,7 @@ public class DominoTrain extends MiniGameWrapper {
 
 		train.add(current);
 
-		Collections.shuffle(pool);
+		RtaBMath.shuffle(pool);
 
 		LinkedList<String> output = new LinkedList<>();
 
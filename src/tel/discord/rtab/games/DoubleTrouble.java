@@ -2,7 +2,6 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -45,7 +44,7 @@ public class DoubleTrouble extends MiniGameWrapper
 		cashLeft = 9;
 		doublesLeft = 9;
 		pickedSpaces = new boolean[money.size()];
-		Collections.shuffle(money);
+		RtaBMath.shuffle(money);
 		
 		LinkedList<String> output = new LinkedList<>();
 		//Give instructions
@@ -2,7 +2,6 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -44,7 +43,7 @@ public class DoubleZeroes extends MiniGameWrapper
 			numbers.set(10, -1);
 			zeroesLeft ++;
 		}
-		Collections.shuffle(numbers);
+		RtaBMath.shuffle(numbers);
 		// Give 'em the run down
 		LinkedList<String> output = new LinkedList<>();
 		output.add("In Double Zeroes, you will see twenty spaces.");
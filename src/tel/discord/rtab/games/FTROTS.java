@@ -2,7 +2,6 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -51,9 +50,9 @@ public class FTROTS extends MiniGameWrapper
 			}
 		}
 		//Shuffle everythihg
-		Collections.shuffle(money);
-		Collections.shuffle(multis);
-		Collections.shuffle(lights);
+		RtaBMath.shuffle(money);
+		RtaBMath.shuffle(multis);
+		RtaBMath.shuffle(lights);
 		//Give instructions
 		output.add("For the Rest of the Season is a two-part game where your prize is an annuity.");
 		output.add("In part one you will build up a small sum of money, then in part two you decide how many turns the annuity will last.");
@@ -3,7 +3,6 @@ package tel.discord.rtab.games;
 import tel.discord.rtab.RtaBMath;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.LinkedList;
 
 public class FiftyYardDash extends MiniGameWrapper {
@@ -49,7 +48,7 @@ public class FiftyYardDash extends MiniGameWrapper {
 			for (int j = 0; j < spacesPerStage; j++) {
 				thisRow.add(j >= STAGES - i);
 			}
-			Collections.shuffle(thisRow);
+			RtaBMath.shuffle(thisRow);
 
 			for (int j = 0; j < spacesPerStage; j++) {
 				isSafe[spacesPerStage * i + j] = thisRow.get(j);
@@ -2,7 +2,6 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -31,7 +30,7 @@ public class Gamble extends MiniGameWrapper
 		total = 0;
 		lastPick = 0;
         money.replaceAll(this::applyBaseMultiplier);
-		Collections.shuffle(money);
+		RtaBMath.shuffle(money);
 		//Give instructions
 		output.add("In The Gamble, your objective is to guess "
 				+ "if the next space picked will be higher than the one before, or if it's time to split.");
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.LinkedList;
 
 import tel.discord.rtab.Achievement;
+import tel.discord.rtab.Lane;
 import tel.discord.rtab.RtaBMath;
 
 public class Globetrotter extends MiniGameWrapper
@@ -124,20 +125,20 @@ public class Globetrotter extends MiniGameWrapper
 	void superReveal()
 	{
 		sendMessage("Critical Error: Supercash not found.");
-		try { Thread.sleep(10000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		Lane.pause(10000);
 		sendMessage("Reporting this problem to Microsoft...");
-		try { Thread.sleep(10000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		Lane.pause(10000);
 		sendMessage("Searching for solutions...");
-		try { Thread.sleep(10000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		Lane.pause(10000);
 		sendMessage("Solution found.");
-		try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		Lane.pause(5000);
 		sendMessage("Applying solution: Rotate Bonus Game...");
-		try { Thread.sleep(10000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		Lane.pause(10000);
 		sendMessage("Problem fixed successfully.");
-		try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		Lane.pause(5000);
 		//Announce FOR REAL!
 		sendMessage(getPlayer().getSafeMention()+", you've unlocked a bonus game: **Globetrotter**!");
-		try { Thread.sleep(5000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		Lane.pause(5000);
 	}
 
 	@Override
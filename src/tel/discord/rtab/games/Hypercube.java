@@ -2,7 +2,6 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 
 import tel.discord.rtab.Achievement;
@@ -38,7 +37,7 @@ public class Hypercube extends MiniGameWrapper
 		Integer[] bombBlock = new Integer[BOMBS];
 		Arrays.fill(bombBlock,0);
 		board.addAll(Arrays.asList(bombBlock));
-		Collections.shuffle(board);
+		RtaBMath.shuffle(board);
 		pickedSpaces = new boolean[BOARD_SIZE];
 		picksUsed = 0;
 		total = 0;
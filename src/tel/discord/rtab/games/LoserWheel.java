@@ -8,6 +8,7 @@ import java.util.Random;
 
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.channel.ChannelType;
+import tel.discord.rtab.Lane;
 import tel.discord.rtab.MoneyMultipliersToUse;
 import tel.discord.rtab.RtaBMath;
 import tel.discord.rtab.games.objs.Jackpots;
@@ -142,10 +143,10 @@ public class LoserWheel extends MiniGameWrapper
     	int index = r.nextInt(spaceTypes.length);
     	if(sendMessages)
     	{
-    		Message wheelMessage = channel.sendMessage(displayRoulette(index)).complete();
+    		Message wheelMessage = messages.sendAndWait(displayRoulette(index));
     		//Start with a 0.5-second delay
     		int delay = 500 + r.nextInt(250);
-    		try { Thread.sleep(delay); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+    		Lane.pause(delay);
     		do
     		{
     			//Move along one space on the wheel
@@ -155,7 +156,7 @@ public class LoserWheel extends MiniGameWrapper
     			wheelMessage.editMessage(displayRoulette(index)).queue();
     			//Then increase the delay randomly, and wait for that amount of time
     			delay += r.nextInt(250);
-    			try { Thread.sleep(delay); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+    			Lane.pause(delay);
     		}
     		//Stop once we reach a 2.5-second delay
     		while(delay < 2500);
@@ -2,7 +2,6 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -38,11 +37,11 @@ public class MathTime extends MiniGameWrapper {
 			money1.set(0, 300_000);
         money1.replaceAll(this::applyBaseMultiplier);
         money3.replaceAll(this::applyBaseMultiplier);
-		Collections.shuffle(money1);
-		Collections.shuffle(money3);
-		Collections.shuffle(ops1);
-		Collections.shuffle(ops2);
-		Collections.shuffle(multis);
+		RtaBMath.shuffle(money1);
+		RtaBMath.shuffle(money3);
+		RtaBMath.shuffle(ops1);
+		RtaBMath.shuffle(ops2);
+		RtaBMath.shuffle(multis);
 		//Give instructions
 		output.add("In Math Time, you will pick five spaces that will, together, form an equation.");
 		output.add("If you pick well, you could win up to "+String.format("$%,d!",applyBaseMultiplier(5_000_000)));
@@ -2,7 +2,6 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -41,7 +40,7 @@ public class MinefieldMulti extends MiniGameWrapper
 		stop = false;
 
 		pickedSpaces = new boolean[numbers.size()];
-		Collections.shuffle(numbers);
+		RtaBMath.shuffle(numbers);
 
 		LinkedList<String> output = new LinkedList<>();
 		//Give instructions
@@ -3,21 +3,23 @@ package tel.discord.rtab.games;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
-import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import tel.discord.rtab.ControllerRegistry;
+import tel.discord.rtab.Lane;
+import tel.discord.rtab.MessageQueue;
 import tel.discord.rtab.Player;
 import tel.discord.rtab.RaceToABillionBot;
 import tel.discord.rtab.RtaBMath;
 import tel.discord.rtab.Achievement;
 import tel.discord.rtab.MoneyMultipliersToUse;
+import tel.discord.rtab.sim.Simulation;
 
 abstract class MiniGameWrapper implements MiniGame
 {
 	MessageChannel channel;
+	MessageQueue messages;
 	boolean sendMessages;
 	int baseNumerator;
 	int baseDenominator;
@@ -25,7 +27,7 @@ abstract class MiniGameWrapper implements MiniGame
 	List<Player> players;
 	int player;
 	Thread callWhenFinished;
-	public ScheduledThreadPoolExecutor timer;
+	public Lane timer;
 	boolean canSkip = false;
 	boolean autoSkip = false;
 	boolean enhanced = false;
@@ -100,7 +102,7 @@ abstract class MiniGameWrapper implements MiniGame
 		{
 			if(firstMessage)
 				firstMessage = false;
-			else
+			else if(Simulation.current() == null) //No one's reading a simulation, so don't keep them waiting
 			{
 				try
 				{
@@ -112,7 +114,7 @@ abstract class MiniGameWrapper implements MiniGame
 					return;
 				}
 			}
-			channel.sendMessage(nextMessage).queue();
+			this.messages.send(nextMessage);
 		}
 	}
 	
@@ -261,15 +263,9 @@ abstract class MiniGameWrapper implements MiniGame
 	
 	//These methods are used internally by the wrapper class, and most minigames don't need to worry about these.
 	
-	class MinigameThreadFactory implements ThreadFactory
+	Lane openLane()
 	{
-		@Override
-		public Thread newThread(Runnable r)
-		{
-			Thread newThread = new Thread(r);
-			newThread.setName(String.format("%s - %s", getName(), getPlayer().getName()));
-			return newThread;
-		}
+		return Lane.open(String.format("%s - %s", getName(), getPlayer().getName()));
 	}
 	
 	/**
@@ -280,8 +276,8 @@ abstract class MiniGameWrapper implements MiniGame
 			int gameMultiplier, List<Player> players, int player, Thread callWhenFinished, boolean enhanced)
 	{
 		//Initialise variables
-		RaceToABillionBot.addMinigame(this);
 		this.channel = channel;
+		messages = MessageQueue.forChannel(channel);
 		this.sendMessages = sendMessages;
 		this.baseNumerator = baseNumerator;
 		this.baseDenominator = baseDenominator;
@@ -289,6 +285,9 @@ abstract class MiniGameWrapper implements MiniGame
 		this.players = players;
 		this.player = player;
 		this.callWhenFinished = callWhenFinished;
+		//Make it reachable by !skip (simulated minigames aren't listed, as no command can reach them)
+		if(Simulation.current() == null)
+			ControllerRegistry.addMinigame(this);
 		this.enhanced = enhanced;
 		//Announce the minigame
 		StringBuilder gameMessage = new StringBuilder();
@@ -304,8 +303,8 @@ abstract class MiniGameWrapper implements MiniGame
 			sendMessage(String.format("You have %d copies of this minigame, so the stakes have been multiplied!",gameMultiplier));
 		if(gameMultiplier >= 3)
 			Achievement.TRIPLE_MINIGAME.check(getPlayer());
-		//Set up the threadpool
-		timer = new ScheduledThreadPoolExecutor(1, new MinigameThreadFactory());
+		//Set up the lane
+		timer = openLane();
 		//Then pass over to minigame-specific code
 		timer.schedule(this::startGame, 1000, TimeUnit.MILLISECONDS);
 	}
@@ -324,9 +323,9 @@ abstract class MiniGameWrapper implements MiniGame
 		}
 		//Otherwise, ask for input
 		ScheduledFuture<?> warnPlayer = timer.schedule(() ->
-				channel.sendMessage(players.get(player).getSafeMention() +
-						", are you still there? One minute left!").queue(), 120, TimeUnit.SECONDS);
-		RaceToABillionBot.waiter.waitForEvent(MessageReceivedEvent.class,
+				messages.send(players.get(player).getSafeMention() +
+						", are you still there? One minute left!"), 120, TimeUnit.SECONDS);
+		RaceToABillionBot.waiter.waitForMessage(channel.getId(), players.get(player).uID,
 				//Right player and channel
 				e ->
 					(e.getChannel().getId().equals(channel.getId()) && e.getAuthor().equals(players.get(player).user)),
@@ -338,8 +337,8 @@ abstract class MiniGameWrapper implements MiniGame
 				},
 				180,TimeUnit.SECONDS, () ->
 				{
-					channel.sendMessage(players.get(player).getName() + 
-							" has gone missing. Cancelling their minigames.").queue();
+					messages.send(players.get(player).getName() + 
+							" has gone missing. Cancelling their minigames.");
 					players.get(player).games.clear();
 					abortGame();
 				});
@@ -378,14 +377,14 @@ abstract class MiniGameWrapper implements MiniGame
 	public void gameOver()
 	{
 		shutdown();
-		RaceToABillionBot.removeMinigame(this);
+		if(Simulation.current() == null)
+			ControllerRegistry.removeMinigame(this);
 		callWhenFinished.start();
 	}
 	
 	@Override
 	public void shutdown()
 	{
-		timer.purge();
 		timer.shutdownNow();
 	}
 }
@@ -1,7 +1,6 @@
 package tel.discord.rtab.games;
 
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -53,7 +52,7 @@ public class OpenPass extends MiniGameWrapper
 		passed = 0;
 		while (numbers.get(0) < 1 || numbers.get(19) < 1)
 		{
-			Collections.shuffle(numbers);
+			RtaBMath.shuffle(numbers);
 		}
 		openedCards = new int[numbers.size()];
 		equation = new int[10];
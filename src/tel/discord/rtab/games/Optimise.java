@@ -1,7 +1,6 @@
 package tel.discord.rtab.games;
 
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -192,7 +191,7 @@ public class Optimise extends MiniGameWrapper
 		output.add(generateBoard());
 		int turnCount = 10 - picksLeft[0] - picksLeft[1] - picksLeft[2];
 		output.add("It is now Turn **"+turnCount+"/9**. Your target is **"+target+"**. Pick a colour and a sphere.");
-		Collections.shuffle(silvers);
+		RtaBMath.shuffle(silvers);
 		showSilvers(RevealState.NONE);
 		sendMessages(output);
 		getInput();
@@ -2,7 +2,6 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 
 import net.dv8tion.jda.api.entities.channel.ChannelType;
@@ -39,7 +38,7 @@ public class Overflow extends MiniGameWrapper {
 			//77 is a joker and 0 is the overflow
 		if(enhanced)
 			board.set(0, 77);
-		Collections.shuffle(board);
+		RtaBMath.shuffle(board);
 		pickedSpaces = new boolean[BOARD_SIZE];
 		//Prep other variables
 		lostTheGame = false;
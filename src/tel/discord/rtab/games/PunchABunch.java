@@ -1,7 +1,6 @@
 package tel.discord.rtab.games;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.LinkedList;
 
 import tel.discord.rtab.Achievement;
@@ -42,7 +41,7 @@ public class PunchABunch extends MiniGameWrapper {
 		//base multiplier everything
         board.replaceAll(this::applyBaseMultiplier);
 		//and shuffle
-		Collections.shuffle(board);
+		RtaBMath.shuffle(board);
 		turnsTaken = 0;
 		bombCount = CASH_FREQUENCY[0];
 		
@@ -6,7 +6,6 @@ import java.util.LinkedList;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
-import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import tel.discord.rtab.Player;
 import tel.discord.rtab.RaceToABillionBot;
 
@@ -81,9 +80,9 @@ public abstract class PvPMiniGameWrapper extends MiniGameWrapper
 		else
 		{
 			ScheduledFuture<?> warnPlayer = timer.schedule(() ->
-					channel.sendMessage(getPlayer().getSafeMention() +
-							", are you still there? One minute left!").queue(), 120, TimeUnit.SECONDS);
-			RaceToABillionBot.waiter.waitForEvent(MessageReceivedEvent.class,
+					messages.send(getPlayer().getSafeMention() +
+							", are you still there? One minute left!"), 120, TimeUnit.SECONDS);
+			RaceToABillionBot.waiter.waitForMessage(channel.getId(), getPlayer().uID,
 					//Right player and channel
 					e ->
 							(e.getChannel().getId().equals(channel.getId()) && e.getAuthor().getId().equals(getPlayer().user.getId())),
@@ -95,7 +94,7 @@ public abstract class PvPMiniGameWrapper extends MiniGameWrapper
 					},
 					180,TimeUnit.SECONDS, () ->
 					{
-						channel.sendMessage(getPlayer().getName() + " has gone missing. Cancelling their minigames.").queue();
+						messages.send(getPlayer().getName() + " has gone missing. Cancelling their minigames.");
 						getPlayer().games.clear();
 						awardMoneyWon(0);
 					});
@@ -154,7 +153,7 @@ public abstract class PvPMiniGameWrapper extends MiniGameWrapper
 			{
 				//Ask the player for confirmation, mostly just to make sure they're actually there
 				sendMessage(players.get(opponent).getSafeMention()+", do you accept? (Y/N)");
-				waiter.waitForEvent(MessageReceivedEvent.class,
+				waiter.waitForMessage(channel.getId(), players.get(opponent).uID,
 						//Accept if it's our opponent, they're in the right channel, and they've given a valid response
 						e ->
 						{
@@ -175,7 +174,7 @@ public abstract class PvPMiniGameWrapper extends MiniGameWrapper
 							}
 							else
 							{
-								channel.sendMessage("Very well.").queue();
+								messages.send("Very well.");
 								timer.schedule(this::initialiseWithDummy, 500, TimeUnit.MILLISECONDS);
 							}
 						},
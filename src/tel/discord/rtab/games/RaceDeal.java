@@ -2,13 +2,13 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 
 import net.dv8tion.jda.internal.utils.tuple.Pair;
 import tel.discord.rtab.Achievement;
+import tel.discord.rtab.Lane;
 import tel.discord.rtab.Player;
 import tel.discord.rtab.RtaBMath;
 import tel.discord.rtab.board.Game;
@@ -74,9 +74,9 @@ public class RaceDeal extends MiniGameWrapper
 		else
 			negativeToAdd --;
 		//Now shuffle the random values and use them to fill the gaps
-		Collections.shuffle(randomNegativeValues);
-		Collections.shuffle(randomBlueValues);
-		Collections.shuffle(randomRedValues);
+		RtaBMath.shuffle(randomNegativeValues);
+		RtaBMath.shuffle(randomBlueValues);
+		RtaBMath.shuffle(randomRedValues);
 		for(int i=0; i<negativeToAdd; i++)
 			valueList.add(Pair.of(applyBaseMultiplier(randomNegativeValues.get(i)), SpecialType.CASH));
 		for(int i=0; i<blueToAdd; i++)
@@ -89,7 +89,7 @@ public class RaceDeal extends MiniGameWrapper
 		caseList = new ArrayList<>(casesLeft);
 		for(int i=0; i<casesLeft; i++)
 			caseList.add(i);
-		Collections.shuffle(caseList);
+		RtaBMath.shuffle(caseList);
 		openedCases = new boolean[casesLeft];
 		chosenCase = -1; //No case selected yet
 		casesToOpen = -1;
@@ -508,11 +508,10 @@ public class RaceDeal extends MiniGameWrapper
 			}
 		}
 		//Set up the thread we'll send to the game
-		Thread postGame = new Thread(() -> {
+		Thread postGame = Lane.callback(String.format("%s - %s - %s", channel.getName(), getPlayer().getName(), bonusGame.getName()), () -> {
 			//Recurse to get to the next minigame
 			runNextBonusGame(gamesToGo-1, sendMessages);
 		});
-		postGame.setName(String.format("%s - %s - %s", channel.getName(), getPlayer().getName(), bonusGame.getName()));
 		bonusGame.initialiseGame(channel, sendMessages, baseNumerator, baseDenominator, 1, players, player, postGame, false);
 	}
 	
@@ -553,7 +552,7 @@ public class RaceDeal extends MiniGameWrapper
 		mysteryChanceGrid.add((int)Math.pow(10,9-(remainderLogarithm*.31)));
 		mysteryChanceGrid.add((int)Math.pow(10,9-(remainderLogarithm*.28)));
 		//Finally, shuffle them up
-		Collections.shuffle(mysteryChanceGrid);
+		RtaBMath.shuffle(mysteryChanceGrid);
 		//Print debug values as proof of legitimacy
 		for(int i=0; i<mysteryChanceGrid.size(); i++)
 			System.out.printf("%d: $%,d ",i+1,mysteryChanceGrid.get(i));
@@ -580,7 +579,7 @@ public class RaceDeal extends MiniGameWrapper
 		for(int i=1; i<=9; i++)
 		{
 			if(!getPlayer().isBot)
-				try { Thread.sleep(1000*i); } catch(InterruptedException e) { Thread.currentThread().interrupt(); } //Ever-increasing delay
+				Lane.pause(1000*i); //Ever-increasing delay
 			sendMessage(String.format("```%n$%,11d%n```", (int)(newScore%(Math.pow(10, i)))));
 		}
 		output.clear();
@@ -2,7 +2,6 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
@@ -78,7 +77,7 @@ public class SafeCracker extends MiniGameWrapper
 					solution = new ArrayList<>(SAFE_DIGITS.get(i));
 					for(int j=0; j<SAFE_DIGITS.get(i); j++)
 						solution.add(DIGITS.get(j));
-					Collections.shuffle(solution);
+					RtaBMath.shuffle(solution);
 					lockedIn = new boolean[solution.size()];
 					//Lock in 1 if enhanced
 					if(enhanced)
@@ -200,7 +199,7 @@ public class SafeCracker extends MiniGameWrapper
 		{
 			for(int i=0; i<SAFE_DIGITS.get(chosenSafe); i++)
 				digits.add(DIGITS.get(i));
-			Collections.shuffle(digits); //randomise digit order
+			RtaBMath.shuffle(digits); //randomise digit order
 		}
 		else
 			for(Character next : guesses[attemptsLeft].toCharArray())
@@ -2,7 +2,6 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 
 import tel.discord.rtab.Achievement;
@@ -37,7 +36,7 @@ public class Spectrum extends MiniGameWrapper
         }
 		//Add an extra bomb
 		board.add(0);
-		Collections.shuffle(board);
+		RtaBMath.shuffle(board);
 		numberPicked = new int[VALUES.length];
 		pickedSpaces = new boolean[BOARD_SIZE];
 		total = 0;
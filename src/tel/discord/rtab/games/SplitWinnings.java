@@ -2,7 +2,6 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -39,10 +38,10 @@ public class SplitWinnings extends MiniGameWrapper {
         cashAmounts = new ArrayList<>();
         cashAmounts.addAll(BASE_CASH);
         cashAmounts.replaceAll(this::applyBaseMultiplier);
-        Collections.shuffle(cashAmounts);
+        RtaBMath.shuffle(cashAmounts);
         multipliers = new ArrayList<>();
         multipliers.addAll(BASE_MULTIPLIERS);
-        Collections.shuffle(multipliers);
+        RtaBMath.shuffle(multipliers);
         pickedSpaces = new boolean[BOARD_SIZE * 2];
 
         output.add(String.format("In Split Winnings, you will be given %d " +
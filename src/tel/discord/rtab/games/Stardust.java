@@ -2,7 +2,6 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -329,7 +328,7 @@ public class Stardust extends MiniGameWrapper
 			else
 				newStage.add(0);
 		}
-		Collections.shuffle(newStage);
+		RtaBMath.shuffle(newStage);
 		numbers = newStage;
 		pickedSpaces = new boolean[next.getBoardSize(stage)];
 		starHit = false;
@@ -376,7 +375,7 @@ public class Stardust extends MiniGameWrapper
 				stageOptions.addAll(Arrays.asList(Galaxy.values()));
 				stageOptions.removeIf((g) -> !g.eligibleStages[stage]);
 				stageOptions.removeAll(previousStages);
-				Collections.shuffle(stageOptions);
+				RtaBMath.shuffle(stageOptions);
 				output.add("You're off to the next zone!");
 				output.add("You see the following locations around you...");
 				StringBuilder result = new StringBuilder();
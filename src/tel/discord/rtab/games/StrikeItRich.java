@@ -2,7 +2,6 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 
 import tel.discord.rtab.Achievement;
@@ -33,7 +32,7 @@ public class StrikeItRich extends MiniGameWrapper
         for (int value : VALUES)
             for (int j = 0; j < NEEDED_TO_WIN; j++)
                 board.add(value);
-		Collections.shuffle(board);
+		RtaBMath.shuffle(board);
 		numberPicked = new int[VALUES.length];
 		pickedSpaces = new boolean[BOARD_SIZE];
 		pinchMode = false;
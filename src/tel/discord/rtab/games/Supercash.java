@@ -2,7 +2,6 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 
 import tel.discord.rtab.Achievement;
@@ -41,7 +40,7 @@ public class Supercash extends MiniGameWrapper
                 board.add(value);
 		//Switch one of the lowest values for an extra copy of the highest value
 		board.set(0,maxValue);
-		Collections.shuffle(board);
+		RtaBMath.shuffle(board);
 		numberPicked = new int[values.length];
 		pickedSpaces = new boolean[BOARD_SIZE];
 		//Streak bonus achievement
@@ -4,10 +4,10 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
+import tel.discord.rtab.Lane;
 import tel.discord.rtab.Player;
 import tel.discord.rtab.board.Board;
 import tel.discord.rtab.board.Game;
@@ -31,8 +31,8 @@ public class TheCommissioner extends MiniGameWrapper
 		this.player = player;
 		this.callWhenFinished = callWhenFinished;
 		this.enhanced = enhanced;
-		//Set up the threadpool
-		timer = new ScheduledThreadPoolExecutor(1, new MinigameThreadFactory());
+		//Set up the lane
+		timer = openLane();
 		//Then pass over to minigame-specific code
 		timer.schedule(this::startGame, 1000, TimeUnit.MILLISECONDS);
 	}
@@ -115,7 +115,7 @@ public class TheCommissioner extends MiniGameWrapper
 		}
 		//Okay, we got a game from them, let's set it up to play!
 		chosenGame.getGame().initialiseGame(channel, sendMessages, baseNumerator, baseDenominator, gameMultiplier,
-				players, player, new Thread(this::gameOver), getPlayer().enhancedGames.contains(chosenGame));
+				players, player, Lane.callback(getName(), this::gameOver), getPlayer().enhancedGames.contains(chosenGame));
 	}
 
 	@Override
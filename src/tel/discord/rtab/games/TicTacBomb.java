@@ -7,7 +7,6 @@ import java.util.LinkedList;
 import java.util.concurrent.TimeUnit;
 
 import net.dv8tion.jda.api.entities.channel.ChannelType;
-import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import tel.discord.rtab.MoneyMultipliersToUse;
 import tel.discord.rtab.RtaBMath;
 import tel.discord.rtab.board.Board;
@@ -144,7 +143,7 @@ public class TicTacBomb extends PvPMiniGameWrapper
 			players.get(playerID).user.openPrivateChannel().queue(
 					(channel) -> channel.sendMessage("Please place your bomb within the next 60 seconds "
 							+ "by sending a number 1-9").queue());
-			waiter.waitForEvent(MessageReceivedEvent.class,
+			waiter.waitForMessage(null, players.get(playerID).uID,
 					//Check if right player, and valid bomb pick
 					e -> (e.getAuthor().equals(players.get(playerID).user)
 							&& e.getChannel().getType() == ChannelType.PRIVATE
@@ -2,7 +2,6 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -34,7 +33,7 @@ public class TriplePlay extends MiniGameWrapper
 		target = 0;
 		lastPick = 0;
 		picksLeft = 3;
-		Collections.shuffle(money);
+		RtaBMath.shuffle(money);
 		giveInstructions();
 		sendMessage(generateBoard());
 		getInput();
@@ -2,7 +2,6 @@ package tel.discord.rtab.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedList;
 
 import tel.discord.rtab.RtaBMath;
@@ -153,7 +152,7 @@ public class UpAndDown extends MiniGameWrapper {
 	
 	private String generateBoard()
 	{
-		Collections.shuffle(shuffleResult);
+		RtaBMath.shuffle(shuffleResult);
 		StringBuilder display = new StringBuilder();
 		display.append("```\n");
 		display.append(" Up And Down \n\n");
@@ -1,8 +1,9 @@
 package tel.discord.rtab.games.objs;
 
-import java.util.Collections;
 import java.util.LinkedList;
 
+import tel.discord.rtab.RtaBMath;
+
 public class Deck {
 	LinkedList<Card> deck;
 
@@ -31,7 +32,7 @@ public class Deck {
 	}
 
 	public void shuffle() {
-		Collections.shuffle(deck);
+		RtaBMath.shuffle(deck);
 	}
 
 	public Card dealCard() {
@@ -0,0 +1,176 @@
+package tel.discord.rtab.sim;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.channel.ChannelType;
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+
+/**
+ * A text channel that isn't connected to Discord, for running games in a simulation.
+ * Anything sent to it goes to the simulation's message log, and everything else it's asked for
+ * (the guild, sent messages, rest actions and so on) comes back as a stand-in that does nothing
+ * and returns empty values, so the game code never notices the difference.
+ */
+public class HeadlessChannel implements InvocationHandler
+{
+	private static final ClassValue<Map<TypeVariable<?>,Type>> typeBindings = new ClassValue<>()
+	{
+		@Override
+		protected Map<TypeVariable<?>,Type> computeValue(Class<?> type)
+		{
+			Map<TypeVariable<?>,Type> bindings = new HashMap<>();
+			bindTypes(type, bindings);
+			return bindings;
+		}
+	};
+	final Simulation simulation;
+	final Class<?> type;
+	final Map<String,Object> answers; //Fixed return values, by method name
+
+	private HeadlessChannel(Simulation simulation, Class<?> type, Map<String,Object> answers)
+	{
+		this.simulation = simulation;
+		this.type = type;
+		this.answers = answers;
+	}
+
+	/**
+	 * Opens a headless channel for a simulation.
+	 * @param channelID The channel's ID (this decides where scores etc. are "saved", so keep it numeric and unique)
+	 * @param channelName The channel's name, used to label its messages in the log
+	 * @param guildID The guild's ID, used to find its bot list
+	 */
+	public static TextChannel open(Simulation simulation, String channelID, String channelName, String guildID)
+	{
+		Guild guild = stub(simulation, Guild.class, Map.of(
+				"getId", guildID, "getIdLong", Long.parseUnsignedLong(guildID), "getName", "Simulation"));
+		return stub(simulation, TextChannel.class, Map.of(
+				"getId", channelID, "getIdLong", Long.parseUnsignedLong(channelID), "getName", channelName,
+				"getAsMention", "#"+channelName, "getType", ChannelType.TEXT, "getGuild", guild));
+	}
+
+	private static <T> T stub(Simulation simulation, Class<T> type, Map<String,Object> answers)
+	{
+		return type.cast(Proxy.newProxyInstance(HeadlessChannel.class.getClassLoader(), new Class<?>[] {type},
+				new HeadlessChannel(simulation, type, answers)));
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args)
+	{
+		String methodName = method.getName();
+		//Object's own methods first
+		switch(methodName)
+		{
+			case "equals":
+				if(method.getParameterCount() == 1)
+					return proxy == args[0];
+				break;
+			case "hashCode":
+				if(method.getParameterCount() == 0)
+					return System.identityHashCode(proxy);
+				break;
+			case "toString":
+				if(method.getParameterCount() == 0)
+					return ("Headless " + type.getSimpleName() + " " + answers.getOrDefault("getName", "")).trim();
+				break;
+		}
+		if(answers.containsKey(methodName))
+			return answers.get(methodName);
+		if(methodName.startsWith("sendMessage") && args != null && args.length > 0)
+			simulation.logMessage(String.valueOf(answers.get("getName")), describeMessage(methodName, args));
+		return emptyValue(proxy, method.getGenericReturnType());
+	}
+
+	private static String describeMessage(String methodName, Object[] args)
+	{
+		if(methodName.equals("sendMessageFormat") && args.length > 1 && args[1] instanceof Object[] formatArgs)
+			return String.format(String.valueOf(args[0]), formatArgs);
+		if(methodName.equals("sendMessageEmbeds"))
+			return "[embed]";
+		return String.valueOf(args[0]);
+	}
+
+	private Object emptyValue(Object proxy, Type genericReturnType)
+	{
+		Class<?> returnType = erase(genericReturnType, typeBindings.get(type));
+		if(returnType == void.class || returnType == Void.class || returnType == Object.class)
+			return null;
+		//Fluent methods get this object back, so chained calls keep working
+		if(returnType.isInstance(proxy))
+			return proxy;
+		if(returnType.isPrimitive())
+			return Array.get(Array.newInstance(returnType, 1), 0);
+		if(returnType == String.class || returnType == CharSequence.class)
+			return "";
+		if(returnType == Set.class)
+			return Set.of();
+		if(returnType == Map.class)
+			return Map.of();
+		if(Collection.class.isAssignableFrom(returnType) && returnType.isAssignableFrom(List.class))
+			return List.of();
+		if(returnType == Optional.class)
+			return Optional.empty();
+		if(returnType == CompletableFuture.class && genericReturnType instanceof ParameterizedType future)
+			return CompletableFuture.completedFuture(emptyValue(proxy, future.getActualTypeArguments()[0]));
+		if(returnType.isInterface())
+			return stub(simulation, returnType, Map.of());
+		//Enums, arrays, concrete classes - nothing sensible to make up, so go without
+		return null;
+	}
+
+	/*
+	 * Works out what each of the type's type variables (and its supertypes') actually stands for,
+	 * so that eg. a MessageCreateAction knows that RestAction<T>.complete() should give back a Message.
+	 */
+	private static void bindTypes(Type type, Map<TypeVariable<?>,Type> bindings)
+	{
+		Class<?> rawType;
+		if(type instanceof ParameterizedType parameterized)
+		{
+			rawType = (Class<?>)parameterized.getRawType();
+			TypeVariable<?>[] variables = rawType.getTypeParameters();
+			Type[] arguments = parameterized.getActualTypeArguments();
+			for(int i=0; i<variables.length; i++)
+				bindings.putIfAbsent(variables[i], arguments[i]);
+		}
+		else if(type instanceof Class<?> plainType)
+			rawType = plainType;
+		else
+			return;
+		for(Type next : rawType.getGenericInterfaces())
+			bindTypes(next, bindings);
+	}
+
+	private static Class<?> erase(Type type, Map<TypeVariable<?>,Type> bindings)
+	{
+		//Chase type variables down to whatever they were bound to, if anything
+		for(int i=0; i<bindings.size() && type instanceof TypeVariable<?> variable && bindings.containsKey(variable); i++)
+			type = bindings.get(variable);
+		if(type instanceof Class<?> plainType)
+			return plainType;
+		if(type instanceof ParameterizedType parameterized)
+			return (Class<?>)parameterized.getRawType();
+		if(type instanceof WildcardType wildcard)
+			return erase(wildcard.getUpperBounds()[0], bindings);
+		//Unbound, so the best we can do is its bound
+		if(type instanceof TypeVariable<?> variable)
+			return erase(variable.getBounds()[0], Map.of());
+		return Object.class;
+	}
+}
@@ -0,0 +1,236 @@
+package tel.discord.rtab.sim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import tel.discord.rtab.Lane;
+import tel.discord.rtab.Player;
+import tel.discord.rtab.board.Game;
+
+/**
+ * Plays each minigame over and over with the bot's own strategy (getBotPick()), spread across every core,
+ * and reports how much it pays out - so minigames can be rebalanced in seconds rather than by watching live games.
+ * Each trial is a bot with a fresh bank and no booster playing a single copy of the minigame in a simulation,
+ * with the results counted from the cash it ends up with. (Annuities, boosts and the like aren't counted.)
+ *
+ * Usage: MinigameEvaluator [trials=N] [base=1/1,1/10,...] [games=DEAL_OR_NO_DEAL,ZILCH,...]
+ * By default, every minigame is played 1,000,000 times at base multiplier 1/1, both with and without enhancement.
+ */
+public class MinigameEvaluator
+{
+	static final int TRIALS_PER_TASK = 2_000;
+	static final int[] PERCENTILES = {10, 25, 50, 75, 90, 99};
+
+	/**
+	 * The payouts from a batch of trials, sorted from lowest to highest, and how many trials broke instead of paying out.
+	 */
+	public record Result(Game game, boolean enhanced, int baseNumerator, int baseDenominator, int[] payouts, int failures)
+	{
+		public double getMean()
+		{
+			long total = 0;
+			for(int next : payouts)
+				total += next;
+			return total / (double)payouts.length;
+		}
+
+		/**
+		 * @param percentile A percentage from 0 (the lowest payout) to 100 (the highest)
+		 */
+		public int getPercentile(int percentile)
+		{
+			return payouts[(int)((payouts.length - 1) * (long)percentile / 100)];
+		}
+
+		/**
+		 * @return The fraction of trials that won any money at all
+		 */
+		public double getWinRate()
+		{
+			int losses = 0;
+			while(losses < payouts.length && payouts[losses] <= 0)
+				losses++;
+			return (payouts.length - losses) / (double)payouts.length;
+		}
+	}
+
+	static class Trials extends RecursiveTask<int[]>
+	{
+		private static final long serialVersionUID = 1L;
+		final Game game;
+		final boolean enhanced;
+		final int baseNumerator, baseDenominator;
+		final int trials;
+		final AtomicInteger failures; //Shared by every part of the split, so they all count up together
+
+		Trials(Game game, boolean enhanced, int baseNumerator, int baseDenominator, int trials, AtomicInteger failures)
+		{
+			this.game = game;
+			this.enhanced = enhanced;
+			this.baseNumerator = baseNumerator;
+			this.baseDenominator = baseDenominator;
+			this.trials = trials;
+			this.failures = failures;
+		}
+
+		@Override
+		protected int[] compute()
+		{
+			if(trials > TRIALS_PER_TASK)
+			{
+				//Split it in half and play both sides at once
+				Trials firstHalf = new Trials(game, enhanced, baseNumerator, baseDenominator, trials / 2, failures);
+				Trials secondHalf = new Trials(game, enhanced, baseNumerator, baseDenominator, trials - trials / 2, failures);
+				firstHalf.fork();
+				int[] secondPayouts = secondHalf.compute();
+				int[] firstPayouts = firstHalf.join();
+				int[] payouts = Arrays.copyOf(firstPayouts, firstPayouts.length + secondPayouts.length);
+				System.arraycopy(secondPayouts, 0, payouts, firstPayouts.length, secondPayouts.length);
+				return payouts;
+			}
+			int[] payouts = new int[trials];
+			int played = 0;
+			for(int i=0; i<trials; i++)
+			{
+				//One trial breaking (eg. a minigame that never finishes on an unlucky board) shouldn't take the whole run with it
+				try
+				{
+					payouts[played] = playTrial(game, enhanced, baseNumerator, baseDenominator);
+					played++;
+				}
+				catch(RuntimeException e)
+				{
+					failures.incrementAndGet();
+				}
+			}
+			return played == trials ? payouts : Arrays.copyOf(payouts, played);
+		}
+	}
+
+	/**
+	 * Plays a single copy of a minigame through to the end, in a simulation of its own
+	 * (so jackpots are always at their starting values, rather than building up from one trial to the next).
+	 * @return The money the bot won from it
+	 * @throws IllegalStateException if the minigame never finished
+	 */
+	public static int playTrial(Game game, boolean enhanced, int baseNumerator, int baseDenominator)
+	{
+		Simulation simulation = new Simulation(false);
+		TextChannel channel = HeadlessChannel.open(simulation, "0", "minigame-evaluator", "0");
+		Player player = new Player();
+		List<Player> players = new ArrayList<>(2);
+		players.add(player);
+		boolean[] finished = new boolean[1];
+		simulation.run(() -> game.getGame().initialiseGame(channel, false, baseNumerator, baseDenominator, 1, players, 0,
+				Lane.callback(game.getName(), () -> finished[0] = true), enhanced));
+		if(!finished[0])
+			throw new IllegalStateException(game.getName() + " never finished");
+		return player.money;
+	}
+
+	/**
+	 * Plays a minigame many times over in parallel.
+	 * @param pool The pool to play the trials in (eg. ForkJoinPool.commonPool() to use every core)
+	 * @return The payouts, or null if the minigame can't be played by a bot in a simulation (or every trial broke)
+	 */
+	public static Result evaluate(ForkJoinPool pool, Game game, boolean enhanced, int baseNumerator, int baseDenominator, int trials)
+	{
+		//Try it once first, so a broken minigame only breaks once
+		try
+		{
+			playTrial(game, enhanced, baseNumerator, baseDenominator);
+		}
+		catch(RuntimeException e)
+		{
+			System.err.println(game.getName() + " can't be evaluated: " + e.getMessage());
+			return null;
+		}
+		AtomicInteger failures = new AtomicInteger();
+		int[] payouts = pool.invoke(new Trials(game, enhanced, baseNumerator, baseDenominator, trials, failures));
+		if(payouts.length == 0)
+		{
+			System.err.println(game.getName() + " can't be evaluated: every trial failed");
+			return null;
+		}
+		Arrays.sort(payouts);
+		return new Result(game, enhanced, baseNumerator, baseDenominator, payouts, failures.get());
+	}
+
+	static String formatResult(Result result)
+	{
+		StringBuilder output = new StringBuilder();
+		output.append(String.format("%-22s %-3s %14s %6.2f%%", result.game().getName(), result.enhanced() ? "Yes" : "No",
+				String.format("$%,.0f", result.getMean()), result.getWinRate() * 100));
+		output.append(String.format(" %14s", String.format("$%,d", result.getPercentile(0))));
+		for(int next : PERCENTILES)
+			output.append(String.format(" %14s", String.format("$%,d", result.getPercentile(next))));
+		output.append(String.format(" %14s", String.format("$%,d", result.getPercentile(100))));
+		return output.toString();
+	}
+
+	public static void main(String[] args)
+	{
+		int trials = 1_000_000;
+		List<int[]> baseMultipliers = new ArrayList<>();
+		List<Game> games = new ArrayList<>();
+		for(String next : args)
+		{
+			String[] setting = next.split("=", 2);
+			if(setting.length < 2)
+			{
+				System.err.println("Didn't understand: " + next);
+				continue;
+			}
+			switch(setting[0].toLowerCase())
+			{
+				case "trials" -> trials = Integer.parseInt(setting[1].replace(",", "").replace("_", ""));
+				case "base" ->
+				{
+					for(String nextBase : setting[1].split(","))
+					{
+						String[] fraction = nextBase.split("/");
+						baseMultipliers.add(new int[] {Integer.parseInt(fraction[0]),
+								fraction.length < 2 ? 1 : Integer.parseInt(fraction[1])});
+					}
+				}
+				case "games" ->
+				{
+					for(String nextGame : setting[1].split(","))
+						games.add(Game.valueOf(nextGame.toUpperCase()));
+				}
+				default -> System.err.println("Unknown setting: " + setting[0]);
+			}
+		}
+		if(baseMultipliers.isEmpty())
+			baseMultipliers.add(new int[] {1, 1});
+		if(games.isEmpty())
+			games.addAll(Arrays.asList(Game.values()));
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		for(int[] base : baseMultipliers)
+		{
+			System.out.printf("Base multiplier %d/%d, %,d trials each, on %d threads%n", base[0], base[1], trials, pool.getParallelism());
+			StringBuilder header = new StringBuilder(String.format("%-22s %-3s %14s %7s %14s", "Minigame", "Enh", "Mean", "Wins", "Min"));
+			for(int next : PERCENTILES)
+				header.append(String.format(" %14s", "P" + next));
+			header.append(String.format(" %14s", "Max"));
+			System.out.println(header);
+			for(Game nextGame : games)
+				for(boolean enhanced : new boolean[] {false, true})
+				{
+					long startTime = System.nanoTime();
+					Result result = evaluate(pool, nextGame, enhanced, base[0], base[1], trials);
+					if(result != null)
+					{
+						System.out.printf("%s  (%.1fs)%n", formatResult(result), (System.nanoTime() - startTime) / 1e9);
+						if(result.failures() > 0)
+							System.err.printf("%s: %,d trials failed and were left out%n", nextGame.getName(), result.failures());
+					}
+				}
+		}
+	}
+}
@@ -0,0 +1,170 @@
+package tel.discord.rtab.sim;
+
+import java.util.List;
+
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import tel.discord.rtab.GameController;
+import tel.discord.rtab.GameStatus;
+import tel.discord.rtab.RtaBMath;
+import tel.discord.rtab.ScoreStore;
+import tel.discord.rtab.commands.channel.ChannelSetting;
+
+/**
+ * Plays bot-only rounds in a simulated game channel, as fast as they'll go, so we can see how changes to the board,
+ * events and minigames play out over a season before they go live. The real game controller runs every round,
+ * so everything a bot would do in a demo game happens here too - it just doesn't wait around or save anything.
+ *
+ * Run it from the bot's working directory (it needs the bot list from the guilds folder):
+ * SeasonSimulator [rounds] [seed=N] [Setting=value]...
+ * where the settings are the same as !modifychannel's (eg. BaseMultiplier=1/10 MinPlayers=4).
+ * With no round count given, it keeps going until someone wins the season.
+ * Running it again with the seed from its report plays out the exact same season.
+ */
+public class SeasonSimulator
+{
+	static final String SIM_CHANNEL_ID = "1";
+	static final String SIM_GUILD_ID = "0"; //No guild has this ID, so we get the default bot list
+	final Simulation simulation;
+	final TextChannel channel;
+	GameController controller;
+	ScoreStore scores;
+	int roundsPlayed;
+
+	public SeasonSimulator(String[] settings, boolean logMessages)
+	{
+		this(settings, logMessages, RtaBMath.newSeed());
+	}
+
+	/**
+	 * @param settings The channel's settings, in guild file format (see GameController)
+	 * @param logMessages Whether to keep everything the game says (see Simulation)
+	 * @param seed The seed for the simulation, to replay an earlier season
+	 */
+	public SeasonSimulator(String[] settings, boolean logMessages, long seed)
+	{
+		simulation = new Simulation(logMessages, seed);
+		channel = HeadlessChannel.open(simulation, SIM_CHANNEL_ID, "simulation", SIM_GUILD_ID);
+		//The controller has to be made inside the simulation so it picks up the simulation's clock and savefiles
+		simulation.run(() ->
+		{
+			controller = new GameController(channel, settings, null);
+			scores = ScoreStore.forChannel(SIM_CHANNEL_ID);
+		});
+	}
+
+	/**
+	 * @return The default channel settings, with demos turned off (we start every round ourselves)
+	 */
+	public static String[] defaultSettings()
+	{
+		String[] settings = new String[ChannelSetting.values().length + 2];
+		settings[0] = SIM_CHANNEL_ID;
+		settings[1] = "enabled";
+		for(ChannelSetting next : ChannelSetting.values())
+			settings[next.getLocation()] = next.getDefault();
+		settings[ChannelSetting.DEMO_TIMER.getLocation()] = "0";
+		return settings;
+	}
+
+	/**
+	 * Plays a full round with a random set of bots, from signups to the end of the last minigame.
+	 * @return false if the round couldn't be played, or didn't finish (eg. the season is over)
+	 */
+	public boolean playRound()
+	{
+		if(controller.gameStatus != GameStatus.SIGNUPS_OPEN)
+			return false;
+		simulation.run(controller::runDemo);
+		roundsPlayed ++;
+		//Once the simulation runs dry the round should be over, but if it's stuck waiting on something we can't go on
+		return controller.gameStatus == GameStatus.SIGNUPS_OPEN || controller.gameStatus == GameStatus.SEASON_OVER;
+	}
+
+	public boolean isSeasonOver()
+	{
+		return controller.gameStatus == GameStatus.SEASON_OVER;
+	}
+
+	public int getRoundsPlayed()
+	{
+		return roundsPlayed;
+	}
+
+	public Simulation getSimulation()
+	{
+		return simulation;
+	}
+
+	/**
+	 * @return The simulated channel's scoreboard, from the top
+	 */
+	public List<String[]> getStandings()
+	{
+		return scores.getRecords(0, scores.size());
+	}
+
+	/**
+	 * @return A summary of the season so far: rounds played, time taken, and how the money is spread around
+	 */
+	public String getReport()
+	{
+		List<String[]> standings = getStandings();
+		StringBuilder output = new StringBuilder();
+		output.append(String.format("Seed %d: %,d rounds played in %s of game time, %,d messages sent%n",
+				simulation.getSeed(), roundsPlayed, Simulation.formatTime(simulation.getTime()), simulation.getMessagesSent()));
+		if(standings.isEmpty())
+			return output.toString();
+		long totalMoney = 0;
+		for(String[] next : standings)
+			totalMoney += Integer.parseInt(next[2]);
+		output.append(String.format("%d players, $%,d in the bank between them (median $%,d)%n", standings.size(), totalMoney,
+				Integer.parseInt(standings.get(standings.size()/2)[2])));
+		for(int i=0; i<Math.min(10, standings.size()); i++)
+			output.append(String.format("#%d: %s - $%,d%n", i+1, standings.get(i)[1], Integer.parseInt(standings.get(i)[2])));
+		return output.toString();
+	}
+
+	public static void main(String[] args)
+	{
+		int roundLimit = Integer.MAX_VALUE;
+		long seed = RtaBMath.newSeed();
+		String[] settings = defaultSettings();
+		for(String next : args)
+		{
+			String[] setting = next.split("=", 2);
+			if(setting.length == 1)
+			{
+				roundLimit = Integer.parseInt(next);
+				continue;
+			}
+			if(setting[0].equalsIgnoreCase("seed"))
+			{
+				seed = Long.parseLong(setting[1]);
+				continue;
+			}
+			boolean found = false;
+			for(ChannelSetting nextSetting : ChannelSetting.values())
+				if(nextSetting.getName().equalsIgnoreCase(setting[0]))
+				{
+					settings[nextSetting.getLocation()] = setting[1];
+					found = true;
+				}
+			if(!found)
+				System.err.println("Unknown setting: " + setting[0]);
+		}
+		SeasonSimulator season = new SeasonSimulator(settings, false, seed);
+		long startTime = System.nanoTime();
+		while(season.getRoundsPlayed() < roundLimit && !season.isSeasonOver())
+		{
+			if(!season.playRound())
+			{
+				System.err.println("Round " + season.getRoundsPlayed() + " didn't finish, stopping here.");
+				break;
+			}
+			if(season.getRoundsPlayed() % 1000 == 0)
+				System.out.print(season.getReport());
+		}
+		System.out.print(season.getReport());
+		System.out.printf("Took %.1f seconds of real time.%n", (System.nanoTime() - startTime) / 1e9);
+	}
+}
@@ -0,0 +1,159 @@
+package tel.discord.rtab.sim;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+import tel.discord.rtab.RtaBMath;
+
+/**
+ * Runs the bot's own game code without Discord, without waiting around, and without touching the savefiles.
+ * While a simulation is running on a thread, lanes opened on that thread run their tasks on the simulation's
+ * virtual clock (so a five-second pause costs nothing), pauses in events and bombs are skipped,
+ * and savefiles are swapped for in-memory copies that start out empty and are thrown away afterwards.
+ * Everything runs on the thread that called run(), one task at a time in virtual time order, so a simulation
+ * isn't thread-safe - run as many as you like side by side, but give each one its own thread.
+ * Given the same seed (and the same code), a simulation plays out exactly the same way every time.
+ */
+public class Simulation
+{
+	private static final ThreadLocal<Simulation> current = new ThreadLocal<>();
+	private record Event(long time, long sequence, Runnable task) {}
+
+	private final PriorityQueue<Event> events = new PriorityQueue<>(
+			Comparator.comparingLong(Event::time).thenComparingLong(Event::sequence));
+	private final Map<Object,Object> sandbox = new HashMap<>();
+	private final List<String> messageLog;
+	private final SplittableGenerator random;
+	private final long seed;
+	private long time, nextSequence, messagesSent;
+
+	/**
+	 * @param logMessages Whether to keep every message the game sends (handy for debugging, but slow for big runs)
+	 */
+	public Simulation(boolean logMessages)
+	{
+		this(logMessages, RtaBMath.newSeed());
+	}
+
+	/**
+	 * @param logMessages Whether to keep every message the game sends
+	 * @param seed The seed for the simulation's random stream, to replay an earlier simulation
+	 */
+	public Simulation(boolean logMessages, long seed)
+	{
+		messageLog = logMessages ? new ArrayList<>() : null;
+		this.seed = seed;
+		random = RtaBMath.newStream(seed);
+	}
+
+	/**
+	 * @return The simulation running on this thread, or null if we're live
+	 */
+	public static Simulation current()
+	{
+		return current.get();
+	}
+
+	/**
+	 * Runs a task inside the simulation, then keeps going until there's nothing left scheduled.
+	 * @param task The task to start things off, eg. controller::runDemo
+	 */
+	public void run(Runnable task)
+	{
+		Simulation previous = current.get();
+		current.set(this);
+		try
+		{
+			schedule(task, 0);
+			//Anything not running on a lane (or a callback) draws from the simulation's own stream
+			RtaBMath.withStream(random, this::runEvents);
+		}
+		finally
+		{
+			if(previous == null)
+				current.remove();
+			else
+				current.set(previous);
+		}
+	}
+
+	private void runEvents()
+	{
+		Event next;
+		while((next = events.poll()) != null)
+		{
+			time = next.time;
+			try
+			{
+				next.task.run();
+			}
+			catch(Exception e)
+			{
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Schedules a task on the virtual clock. Tasks due at the same time run in the order they were scheduled.
+	 */
+	public void schedule(Runnable task, long delayMillis)
+	{
+		events.add(new Event(time + Math.max(delayMillis, 0), nextSequence++, task));
+	}
+
+	public long getSeed()
+	{
+		return seed;
+	}
+
+	/**
+	 * @return How much virtual time has passed, in milliseconds
+	 */
+	public long getTime()
+	{
+		return time;
+	}
+
+	/**
+	 * Gets the simulation's copy of something that would otherwise be saved to disk, creating it if necessary.
+	 * @param key What it's saved as (eg. the savefile's path)
+	 * @param creator Makes a fresh, empty copy
+	 */
+	@SuppressWarnings("unchecked")
+	public <K,T> T sandboxed(K key, Function<K,T> creator)
+	{
+		return (T)sandbox.computeIfAbsent(key, next -> creator.apply(key));
+	}
+
+	void logMessage(String channelName, String message)
+	{
+		messagesSent ++;
+		if(messageLog != null)
+			messageLog.add(String.format("[%s] #%s: %s", formatTime(time), channelName, message));
+	}
+
+	public long getMessagesSent()
+	{
+		return messagesSent;
+	}
+
+	/**
+	 * @return Every message sent so far, if we're logging them
+	 */
+	public List<String> getMessageLog()
+	{
+		return messageLog == null ? List.of() : messageLog;
+	}
+
+	static String formatTime(long millis)
+	{
+		return String.format("%d:%02d:%02d.%03d", millis / 3_600_000, millis / 60_000 % 60, millis / 1000 % 60, millis % 1000);
+	}
+}